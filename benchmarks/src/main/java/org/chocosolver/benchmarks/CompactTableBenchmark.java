@@ -0,0 +1,90 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the filtering of {@link org.chocosolver.solver.constraints.extension.nary.PropCompactTable}
+ * (and its "CT+" variant) on random positive tables.
+ * <br/>
+ * The model only contains table constraints, so that the time spent in the engine
+ * is dominated by the compact-table propagators.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2)
+@State(Scope.Thread)
+public class CompactTableBenchmark {
+
+    @Param({"CT", "CT+"})
+    String algo;
+
+    @Param({"50"})
+    int nbVars;
+
+    @Param({"20"})
+    int domainSize;
+
+    @Param({"5"})
+    int arity;
+
+    @Param({"1000", "10000"})
+    int nbTuples;
+
+    @Param({"30"})
+    int nbTables;
+
+    private Dive dive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ContradictionException {
+        Random rnd = new Random(0L);
+        Model model = new Model("compact-table");
+        IntVar[] vars = model.intVarArray("X", nbVars, 0, domainSize - 1);
+        for (int t = 0; t < nbTables; t++) {
+            IntVar[] scope = new IntVar[arity];
+            BitSet picked = new BitSet(nbVars);
+            for (int i = 0; i < arity; i++) {
+                int v;
+                do {
+                    v = rnd.nextInt(nbVars);
+                } while (picked.get(v));
+                picked.set(v);
+                scope[i] = vars[v];
+            }
+            Tuples tuples = new Tuples(true);
+            int[] tuple = new int[arity];
+            for (int k = 0; k < nbTuples; k++) {
+                for (int i = 0; i < arity; i++) {
+                    tuple[i] = rnd.nextInt(domainSize);
+                }
+                tuples.add(tuple);
+            }
+            model.table(scope, tuples, algo).post();
+        }
+        dive = new Dive(vars, nbVars, 0L);
+    }
+
+    @Benchmark
+    public int filter() {
+        return dive.replay();
+    }
+}
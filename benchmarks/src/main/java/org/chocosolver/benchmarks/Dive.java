@@ -0,0 +1,88 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+
+/**
+ * A deterministic sequence of decisions, replayed on a model without any search loop.
+ * <br/>
+ * Each decision pushes a world, instantiates a variable and calls the propagation engine.
+ * On failure, the world is popped and the next decision is tried at the same depth.
+ * Once the sequence is consumed, the environment is restored to its initial world,
+ * so that the same dive can be replayed by the next benchmark invocation.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+final class Dive {
+
+    private final Solver solver;
+    private final IntVar[] vars;
+    private final int[] varIdx;
+    private final int[] valIdx;
+
+    /**
+     * Prepare a dive of <i>length</i> decisions over <i>vars</i>.
+     * The root node is propagated once, outside any measurement.
+     *
+     * @param vars   decision variables
+     * @param length number of decisions
+     * @param seed   seed for the random generator
+     * @throws ContradictionException if the root node fails
+     */
+    Dive(IntVar[] vars, int length, long seed) throws ContradictionException {
+        this.solver = vars[0].getModel().getSolver();
+        this.vars = vars;
+        this.varIdx = new int[length];
+        this.valIdx = new int[length];
+        Random rnd = new Random(seed);
+        for (int i = 0; i < length; i++) {
+            varIdx[i] = rnd.nextInt(vars.length);
+            valIdx[i] = rnd.nextInt(Integer.MAX_VALUE);
+        }
+        solver.propagate();
+    }
+
+    /**
+     * Replay the dive.
+     *
+     * @return the number of failures met
+     */
+    int replay() {
+        IEnvironment env = solver.getEnvironment();
+        int root = env.getWorldIndex();
+        int fails = 0;
+        for (int i = 0; i < varIdx.length; i++) {
+            IntVar var = vars[varIdx[i]];
+            if (var.isInstantiated()) {
+                continue;
+            }
+            int val = var.nextValue(var.getLB() + valIdx[i] % var.getDomainSize() - 1);
+            if (val == Integer.MAX_VALUE) {
+                val = var.getUB();
+            }
+            env.worldPush();
+            try {
+                var.instantiateTo(val, Cause.Null);
+                solver.propagate();
+            } catch (ContradictionException e) {
+                solver.getEngine().flush();
+                env.worldPop();
+                fails++;
+            }
+        }
+        env.worldPopUntil(root);
+        return fails;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBool;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.copying.EnvironmentCopying;
+import org.chocosolver.memory.trailing.packed.EnvironmentPacked;
+import org.chocosolver.memory.trailing.packed.PackedIntStore;
+import org.chocosolver.memory.trailing.packed.PackedLongStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures world push/pop in {@link org.chocosolver.memory.trailing.EnvironmentTrailing},
+ * with flattened and chunked trails, in {@link org.chocosolver.memory.trailing.packed.EnvironmentPacked}
+ * and in {@link org.chocosolver.memory.copying.EnvironmentCopying}.
+ * <br/>
+ * Each invocation opens <i>depth</i> worlds, updates <i>updates</i> stored values in each of them,
+ * then backtracks to the root world, one world at a time.
+ * With {@code handles}, the values are allocated by blocks in the stores of the packed environment
+ * and updated through their handles, without any view object.
+ * <br/>
+ * {@link #create()} allocates the stored values only, run it with {@code -prof gc} to compare the memory footprints
+ * (see {@code gc.alloc.rate.norm}).
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2)
+@State(Scope.Thread)
+public class EnvironmentTrailingBenchmark {
+
+    @Param({"flat", "chunk", "packed", "handles", "copy"})
+    String trail;
+
+    @Param({"500", "10000"})
+    int size;
+
+    @Param({"3", "100"})
+    int depth;
+
+    @Param({"50"})
+    int updates;
+
+    private IEnvironment environment;
+    private IStateInt[] ints;
+    private IStateLong[] longs;
+    private IStateBool[] bools;
+    private PackedIntStore intStore;
+    private PackedLongStore longStore;
+    // first handles of the blocks of ints, longs and booleans
+    private int hInts, hLongs, hBools;
+    private int[] indices;
+
+    private IEnvironment newEnvironment() {
+        if ("copy".equals(trail)) {
+            return new EnvironmentCopying();
+        }
+        EnvironmentBuilder builder = new EnvironmentBuilder();
+        if ("packed".equals(trail) || "handles".equals(trail)) {
+            builder.setPacked(true);
+        } else if ("chunk".equals(trail)) {
+            builder.fromChunk();
+        } else {
+            builder.fromFlat();
+        }
+        return builder.build();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = create();
+        Random rnd = new Random(0L);
+        indices = new int[depth * updates];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = rnd.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public IEnvironment create() {
+        IEnvironment env = newEnvironment();
+        if ("handles".equals(trail)) {
+            intStore = ((EnvironmentPacked) env).getIntStore();
+            longStore = ((EnvironmentPacked) env).getLongStore();
+            hInts = intStore.alloc(size, 0);
+            hBools = intStore.alloc(size, 0);
+            hLongs = longStore.alloc(size, 0L);
+        } else {
+            ints = new IStateInt[size];
+            longs = new IStateLong[size];
+            bools = new IStateBool[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = env.makeInt(0);
+                longs[i] = env.makeLong(0L);
+                bools[i] = env.makeBool(false);
+            }
+        }
+        return env;
+    }
+
+    @Benchmark
+    public int pushPop() {
+        int k = 0;
+        for (int d = 0; d < depth; d++) {
+            environment.worldPush();
+            if (intStore == null) {
+                for (int u = 0; u < updates; u++) {
+                    int i = indices[k++];
+                    ints[i].add(1);
+                    longs[i].set(longs[i].get() + 1L);
+                    bools[i].set(!bools[i].get());
+                }
+            } else {
+                for (int u = 0; u < updates; u++) {
+                    int i = indices[k++];
+                    intStore.set(hInts + i, intStore.get(hInts + i) + 1);
+                    longStore.set(hLongs + i, longStore.get(hLongs + i) + 1L);
+                    intStore.set(hBools + i, 1 - intStore.get(hBools + i));
+                }
+            }
+        }
+        for (int d = 0; d < depth; d++) {
+            environment.worldPop();
+        }
+        return environment.getWorldIndex();
+    }
+
+    @Benchmark
+    public int pushPopUntil() {
+        int k = 0;
+        int root = environment.getWorldIndex();
+        for (int d = 0; d < depth; d++) {
+            environment.worldPush();
+            if (intStore == null) {
+                for (int u = 0; u < updates; u++) {
+                    ints[indices[k++]].add(1);
+                }
+            } else {
+                for (int u = 0; u < updates; u++) {
+                    int h = hInts + indices[k++];
+                    intStore.set(h, intStore.get(h) + 1);
+                }
+            }
+        }
+        environment.worldPopUntil(root);
+        return environment.getWorldIndex();
+    }
+}
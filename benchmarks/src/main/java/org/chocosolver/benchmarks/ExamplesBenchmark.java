@@ -0,0 +1,199 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.examples.integer.CarSequencing;
+import org.chocosolver.examples.integer.GolombRuler;
+import org.chocosolver.examples.integer.RLFAP;
+import org.chocosolver.examples.integer.TSP;
+import org.chocosolver.parser.SetUpException;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.SettingsBuilder;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Full resolutions of some models declared in the <i>examples</i> module.
+ * <br/>
+ * Before each invocation, the model is built from scratch, then the invocation solves it
+ * with the search strategy declared by the example (to optimality for optimisation problems).
+ * Node limits are set where the complete resolution is too long,
+ * so that the amount of work done is the same from one release to the other.
+ * <i>LCGQueens</i> enumerates the solutions of the n-queens problem with lazy clause generation,
+ * it mainly stresses the embedded SAT solver.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2)
+@State(Scope.Thread)
+public class ExamplesBenchmark {
+
+    @Param({"GolombRuler", "RLFAP", "CarSequencing", "TSP", "LCGQueens"})
+    String problem;
+
+    /**
+     * Order of the Golomb ruler
+     */
+    @Param({"9"})
+    int golomb;
+
+    /**
+     * Number of variables of the RLFAP instance, generated with a fixed seed
+     */
+    @Param({"200"})
+    int rlfap;
+
+    /**
+     * Number of queens, with lazy clause generation
+     */
+    @Param({"10"})
+    int queens;
+
+    private Path rlfapDir;
+    private Model model;
+
+    @Setup(Level.Trial)
+    public void generateRLFAP() throws IOException {
+        rlfapDir = Files.createTempDirectory("rlfap");
+        writeRLFAP(rlfapDir, rlfap, new Random(0L));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteRLFAP() throws IOException {
+        try (Stream<Path> files = Files.walk(rlfapDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void buildModel() throws SetUpException {
+        switch (problem) {
+            case "GolombRuler": {
+                GolombRuler pb = new GolombRuler();
+                pb.setUp("-m", Integer.toString(golomb));
+                pb.buildModel();
+                pb.configureSearch();
+                model = pb.getModel();
+                model.setObjective(Model.MINIMIZE, (IntVar) model.getVar(golomb - 1));
+            }
+            break;
+            case "RLFAP": {
+                RLFAP pb = new RLFAP();
+                pb.setUp("-d", rlfapDir.toString());
+                pb.buildModel();
+                pb.configureSearch();
+                model = pb.getModel();
+                model.getSolver().limitNode(10000);
+            }
+            break;
+            case "CarSequencing": {
+                CarSequencing pb = new CarSequencing();
+                pb.setUp();
+                pb.buildModel();
+                pb.configureSearch();
+                model = pb.getModel();
+                model.getSolver().limitNode(5000);
+            }
+            break;
+            case "TSP":
+                model = TSP.buildModel(TSP.GR17);
+                model.getSolver().limitNode(50000);
+                break;
+            case "LCGQueens": {
+                model = new Model("LCG queens", SettingsBuilder.init().setLCG(true));
+                IntVar[] vars = model.intVarArray("Q", queens, 1, queens, false);
+                for (int i = 0; i < queens; i++) {
+                    for (int j = i + 1; j < queens; j++) {
+                        model.arithm(vars[i], "!=", vars[j]).post();
+                        model.arithm(vars[i], "!=", vars[j], "+", j - i).post();
+                        model.arithm(vars[i], "!=", vars[j], "-", j - i).post();
+                    }
+                }
+                model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+            }
+            break;
+            default:
+                throw new IllegalArgumentException("Unknown problem " + problem);
+        }
+    }
+
+    @Benchmark
+    public long solve() {
+        Solver solver = model.getSolver();
+        if (model.getObjective() != null || "LCGQueens".equals(problem)) {
+            //noinspection StatementWithEmptyBody
+            while (solver.solve()) ;
+        } else {
+            solver.solve();
+        }
+        return solver.getNodeCount();
+    }
+
+    /**
+     * Write a random RLFAP instance, in the CELAR format, in <i>dir</i>.
+     * Transmitters are paired, and each pair shares one of three frequency domains.
+     * Each transmitter is also linked to (up to) three others by distance constraints.
+     */
+    private static void writeRLFAP(Path dir, int n, Random rnd) throws IOException {
+        int[][] domains = new int[3][];
+        for (int d = 0; d < domains.length; d++) {
+            domains[d] = new int[24 + 6 * d];
+            for (int i = 0; i < domains[d].length; i++) {
+                domains[d][i] = 16 + 14 * i + 7 * d;
+            }
+        }
+        try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(dir.resolve("dom.txt")))) {
+            for (int d = 0; d < domains.length; d++) {
+                pw.print(d);
+                for (int v : domains[d]) {
+                    pw.print(' ');
+                    pw.print(v);
+                }
+                pw.println();
+            }
+        }
+        try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(dir.resolve("var.txt")))) {
+            for (int i = 1; i <= n; i += 2) {
+                int d = rnd.nextInt(domains.length);
+                pw.printf("%d %d%n", i, d);
+                if (i < n) {
+                    pw.printf("%d %d%n", i + 1, d);
+                }
+            }
+        }
+        try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(dir.resolve("ctr.txt")))) {
+            for (int i = 1; i < n; i += 2) {
+                // paired transmitters
+                pw.printf("%d %d D = %d%n", i, i + 1, 238);
+            }
+            for (int i = 1; i <= n; i++) {
+                for (int k = 0; k < 3; k++) {
+                    int j = 1 + rnd.nextInt(n);
+                    if (j != i) {
+                        pw.printf("%d %d C > %d%n", i, j, 10 + rnd.nextInt(50));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.parser.flatzinc.Flatzinc;
+import org.chocosolver.parser.flatzinc.FlatzincReader;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolutions of a FlatZinc instance with lazy clause generation, which stress the clause storage
+ * of {@link org.chocosolver.sat.MiniSat}: the explanations of the propagators are turned into clauses,
+ * and learnt clauses are added, propagated through their watches, reduced and compacted all along the search.
+ * <br/>
+ * The instance is generated once per trial, with a fixed seed, or read from a file given with {@code -p fzn=path/to/file.fzn}.
+ * The generated instance is a job-shop whose disjunctions are reified linear inequalities,
+ * a classical case where learning pays off.
+ * Before each invocation, the model is built with {@link FlatzincReader}, then the invocation solves it
+ * with the default search until the fail limit is reached, so that the amount of work is the same
+ * from one release to the other.
+ * Besides the resolution time, the number of nodes, the number of learnt clauses at the end of the resolution
+ * and the peak heap usage of each invocation are reported in the {@code nodes}, {@code learnts} and {@code peakHeapMB}
+ * counters.
+ * <br/>
+ * The clause storage of MiniSat cannot be selected at runtime: to compare the flat arena with the object-based
+ * storage it replaced, the benchmark is run on both versions with the same parameters,
+ * and their results in {@code benchmarks/baselines} are compared.
+ * The {@code nodes} and {@code learnts} counters must then be the same on both sides, otherwise the searches differ.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 2, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class FlatzincLCGBenchmark {
+
+    /**
+     * Number of jobs of the generated instance.
+     */
+    @Param({"10"})
+    int nbJobs;
+
+    /**
+     * Number of machines of the generated instance, each job has one operation per machine.
+     */
+    @Param({"5"})
+    int nbMachines;
+
+    /**
+     * Number of failures of each resolution.
+     */
+    @Param({"2000"})
+    int nbFails;
+
+    /**
+     * Path to a FlatZinc file, overrides the generated instance when not empty.
+     */
+    @Param({""})
+    String fzn;
+
+    private byte[] instance;
+    private Model model;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Stats {
+        public long nodes;
+        public long learnts;
+        public long peakHeapMB;
+    }
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        if (!fzn.isEmpty()) {
+            instance = Files.readAllBytes(Paths.get(fzn));
+        } else {
+            instance = generate(nbJobs, nbMachines).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void buildModel() throws IOException {
+        Flatzinc fzn = new Flatzinc();
+        fzn.setLCG(true);
+        fzn.createSolver();
+        model = fzn.getModel();
+        fzn.read(model, fzn.datas[0], new ByteArrayInputStream(instance));
+        model.getSolver().limitFail(nbFails);
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    @Benchmark
+    public Model solve(Stats stats) {
+        Solver solver = model.getSolver();
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) ;
+        stats.nodes = solver.getNodeCount();
+        stats.learnts = solver.getSat().nLearnts();
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        stats.peakHeapMB = peak >> 20;
+        return model;
+    }
+
+    /**
+     * Generate a job-shop made of <i>nbJobs</i> jobs, each of them going through the <i>nbMachines</i> machines
+     * in a random order, which minimizes the makespan.
+     * Each pair of operations on the same machine is ordered by a boolean variable.
+     */
+    private static String generate(int nbJobs, int nbMachines) {
+        Random rnd = new Random(0L);
+        int[][] durations = new int[nbJobs][nbMachines];
+        int[][] machines = new int[nbJobs][nbMachines];
+        int horizon = 0;
+        for (int j = 0; j < nbJobs; j++) {
+            for (int k = 0; k < nbMachines; k++) {
+                durations[j][k] = rnd.nextInt(20) + 1;
+                horizon += durations[j][k];
+                machines[j][k] = k;
+            }
+            for (int k = nbMachines - 1; k > 0; k--) {
+                int r = rnd.nextInt(k + 1);
+                int t = machines[j][k];
+                machines[j][k] = machines[j][r];
+                machines[j][r] = t;
+            }
+        }
+        StringBuilder st = new StringBuilder();
+        st.append("% generated instance\n");
+        for (int j = 0; j < nbJobs; j++) {
+            for (int k = 0; k < nbMachines; k++) {
+                st.append("var 0..").append(horizon).append(": S_").append(j).append('_').append(k)
+                        .append(" :: output_var;\n");
+            }
+        }
+        st.append("var 0..").append(horizon).append(": MAKESPAN :: output_var;\n");
+        int nbBools = nbMachines * nbJobs * (nbJobs - 1);
+        for (int b = 0; b < nbBools; b++) {
+            st.append("var bool: B_").append(b).append(";\n");
+        }
+        for (int j = 0; j < nbJobs; j++) {
+            for (int k = 0; k < nbMachines - 1; k++) {
+                precedence(st, "S_" + j + '_' + k, "S_" + j + '_' + (k + 1), durations[j][k], -1);
+            }
+            precedence(st, "S_" + j + '_' + (nbMachines - 1), "MAKESPAN", durations[j][nbMachines - 1], -1);
+        }
+        int b = 0;
+        for (int m = 0; m < nbMachines; m++) {
+            for (int i = 0; i < nbJobs; i++) {
+                for (int j = i + 1; j < nbJobs; j++) {
+                    int ki = indexOf(machines[i], m);
+                    int kj = indexOf(machines[j], m);
+                    precedence(st, "S_" + i + '_' + ki, "S_" + j + '_' + kj, durations[i][ki], b);
+                    precedence(st, "S_" + j + '_' + kj, "S_" + i + '_' + ki, durations[j][kj], b + 1);
+                    st.append("constraint bool_clause([B_").append(b).append(", B_").append(b + 1).append("], []);\n");
+                    b += 2;
+                }
+            }
+        }
+        st.append("solve minimize MAKESPAN;\n");
+        return st.toString();
+    }
+
+    /**
+     * Append <i>before</i> + <i>duration</i> &le; <i>after</i>, reified by B_<i>b</i> when <i>b</i> is not negative.
+     */
+    private static void precedence(StringBuilder st, String before, String after, int duration, int b) {
+        st.append("constraint int_lin_le").append(b < 0 ? "" : "_reif").append("([1, -1], [")
+                .append(before).append(", ").append(after).append("], ").append(-duration);
+        if (b >= 0) {
+            st.append(", B_").append(b);
+        }
+        st.append(");\n");
+    }
+
+    private static int indexOf(int[] machines, int m) {
+        int k = 0;
+        while (machines[k] != m) {
+            k++;
+        }
+        return k;
+    }
+}
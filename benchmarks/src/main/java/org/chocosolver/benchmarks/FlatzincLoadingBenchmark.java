@@ -0,0 +1,151 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.parser.flatzinc.Flatzinc;
+import org.chocosolver.parser.flatzinc.FlatzincReader;
+import org.chocosolver.parser.flatzinc.FlatzincTokens;
+import org.chocosolver.solver.Model;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the loading of a FlatZinc instance with {@link org.chocosolver.parser.flatzinc.Flatzinc4Parser}
+ * (from the file, or from {@link FlatzincTokens}) and with {@link FlatzincReader}.
+ * <br/>
+ * The instance is generated once per trial, with a fixed seed, or read from a file given with {@code -p fzn=path/to/file.fzn}.
+ * Besides the loading time, the peak heap usage of each invocation is reported in the {@code peakHeapMB} counter
+ * (sum of the peak usages of the heap memory pools, which are reset before each invocation).
+ * Allocations can be reported with {@code -prof gc}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class FlatzincLoadingBenchmark {
+
+    @Param({"antlr", "tokens", "streaming"})
+    String reader;
+
+    /**
+     * Number of linear constraints of the generated instance.
+     */
+    @Param({"50000"})
+    int nbCstrs;
+
+    /**
+     * Path to a FlatZinc file, overrides the generated instance when not empty.
+     */
+    @Param({""})
+    String fzn;
+
+    private byte[] instance;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long peakHeapMB;
+    }
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        if (!fzn.isEmpty()) {
+            instance = Files.readAllBytes(Paths.get(fzn));
+        } else {
+            instance = generate(nbCstrs / 10, nbCstrs).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPeaks() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    @Benchmark
+    public Model load(Heap heap) throws IOException {
+        Flatzinc fzn = new Flatzinc(false, false, 1);
+        fzn.createSolver();
+        Model model = fzn.getModel();
+        switch (reader) {
+            case "antlr":
+                fzn.parse(model, fzn.datas[0], new ByteArrayInputStream(instance));
+                break;
+            case "tokens":
+                fzn.parse(model, fzn.datas[0], FlatzincTokens.read(new ByteArrayInputStream(instance)));
+                break;
+            case "streaming":
+                fzn.read(model, fzn.datas[0], new ByteArrayInputStream(instance));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown reader " + reader);
+        }
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        heap.peakHeapMB = peak >> 20;
+        return model;
+    }
+
+    /**
+     * Generate a FlatZinc instance made of <i>nbVars</i> variables and <i>nbCstrs</i> linear inequalities,
+     * whose coefficient arrays are picked among a few ones.
+     */
+    private static String generate(int nbVars, int nbCstrs) {
+        Random rnd = new Random(0L);
+        StringBuilder st = new StringBuilder();
+        st.append("% generated instance\n");
+        for (int i = 0; i < 8; i++) {
+            st.append("array [1..4] of int: C").append(i).append(" = [")
+                    .append(rnd.nextInt(10) + 1).append(", ").append(-rnd.nextInt(10) - 1).append(", ")
+                    .append(rnd.nextInt(10) + 1).append(", ").append(-rnd.nextInt(10) - 1).append("];\n");
+        }
+        for (int i = 0; i < nbVars; i++) {
+            st.append("var 0..100: X_INTRODUCED_").append(i).append("_ :: output_var;\n");
+        }
+        for (int c = 0; c < nbCstrs; c++) {
+            st.append("constraint int_lin_le(");
+            if (c % 2 == 0) {
+                st.append('C').append(rnd.nextInt(8));
+            } else {
+                st.append("[1, -1, 1, -1]");
+            }
+            st.append(", [");
+            for (int i = 0; i < 4; i++) {
+                if (i > 0) {
+                    st.append(", ");
+                }
+                st.append("X_INTRODUCED_").append(rnd.nextInt(nbVars)).append('_');
+            }
+            st.append("], ").append(rnd.nextInt(50)).append(");\n");
+        }
+        st.append("solve satisfy;\n");
+        return st.toString();
+    }
+}
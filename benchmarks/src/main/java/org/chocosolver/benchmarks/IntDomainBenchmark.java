@@ -0,0 +1,151 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.RangeListIntVarImpl;
+import org.chocosolver.solver.variables.impl.SparseSetIntVarImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the enumerated domains {@link BitsetIntVarImpl}, {@link SparseSetIntVarImpl} and
+ * {@link RangeListIntVarImpl} on huge, holey domains: a few thousand values spread over a range of 10<sup>8</sup>,
+ * either isolated ({@code spread}) or grouped by ranges of 16 values ({@code ranges}).
+ * <br/>
+ * {@link #create()} builds the variables only, run it with {@code -prof gc} to compare the memory footprints
+ * (see {@code gc.alloc.rate.norm}).
+ * {@link #propagate()} applies a fixed sequence of value removals and bound updates to the variables,
+ * within nested worlds which are then backtracked, as a search would do.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class IntDomainBenchmark {
+
+    private static final int SPAN = 100_000_000;
+
+    @Param({"bitset", "sparse", "ranges"})
+    String domain;
+
+    @Param({"spread", "ranges"})
+    String layout;
+
+    @Param({"4000"})
+    int size;
+
+    @Param({"50"})
+    int nbVars;
+
+    private int[] values;
+    private int[][] ops;
+    private Model model;
+    private IntVar[] vars;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        Random rnd = new Random(0L);
+        values = new int[size];
+        if (layout.equals("spread")) {
+            int step = SPAN / size;
+            for (int i = 0; i < size; i++) {
+                values[i] = i * step + rnd.nextInt(step);
+            }
+        } else {
+            int step = SPAN / (size / 16);
+            for (int i = 0; i < size; i++) {
+                values[i] = (i / 16) * step + i % 16;
+            }
+        }
+        // type, variable, value
+        ops = new int[20_000][];
+        for (int k = 0; k < ops.length; k++) {
+            ops[k] = new int[]{rnd.nextInt(10), rnd.nextInt(nbVars), values[rnd.nextInt(size)]};
+        }
+        vars = create();
+        model = vars[0].getModel();
+    }
+
+    private IntVar make(String name, Model model) {
+        switch (domain) {
+            case "bitset":
+                return new BitsetIntVarImpl(name, values, model);
+            case "sparse":
+                return new SparseSetIntVarImpl(name, values, model);
+            default:
+                return new RangeListIntVarImpl(name, values, model);
+        }
+    }
+
+    @Benchmark
+    public IntVar[] create() {
+        Model m = new Model();
+        IntVar[] vs = new IntVar[nbVars];
+        for (int i = 0; i < nbVars; i++) {
+            vs[i] = make("x" + i, m);
+        }
+        return vs;
+    }
+
+    @Benchmark
+    public long propagate() {
+        IEnvironment env = model.getEnvironment();
+        long acc = 0;
+        int root = env.getWorldIndex();
+        env.worldPush();
+        int base = root + 1;
+        for (int[] op : ops) {
+            if (op[0] == 0 && env.getWorldIndex() > base) {
+                env.worldPop();
+                continue;
+            }
+            if (op[0] == 1) {
+                env.worldPush();
+            }
+            IntVar v = vars[op[1]];
+            try {
+                switch (op[0]) {
+                    case 2:
+                        v.updateLowerBound(v.getLB() + (op[2] % 64), Cause.Null);
+                        break;
+                    case 3:
+                        v.updateUpperBound(v.getUB() - (op[2] % 64), Cause.Null);
+                        break;
+                    case 4:
+                        acc += v.nextValue(op[2]);
+                        break;
+                    case 5:
+                        acc += v.contains(op[2]) ? 1 : 0;
+                        break;
+                    default:
+                        v.removeValue(op[2], Cause.Null);
+                }
+            } catch (ContradictionException e) {
+                env.worldPop();
+                env.worldPush();
+            }
+            acc += v.getDomainSize();
+        }
+        while (env.getWorldIndex() > root) {
+            env.worldPop();
+        }
+        return acc;
+    }
+}
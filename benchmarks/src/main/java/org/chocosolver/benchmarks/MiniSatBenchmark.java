@@ -0,0 +1,197 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.sat.MiniSatSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileNotFoundException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MiniSat#propagate()} and {@link MiniSat#analyze(org.chocosolver.sat.Clause, TIntArrayList)}
+ * on a uniform random 3-SAT formula, or on a DIMACS file given with {@code -p dimacs=path/to/file.cnf}.
+ * <br/>
+ * The formula is generated once per trial, with a fixed seed,
+ * and loaded in a fresh {@link MiniSat} before each invocation,
+ * so that learnt clauses of an invocation do not leak into the next one.
+ * Some binary clauses can be mixed in the random formula, to exercise the implication lists.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2)
+@State(Scope.Thread)
+public class MiniSatBenchmark {
+
+    @Param({"500", "5000"})
+    int nbVars;
+
+    /**
+     * Clauses-to-variables ratio, in hundredths.
+     */
+    @Param({"400"})
+    int ratio;
+
+    /**
+     * Number of decisions (resp. conflicts) per invocation.
+     */
+    @Param({"1000"})
+    int budget;
+
+    /**
+     * Ratio of binary clauses in the random formula, in hundredths.
+     */
+    @Param({"0", "20"})
+    int binaries;
+
+    /**
+     * Path to a DIMACS file, overrides the random formula when not empty.
+     */
+    @Param({""})
+    String dimacs;
+
+    private int[][] formula;
+    private int[] decisions;
+    private MiniSat sat;
+    private final TIntArrayList learnt = new TIntArrayList();
+
+    @Setup(Level.Trial)
+    public void generate() throws FileNotFoundException {
+        Random rnd = new Random(0L);
+        if (!dimacs.isEmpty()) {
+            MiniSatSolver parsed = new MiniSatSolver();
+            parsed.parse(dimacs);
+            nbVars = parsed.nVars();
+        } else {
+            formula = new int[nbVars * ratio / 100][];
+            for (int i = 0; i < formula.length; i++) {
+                formula[i] = new int[i * 100 < formula.length * binaries ? 2 : 3];
+                for (int j = 0; j < formula[i].length; j++) {
+                    formula[i][j] = MiniSat.makeLiteral(rnd.nextInt(nbVars), rnd.nextBoolean());
+                }
+            }
+        }
+        decisions = new int[nbVars];
+        for (int i = 0; i < nbVars; i++) {
+            decisions[i] = MiniSat.makeLiteral(rnd.nextInt(nbVars), rnd.nextBoolean());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void load() throws FileNotFoundException {
+        if (!dimacs.isEmpty()) {
+            MiniSatSolver parsed = new MiniSatSolver();
+            parsed.parse(dimacs);
+            sat = parsed;
+            return;
+        }
+        sat = new MiniSat(false, 0);
+        for (int i = 0; i < nbVars; i++) {
+            sat.newVariable();
+        }
+        TIntArrayList lits = new TIntArrayList(3);
+        for (int[] clause : formula) {
+            lits.resetQuick();
+            lits.add(clause);
+            sat.addClause(lits);
+        }
+    }
+
+    /**
+     * Unit propagation only: decisions are applied until a conflict occurs, which is simply undone.
+     *
+     * @return the sum of the decision levels reached, to prevent dead-code elimination
+     */
+    @Benchmark
+    public int propagate() {
+        int levels = 0;
+        for (int i = 0, k = 0; i < budget && sat.ok_; i++, k = (k + 1) % decisions.length) {
+            int lit = decisions[k];
+            if (sat.valueLit(lit) != MiniSat.lUndef) {
+                continue;
+            }
+            sat.pushTrailMarker();
+            sat.uncheckedEnqueue(lit);
+            if (!sat.propagate()) {
+                sat.cancel();
+            }
+            levels += sat.trailMarker();
+        }
+        sat.cancelUntil(0);
+        return levels;
+    }
+
+    /**
+     * Conflict-driven search: each conflict is analysed and the learnt clause is added.
+     *
+     * @return the number of literals learnt
+     */
+    @Benchmark
+    public int analyze() {
+        return search(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Conflict-driven search where the learnt clause database is reduced every tenth of the budget,
+     * which also compacts the clause arena.
+     *
+     * @return the number of literals learnt
+     */
+    @Benchmark
+    public int reduceDB() {
+        return search(Math.max(1, budget / 10));
+    }
+
+    private int search(int reduceEvery) {
+        int lits = 0;
+        int conflicts = 0;
+        int k = 0;
+        while (conflicts < budget && sat.ok_) {
+            if (!sat.propagate()) {
+                conflicts++;
+                if (sat.trailMarker() == 0) {
+                    break;
+                }
+                learnt.resetQuick();
+                int bt = sat.analyze(sat.confl, learnt);
+                sat.cancelUntil(bt);
+                sat.addLearnt(learnt, false);
+                lits += learnt.size();
+                if (conflicts % reduceEvery == 0) {
+                    sat.doReduceDB();
+                }
+            } else {
+                int lit = -1;
+                for (int i = 0; i < decisions.length && lit == -1; i++, k = (k + 1) % decisions.length) {
+                    if (sat.valueLit(decisions[k]) == MiniSat.lUndef) {
+                        lit = decisions[k];
+                    }
+                }
+                if (lit == -1) {
+                    if (sat.trailMarker() == 0) {
+                        break;
+                    }
+                    // every decision literal is assigned: restart
+                    sat.cancelUntil(0);
+                    continue;
+                }
+                sat.pushTrailMarker();
+                sat.uncheckedEnqueue(lit);
+            }
+        }
+        sat.cancelUntil(0);
+        return lits;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time needed to build a model with the time needed to copy it with {@link Model#copy()}.
+ * <br/>
+ * Two models are declared: a n-queens with binary constraints, whose modelling code is trivial,
+ * and a model made of random table constraints, whose propagators compute the supports of each table
+ * when they are created, be it by the modelling code or by the copy.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2)
+@State(Scope.Thread)
+public class ModelCopyBenchmark {
+
+    @Param({"nqueens", "table"})
+    String problem;
+
+    private Model model;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = build();
+    }
+
+    @Benchmark
+    public Model build() {
+        switch (problem) {
+            case "nqueens":
+                return nqueens(200);
+            case "table":
+                return tables(50, 20, 5, 5000, 50);
+            default:
+                throw new IllegalArgumentException("Unknown problem " + problem);
+        }
+    }
+
+    @Benchmark
+    public Model copy() {
+        return model.copy();
+    }
+
+    private static Model nqueens(int n) {
+        Model model = new Model("nqueens");
+        IntVar[] vars = model.intVarArray("Q", n, 1, n);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(vars[i], "!=", vars[j]).post();
+                model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                model.arithm(vars[i], "!=", vars[j], "+", k).post();
+            }
+        }
+        return model;
+    }
+
+    private static Model tables(int nbVars, int domainSize, int arity, int nbTuples, int nbTables) {
+        Random rnd = new Random(0L);
+        Model model = new Model("tables");
+        IntVar[] vars = model.intVarArray("X", nbVars, 0, domainSize - 1);
+        for (int t = 0; t < nbTables; t++) {
+            IntVar[] scope = new IntVar[arity];
+            for (int i = 0; i < arity; i++) {
+                scope[i] = vars[(t * 7 + i * 11) % nbVars];
+            }
+            Tuples tuples = new Tuples(true);
+            int[] tuple = new int[arity];
+            for (int k = 0; k < nbTuples; k++) {
+                for (int i = 0; i < arity; i++) {
+                    tuple[i] = rnd.nextInt(domainSize);
+                }
+                tuples.add(tuple);
+            }
+            model.table(scope, tuples, "CT+").post();
+        }
+        return model;
+    }
+}
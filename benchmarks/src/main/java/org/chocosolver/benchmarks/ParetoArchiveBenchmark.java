@@ -0,0 +1,144 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.objective.ParetoArchive;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link ParetoArchive} used by {@link org.chocosolver.solver.objective.ParetoMaximizer} with the
+ * linear scan of a list of points it replaces.
+ * <br/>
+ * A synthetic front is generated once per trial: points are drawn on the simplex
+ * <i>x<sub>1</sub> + ... + x<sub>m</sub> = S</i>, so that they are mutually non-dominated, then improved ones
+ * (which dominate some points of the front) are interleaved.
+ * Each invocation inserts the points one after the other and, after each insertion,
+ * computes the bound of each objective as {@link org.chocosolver.solver.objective.ParetoMaximizer#propagate(int)}
+ * does around the inserted point.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class ParetoArchiveBenchmark {
+
+    @Param({"archive", "list"})
+    String index;
+
+    @Param({"3", "4"})
+    int m;
+
+    @Param({"10000", "50000"})
+    int size;
+
+    private int[][] points;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        Random rnd = new Random(0L);
+        int sum = 1 << 24;
+        points = new int[size][];
+        for (int k = 0; k < size; k++) {
+            int[] p = new int[m];
+            int rest = sum;
+            for (int d = 0; d < m - 1; d++) {
+                p[d] = rnd.nextInt(Math.min(rest, rest / (m - d) * 2) + 1);
+                rest -= p[d];
+            }
+            p[m - 1] = rest;
+            if (k % 10 == 9) {
+                // dominates some of the previous points
+                for (int d = 0; d < m; d++) {
+                    p[d] += rnd.nextInt(sum >> 6);
+                }
+            }
+            points[k] = p;
+        }
+    }
+
+    @Benchmark
+    public long insertAndFilter() {
+        int[] dp = new int[m];
+        long acc = 0;
+        if (index.equals("archive")) {
+            ParetoArchive<int[]> archive = new ParetoArchive<>(m);
+            for (int[] p : points) {
+                archive.insert(p, p, null);
+                for (int i = 0; i < m; i++) {
+                    dominatedPoint(p, i, dp);
+                    acc += archive.tightest(i, dp);
+                }
+            }
+            return acc + archive.size();
+        } else {
+            List<int[]> front = new ArrayList<>();
+            for (int[] p : points) {
+                for (int k = front.size() - 1; k >= 0; k--) {
+                    if (weaklyDominates(p, front.get(k))) {
+                        front.remove(k);
+                    }
+                }
+                front.add(p);
+                for (int i = 0; i < m; i++) {
+                    dominatedPoint(p, i, dp);
+                    acc += tightest(front, i, dp);
+                }
+            }
+            return acc + front.size();
+        }
+    }
+
+    /**
+     * A dominated point slightly below <i>p</i>, as if the objectives were bounded around it.
+     */
+    private void dominatedPoint(int[] p, int i, int[] dp) {
+        for (int j = 0; j < m; j++) {
+            dp[j] = p[j] - (p[j] >> 4);
+        }
+        dp[i] = 0;
+    }
+
+    private static boolean weaklyDominates(int[] a, int[] b) {
+        for (int d = 0; d < a.length; d++) {
+            if (a[d] < b[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int tightest(List<int[]> front, int i, int[] dp) {
+        int best = Integer.MIN_VALUE;
+        for (int[] a : front) {
+            int dominates = 0;
+            for (int j = 0; j < a.length; j++) {
+                if (a[j] < dp[j]) {
+                    dominates = 0;
+                    break;
+                }
+                if (a[j] > dp[j]) {
+                    if (dominates == 0) dominates = 1;
+                    if (j != i) dominates = 2;
+                }
+            }
+            if (dominates > 0) {
+                best = Math.max(best, dominates == 1 ? a[i] : a[i] + 1);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.SettingsBuilder;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link org.chocosolver.solver.propagation.PropagationEngine#propagate()}
+ * on a model made of many cheap binary propagators and a few global ones.
+ * <br/>
+ * The model is a n-queens, stated with binary {@code arithm} constraints
+ * plus an {@code allDifferent} and a {@code sum} on each diagonal,
+ * which fills several priority queues of the engine.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2)
+@State(Scope.Thread)
+public class PropagationEngineBenchmark {
+
+    @Param({"50", "200"})
+    int n;
+
+    /**
+     * 0: constraint-oriented, 2: variable-oriented, batched: {@link org.chocosolver.solver.propagation.BatchedPropagationEngine}
+     */
+    @Param({"0", "2", "batched"})
+    String engine;
+
+    private Dive dive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ContradictionException {
+        SettingsBuilder settings = SettingsBuilder.init();
+        if ("batched".equals(engine)) {
+            settings.setBatchedPropagation(true);
+        } else {
+            settings.getPropagationEnginType(Byte.parseByte(engine));
+        }
+        Model model = new Model("queens", settings);
+        IntVar[] q = model.intVarArray("Q", n, 1, n, false);
+        IntVar[] d1 = new IntVar[n];
+        IntVar[] d2 = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            d1[i] = model.intView(1, q[i], i);
+            d2[i] = model.intView(1, q[i], -i);
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(q[i], "!=", q[j]).post();
+                model.arithm(q[i], "!=", q[j], "+", k).post();
+                model.arithm(q[i], "!=", q[j], "-", k).post();
+            }
+        }
+        model.allDifferent(d1, "BC").post();
+        model.allDifferent(d2, "BC").post();
+        model.sum(q, "=", n * (n + 1) / 2).post();
+        dive = new Dive(q, n, 0L);
+    }
+
+    @Benchmark
+    public int propagate() {
+        return dive.replay();
+    }
+}
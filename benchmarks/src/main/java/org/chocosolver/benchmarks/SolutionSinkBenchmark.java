@@ -0,0 +1,84 @@
+/*
+ * This file is part of benchmarks, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.trace.SolutionSink;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of enumerating all the solutions of a n-queens problem:
+ * as a list of {@link org.chocosolver.solver.Solution}, as a list of {@link org.chocosolver.solver.CompactSolution},
+ * or written to a CSV or binary {@link SolutionSink} over a stream which discards its bytes.
+ * <br/>
+ * The {@code nanosPerSolution} and {@code bytesPerSolution} counters give the throughput of the sinks.
+ * The retained heap can be compared with {@code -prof gc}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SolutionSinkBenchmark {
+
+    @Param({"list", "compact", "csv", "binary"})
+    String output;
+
+    @Param({"12"})
+    int n;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Throughput {
+        public double nanosPerSolution;
+        public double bytesPerSolution;
+    }
+
+    @Benchmark
+    public long enumerate(Throughput throughput) {
+        Model model = nqueens(n);
+        IntVar[] vars = model.retrieveIntVars(true);
+        switch (output) {
+            case "list":
+                return model.getSolver().findAllSolutions().size();
+            case "compact":
+                return model.getSolver().findAllCompactSolutions(vars).size();
+            case "csv":
+            case "binary":
+                OutputStream out = OutputStream.nullOutputStream();
+                SolutionSink sink = output.equals("csv") ? SolutionSink.csv(out, vars) : SolutionSink.binary(out, vars);
+                long nbSolutions = model.getSolver().findAllSolutions(sink);
+                throughput.nanosPerSolution = sink.getNanosPerSolution();
+                throughput.bytesPerSolution = sink.getBytesPerSolution();
+                return nbSolutions;
+            default:
+                throw new IllegalArgumentException("Unknown output " + output);
+        }
+    }
+
+    private static Model nqueens(int n) {
+        Model model = new Model("nqueens");
+        IntVar[] vars = model.intVarArray("Q", n, 1, n);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(vars[i], "!=", vars[j]).post();
+                model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                model.arithm(vars[i], "!=", vars[j], "+", k).post();
+            }
+        }
+        return model;
+    }
+}
@@ -19,6 +19,7 @@ module org.chocosolver.parsers {
     requires org.antlr.antlr4.runtime;
     requires trove4j;
     requires java.management;
+    requires java.xml;
 
     opens org.chocosolver.parser to args4j, org.testng;
     opens org.chocosolver.parser.mps to args4j;
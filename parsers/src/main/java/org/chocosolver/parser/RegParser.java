@@ -27,8 +27,15 @@ import org.kohsuke.args4j.Option;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
 
 /**
  * A regular parser with default and common services
@@ -324,6 +331,46 @@ public abstract class RegParser extends SettingsBuilder implements IParser {
         }
     }
 
+    /**
+     * Build the models of the portfolio concurrently, one task per model,
+     * on at most as many threads as available processors.
+     * This method returns when all models are built.
+     *
+     * @param builder builds the <i>i</i>-th model of the portfolio, called once for each index
+     * @throws RuntimeException if a model cannot be built, the first failure is rethrown
+     */
+    protected void buildConcurrently(IntConsumer builder) {
+        int n = portfolio.getModels().size();
+        if (n == 1) {
+            builder.accept(0);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(n, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                int j = i;
+                futures.add(executor.submit(() -> builder.accept(j)));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     protected abstract void singleThread();
 
     protected abstract void manyThread();
@@ -68,6 +68,10 @@ public class Flatzinc extends RegParser {
             "(default: ALL, i.e., complete the search with a search on all variables.).")
     protected CompleteSearch ocs = CompleteSearch.ALL;
 
+    @Option(name = "-stream", usage = "Read the file with a streaming reader, which keeps memory bounded on very large " +
+            "instances, each model reads the file on its own (default: false).")
+    protected boolean stream = false;
+
     //***********************************************************************************
     // VARIABLES
     //***********************************************************************************
@@ -132,14 +136,39 @@ public class Flatzinc extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
+        long ptime = -System.nanoTime();
+        long[] btimes = new long[models.size()];
+        if (stream) {
+            // each model reads the instance, variables and constraints are created on the fly
+            ptime = 0;
+            buildConcurrently(i -> {
+                btimes[i] = -System.nanoTime();
+                try (InputStream is = new FileInputStream(instance)) {
+                    read(models.get(i), datas[i], is);
+                } catch (IOException e) {
+                    throw new Error(e.getMessage());
+                }
+                btimes[i] += System.nanoTime();
+            });
+        } else {
+            // the instance is read once, then the models are built concurrently from its tokens
+            FlatzincTokens tokens;
+            try (InputStream is = new FileInputStream(instance)) {
+                tokens = FlatzincTokens.read(is);
+            } catch (IOException e) {
+                throw new Error(e.getMessage());
+            }
+            ptime += System.nanoTime();
+            buildConcurrently(i -> {
+                btimes[i] = -System.nanoTime();
+                parse(models.get(i), datas[i], tokens);
+                btimes[i] += System.nanoTime();
+            });
+        }
         for (int i = 0; i < models.size(); i++) {
             Model m = models.get(i);
             Solver s = m.getSolver();
             try {
-                long ptime = -System.currentTimeMillis();
-                FileInputStream fileInputStream = new FileInputStream(instance);
-                parse(m, datas[i], fileInputStream);
-                fileInputStream.close();
                 if(logFilePath != null) {
                     s.log().remove(System.out);
                     s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
@@ -147,7 +176,8 @@ public class Flatzinc extends RegParser {
                     s.logWithANSI(ansi);
                 }
                 if (level.isLoggable(Level.INFO)) {
-                    s.log().white().printf(String.format("File parsed in %d ms%n", (ptime + System.currentTimeMillis())));
+                    s.log().white().printf(String.format("File parsed in %d ms, model built in %d ms%n",
+                            ptime / 1_000_000, btimes[i] / 1_000_000));
                 }
                 if (level.is(Level.JSON)) {
                     s.getMeasures().setReadingTimeCount(System.nanoTime() - s.getModel().getCreationTime());
@@ -164,8 +194,8 @@ public class Flatzinc extends RegParser {
                             m.getNbVars(),
                             m.getNbCstrs(),
                             m.getSolver().getObjectiveManager().getPolicy(),
-                            (ptime + System.currentTimeMillis()) / 1000f,
-                            s.getReadingTimeCount(),
+                            ptime / 1e9f,
+                            btimes[i] / 1e9f,
                             m.getEstimatedMemory()
                             );
                 }
@@ -195,6 +225,36 @@ public class Flatzinc extends RegParser {
         }*/
     }
 
+    /**
+     * Build a model from the tokens of an instance.
+     * Many models can be built concurrently from the same tokens.
+     *
+     * @param target the model to build
+     * @param data   the mapping between the model and the instance
+     * @param tokens the tokens of the instance
+     * @see FlatzincTokens#read(InputStream)
+     */
+    public void parse(Model target, Datas data, FlatzincTokens tokens) {
+        TokenStream stream = new UnbufferedTokenStream<CommonToken>(tokens.source());
+        Flatzinc4Parser parser = new Flatzinc4Parser(stream);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setBuildParseTree(false);
+        parser.setTrimParseTree(false);
+        parser.flatzinc_model(target, data);
+    }
+
+    /**
+     * Build a model with a {@link FlatzincReader}, which creates variables and constraints while reading the instance.
+     *
+     * @param target the model to build
+     * @param data   the mapping between the model and the instance
+     * @param is     the instance, not closed by this method
+     * @throws IOException if the instance cannot be read
+     */
+    public void read(Model target, Datas data, InputStream is) throws IOException {
+        new FlatzincReader(target, data).read(is);
+    }
+
     @Override
     public void freesearch(Solver solver) {
         BlackBoxConfigurator bb = BlackBoxConfigurator.init();
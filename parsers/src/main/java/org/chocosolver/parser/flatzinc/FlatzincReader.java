@@ -0,0 +1,800 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.antlr.v4.runtime.Token;
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.*;
+import org.chocosolver.parser.flatzinc.ast.declaration.*;
+import org.chocosolver.parser.flatzinc.ast.expression.*;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.chocosolver.parser.flatzinc.Flatzinc4Lexer.*;
+
+/**
+ * <p>
+ * A streaming FlatZinc reader, an alternative to {@link Flatzinc4Parser} for very large instances.
+ * </p>
+ * <p>
+ * The instance is read with a fixed-size character buffer and a hand-written lexer,
+ * and each declaration is turned into variables or constraints as soon as its closing semicolon is read.
+ * No parse tree nor token list is kept, so the memory needed to read an instance does not depend on its size,
+ * apart from the model itself.
+ * Identifiers are interned in a bounded symbol table, and identical array literals
+ * (e.g., the coefficients of linear constraints) are shared through a bounded cache.
+ * </p>
+ * <p>
+ * It accepts the same language as {@link Flatzinc4Parser} and builds the same model.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class FlatzincReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int SYMBOLS = 1 << 12;
+    private static final int ARRAYS = 1 << 10;
+    private static final Map<String, Integer> KEYWORDS = new HashMap<>();
+
+    static {
+        KEYWORDS.put("bool", BOOL);
+        KEYWORDS.put("true", TRUE);
+        KEYWORDS.put("false", FALSE);
+        KEYWORDS.put("int", INT);
+        KEYWORDS.put("float", FLOAT);
+        KEYWORDS.put("set", SET);
+        KEYWORDS.put("of", OF);
+        KEYWORDS.put("array", ARRAY);
+        KEYWORDS.put("var", VAR);
+        KEYWORDS.put("par", PAR);
+        KEYWORDS.put("predicate", PREDICATE);
+        KEYWORDS.put("constraint", CONSTRAINT);
+        KEYWORDS.put("solve", SOLVE);
+        KEYWORDS.put("satisfy", SATISFY);
+        KEYWORDS.put("minimize", MINIMIZE);
+        KEYWORDS.put("maximize", MAXIMIZE);
+    }
+
+    private final Model model;
+    private final Datas datas;
+
+    private Reader in;
+    private final char[] buf = new char[BUFFER_SIZE];
+    private int pos;
+    private int lim;
+    private int line;
+
+    /**
+     * Type of the current token, as declared in {@link Flatzinc4Lexer}
+     */
+    private int type;
+    /**
+     * Text of the current token, for identifiers, floats and strings
+     */
+    private String text;
+    /**
+     * Value of the current token, for integers
+     */
+    private int value;
+    /**
+     * Characters of the current token
+     */
+    private char[] chars = new char[64];
+    /**
+     * Bounded symbol table, a new symbol replaces the one with the same slot
+     */
+    private final String[] symbols = new String[SYMBOLS];
+    /**
+     * Bounded cache of array literals, the least recently used one is evicted first
+     */
+    private final LinkedHashMap<ArrayKey, EArray> arrays = new LinkedHashMap<ArrayKey, EArray>(ARRAYS, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ArrayKey, EArray> eldest) {
+            return size() > ARRAYS;
+        }
+    };
+    private long sharedArrays;
+
+    /**
+     * Create a reader which feeds <i>model</i>.
+     *
+     * @param model the model to feed
+     * @param datas the mapping between the model and the instance
+     */
+    public FlatzincReader(Model model, Datas datas) {
+        this.model = model;
+        this.datas = datas;
+    }
+
+    /**
+     * Read a FlatZinc instance and feed the model.
+     *
+     * @param is an input stream, not closed by this method
+     * @throws IOException     if the stream cannot be read
+     * @throws ParserException if the instance is not well-formed
+     */
+    public void read(InputStream is) throws IOException {
+        this.in = new InputStreamReader(is, StandardCharsets.UTF_8);
+        this.pos = this.lim = 0;
+        this.line = 1;
+        next();
+        while (type != Token.EOF) {
+            switch (type) {
+                case PREDICATE:
+                    skipPredicate();
+                    break;
+                case CONSTRAINT:
+                    constraint();
+                    break;
+                case SOLVE:
+                    solveGoal();
+                    break;
+                default:
+                    declaration();
+                    break;
+            }
+        }
+        this.in = null;
+    }
+
+    /**
+     * @return the number of array literals which were shared instead of being created again
+     */
+    public long getSharedArrays() {
+        return sharedArrays;
+    }
+
+    //***********************************************************************************
+    // PARSER
+    //***********************************************************************************
+
+    private void skipPredicate() throws IOException {
+        // predicates are not used, like in Flatzinc4Parser
+        while (type != SC) {
+            if (type == Token.EOF) {
+                throw error("';'");
+            }
+            next();
+        }
+        next();
+    }
+
+    private void declaration() throws IOException {
+        List<Declaration> indices = null;
+        if (type == ARRAY) {
+            next();
+            expect(LS);
+            indices = new ArrayList<>();
+            indices.add(indexSet());
+            while (type == CM) {
+                next();
+                indices.add(indexSet());
+            }
+            expect(RS);
+            expect(OF);
+        }
+        if (type == VAR) {
+            next();
+            Declaration decl = varTypeU();
+            if (indices != null) {
+                decl = new DArray(indices, decl);
+            }
+            expect(CL);
+            String id = identifier();
+            List<EAnnotation> anns = annotations();
+            Expression exp = null;
+            if (type == EQ) {
+                next();
+                exp = expr();
+            }
+            expect(SC);
+            FVariable.make_variable(datas, decl, id, anns, exp, model);
+        } else {
+            Declaration decl = parTypeU();
+            if (indices != null) {
+                decl = new DArray(indices, decl);
+            }
+            expect(CL);
+            String id = identifier();
+            expect(EQ);
+            Expression exp = expr();
+            expect(SC);
+            FParameter.make_parameter(datas, decl, id, exp);
+        }
+    }
+
+    private Declaration parTypeU() throws IOException {
+        switch (type) {
+            case BOOL:
+                next();
+                return DBool.me;
+            case FLOAT:
+                next();
+                return DFloat.me;
+            case INT:
+                next();
+                return DInt.me;
+            case SET:
+                next();
+                expect(OF);
+                expect(INT);
+                return DSetOfInt.me;
+            default:
+                throw error("a parameter type");
+        }
+    }
+
+    private Declaration varTypeU() throws IOException {
+        switch (type) {
+            case BOOL:
+                next();
+                return DBool.me;
+            case FLOAT:
+                next();
+                return DFloat.me;
+            case INT:
+                next();
+                return DInt.me;
+            case INT_CONST:
+                return interval();
+            case LB:
+                return new DManyInt(intList());
+            case SET:
+                next();
+                expect(OF);
+                switch (type) {
+                    case INT:
+                        next();
+                        return new DSet(DInt.me);
+                    case INT_CONST:
+                        return new DSet(interval());
+                    case LB:
+                        return new DSet(new DManyInt(intList()));
+                    default:
+                        throw error("a set type");
+                }
+            default:
+                throw error("a variable type");
+        }
+    }
+
+    private Declaration indexSet() throws IOException {
+        if (type == INT) {
+            next();
+            return DInt.me;
+        }
+        return interval();
+    }
+
+    private DInt2 interval() throws IOException {
+        EInt lb = EInt.make(integer());
+        expect(DD);
+        EInt ub = EInt.make(integer());
+        return new DInt2(lb, ub);
+    }
+
+    private ArrayList<EInt> intList() throws IOException {
+        expect(LB);
+        ArrayList<EInt> values = new ArrayList<>();
+        values.add(EInt.make(integer()));
+        while (type == CM) {
+            next();
+            values.add(EInt.make(integer()));
+        }
+        expect(RB);
+        return values;
+    }
+
+    private void constraint() throws IOException {
+        expect(CONSTRAINT);
+        String name = identifier();
+        expect(LP);
+        ArrayList<Expression> exps = new ArrayList<>();
+        exps.add(expr());
+        while (type == CM) {
+            next();
+            exps.add(expr());
+        }
+        expect(RP);
+        List<EAnnotation> anns = annotations();
+        expect(SC);
+        datas.incCstrCounter(name);
+        FConstraint.valueOf(name).build(model, datas, name, exps, anns);
+    }
+
+    private void solveGoal() throws IOException {
+        expect(SOLVE);
+        List<EAnnotation> anns = annotations();
+        ResolutionPolicy policy;
+        Expression exp = null;
+        switch (type) {
+            case SATISFY:
+                next();
+                policy = ResolutionPolicy.SATISFACTION;
+                break;
+            case MINIMIZE:
+                next();
+                policy = ResolutionPolicy.MINIMIZE;
+                exp = expr();
+                break;
+            case MAXIMIZE:
+                next();
+                policy = ResolutionPolicy.MAXIMIZE;
+                exp = expr();
+                break;
+            default:
+                throw error("a resolution policy");
+        }
+        expect(SC);
+        FGoal.define_goal(model, anns, policy, exp);
+    }
+
+    private List<EAnnotation> annotations() throws IOException {
+        List<EAnnotation> anns = new ArrayList<>();
+        while (type == DC) {
+            next();
+            String id = identifier();
+            ArrayList<Expression> exps = new ArrayList<>();
+            if (type == LP) {
+                exps = arguments();
+            }
+            anns.add(new EAnnotation(new EIdentifier(datas, id), exps));
+        }
+        return anns;
+    }
+
+    private ArrayList<Expression> arguments() throws IOException {
+        expect(LP);
+        ArrayList<Expression> exps = new ArrayList<>();
+        exps.add(expr());
+        while (type == CM) {
+            next();
+            exps.add(expr());
+        }
+        expect(RP);
+        return exps;
+    }
+
+    private Expression expr() throws IOException {
+        switch (type) {
+            case LB: {
+                next();
+                ArrayList<EInt> values = new ArrayList<>();
+                if (type != RB) {
+                    values.add(EInt.make(integer()));
+                    while (type == CM) {
+                        next();
+                        values.add(EInt.make(integer()));
+                    }
+                }
+                expect(RB);
+                return new ESetList(values);
+            }
+            case TRUE:
+                next();
+                return EBool.make(true);
+            case FALSE:
+                next();
+                return EBool.make(false);
+            case INT_CONST: {
+                EInt i1 = EInt.make(integer());
+                if (type == DD) {
+                    next();
+                    return new ESetBounds(i1, EInt.make(integer()));
+                }
+                return i1;
+            }
+            case FLOAT_CONST: {
+                EFloat f = EFloat.make(text);
+                next();
+                return f;
+            }
+            case LS:
+                return array();
+            case IDENTIFIER: {
+                String id = identifier();
+                if (type == LP) {
+                    return new EAnnotation(new EIdentifier(datas, id), arguments());
+                } else if (type == LS) {
+                    next();
+                    int i = integer();
+                    expect(RS);
+                    return new EIdArray(datas, id, i);
+                }
+                return new EIdentifier(datas, id);
+            }
+            case STRING: {
+                EString s = new EString(text);
+                next();
+                return s;
+            }
+            default:
+                throw error("an expression");
+        }
+    }
+
+    private Expression array() throws IOException {
+        expect(LS);
+        if (type == RS) {
+            next();
+            return new EArray();
+        }
+        ArrayList<Expression> exps = new ArrayList<>();
+        exps.add(expr());
+        while (type == CM) {
+            next();
+            exps.add(expr());
+        }
+        expect(RS);
+        return intern(exps);
+    }
+
+    /**
+     * Return the array literal made of <i>exps</i>, shared with previous identical ones when possible.
+     * Only arrays of integers, booleans and declared identifiers are shared.
+     */
+    private EArray intern(ArrayList<Expression> exps) {
+        int hash = 1;
+        for (int i = 0; i < exps.size(); i++) {
+            Expression e = exps.get(i);
+            switch (e.getTypeOf()) {
+                case INT:
+                    hash = 31 * hash + ((EInt) e).value;
+                    break;
+                case BOO:
+                    hash = 31 * hash + (((EBool) e).value ? 1231 : 1237);
+                    break;
+                case IDE:
+                    if (((EIdentifier) e).object == null) {
+                        return new EArray(exps);
+                    }
+                    hash = 31 * hash + ((EIdentifier) e).value.hashCode();
+                    break;
+                default:
+                    return new EArray(exps);
+            }
+        }
+        ArrayKey key = new ArrayKey(exps, hash);
+        EArray array = arrays.get(key);
+        if (array == null) {
+            exps.trimToSize();
+            array = new EArray(exps);
+            arrays.put(key, array);
+        } else {
+            sharedArrays++;
+        }
+        return array;
+    }
+
+    private void expect(int expected) throws IOException {
+        if (type != expected) {
+            throw error(VOCABULARY.getDisplayName(expected));
+        }
+        next();
+    }
+
+    private String identifier() throws IOException {
+        if (type != IDENTIFIER) {
+            throw error("an identifier");
+        }
+        String id = text;
+        next();
+        return id;
+    }
+
+    private int integer() throws IOException {
+        if (type != INT_CONST) {
+            throw error("an integer");
+        }
+        int i = value;
+        next();
+        return i;
+    }
+
+    private ParserException error(String expected) {
+        return new ParserException(String.format("line %d: %s expected but %s found",
+                line, expected, type == Token.EOF ? "EOF" : VOCABULARY.getDisplayName(type)));
+    }
+
+    //***********************************************************************************
+    // LEXER
+    //***********************************************************************************
+
+    /**
+     * Return the character at <i>k</i> positions from the current one, without consuming it.
+     */
+    private int peek(int k) throws IOException {
+        while (pos + k >= lim) {
+            if (pos > 0) {
+                System.arraycopy(buf, pos, buf, 0, lim - pos);
+                lim -= pos;
+                pos = 0;
+            }
+            int n = in.read(buf, lim, buf.length - lim);
+            if (n < 0) {
+                return -1;
+            }
+            lim += n;
+        }
+        return buf[pos + k];
+    }
+
+    private void store(int len, int c) {
+        if (len == chars.length) {
+            chars = Arrays.copyOf(chars, len * 2);
+        }
+        chars[len] = (char) c;
+    }
+
+    private void next() throws IOException {
+        int c = peek(0);
+        // skip white spaces and comments
+        while (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '%') {
+            if (c == '%') {
+                while (c != '\n' && c != -1) {
+                    pos++;
+                    c = peek(0);
+                }
+            } else {
+                if (c == '\n') {
+                    line++;
+                }
+                pos++;
+                c = peek(0);
+            }
+        }
+        text = null;
+        if (c == -1) {
+            type = Token.EOF;
+        } else if (isDigit(c) || (c == '-' && isDigit(peek(1)))) {
+            number();
+        } else if (isLetter(c)) {
+            int len = 0;
+            do {
+                store(len++, c);
+                pos++;
+                c = peek(0);
+            } while (isLetter(c) || isDigit(c));
+            text = symbol(len);
+            type = KEYWORDS.getOrDefault(text, IDENTIFIER);
+        } else if (c == '"') {
+            string();
+        } else {
+            pos++;
+            switch (c) {
+                case '.':
+                    if (peek(0) == '.') {
+                        pos++;
+                        type = DD;
+                    } else {
+                        type = DO;
+                    }
+                    break;
+                case ':':
+                    if (peek(0) == ':') {
+                        pos++;
+                        type = DC;
+                    } else {
+                        type = CL;
+                    }
+                    break;
+                case '{':
+                    type = LB;
+                    break;
+                case '}':
+                    type = RB;
+                    break;
+                case ',':
+                    type = CM;
+                    break;
+                case '[':
+                    type = LS;
+                    break;
+                case ']':
+                    type = RS;
+                    break;
+                case '=':
+                    type = EQ;
+                    break;
+                case '+':
+                    type = PL;
+                    break;
+                case '-':
+                    type = MN;
+                    break;
+                case ';':
+                    type = SC;
+                    break;
+                case '(':
+                    type = LP;
+                    break;
+                case ')':
+                    type = RP;
+                    break;
+                default:
+                    throw new ParserException(String.format("line %d: unexpected character '%c'", line, (char) c));
+            }
+        }
+    }
+
+    private void number() throws IOException {
+        int len = 0;
+        int c = peek(0);
+        if (c == '-') {
+            store(len++, c);
+            pos++;
+            c = peek(0);
+        }
+        while (isDigit(c)) {
+            store(len++, c);
+            pos++;
+            c = peek(0);
+        }
+        boolean real = false;
+        if (c == '.' && isDigit(peek(1))) {
+            real = true;
+            do {
+                store(len++, c);
+                pos++;
+                c = peek(0);
+            } while (isDigit(c));
+        }
+        if ((c == 'e' || c == 'E')
+                && (isDigit(peek(1)) || ((peek(1) == '+' || peek(1) == '-') && isDigit(peek(2))))) {
+            real = true;
+            do {
+                store(len++, c);
+                pos++;
+                c = peek(0);
+            } while (isDigit(c) || ((c == '+' || c == '-') && (chars[len - 1] == 'e' || chars[len - 1] == 'E')));
+        }
+        if (real) {
+            type = FLOAT_CONST;
+            text = new String(chars, 0, len);
+        } else {
+            type = INT_CONST;
+            long v = 0;
+            for (int i = chars[0] == '-' ? 1 : 0; i < len; i++) {
+                v = v * 10 + (chars[i] - '0');
+                if (v > 1L + Integer.MAX_VALUE) {
+                    break;
+                }
+            }
+            if (chars[0] == '-') {
+                v = -v;
+            }
+            if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+                throw new ParserException(String.format("line %d: %s is out of integer range",
+                        line, new String(chars, 0, len)));
+            }
+            value = (int) v;
+        }
+    }
+
+    private void string() throws IOException {
+        int len = 0;
+        int c;
+        store(len++, peek(0));
+        pos++;
+        while ((c = peek(0)) != '"') {
+            if (c == -1) {
+                throw new ParserException(String.format("line %d: unterminated string", line));
+            }
+            if (c == '\\') {
+                store(len++, c);
+                pos++;
+                c = peek(0);
+            }
+            if (c == '\n') {
+                line++;
+            }
+            store(len++, c);
+            pos++;
+        }
+        store(len++, c);
+        pos++;
+        type = STRING;
+        text = new String(chars, 0, len);
+    }
+
+    /**
+     * Return the symbol made of the first <i>len</i> characters of the current token.
+     * The symbol is taken from the symbol table when it is present, otherwise it replaces the symbol in its slot.
+     */
+    private String symbol(int len) {
+        int h = 0;
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + chars[i];
+        }
+        int slot = (h ^ (h >>> 16)) & (SYMBOLS - 1);
+        String s = symbols[slot];
+        if (s != null && s.length() == len) {
+            int i = 0;
+            while (i < len && s.charAt(i) == chars[i]) {
+                i++;
+            }
+            if (i == len) {
+                return s;
+            }
+        }
+        s = new String(chars, 0, len);
+        symbols[slot] = s;
+        return s;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    /**
+     * Key of an array literal made of integers, booleans and identifiers.
+     */
+    private static final class ArrayKey {
+        private final List<Expression> what;
+        private final int hash;
+
+        ArrayKey(List<Expression> what, int hash) {
+            this.what = what;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ArrayKey)) {
+                return false;
+            }
+            ArrayKey k = (ArrayKey) o;
+            if (k.hash != hash || k.what.size() != what.size()) {
+                return false;
+            }
+            for (int i = 0; i < what.size(); i++) {
+                Expression e1 = what.get(i);
+                Expression e2 = k.what.get(i);
+                if (e1.getTypeOf() != e2.getTypeOf()) {
+                    return false;
+                }
+                switch (e1.getTypeOf()) {
+                    case INT:
+                        if (((EInt) e1).value != ((EInt) e2).value) {
+                            return false;
+                        }
+                        break;
+                    case BOO:
+                        if (e1 != e2) {
+                            return false;
+                        }
+                        break;
+                    default:
+                        if (((EIdentifier) e1).object != ((EIdentifier) e2).object
+                                || !((EIdentifier) e1).value.equals(((EIdentifier) e2).value)) {
+                            return false;
+                        }
+                        break;
+                }
+            }
+            return true;
+        }
+    }
+}
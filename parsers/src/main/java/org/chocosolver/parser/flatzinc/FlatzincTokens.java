@@ -0,0 +1,171 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.antlr.v4.runtime.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * <p>
+ * The tokens of a FlatZinc instance, read once and replayed as many times as needed.
+ * </p>
+ * <p>
+ * Lexing a large FlatZinc file is done once, the tokens are stored in primitive arrays and their texts are interned,
+ * so that repeated identifiers and constants are stored only once.
+ * Then, each model of a portfolio is built by running {@link Flatzinc4Parser} on its own {@link #source()},
+ * which can be done concurrently since the stored tokens are never modified.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class FlatzincTokens {
+
+    /**
+     * Type of each token
+     */
+    private int[] types;
+    /**
+     * Interned text of each token
+     */
+    private String[] texts;
+    /**
+     * Line of each token, for error reporting
+     */
+    private int[] lines;
+    /**
+     * Number of tokens
+     */
+    private int size;
+    /**
+     * Name of the source, for error reporting
+     */
+    private final String sourceName;
+
+    private FlatzincTokens(String sourceName) {
+        this.sourceName = sourceName;
+        this.types = new int[1024];
+        this.texts = new String[1024];
+        this.lines = new int[1024];
+    }
+
+    /**
+     * Read all the tokens of a FlatZinc instance.
+     *
+     * @param is an input stream, not closed by this method
+     * @return the tokens of the instance
+     * @throws IOException if the stream cannot be read
+     */
+    public static FlatzincTokens read(InputStream is) throws IOException {
+        CharStream input = new UnbufferedCharStream(is);
+        Flatzinc4Lexer lexer = new Flatzinc4Lexer(input);
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+        FlatzincTokens tokens = new FlatzincTokens(input.getSourceName());
+        HashMap<String, String> interned = new HashMap<>();
+        Token t = lexer.nextToken();
+        while (t.getType() != Token.EOF) {
+            tokens.add(t.getType(), interned.computeIfAbsent(t.getText(), s -> s), t.getLine());
+            t = lexer.nextToken();
+        }
+        tokens.trim();
+        return tokens;
+    }
+
+    private void add(int type, String text, int line) {
+        if (size == types.length) {
+            int cap = size + (size >> 1);
+            types = Arrays.copyOf(types, cap);
+            texts = Arrays.copyOf(texts, cap);
+            lines = Arrays.copyOf(lines, cap);
+        }
+        types[size] = type;
+        texts[size] = text;
+        lines[size] = line;
+        size++;
+    }
+
+    private void trim() {
+        types = Arrays.copyOf(types, size);
+        texts = Arrays.copyOf(texts, size);
+        lines = Arrays.copyOf(lines, size);
+    }
+
+    /**
+     * @return the number of tokens, EOF excluded
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Create a new source which replays the tokens, ended by EOF.
+     * A source is meant to be consumed by a single parser,
+     * but many sources of the same tokens can be consumed concurrently.
+     *
+     * @return a new token source
+     */
+    public TokenSource source() {
+        return new Replay();
+    }
+
+    /**
+     * A token source which creates a new token for each stored one.
+     */
+    private final class Replay implements TokenSource {
+
+        private int next;
+        private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+
+        @Override
+        public Token nextToken() {
+            CommonToken t;
+            if (next < size) {
+                t = new CommonToken(types[next], texts[next]);
+                t.setLine(lines[next]);
+                t.setTokenIndex(next++);
+            } else {
+                t = new CommonToken(Token.EOF, "<EOF>");
+                t.setLine(size > 0 ? lines[size - 1] : 1);
+            }
+            return t;
+        }
+
+        @Override
+        public int getLine() {
+            return next < size ? lines[next] : size > 0 ? lines[size - 1] : 1;
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return -1;
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return null;
+        }
+
+        @Override
+        public String getSourceName() {
+            return sourceName;
+        }
+
+        @Override
+        public void setTokenFactory(TokenFactory<?> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public TokenFactory<?> getTokenFactory() {
+            return factory;
+        }
+    }
+}
@@ -18,6 +18,8 @@ import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.SearchParams;
 import org.chocosolver.util.logger.Logger;
 import org.kohsuke.args4j.Option;
+import org.w3c.dom.Document;
+import org.xcsp.common.Utilities;
 import org.xcsp.parser.callbacks.SolutionChecker;
 
 import java.io.ByteArrayInputStream;
@@ -85,12 +87,36 @@ public class XCSP extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
+        // the instance is loaded once, then each model is built concurrently from its own copy
+        long ptime = -System.nanoTime();
+        Document[] documents = new Document[models.size()];
+        try {
+            if (!Files.exists(Paths.get(instance))) {
+                throw new RuntimeException("FILE DOES NOT EXIST");
+            }
+            documents[0] = Utilities.loadDocument(instance);
+        } catch (Exception e) {
+            unsupported(models.get(0).getSolver(), e);
+        }
+        for (int i = 1; i < documents.length; i++) {
+            documents[i] = (Document) documents[0].cloneNode(true);
+        }
+        ptime += System.nanoTime();
+        long[] btimes = new long[models.size()];
+        buildConcurrently(i -> {
+            btimes[i] = -System.nanoTime();
+            try {
+                parse(models.get(i), parsers[i], documents[i]);
+            } catch (Exception e) {
+                unsupported(models.get(i).getSolver(), e);
+            }
+            documents[i] = null;
+            btimes[i] += System.nanoTime();
+        });
         for (int i = 0; i < models.size(); i++) {
             Model m = models.get(i);
             Solver s = m.getSolver();
             try {
-                long ptime = -System.currentTimeMillis();
-                parse(m, parsers[i]);
                 if (logFilePath != null) {
                     s.log().remove(System.out);
                     s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
@@ -98,7 +124,8 @@ public class XCSP extends RegParser {
                     s.logWithANSI(ansi);
                 }
                 if (level.isLoggable(Level.INFO)) {
-                    s.log().white().printf("File parsed in %d ms%n", (ptime + System.currentTimeMillis()));
+                    s.log().white().printf("File parsed in %d ms, model built in %d ms%n",
+                            ptime / 1_000_000, btimes[i] / 1_000_000);
                 }
                 if (level.is(Level.JSON)) {
                     s.getMeasures().setReadingTimeCount(System.nanoTime() - s.getModel().getCreationTime());
@@ -115,24 +142,40 @@ public class XCSP extends RegParser {
                             m.getNbVars(),
                             m.getNbCstrs(),
                             m.getSolver().getObjectiveManager().getPolicy(),
-                            (ptime + System.currentTimeMillis()) / 1000f,
-                            s.getReadingTimeCount(),
+                            ptime / 1e9f,
+                            btimes[i] / 1e9f,
                             m.getEstimatedMemory()
                     );
                 }
             } catch (Exception e) {
-                if (level.isLoggable(Level.INFO)) {
-                    s.log().red().print("s UNSUPPORTED\n");
-                    s.log().printf("c %s\n", e.getMessage());
-                }
-                e.printStackTrace();
-                throw new RuntimeException("UNSUPPORTED");
+                unsupported(s, e);
             }
         }
     }
 
+    private void unsupported(Solver s, Exception e) {
+        if (level.isLoggable(Level.INFO)) {
+            s.log().red().print("s UNSUPPORTED\n");
+            s.log().printf("c %s\n", e.getMessage());
+        }
+        e.printStackTrace();
+        throw new RuntimeException("UNSUPPORTED");
+    }
+
     public void parse(Model target, XCSPParser parser) throws Exception {
-        parser.model(target, instance);
+        parse(target, parser, Utilities.loadDocument(instance));
+    }
+
+    /**
+     * Build a model from an already loaded instance.
+     *
+     * @param target   the model to build
+     * @param parser   the parser dedicated to <i>target</i>
+     * @param document the instance, read by <i>parser</i> only
+     * @throws Exception if the instance cannot be loaded into the model
+     */
+    public void parse(Model target, XCSPParser parser, Document document) throws Exception {
+        parser.model(target, document);
         // and define a search strategy
         BlackBoxConfigurator bb = BlackBoxConfigurator.init();
         // variable selection
@@ -30,8 +30,10 @@ import org.chocosolver.util.objects.queues.CircularQueue;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.chocosolver.util.tools.MathUtils;
 import org.chocosolver.util.tools.VariableUtils;
+import org.w3c.dom.Document;
 import org.xcsp.common.Condition;
 import org.xcsp.common.Types;
+import org.xcsp.common.Utilities;
 import org.xcsp.common.predicates.XNode;
 import org.xcsp.common.predicates.XNodeParent;
 import org.xcsp.common.structures.Transition;
@@ -82,18 +84,30 @@ public class XCSPParser implements XCallbacks2 {
     Implem implem;
 
     public void model(Model model, String instance) throws Exception {
+        File file = new File(instance);
+        if (file.exists()) {
+            model(model, Utilities.loadDocument(instance));
+        } else {
+            throw new RuntimeException("FILE DOES NOT EXIST");
+        }
+    }
+
+    /**
+     * Feed a model from an already loaded instance.
+     * The document is read by this parser only, a copy must be given to each parser running concurrently.
+     *
+     * @param model    the model to feed
+     * @param document the XCSP3 instance, as loaded by {@link Utilities#loadDocument(String)}
+     * @throws Exception if the instance cannot be loaded into the model
+     */
+    public void model(Model model, Document document) throws Exception {
         this.model = model;
         this.mvars = new HashMap<>();
         this.symbolics = new HashSet<>();
         this.symbolToInt = new TObjectIntHashMap<>();
         this.intToSymbol = new TIntObjectHashMap<>();
         this.implem = new Implem(this);
-        File file = new File(instance);
-        if (file.exists()) {
-            loadInstance(instance);
-        } else {
-            throw new RuntimeException("FILE DOES NOT EXIST");
-        }
+        loadInstance(document);
         weakHashMap.clear();
     }
 
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.parser.flatzinc;
 
+import org.chocosolver.parser.ParserException;
 import org.chocosolver.solver.Model;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -379,4 +380,73 @@ public class FlatzincModelTest {
         }
         Assert.assertEquals(model.getSolver().getSolutionCount(), 0);
     }
+
+    @Test(groups = "1s")
+    public void testTokensReplayedConcurrently() throws Exception {
+        InputStream in = new ByteArrayInputStream(("array[1 .. 3] of var 1 .. 3: q::output_array([1..3]);\n" +
+                "% a comment\n" +
+                "constraint int_ne(q[1], q[2]);\n" +
+                "constraint int_ne(q[2], q[3]);\n" +
+                "constraint int_ne(q[1], q[3]);\n" +
+                "solve satisfy;").getBytes());
+        FlatzincTokens tokens = FlatzincTokens.read(in);
+
+        Flatzinc[] fzns = new Flatzinc[4];
+        Thread[] threads = new Thread[fzns.length];
+        for (int i = 0; i < fzns.length; i++) {
+            Flatzinc fzn = fzns[i] = new Flatzinc(true, false, 1);
+            fzn.createSolver();
+            threads[i] = new Thread(() -> fzn.parse(fzn.getModel(), fzn.datas[0], tokens));
+            threads[i].start();
+        }
+        for (int i = 0; i < fzns.length; i++) {
+            threads[i].join();
+            Model model = fzns[i].getModel();
+            while (model.getSolver().solve()) ;
+            Assert.assertEquals(model.getSolver().getSolutionCount(), 6);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testStreamingReader() throws Exception {
+        String fzn = "predicate fzn_all_different_int(array [int] of var int: x);\n" +
+                "array [1..3] of int: C = [1, 2, -3];\n" +
+                "var 1..3: a:: output_var;\n" +
+                "var {1,2,3}: b:: output_var;\n" +
+                "var -3..3: c :: output_var;\n" +
+                "var bool: d :: output_var; % comment\n" +
+                "array [1..3] of var int: X :: output_array([1..3]) = [a, b, c];\n" +
+                "constraint int_lin_le(C, X, 2);\n" +
+                "constraint int_lin_le([1, 2, -3], [a, b, c], 2);\n" +
+                "constraint fzn_all_different_int(X);\n" +
+                "constraint bool2int(d, a) :: defines_var(a);\n" +
+                "solve :: int_search(X, input_order, indomain_min, complete) maximize c;\n";
+
+        Flatzinc antlr = new Flatzinc(false, false, 1);
+        antlr.createSolver();
+        antlr.parse(antlr.getModel(), antlr.datas[0], new ByteArrayInputStream(fzn.getBytes()));
+
+        Flatzinc stream = new Flatzinc(false, false, 1);
+        stream.createSolver();
+        FlatzincReader reader = new FlatzincReader(stream.getModel(), stream.datas[0]);
+        reader.read(new ByteArrayInputStream(fzn.getBytes()));
+        Assert.assertEquals(reader.getSharedArrays(), 2);
+
+        Model m1 = antlr.getModel();
+        Model m2 = stream.getModel();
+        Assert.assertEquals(m2.getNbVars(), m1.getNbVars());
+        Assert.assertEquals(m2.getNbCstrs(), m1.getNbCstrs());
+        Assert.assertEquals(m2.getResolutionPolicy(), m1.getResolutionPolicy());
+        while (m1.getSolver().solve()) ;
+        while (m2.getSolver().solve()) ;
+        Assert.assertEquals(m2.getSolver().getBestSolutionValue(), m1.getSolver().getBestSolutionValue());
+    }
+
+    @Test(groups = "1s", expectedExceptions = ParserException.class)
+    public void testStreamingReaderError() throws Exception {
+        Flatzinc fzn = new Flatzinc(false, false, 1);
+        fzn.createSolver();
+        new FlatzincReader(fzn.getModel(), fzn.datas[0])
+                .read(new ByteArrayInputStream("var 1..3 a;\nsolve satisfy;".getBytes()));
+    }
 }
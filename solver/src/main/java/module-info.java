@@ -13,10 +13,12 @@
 module org.chocosolver.solver {
     // exports in alphabetical order
     exports org.chocosolver.memory;
+    exports org.chocosolver.memory.copying;
     exports org.chocosolver.memory.trailing;
     exports org.chocosolver.memory.trailing.trail;
     exports org.chocosolver.memory.trailing.trail.flatten;
     exports org.chocosolver.memory.trailing.trail.chunck;
+    exports org.chocosolver.memory.trailing.packed;
     exports org.chocosolver.memory.structure;
     
     exports org.chocosolver.sat;
@@ -127,6 +129,8 @@ module org.chocosolver.solver {
     requires automaton;
     requires sizeof;
     requires args4j;
+    requires jdk.unsupported;
+    requires java.management;
 
     opens org.chocosolver.memory to org.testng, sizeof;
     opens org.chocosolver.solver.constraints.unary to org.chocosolver.parsers, sizeof;
@@ -164,7 +168,9 @@ module org.chocosolver.solver {
     opens org.chocosolver.solver.variables.delta to sizeof;
     opens org.chocosolver.solver.variables.delta.monitor to sizeof;
     opens org.chocosolver.solver.objective to sizeof;
+    opens org.chocosolver.memory.copying to sizeof;
     opens org.chocosolver.memory.trailing to sizeof;
+    opens org.chocosolver.memory.trailing.packed to sizeof;
     opens org.chocosolver.memory.trailing.trail.flatten to sizeof;
     opens org.chocosolver.solver.search.restart to sizeof;
     opens org.chocosolver.solver.propagation to sizeof;
@@ -7,6 +7,7 @@
 package org.chocosolver.memory;
 
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.packed.EnvironmentPacked;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.chunck.*;
 import org.chocosolver.memory.trailing.trail.flatten.*;
@@ -57,6 +58,10 @@ public class EnvironmentBuilder {
      * Trail to consider to manage operations
      */
     private IOperationTrail ot;
+    /**
+     * Set to <i>true</i> to pack backtrackable primitives in arrays
+     */
+    private boolean packed;
 
     /**
      * The maximum numbers of updates that a
@@ -141,11 +146,28 @@ public class EnvironmentBuilder {
         return this;
     }
 
+    /**
+     * Pack the backtrackable primitives in arrays addressed by handles,
+     * see {@link EnvironmentPacked}.
+     * In that case, only the operation trail is considered.
+     * @param packed {@code true} to build an {@link EnvironmentPacked}
+     * @return {@code this}
+     */
+    public EnvironmentBuilder setPacked(boolean packed) {
+        this.packed = packed;
+        return this;
+    }
+
     /**
      * Build the environment
      * @return the resulting environment
      */
     public EnvironmentTrailing build(){
+        if (packed) {
+            EnvironmentTrailing env = new EnvironmentPacked();
+            env.setOperationTrail(ot == null ? new OperationTrail(worldsize, worldnumber, loadfactor) : ot);
+            return env;
+        }
         EnvironmentTrailing env = new EnvironmentTrailing();
         if (bt == null) {
             bt = new StoredBoolTrail(worldsize, worldnumber, loadfactor);
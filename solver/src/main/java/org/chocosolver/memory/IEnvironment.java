@@ -172,4 +172,15 @@ public interface IEnvironment  {
      * @return the timestamp
      */
     int getTimeStamp();
+
+    /**
+     * Estimate the memory allocated by the structures that store the modifications to undo on backtrack.
+     * This is cheap enough to be called during the search.
+     *
+     * @return an estimate in bytes, 0 if unknown
+     * @see IStorage#getAllocatedMemory()
+     */
+    default long getTrailMemory() {
+        return 0L;
+    }
 }
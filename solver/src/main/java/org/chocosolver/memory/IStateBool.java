@@ -11,29 +11,17 @@ package org.chocosolver.memory;
 /**
  * An abstract class for backtrackable boolean.
  * <br/>
+ * It declares no state: where the value and its world stamp are kept is up to the implementations.
  *
  * @author Charles Prud'homme
  * @since 29/04/13
  */
 public abstract class IStateBool  {
 
-    protected final IEnvironment environment;
-    protected boolean currentValue;
-    protected int timeStamp;
-
-
-    public IStateBool(IEnvironment env, boolean i) {
-        environment = env;
-        currentValue = i;
-        timeStamp = -1;
-    }
-
     /**
      * Returns the current value.
      */
-    public final boolean get() {
-        return currentValue;
-    }
+    public abstract boolean get();
 
 
     /**
@@ -48,17 +36,10 @@ public abstract class IStateBool  {
      * @param y      the new value
      * @param wstamp the stamp of the world in which the update is performed
      */
-    public void _set(final boolean y, final int wstamp) {
-        currentValue = y;
-        timeStamp = wstamp;
-    }
-
-    public void overrideTimeStamp(int aTimeStamp) {
-        this.timeStamp = aTimeStamp;
-    }
+    public abstract void _set(final boolean y, final int wstamp);
 
     @Override
     public String toString() {
-        return String.valueOf(currentValue);
+        return String.valueOf(get());
     }
 }
@@ -11,29 +11,17 @@ package org.chocosolver.memory;
 /**
  * An abstract class for backtrackable int.
  * <br/>
+ * It declares no state: where the value and its world stamp are kept is up to the implementations.
  *
  * @author Charles Prud'homme
  * @since 29/04/13
  */
 public abstract class IStateInt  {
 
-    protected final IEnvironment environment;
-    protected int currentValue;
-    protected int timeStamp;
-
-
-    public IStateInt(IEnvironment env, int i) {
-        environment = env;
-        currentValue = i;
-        timeStamp = -1;
-    }
-
     /**
      * Returns the current value.
      */
-    public final int get() {
-        return currentValue;
-    }
+    public abstract int get();
 
 
     /**
@@ -49,7 +37,7 @@ public abstract class IStateInt  {
      * @return the new value
      */
     public final int add(int delta) {
-        int res = currentValue + delta;
+        int res = get() + delta;
         set(res);
         return res;
     }
@@ -60,17 +48,10 @@ public abstract class IStateInt  {
      * @param y      the new value
      * @param wstamp the stamp of the world in which the update is performed
      */
-    public void _set(final int y, final int wstamp) {
-        currentValue = y;
-        timeStamp = wstamp;
-    }
-
-    public void overrideTimeStamp(int aTimeStamp) {
-        this.timeStamp = aTimeStamp;
-    }
+    public abstract void _set(final int y, final int wstamp);
 
     @Override
     public String toString() {
-        return String.valueOf(currentValue);
+        return String.valueOf(get());
     }
 }
@@ -50,5 +50,16 @@ public interface IStorage  {
 
     void worldCommit(int worldIndex);
 
+    /**
+     * Estimate the memory allocated by this storage, from the capacity of its internal structures.
+     * This is cheap enough to be called during the search.
+     *
+     * @return an estimate of the allocated memory, in bytes
+     * @see org.chocosolver.util.tools.MemoryUtils
+     */
+    default long getAllocatedMemory() {
+        return 0L;
+    }
+
 }
 
@@ -0,0 +1,50 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateBool;
+
+/**
+ * A backtrackable boolean whose value is stored in the arrays of an {@link EnvironmentCopying}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class CopiedBool extends IStateBool {
+
+    private final EnvironmentCopying env;
+
+    /**
+     * Position of the value in the array of the environment
+     */
+    private final int index;
+
+    /**
+     * Constructs a backtrackable boolean.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedBool(EnvironmentCopying env, int index) {
+        this.env = env;
+        this.index = index;
+    }
+
+    @Override
+    public boolean get() {
+        return env.bools[index];
+    }
+
+    @Override
+    public void set(boolean y) {
+        env.bools[index] = y;
+    }
+
+    @Override
+    public void _set(boolean y, int wstamp) {
+        env.bools[index] = y;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateDoubleVector;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable vector of doubles attached to an {@link EnvironmentCopying}.
+ * <br/>
+ * On the first modification in a world, the elements are copied,
+ * and the copy is restored when the world is popped.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class CopiedDoubleVector extends IStateDoubleVector {
+
+    /**
+     * Time stamp of the environment when the elements were last copied
+     */
+    private int stamp = -1;
+
+    /**
+     * Constructs a backtrackable vector with an initial size, and initial values.
+     *
+     * @param env          The current environment.
+     * @param initialSize  The initial size.
+     * @param initialValue The initial common value.
+     */
+    public CopiedDoubleVector(EnvironmentCopying env, int initialSize, double initialValue) {
+        super(env, initialSize, initialValue);
+    }
+
+    private void save() {
+        int ts = environment.getTimeStamp();
+        if (stamp != ts && environment.getWorldIndex() > 0) {
+            stamp = ts;
+            final double[] copy = elementData.clone();
+            environment.save(() -> elementData = copy);
+        }
+    }
+
+    /**
+     * Adds a new element at the end of the vector.
+     *
+     * @param v the element to add
+     */
+    public void add(double v) {
+        int newsize = size.get() + 1;
+        if (newsize > elementData.length) {
+            elementData = Arrays.copyOf(elementData, Math.max(newsize, (elementData.length * 3) / 2 + 1));
+        }
+        size.set(newsize);
+        elementData[newsize - 1] = v;
+    }
+
+    /**
+     * Assigns a new value <code>val</code> to the element <code>index</code>.
+     */
+    public double set(int index, double val) {
+        if (rangeCheck(index)) {
+            return quickSet(index, val);
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size.get());
+    }
+
+    @Override
+    public double quickSet(int index, double val) {
+        assert (rangeCheck(index));
+        final double oldValue = elementData[index];
+        if (val != oldValue) {
+            save();
+            elementData[index] = val;
+        }
+        return oldValue;
+    }
+}
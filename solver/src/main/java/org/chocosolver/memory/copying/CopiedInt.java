@@ -0,0 +1,50 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateInt;
+
+/**
+ * A backtrackable int whose value is stored in the arrays of an {@link EnvironmentCopying}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class CopiedInt extends IStateInt {
+
+    private final EnvironmentCopying env;
+
+    /**
+     * Position of the value in the array of the environment
+     */
+    private final int index;
+
+    /**
+     * Constructs a backtrackable int.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    CopiedInt(EnvironmentCopying env, int index) {
+        this.env = env;
+        this.index = index;
+    }
+
+    @Override
+    public int get() {
+        return env.ints[index];
+    }
+
+    @Override
+    public void set(int y) {
+        env.ints[index] = y;
+    }
+
+    @Override
+    public void _set(int y, int wstamp) {
+        env.ints[index] = y;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.*;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.trail.IOperationTrail;
+import org.chocosolver.memory.trailing.trail.flatten.OperationTrail;
+
+import java.util.Arrays;
+
+/**
+ * An environment which copies the stored values instead of trailing their updates.
+ * <p/>
+ * The values of all the backtrackable ints, longs, booleans and doubles created by this environment
+ * live in four primitive arrays, one per type.
+ * On {@link #worldPush()}, each array is copied into a snapshot dedicated to the current world,
+ * on {@link #worldPop()}, it is restored with {@link System#arraycopy(Object, int, Object, int, int)}.
+ * Setting a value is thus a plain array write, with no world stamp comparison and no trail.
+ * <p/>
+ * This pays off when the state is small and backtracks are frequent (e.g., LNS with short dives),
+ * since a push costs a copy of the whole state whatever the number of updates in the world.
+ * On large states or deep searches, prefer {@link EnvironmentTrailing}.
+ * <br/>
+ * A value created in a world is reset to its initial value when this world is popped,
+ * and operations (see {@link #save(IOperation)}) are still trailed.
+ * <p/>
+ * To be used in a model: {@code new Model(SettingsBuilder.init().setEnvironmentSupplier(EnvironmentCopying::new))}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class EnvironmentCopying extends AbstractEnvironment {
+
+    /**
+     * Current values of backtrackable ints
+     */
+    int[] ints = new int[64];
+    private int[] intInits = new int[64];
+    private int nbInts;
+    /**
+     * Current values of backtrackable longs
+     */
+    long[] longs = new long[16];
+    private long[] longInits = new long[16];
+    private int nbLongs;
+    /**
+     * Current values of backtrackable booleans
+     */
+    boolean[] bools = new boolean[16];
+    private boolean[] boolInits = new boolean[16];
+    private int nbBools;
+    /**
+     * Current values of backtrackable doubles
+     */
+    double[] doubles = new double[16];
+    private double[] doubleInits = new double[16];
+    private int nbDoubles;
+
+    /**
+     * Snapshots of the values, per world, reused from one push to the other
+     */
+    private int[][] intWorlds = new int[EnvironmentTrailing.NBWORLDS][];
+    private long[][] longWorlds = new long[EnvironmentTrailing.NBWORLDS][];
+    private boolean[][] boolWorlds = new boolean[EnvironmentTrailing.NBWORLDS][];
+    private double[][] doubleWorlds = new double[EnvironmentTrailing.NBWORLDS][];
+    /**
+     * Number of values of each type when a world was pushed, 4 entries per world
+     */
+    private int[] sizes = new int[4 * EnvironmentTrailing.NBWORLDS];
+
+    private final IOperationTrail operationTrail =
+            new OperationTrail(EnvironmentTrailing.NBUPATES, EnvironmentTrailing.NBWORLDS, EnvironmentTrailing.LOADFACTOR);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPush() {
+        timestamp++;
+        final int w = currentWorld;
+        if (w == intWorlds.length) {
+            int n = (int) (w * EnvironmentTrailing.LOADFACTOR);
+            intWorlds = Arrays.copyOf(intWorlds, n);
+            longWorlds = Arrays.copyOf(longWorlds, n);
+            boolWorlds = Arrays.copyOf(boolWorlds, n);
+            doubleWorlds = Arrays.copyOf(doubleWorlds, n);
+            sizes = Arrays.copyOf(sizes, 4 * n);
+        }
+        if (intWorlds[w] == null || intWorlds[w].length < nbInts) {
+            intWorlds[w] = new int[ints.length];
+        }
+        System.arraycopy(ints, 0, intWorlds[w], 0, nbInts);
+        if (longWorlds[w] == null || longWorlds[w].length < nbLongs) {
+            longWorlds[w] = new long[longs.length];
+        }
+        System.arraycopy(longs, 0, longWorlds[w], 0, nbLongs);
+        if (boolWorlds[w] == null || boolWorlds[w].length < nbBools) {
+            boolWorlds[w] = new boolean[bools.length];
+        }
+        System.arraycopy(bools, 0, boolWorlds[w], 0, nbBools);
+        if (doubleWorlds[w] == null || doubleWorlds[w].length < nbDoubles) {
+            doubleWorlds[w] = new double[doubles.length];
+        }
+        System.arraycopy(doubles, 0, doubleWorlds[w], 0, nbDoubles);
+        sizes[4 * w] = nbInts;
+        sizes[4 * w + 1] = nbLongs;
+        sizes[4 * w + 2] = nbBools;
+        sizes[4 * w + 3] = nbDoubles;
+        currentWorld++;
+        operationTrail.worldPush(currentWorld);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPop() {
+        timestamp++;
+        final int wi = currentWorld;
+        final int w = --currentWorld;
+        assert currentWorld >= 0;
+        int s = sizes[4 * w];
+        System.arraycopy(intWorlds[w], 0, ints, 0, s);
+        // values created after the push are reset to their initial value
+        System.arraycopy(intInits, s, ints, s, nbInts - s);
+        s = sizes[4 * w + 1];
+        System.arraycopy(longWorlds[w], 0, longs, 0, s);
+        System.arraycopy(longInits, s, longs, s, nbLongs - s);
+        s = sizes[4 * w + 2];
+        System.arraycopy(boolWorlds[w], 0, bools, 0, s);
+        System.arraycopy(boolInits, s, bools, s, nbBools - s);
+        s = sizes[4 * w + 3];
+        System.arraycopy(doubleWorlds[w], 0, doubles, 0, s);
+        System.arraycopy(doubleInits, s, doubles, s, nbDoubles - s);
+        operationTrail.worldPop(wi);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldCommit() {
+        if (currentWorld == 0) {
+            throw new IllegalStateException("Commit in world 0?");
+        }
+        // the snapshot of the previous world is simply forgotten
+        operationTrail.worldCommit(currentWorld);
+        currentWorld--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt() {
+        return makeInt(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt(final int initialValue) {
+        if (nbInts == ints.length) {
+            ints = Arrays.copyOf(ints, nbInts * 3 / 2 + 1);
+            intInits = Arrays.copyOf(intInits, ints.length);
+        }
+        ints[nbInts] = initialValue;
+        intInits[nbInts] = initialValue;
+        return new CopiedInt(this, nbInts++);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateBool makeBool(final boolean initialValue) {
+        if (nbBools == bools.length) {
+            bools = Arrays.copyOf(bools, nbBools * 3 / 2 + 1);
+            boolInits = Arrays.copyOf(boolInits, bools.length);
+        }
+        bools[nbBools] = initialValue;
+        boolInits[nbBools] = initialValue;
+        return new CopiedBool(this, nbBools++);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong() {
+        return makeLong(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong(final long init) {
+        if (nbLongs == longs.length) {
+            longs = Arrays.copyOf(longs, nbLongs * 3 / 2 + 1);
+            longInits = Arrays.copyOf(longInits, longs.length);
+        }
+        longs[nbLongs] = init;
+        longInits[nbLongs] = init;
+        return new CopiedLong(this, nbLongs++);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat() {
+        return makeFloat(Double.NaN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat(final double initialValue) {
+        if (nbDoubles == doubles.length) {
+            doubles = Arrays.copyOf(doubles, nbDoubles * 3 / 2 + 1);
+            doubleInits = Arrays.copyOf(doubleInits, doubles.length);
+        }
+        doubles[nbDoubles] = initialValue;
+        doubleInits[nbDoubles] = initialValue;
+        return new CopiedDouble(this, nbDoubles++);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector(final int size, final int initialValue) {
+        return new CopiedIntVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector(final int size, final double initialValue) {
+        return new CopiedDoubleVector(this, size, initialValue);
+    }
+
+    /**
+     * @return the number of backtrackable values, of any type, copied on each world push
+     */
+    public int getStateSize() {
+        return nbInts + nbLongs + nbBools + nbDoubles;
+    }
+
+    @Override
+    public void save(IOperation operation) {
+        operationTrail.savePreviousState(operation);
+    }
+
+    @Override
+    public void saveAt(IOperation operation, int worldIndex) {
+        operationTrail.savePreviousStateAt(operation, worldIndex, currentWorld);
+    }
+}
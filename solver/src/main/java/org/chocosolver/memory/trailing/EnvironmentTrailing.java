@@ -292,5 +292,14 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     public void saveAt(IOperation oldValue, int at) {
         getOperationTrail().savePreviousStateAt(oldValue, at, this.getWorldIndex());
     }
+
+    @Override
+    public long getTrailMemory() {
+        long m = 0;
+        for (int i = 0; i < trailSize; i++) {
+            m += trails[i].getAllocatedMemory();
+        }
+        return m;
+    }
 }
 
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.memory.trailing;
 
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateBool;
 import org.chocosolver.memory.trailing.trail.IStoredBoolTrail;
 
@@ -15,6 +16,9 @@ import org.chocosolver.memory.trailing.trail.IStoredBoolTrail;
  */
 public class StoredBool extends IStateBool {
 
+    protected final IEnvironment environment;
+    protected boolean currentValue;
+    protected int timeStamp;
     protected final IStoredBoolTrail myTrail;
 
     /**
@@ -23,7 +27,9 @@ public class StoredBool extends IStateBool {
      * use the IEnvironment factory
      */
     public StoredBool(final EnvironmentTrailing env, final boolean i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getBoolTrail();
     }
 
@@ -42,5 +48,19 @@ public class StoredBool extends IStateBool {
             currentValue = y;
         }
     }
-}
 
+    @Override
+    public boolean get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final boolean y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.memory.trailing;
 
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateDouble;
 import org.chocosolver.memory.trailing.trail.IStoredDoubleTrail;
 
@@ -15,6 +16,9 @@ import org.chocosolver.memory.trailing.trail.IStoredDoubleTrail;
  */
 public class StoredDouble extends IStateDouble {
 
+    protected final IEnvironment environment;
+    protected double currentValue;
+    protected int timeStamp;
     protected final IStoredDoubleTrail myTrail;
 
     /**
@@ -23,7 +27,9 @@ public class StoredDouble extends IStateDouble {
      * use the IEnvironment factory
      */
     public StoredDouble(final EnvironmentTrailing env, final double i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getDoubleTrail();
     }
 
@@ -42,5 +48,19 @@ public class StoredDouble extends IStateDouble {
             currentValue = y;
         }
     }
-}
 
+    @Override
+    public double get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final double y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.memory.trailing;
 
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
 
@@ -15,6 +16,9 @@ import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
  */
 public class StoredInt extends IStateInt {
 
+    protected final IEnvironment environment;
+    protected int currentValue;
+    protected int timeStamp;
     protected final IStoredIntTrail myTrail;
 
     /**
@@ -23,7 +27,9 @@ public class StoredInt extends IStateInt {
      * use the IEnvironment factory
      */
     public StoredInt(final EnvironmentTrailing env, final int i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getIntTrail();
     }
 
@@ -42,5 +48,19 @@ public class StoredInt extends IStateInt {
             currentValue = y;
         }
     }
-}
 
+    @Override
+    public int get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final int y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+}
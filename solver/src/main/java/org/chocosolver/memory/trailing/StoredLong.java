@@ -6,6 +6,7 @@
  */
 package org.chocosolver.memory.trailing;
 
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateLong;
 import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
 
@@ -15,6 +16,9 @@ import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
  */
 public class StoredLong extends IStateLong {
 
+    protected final IEnvironment environment;
+    protected long currentValue;
+    protected int timeStamp;
     protected final IStoredLongTrail myTrail;
 
     /**
@@ -23,7 +27,9 @@ public class StoredLong extends IStateLong {
      * use the IEnvironment factory
      */
     public StoredLong(final EnvironmentTrailing env, final long i) {
-        super(env, i);
+        environment = env;
+        currentValue = i;
+        timeStamp = -1;
         myTrail = env.getLongTrail();
     }
 
@@ -42,5 +48,19 @@ public class StoredLong extends IStateLong {
             currentValue = y;
         }
     }
-}
 
+    @Override
+    public long get() {
+        return currentValue;
+    }
+
+    @Override
+    public void _set(final long y, final int wstamp) {
+        currentValue = y;
+        timeStamp = wstamp;
+    }
+
+    public void overrideTimeStamp(int aTimeStamp) {
+        this.timeStamp = aTimeStamp;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.packed;
+
+import org.chocosolver.memory.IStateBool;
+import org.chocosolver.memory.IStateDouble;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+
+/**
+ * A trailing environment whose backtrackable primitives are packed in primitive arrays.
+ * <p/>
+ * Ints and booleans live in a {@link PackedIntStore}, longs and doubles in a {@link PackedLongStore}.
+ * Their former values are trailed in primitive stacks, which the garbage collector does not need to scan,
+ * instead of stacks of references to {@link org.chocosolver.memory.trailing.StoredInt} and the like.
+ * <br/>
+ * The objects returned by the factory methods are thin views over a handle.
+ * Data structures which manage many values should rather allocate blocks of handles in the stores
+ * (see {@link #getIntStore()} and {@link #getLongStore()}) and read and write the values through them:
+ * a value then costs 8 bytes (12 for a long or a double), instead of a view and a reference to it.
+ * <p/>
+ * Operations and vectors are trailed as in {@link EnvironmentTrailing}.
+ * To be built with {@code new EnvironmentBuilder().setPacked(true).build()}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class EnvironmentPacked extends EnvironmentTrailing {
+
+    private final PackedIntStore intStore = new PackedIntStore(this, NBUPATES, NBWORLDS, LOADFACTOR);
+
+    private final PackedLongStore longStore = new PackedLongStore(this, NBUPATES, NBWORLDS, LOADFACTOR);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPush() {
+        super.worldPush();
+        final int wi = getWorldIndex();
+        intStore.worldPush(wi);
+        longStore.worldPush(wi);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPop() {
+        final int wi = getWorldIndex();
+        intStore.worldPop(wi);
+        longStore.worldPop(wi);
+        super.worldPop();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldCommit() {
+        final int wi = getWorldIndex();
+        if (wi > 0) {
+            longStore.worldCommit(wi);
+            intStore.worldCommit(wi);
+        }
+        super.worldCommit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt(final int initialValue) {
+        return new PackedInt(intStore, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateBool makeBool(final boolean initialValue) {
+        return new PackedBool(intStore, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong(final long init) {
+        return new PackedLong(longStore, init);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat(final double initialValue) {
+        return new PackedDouble(longStore, initialValue);
+    }
+
+    /**
+     * @return the store of backtrackable ints and booleans
+     */
+    public PackedIntStore getIntStore() {
+        return intStore;
+    }
+
+    /**
+     * @return the store of backtrackable longs and doubles
+     */
+    public PackedLongStore getLongStore() {
+        return longStore;
+    }
+}
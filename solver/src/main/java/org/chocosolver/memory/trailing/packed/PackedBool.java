@@ -0,0 +1,55 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.packed;
+
+import org.chocosolver.memory.IStateBool;
+
+/**
+ * A backtrackable boolean backed by a handle in a {@link PackedIntStore}.
+ * It only holds the store and the handle, the value and its world stamp live in the store.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class PackedBool extends IStateBool {
+
+    private final PackedIntStore store;
+
+    private final int handle;
+
+    /**
+     * Constructs a backtrackable boolean.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    PackedBool(PackedIntStore store, boolean initialValue) {
+        this.store = store;
+        this.handle = store.alloc(initialValue ? 1 : 0);
+    }
+
+    @Override
+    public boolean get() {
+        return store.values[handle] != 0;
+    }
+
+    @Override
+    public void set(boolean y) {
+        store.set(handle, y ? 1 : 0);
+    }
+
+    @Override
+    public void _set(boolean y, int wstamp) {
+        store.values[handle] = y ? 1 : 0;
+    }
+
+    /**
+     * @return the handle of this in its store
+     */
+    public int getHandle() {
+        return handle;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.packed;
+
+import org.chocosolver.memory.IStateDouble;
+
+/**
+ * A backtrackable double backed by a handle in a {@link PackedLongStore}.
+ * It only holds the store and the handle, the value and its world stamp live in the store.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class PackedDouble extends IStateDouble {
+
+    private final PackedLongStore store;
+
+    private final int handle;
+
+    /**
+     * Constructs a backtrackable double.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    PackedDouble(PackedLongStore store, double initialValue) {
+        this.store = store;
+        this.handle = store.alloc(Double.doubleToRawLongBits(initialValue));
+    }
+
+    @Override
+    public double get() {
+        return Double.longBitsToDouble(store.values[handle]);
+    }
+
+    @Override
+    public void set(double y) {
+        store.set(handle, Double.doubleToRawLongBits(y));
+    }
+
+    @Override
+    public void _set(double y, int wstamp) {
+        store.values[handle] = Double.doubleToRawLongBits(y);
+    }
+
+    /**
+     * @return the handle of this in its store
+     */
+    public int getHandle() {
+        return handle;
+    }
+}
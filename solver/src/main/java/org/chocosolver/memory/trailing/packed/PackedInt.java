@@ -0,0 +1,55 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.packed;
+
+import org.chocosolver.memory.IStateInt;
+
+/**
+ * A backtrackable int backed by a handle in a {@link PackedIntStore}.
+ * It only holds the store and the handle, the value and its world stamp live in the store.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class PackedInt extends IStateInt {
+
+    private final PackedIntStore store;
+
+    private final int handle;
+
+    /**
+     * Constructs a backtrackable int.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    PackedInt(PackedIntStore store, int initialValue) {
+        this.store = store;
+        this.handle = store.alloc(initialValue);
+    }
+
+    @Override
+    public int get() {
+        return store.values[handle];
+    }
+
+    @Override
+    public void set(int y) {
+        store.set(handle, y);
+    }
+
+    @Override
+    public void _set(int y, int wstamp) {
+        store.values[handle] = y;
+    }
+
+    /**
+     * @return the handle of this in its store
+     */
+    public int getHandle() {
+        return handle;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.packed;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStorage;
+
+import java.util.Arrays;
+
+/**
+ * Backtrackable ints packed in primitive arrays and addressed by handles.
+ * <br/>
+ * A handle is the position of a value in the store, it is returned on allocation.
+ * Values and world stamps live in two arrays,
+ * former values are trailed in primitive stacks, so that neither the values nor the trail hold references.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class PackedIntStore implements IStorage {
+
+    private final IEnvironment environment;
+
+    private final double loadfactor;
+
+    /**
+     * Current values, by handle
+     */
+    int[] values;
+
+    /**
+     * World index of the last update of each value
+     */
+    private int[] stamps;
+
+    /**
+     * Number of allocated values
+     */
+    private int size;
+
+    /**
+     * Handles of the trailed values
+     */
+    private int[] handleStack;
+
+    /**
+     * Former values
+     */
+    private int[] valueStack;
+
+    /**
+     * Former world stamps
+     */
+    private int[] stampStack;
+
+    /**
+     * Points the level of the last entry.
+     */
+    private int currentLevel;
+
+    /**
+     * A stack of pointers (for each start of a world).
+     */
+    private int[] worldStartLevels;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param environment the environment which provides the current world index
+     * @param nUpdates    initial number of updates that can be trailed
+     * @param nWorlds     initial number of worlds
+     * @param loadfactor  load factor for structures
+     */
+    public PackedIntStore(IEnvironment environment, int nUpdates, int nWorlds, double loadfactor) {
+        this.environment = environment;
+        this.loadfactor = loadfactor;
+        this.values = new int[nUpdates];
+        this.stamps = new int[nUpdates];
+        this.handleStack = new int[nUpdates];
+        this.valueStack = new int[nUpdates];
+        this.stampStack = new int[nUpdates];
+        this.worldStartLevels = new int[nWorlds];
+    }
+
+    /**
+     * Allocates a new value.
+     *
+     * @param initialValue its initial value
+     * @return the handle of the value
+     */
+    public int alloc(int initialValue) {
+        return alloc(1, initialValue);
+    }
+
+    /**
+     * Allocates <i>n</i> contiguous values.
+     *
+     * @param n            number of values to allocate
+     * @param initialValue their common initial value
+     * @return the handle of the first value, the others follow
+     */
+    public int alloc(int n, int initialValue) {
+        int h = size;
+        size += n;
+        if (size > values.length) {
+            int capacity = Math.max(size, (int) (values.length * loadfactor));
+            values = Arrays.copyOf(values, capacity);
+            stamps = Arrays.copyOf(stamps, capacity);
+        }
+        Arrays.fill(values, h, size, initialValue);
+        Arrays.fill(stamps, h, size, -1);
+        return h;
+    }
+
+    /**
+     * @return the number of allocated values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param handle a handle returned by {@link #alloc(int)}
+     * @return the current value
+     */
+    public int get(int handle) {
+        return values[handle];
+    }
+
+    /**
+     * Modifies a value and stores if needed the former one on the trail.
+     *
+     * @param handle a handle returned by {@link #alloc(int)}
+     * @param value  the new value
+     */
+    public void set(int handle, int value) {
+        if (value != values[handle]) {
+            final int wi = environment.getWorldIndex();
+            if (stamps[handle] < wi) {
+                savePreviousState(handle);
+                stamps[handle] = wi;
+            }
+            values[handle] = value;
+        }
+    }
+
+    private void savePreviousState(int handle) {
+        if (currentLevel == handleStack.length) {
+            int capacity = (int) (handleStack.length * loadfactor);
+            handleStack = Arrays.copyOf(handleStack, capacity);
+            valueStack = Arrays.copyOf(valueStack, capacity);
+            stampStack = Arrays.copyOf(stampStack, capacity);
+        }
+        handleStack[currentLevel] = handle;
+        valueStack[currentLevel] = values[handle];
+        stampStack[currentLevel] = stamps[handle];
+        currentLevel++;
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        worldStartLevels[worldIndex] = currentLevel;
+        if (worldIndex == worldStartLevels.length - 1) {
+            worldStartLevels = Arrays.copyOf(worldStartLevels, (int) (worldStartLevels.length * loadfactor));
+        }
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        final int wsl = worldStartLevels[worldIndex];
+        while (currentLevel > wsl) {
+            currentLevel--;
+            final int h = handleStack[currentLevel];
+            values[h] = valueStack[currentLevel];
+            stamps[h] = stampStack[currentLevel];
+        }
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        // see org.chocosolver.memory.trailing.trail.flatten.StoredIntTrail#worldCommit(int)
+        final int startLevel = worldStartLevels[worldIndex];
+        final int prevWorld = worldIndex - 1;
+        int writeIdx = startLevel;
+        for (int level = startLevel; level < currentLevel; level++) {
+            final int h = handleStack[level];
+            final int stamp = stampStack[level];
+            stamps[h] = prevWorld;
+            if (stamp != prevWorld) {
+                if (writeIdx != level) {
+                    handleStack[writeIdx] = h;
+                    valueStack[writeIdx] = valueStack[level];
+                    stampStack[writeIdx] = stamp;
+                }
+                writeIdx++;
+            }
+        }
+        currentLevel = writeIdx;
+    }
+}
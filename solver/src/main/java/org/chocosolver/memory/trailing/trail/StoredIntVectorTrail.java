@@ -10,6 +10,8 @@ import org.chocosolver.memory.IStorage;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.StoredIntVector;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 
 /**
  * Implements a trail with the history of all the stored search vectors.
@@ -190,4 +192,10 @@ public class StoredIntVectorTrail implements IStorage {
         }
         currentLevel = writeIdx;
     }
+
+    @Override
+    public long getAllocatedMemory() {
+        return sizeOf(vectorStack) + sizeOf(indexStack)
+                + sizeOf(valueStack) + sizeOf(stampStack) + sizeOf(worldStartLevels);
+    }
 }
@@ -11,6 +11,8 @@ import org.chocosolver.memory.trailing.StoredBool;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * A world devoted to integers.
  * @author Fabien Hermenier
@@ -97,4 +99,9 @@ public class BoolWorld implements World{
     public int allocated() {
         return stampStack == null ? 0 : stampStack.length;
     }
+
+    @Override
+    public long getAllocatedMemory() {
+        return sizeOf(variableStack) + sizeOf(valueStack) + sizeOf(stampStack);
+    }
 }
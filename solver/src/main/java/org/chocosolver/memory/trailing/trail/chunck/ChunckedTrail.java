@@ -8,6 +8,8 @@ package org.chocosolver.memory.trailing.trail.chunck;
 
 import org.chocosolver.memory.IStorage;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * An abstract segmented trail.
  * @author Fabien Hermenier
@@ -62,4 +64,15 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
         return n;
     }
 
+    @Override
+    public long getAllocatedMemory() {
+        long m = sizeOf(worlds);
+        for (World w : worlds) {
+            if (w != null) {
+                m += w.getAllocatedMemory();
+            }
+        }
+        return m;
+    }
+
 }
\ No newline at end of file
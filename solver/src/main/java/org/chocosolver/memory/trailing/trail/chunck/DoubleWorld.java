@@ -11,6 +11,8 @@ import org.chocosolver.memory.trailing.StoredDouble;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * A world devoted to integers.
  *
@@ -98,4 +100,9 @@ public class DoubleWorld implements World {
     public int allocated() {
         return stampStack == null ? 0 : stampStack.length;
     }
+
+    @Override
+    public long getAllocatedMemory() {
+        return sizeOf(variableStack) + sizeOf(valueStack) + sizeOf(stampStack);
+    }
 }
@@ -11,6 +11,8 @@ import org.chocosolver.memory.structure.IOperation;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * @author Fabien Hermenier
  * @author Charles Prud'homme
@@ -69,4 +71,9 @@ public class OperationWorld implements World {
     public int used() {
         return now;
     }
+
+    @Override
+    public long getAllocatedMemory() {
+        return sizeOf(variableStack);
+    }
 }
@@ -37,4 +37,11 @@ public interface World {
      * @return a positive number
      */
     int allocated();
+
+    /**
+     * An estimate of the memory allocated for this world.
+     *
+     * @return an estimate in bytes
+     */
+    long getAllocatedMemory();
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ import org.chocosolver.memory.trailing.trail.IOperationTrail;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * Created by IntelliJ IDEA.
  * User: chameau
@@ -113,4 +115,9 @@ public class OperationTrail implements IOperationTrail {
             worldStartLevels[t]++;
         }
     }
+
+    @Override
+    public long getAllocatedMemory() {
+        return sizeOf(valueStack) + sizeOf(worldStartLevels);
+    }
 }
@@ -11,6 +11,8 @@ import org.chocosolver.memory.trailing.trail.IStoredBoolTrail;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 
 public class StoredBoolTrail implements IStoredBoolTrail {
 
@@ -159,4 +161,9 @@ public class StoredBoolTrail implements IStoredBoolTrail {
         System.arraycopy(stampStack, 0, tmp3, 0, stampStack.length);
         stampStack = tmp3;
     }
+
+    @Override
+    public long getAllocatedMemory() {
+        return sizeOf(variableStack) + sizeOf(valueStack) + sizeOf(stampStack) + sizeOf(worldStartLevels);
+    }
 }
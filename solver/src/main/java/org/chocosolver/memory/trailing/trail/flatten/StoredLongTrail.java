@@ -11,6 +11,8 @@ import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 
 public class StoredLongTrail implements IStoredLongTrail {
 
@@ -159,4 +161,9 @@ public class StoredLongTrail implements IStoredLongTrail {
         System.arraycopy(stampStack, 0, tmp3, 0, stampStack.length);
         stampStack = tmp3;
     }
+
+    @Override
+    public long getAllocatedMemory() {
+        return sizeOf(variableStack) + sizeOf(valueStack) + sizeOf(stampStack) + sizeOf(worldStartLevels);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.sat;
+
+/**
+ * A clause whose literals are stored in the arena of a {@link MiniSat} solver.
+ * <br/>
+ * This object is only a view: the propagation reads and writes the literals in the arena directly,
+ * through the clause reference (its offset in the arena).
+ * The view is needed when the clause is used as a reason or as a conflict.
+ * The clause reference is updated when the arena is compacted.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+final class ArenaClause extends Clause {
+    /**
+     * The solver storing the literals
+     */
+    private final MiniSat sat;
+    /**
+     * Offset of the clause in the arena
+     */
+    int cref;
+    /**
+     * Indicate if the clause is learnt or not
+     */
+    private final boolean learnt;
+    /**
+     * Activity of the clause (related to frequency of conflict)
+     */
+    private double activity;
+    /**
+     * Literals block distance
+     */
+    private int lbd = Integer.MAX_VALUE;
+    /**
+     * Indicate if the clause was learnt by another solver and has not taken part in a conflict analysis yet
+     */
+    boolean imported;
+
+    ArenaClause(MiniSat sat, int cref, boolean learnt) {
+        this.sat = sat;
+        this.cref = cref;
+        this.learnt = learnt;
+    }
+
+    @Override
+    public int size() {
+        return sat.arena[cref + MiniSat.CL_SIZE];
+    }
+
+    @Override
+    public double getActivity() {
+        return activity;
+    }
+
+    @Override
+    public void setActivity(double activity) {
+        this.activity = activity;
+    }
+
+    @Override
+    public int getLBD() {
+        return lbd;
+    }
+
+    @Override
+    public void setLBD(int lbd) {
+        this.lbd = lbd;
+    }
+
+    @Override
+    public boolean learnt() {
+        return learnt;
+    }
+
+    @Override
+    public int _g(int i) {
+        return sat.arena[cref + MiniSat.CL_HEADER + i];
+    }
+
+    @Override
+    public void _s(int pos, int l) {
+        sat.arena[cref + MiniSat.CL_HEADER + pos] = l;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.sat;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TLongIntHashMap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * An exchange of learnt clauses between the {@link MiniSat} solvers of equivalent models solved in parallel
+ * (see {@link org.chocosolver.solver.ParallelPortfolio#shareLearntClauses()}).
+ * </p>
+ * <p>
+ * Clauses are published into a lock-free ring buffer: a producer claims a sequence number
+ * with a single atomic increment and writes an immutable clause in the related slot.
+ * Each solver reads the ring through its own {@link Port}, which remembers the next sequence number to read.
+ * When the ring wraps around before a port reads a slot, the overwritten clauses are simply missed.
+ * </p>
+ * <p>
+ * Since the SAT variables of lazy literals are created on demand, their indices differ from one solver to the other.
+ * A clause is thus exchanged with model-independent literals, made of the ID of the CP variable,
+ * the type of the literal, the value and the sign (see {@link MiniSat.ChannelInfo#key()}).
+ * A clause containing a literal which is not channeled to a CP variable is not exported,
+ * a clause containing a literal which does not exist (yet) in a solver is not imported by it.
+ * </p>
+ * <p>
+ * Only short or low-LBD clauses are exported and clauses are only imported at restart,
+ * when the SAT solver is back to its root level.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class ClauseExchange {
+
+    /**
+     * An immutable clause in the ring.
+     */
+    private static final class Shared {
+        /**
+         * Sequence number of the clause
+         */
+        final long seq;
+        /**
+         * Identifier of the port which exported the clause
+         */
+        final int from;
+        /**
+         * Model-independent literals
+         */
+        final long[] lits;
+        /**
+         * Literals block distance of the clause in the exporting solver
+         */
+        final int lbd;
+
+        Shared(long seq, int from, long[] lits, int lbd) {
+            this.seq = seq;
+            this.from = from;
+            this.lits = lits;
+            this.lbd = lbd;
+        }
+    }
+
+    /**
+     * The ring of exported clauses
+     */
+    private final AtomicReferenceArray<Shared> ring;
+    /**
+     * Mask to turn a sequence number into a slot
+     */
+    private final int mask;
+    /**
+     * Next sequence number to claim
+     */
+    private final AtomicLong head = new AtomicLong();
+    /**
+     * Largest size of an exported clause
+     */
+    private final int maxSize;
+    /**
+     * Largest LBD of an exported clause
+     */
+    private final int maxLBD;
+    /**
+     * Identifier of the next port
+     */
+    private final AtomicInteger ports = new AtomicInteger();
+    private final LongAdder exported = new LongAdder();
+    private final LongAdder imported = new LongAdder();
+    private final LongAdder useful = new LongAdder();
+
+    /**
+     * Create an exchange of learnt clauses.
+     * A learnt clause is exported when its size is less than or equal to <i>maxSize</i>
+     * and its LBD is less than or equal to <i>maxLBD</i>.
+     *
+     * @param capacity number of clauses stored in the ring, rounded up to a power of two
+     * @param maxSize  largest size of an exported clause
+     * @param maxLBD   largest LBD of an exported clause
+     */
+    public ClauseExchange(int capacity, int maxSize, int maxLBD) {
+        if (capacity < 1 || maxSize < 1 || maxLBD < 1) {
+            throw new IllegalArgumentException("ClauseExchange expects positive parameters");
+        }
+        int c = Integer.highestOneBit(capacity);
+        if (c < capacity) {
+            c <<= 1;
+        }
+        this.ring = new AtomicReferenceArray<>(c);
+        this.mask = c - 1;
+        this.maxSize = maxSize;
+        this.maxLBD = maxLBD;
+    }
+
+    /**
+     * Connect a SAT solver to this exchange.
+     *
+     * @param sat     a SAT solver
+     * @param exports set to <i>true</i> if the learnt clauses of <i>sat</i> are exported,
+     *                set to <i>false</i> if it only imports clauses (e.g., unreliable model)
+     * @return the port of <i>sat</i>
+     */
+    public Port connect(MiniSat sat, boolean exports) {
+        Port port = new Port(ports.getAndIncrement(), sat, exports);
+        sat.setClauseExchange(port);
+        return port;
+    }
+
+    /**
+     * @return the number of clauses exported
+     */
+    public long getExported() {
+        return exported.sum();
+    }
+
+    /**
+     * @return the number of clauses imported, summed over the solvers
+     */
+    public long getImported() {
+        return imported.sum();
+    }
+
+    /**
+     * @return the number of imported clauses which took part in a conflict analysis, summed over the solvers
+     */
+    public long getUseful() {
+        return useful.sum();
+    }
+
+    /**
+     * The connection of a SAT solver to the exchange.
+     * A port is only accessed by the thread of its solver.
+     */
+    public final class Port {
+        /**
+         * Identifier of this port, to skip its own clauses
+         */
+        private final int id;
+        private final MiniSat sat;
+        private final boolean exports;
+        /**
+         * Next sequence number to read
+         */
+        private long next;
+        /**
+         * Local SAT variable of each key (see {@link MiniSat.ChannelInfo#key()})
+         */
+        private final TLongIntHashMap variables = new TLongIntHashMap(16, .5f, -1L, -1);
+        /**
+         * Number of SAT variables already stored in {@link #variables}
+         */
+        private int indexed;
+        /**
+         * Imported unit clauses, they are enqueued again at each restart
+         */
+        private final TIntArrayList units = new TIntArrayList();
+        private final TIntArrayList lits = new TIntArrayList();
+
+        private Port(int id, MiniSat sat, boolean exports) {
+            this.id = id;
+            this.sat = sat;
+            this.exports = exports;
+        }
+
+        /**
+         * Export a learnt clause, if it is short enough and all its literals are channeled.
+         *
+         * @param clause the literals of the clause
+         * @param lbd    its literals block distance
+         */
+        void export(TIntList clause, int lbd) {
+            if (!exports || clause.size() > maxSize || lbd > maxLBD) {
+                return;
+            }
+            long[] shared = new long[clause.size()];
+            for (int i = 0; i < shared.length; i++) {
+                int l = clause.get(i);
+                long key = sat.cinfo.get(MiniSat.var(l)).key();
+                if (key == -1L) {
+                    return;
+                }
+                shared[i] = key | (l & 1);
+            }
+            long seq = head.getAndIncrement();
+            ring.set((int) (seq & mask), new Shared(seq, id, shared, lbd));
+            exported.increment();
+        }
+
+        /**
+         * Import the clauses exported by the other solvers since the last call.
+         * The SAT solver is expected to be at its root level.
+         * Since imported clauses are globally valid, a clause whose literals are all false proves the root node
+         * inconsistent, then the import stops.
+         *
+         * @return <i>false</i> if an imported clause is falsified at root level
+         */
+        boolean importClauses() {
+            index();
+            for (int i = 0; i < units.size(); i++) {
+                if (!enqueue(units.getQuick(i))) {
+                    return false;
+                }
+            }
+            long h = head.get();
+            long seq = Math.max(next, h - ring.length());
+            try {
+                for (; seq < h; seq++) {
+                    Shared c = ring.get((int) (seq & mask));
+                    if (c == null || c.seq < seq) {
+                        // the slot is claimed but not written yet, read it next time
+                        break;
+                    }
+                    if (c.seq > seq || c.from == id || !translate(c.lits)) {
+                        // overwritten, own clause or unknown literal
+                        continue;
+                    }
+                    if (lits.size() == 1) {
+                        int l = lits.getQuick(0);
+                        if (!enqueue(l)) {
+                            return false;
+                        }
+                        units.add(l);
+                        imported.increment();
+                    } else {
+                        int val = sat.importClause(lits, c.lbd);
+                        if (val == MiniSat.lFalse) {
+                            return false;
+                        }
+                        if (val == MiniSat.lUndef) {
+                            imported.increment();
+                        }
+                    }
+                }
+            } finally {
+                next = seq;
+            }
+            return true;
+        }
+
+        /**
+         * Enqueue an imported unit clause, if not already true.
+         *
+         * @return <i>false</i> if the literal is false at root level
+         */
+        private boolean enqueue(int l) {
+            int val = sat.valueLit(l);
+            if (val == MiniSat.lUndef) {
+                sat.uncheckedEnqueue(l);
+            }
+            return val != MiniSat.lFalse;
+        }
+
+        /**
+         * Count an imported clause which took part in a conflict analysis
+         */
+        void useful() {
+            useful.increment();
+        }
+
+        private void index() {
+            for (; indexed < sat.cinfo.size(); indexed++) {
+                MiniSat.ChannelInfo ci = sat.cinfo.get(indexed);
+                long key = ci == null ? -1L : ci.key();
+                if (key != -1L && !variables.containsKey(key)) {
+                    variables.put(key, indexed);
+                }
+            }
+        }
+
+        private boolean translate(long[] shared) {
+            lits.resetQuick();
+            for (long l : shared) {
+                int v = variables.get(l & ~1L);
+                if (v == -1) {
+                    return false;
+                }
+                lits.add(MiniSat.makeLiteral(v, (l & 1) != 0));
+            }
+            return true;
+        }
+    }
+}
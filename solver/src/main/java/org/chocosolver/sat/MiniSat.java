@@ -8,10 +8,12 @@ package org.chocosolver.sat;
 
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.stack.TIntStack;
 import gnu.trove.stack.array.TIntArrayStack;
+import org.chocosolver.solver.Identity;
+import org.chocosolver.solver.trace.FlightRecorder;
 import org.chocosolver.solver.variables.impl.LitVar;
+import org.chocosolver.util.tools.MemoryUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,49 +41,16 @@ import java.util.Comparator;
 @SuppressWarnings("FieldCanBeLocal")
 public class MiniSat implements SatFactory {
 
-    private static final class MinimaList<E> {
-        E[] content = (E[]) new Object[16];
-        int size = 0;
-
-        public void ensureCapacity(int newSize) {
-            while (newSize >= this.content.length) {
-                this.content = Arrays.copyOf(this.content, (int) (this.content.length * 1.5));
-            }
-        }
-
-        public void add(E e) {
-            ensureCapacity(size + 1);
-            this.content[size++] = e;
-        }
-
-        public E get(int i) {
-            return this.content[i];
-        }
-
-        public void set(int i, E e){
-            this.content[i] = e;
-        }
-
-        public void remove(int i) {
-            final int newSize;
-            if ((newSize = size - 1) > i)
-                System.arraycopy(this.content, i + 1, this.content, i, newSize - i);
-            this.content[size = newSize] = null;
-        }
-
-        public int size(){
-            return this.size;
-        }
-
-        public void resize(int j) {
-            if (size >= 32 && size >= j * 2) {
-                this.content = Arrays.copyOf(this.content, Math.max(16, j+1));
-            }
-            this.size = j;
-        }
-    }
-
     static final int DEBUG = 0;
+    // Offsets in the header of a clause stored in the arena
+    static final int CL_SIZE = 0;
+    static final int CL_VIEW = 1;
+    static final int CL_HEADER = 2;
+    // Estimated memory occupied by a learnt clause, in addition to its literals:
+    // its header in the arena, its view (whose fields take 28 bytes, padding included),
+    // the reference to the view and its two watches
+    private static final int LEARNT_OVERHEAD = CL_HEADER * Integer.BYTES
+            + MemoryUtils.OBJECT_HEADER + 28 + MemoryUtils.REFERENCE + 4 * Integer.BYTES;
     // Value of an undefined variable
     static final int varUndef = -1;
     // value of an undefined literal
@@ -92,11 +61,10 @@ public class MiniSat implements SatFactory {
     public static final int lUndef = 0b11;
     // undefined clause
     protected static ThreadLocal<Integer> clauseCounter = ThreadLocal.withInitial(() -> 0);
-    private final Comparator<Clause> comp = Comparator.<Clause>comparingInt(c -> -c.getLBD())
+    private static final Comparator<Clause> comp = Comparator.<Clause>comparingInt(c -> -c.getLBD())
             .thenComparingDouble(Clause::getActivity);
     public static final Clause C_Undef = Clause.undef();
     static final Clause R_Undef = Reason.undef();
-    static final VarData VD_Undef = new VarData(R_Undef, -1, -1);
     public Clause confl = C_Undef;
 
     public static final Clause C_Fail = new ArrayClause(new int[]{0, 0});
@@ -109,9 +77,26 @@ public class MiniSat implements SatFactory {
     public final ArrayList<Clause> clauses = new ArrayList<>();
     // List of learnt addClauses.
     final ArrayList<Clause> learnts = new ArrayList<>();
-    // 'watches_[lit]' is a list of constraints watching 'lit'(will go
-    // there if literal becomes true).
-    private final TIntObjectHashMap<MinimaList<Watcher>> watches_ = new TIntObjectHashMap<>();
+    // The literals of all the clauses, stored contiguously.
+    // A clause is referenced by its offset in the arena, where its header is stored:
+    // its size, then the index of its view in 'views', then its literals.
+    int[] arena = new int[1024];
+    // First free position in the arena
+    private int arenaTop;
+    // Number of positions occupied by removed clauses
+    private int arenaWasted;
+    // 'views[i]' is the clause object, used as reason, whose index is 'i'
+    private ArenaClause[] views = new ArenaClause[64];
+    private int nbViews;
+    private final TIntArrayStack freeViews = new TIntArrayStack();
+    // 'watches[lit]' lists the clauses of size 3 or more watching 'lit' (will go
+    // there if literal becomes true), as pairs of a clause reference and a blocker literal.
+    private int[][] watches = new int[16][];
+    private int[] watchSizes = new int[16];
+    // 'implications[lit]' lists the binary clauses watching 'lit',
+    // as pairs of the literal implied when 'lit' becomes true and a clause reference.
+    private int[][] implications = new int[16][];
+    private int[] implicationSizes = new int[16];
     // The current assignments.
     final TIntArrayList assignment_ = new TIntArrayList();
     // Assignment stack; stores all assignments made in the order they
@@ -134,8 +119,16 @@ public class MiniSat implements SatFactory {
     final double learntsize_adjust_inc = 1.5;
     final double learntsize_inc = 1.1;
     final double learntsize_factor = 1 / 3d;
+    // Fraction of wasted space in the arena which triggers its compaction
+    private final double garbage_frac = 0.20;
     int propagations;
-    final ArrayList<VarData> vardata = new ArrayList<>();
+    // Per variable data: reason of the assignment, decision level, position in the trail,
+    // mark used in conflict analysis (analysisRound, keep, notKeep) and parent in conflict minimisation
+    private Reason[] varReason = new Reason[16];
+    private int[] varLevel = new int[16];
+    private int[] varPos = new int[16];
+    private long[] varMark = new long[16];
+    private int[] varParent = new int[16];
     final ArrayList<ChannelInfo> cinfo = new ArrayList<>();
     private int max_literals;
     private int tot_literals;
@@ -148,8 +141,12 @@ public class MiniSat implements SatFactory {
     private long[] levels;
     private int[] minRank;
     private long analysisRound;
+    // Connection to the clauses learnt by other solvers, if any
+    private ClauseExchange.Port exchange;
     private long notKeep;
     private long keep;
+    // To emit an event on each reduction of the learnt clauses, null when disabled
+    private FlightRecorder recorder;
 
     /**
      * Create a new instance of MiniSat solver.
@@ -167,13 +164,13 @@ public class MiniSat implements SatFactory {
             int v = newVariable();
             int l = makeLiteral(v, true);
             assignment_.set(v, makeBoolean(sgn(l)));
-            vardata.set(v, new VarData(R_Undef, trailMarker(), trail_.size()));
+            setVarData(v, R_Undef);
             trail_.add(l);
             // false literal
             v = newVariable();
             l = makeLiteral(v, false);
             assignment_.set(v, makeBoolean(sgn(l)));
-            vardata.set(v, new VarData(R_Undef, trailMarker(), trail_.size()));
+            setVarData(v, R_Undef);
             trail_.add(l);
         }
         clauseCounter.set(2);
@@ -185,6 +182,15 @@ public class MiniSat implements SatFactory {
         return this;
     }
 
+    /**
+     * Emit an event on each reduction of the learnt clauses, see {@link #doReduceDB()}.
+     *
+     * @param recorder the Java Flight Recorder events emitter, <i>null</i> to disable events
+     */
+    public void setFlightRecorder(FlightRecorder recorder) {
+        this.recorder = recorder;
+    }
+
     /**
      * Create and return a new variable
      *
@@ -204,11 +210,34 @@ public class MiniSat implements SatFactory {
         int v = incrementVariableCounter();
         assert assignment_.size() == v + 1;
         assignment_.add(lUndef);
-        vardata.add(VD_Undef);
+        if (v == varLevel.length) {
+            int n = v * 3 / 2 + 1;
+            varReason = Arrays.copyOf(varReason, n);
+            varLevel = Arrays.copyOf(varLevel, n);
+            varPos = Arrays.copyOf(varPos, n);
+            varMark = Arrays.copyOf(varMark, n);
+            varParent = Arrays.copyOf(varParent, n);
+        }
+        varReason[v] = R_Undef;
+        varLevel[v] = -1;
+        varPos[v] = -1;
+        if (2 * v + 1 >= watches.length) {
+            int n = Math.max(2 * v + 2, watches.length * 3 / 2);
+            watches = Arrays.copyOf(watches, n);
+            watchSizes = Arrays.copyOf(watchSizes, n);
+            implications = Arrays.copyOf(implications, n);
+            implicationSizes = Arrays.copyOf(implicationSizes, n);
+        }
         cinfo.add(ci);
         return v;
     }
 
+    private void setVarData(int v, Reason r) {
+        varReason[v] = r;
+        varLevel[v] = trailMarker();
+        varPos[v] = trail_.size();
+    }
+
 
     public void beforeAddingClauses() {
         // nothing to do by default.
@@ -254,7 +283,7 @@ public class MiniSat implements SatFactory {
                 propagate();
                 return (ok_ = (confl == C_Undef));
             default:
-                Clause cr = new ArrayClause(ps);
+                Clause cr = newClause(ps, false);
                 clauses.add(cr);
                 attachClause(cr);
                 break;
@@ -316,8 +345,11 @@ public class MiniSat implements SatFactory {
     public void addLearnt(TIntList learnt_clause, boolean unforgettable) {
         if (learnt_clause.size() == 1) {
             uncheckedEnqueue(learnt_clause.get(0));
+            if (exchange != null && !unforgettable) {
+                exchange.export(learnt_clause, 1);
+            }
         } else {
-            Clause cr = new ArrayClause(learnt_clause, true);
+            Clause cr = newClause(learnt_clause, true);
             learnts.add(cr);
             if (unforgettable) { // in the case of a solution, for instance.
                 if (learnts.size() > 1) {
@@ -332,6 +364,9 @@ public class MiniSat implements SatFactory {
             attachClause(cr);
             claBumpActivity(cr);
             uncheckedEnqueue(learnt_clause.get(0), cr);
+            if (exchange != null && !unforgettable) {
+                exchange.export(learnt_clause, cr.getLBD());
+            }
         }
         claDecayActivity();
 
@@ -407,6 +442,79 @@ public class MiniSat implements SatFactory {
         topLevelCleanUp();
     }
 
+    /**
+     * Connect this solver to an exchange of learnt clauses.
+     *
+     * @param port the port of this solver, or <i>null</i> to disconnect it
+     * @see ClauseExchange#connect(MiniSat, boolean)
+     */
+    void setClauseExchange(ClauseExchange.Port port) {
+        this.exchange = port;
+    }
+
+    /**
+     * Import the clauses learnt by the other solvers connected to the same {@link ClauseExchange}, if any.
+     * This solver must be at its root level, with no pending propagation, for instance right after a restart.
+     * The literals enqueued by the imported clauses are then propagated as usual.
+     *
+     * @return <i>false</i> if an imported clause is falsified at root level, which proves the root node inconsistent
+     */
+    public boolean importSharedClauses() {
+        return exchange == null || exchange.importClauses();
+    }
+
+    /**
+     * Add a clause learnt by another solver, at root level.
+     * Its non-false literals are moved to the front to be watched,
+     * and the first one is enqueued if all the others are false.
+     *
+     * @param ps  the literals of the clause, at least two, modified in place
+     * @param lbd the literals block distance of the clause in the exporting solver
+     * @return the value of the clause at root level:
+     * {@link #lTrue} if it is satisfied for good and not added,
+     * {@link #lFalse} if all its literals are false, which proves the root node inconsistent, and it is not added,
+     * {@link #lUndef} if it is added
+     */
+    int importClause(TIntList ps, int lbd) {
+        int k = 0;
+        for (int i = 0; i < ps.size(); i++) {
+            int l = ps.get(i);
+            int val = valueLit(l);
+            if (val == lTrue && level(var(l)) <= rootlvl) {
+                return lTrue;
+            }
+            if (val != lFalse) {
+                ps.set(i, ps.get(k));
+                ps.set(k++, l);
+            }
+        }
+        if (k == 0) {
+            return lFalse;
+        }
+        if (k == 1) {
+            // watch the false literal assigned last
+            int max_i = 1;
+            for (int i = 2; i < ps.size(); i++) {
+                if (level(var(ps.get(i))) > level(var(ps.get(max_i)))) {
+                    max_i = i;
+                }
+            }
+            int l = ps.get(max_i);
+            ps.set(max_i, ps.get(1));
+            ps.set(1, l);
+        }
+        ArenaClause cr = newClause(ps, true);
+        cr.setLBD(lbd);
+        cr.imported = true;
+        learnts.add(cr);
+        attachClause(cr);
+        claBumpActivity(cr);
+        if (k == 1 && valueLit(ps.get(0)) == lUndef) {
+            uncheckedEnqueue(ps.get(0), cr);
+        }
+        return lUndef;
+    }
+
     public void topLevelCleanUp() {
         max_learnts = nClauses() * learntsize_factor;
         learntsize_adjust_confl = 100;
@@ -450,6 +558,16 @@ public class MiniSat implements SatFactory {
         return learnts.size();
     }
 
+    /**
+     * An estimate of the memory occupied by the learnt clauses, maintained incrementally.
+     * It counts, for each clause, its literals and header in the arena, its view and its watches.
+     *
+     * @return an estimate in bytes
+     */
+    public long getLearntClausesMemory() {
+        return (long) learnts.size() * LEARNT_OVERHEAD + (long) learnts_literals * Integer.BYTES;
+    }
+
 
     int incrementVariableCounter() {
         return num_vars_++;
@@ -503,14 +621,7 @@ public class MiniSat implements SatFactory {
             else
                 System.out.printf("uncheckedEnqueue:: Fix %d at %d due to %s\n", l, sgn(l) ? 0 : 1, showReason(from));
         }
-        // ensure capacity of vardata
-        assert vardata.size() >= v;
-        VarData vd = vardata.get(v);
-        if (vd != VD_Undef) {
-            vd.set(from, trailMarker(), trail_.size());
-        } else {
-            vardata.set(v, new VarData(from, trailMarker(), trail_.size()));
-        }
+        setVarData(v, from);
         if (from.learnt()) {
             computeLBD(from);
         }
@@ -549,50 +660,192 @@ public class MiniSat implements SatFactory {
             else
                 System.out.printf("cEnqueue:: Fix %d at %d due to %s\n", l, sgn(l) ? 0 : 1, showReason(r));
         }
-        assert vardata.size() >= v;
-        VarData vd = vardata.get(v);
-        if (vd != VD_Undef) {
-            vd.set(r, trailMarker(), trail_.size());
+        setVarData(v, r);
+        trail_.add(l);
+    }
+
+    /**
+     * Store a clause in the arena.
+     *
+     * @param ps     literals of the clause, at least two
+     * @param learnt indicate if the clause is learnt
+     * @return the clause
+     */
+    ArenaClause newClause(TIntList ps, boolean learnt) {
+        int cref = allocClause(ps.size());
+        for (int i = 0; i < ps.size(); i++) {
+            arena[cref + CL_HEADER + i] = ps.get(i);
+        }
+        return newView(cref, learnt);
+    }
+
+    /**
+     * Store a clause in the arena.
+     *
+     * @param ps     literals of the clause, at least two
+     * @param learnt indicate if the clause is learnt
+     * @return the clause
+     */
+    ArenaClause newClause(int[] ps, boolean learnt) {
+        int cref = allocClause(ps.length);
+        System.arraycopy(ps, 0, arena, cref + CL_HEADER, ps.length);
+        return newView(cref, learnt);
+    }
+
+    private int allocClause(int size) {
+        int cref = arenaTop;
+        if (cref + CL_HEADER + size > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(cref + CL_HEADER + size, arena.length * 3 / 2));
+        }
+        arena[cref + CL_SIZE] = size;
+        arenaTop += CL_HEADER + size;
+        return cref;
+    }
+
+    private ArenaClause newView(int cref, boolean learnt) {
+        int idx;
+        if (freeViews.size() > 0) {
+            idx = freeViews.pop();
         } else {
-            vardata.set(v, new VarData(r, trailMarker(), trail_.size()));
+            if (nbViews == views.length) {
+                views = Arrays.copyOf(views, nbViews * 3 / 2 + 1);
+            }
+            idx = nbViews++;
         }
-        trail_.add(l);
+        arena[cref + CL_VIEW] = idx;
+        return views[idx] = new ArenaClause(this, cref, learnt);
+    }
+
+    /**
+     * Release the space occupied by a clause in the arena.
+     * The clause should be detached beforehand.
+     *
+     * @param cr a clause
+     */
+    private void freeClause(Clause cr) {
+        int cref = ((ArenaClause) cr).cref;
+        int idx = arena[cref + CL_VIEW];
+        views[idx] = null;
+        freeViews.push(idx);
+        arena[cref + CL_VIEW] = -1;
+        arenaWasted += CL_HEADER + arena[cref + CL_SIZE];
+    }
+
+    /**
+     * Compact the arena when too much space is occupied by removed clauses.
+     */
+    void checkGarbage() {
+        if (arenaWasted > arenaTop * garbage_frac) {
+            relocAll();
+        }
+    }
+
+    /**
+     * Move all the clauses in a new arena, without holes, and update the clause references of the watches.
+     */
+    private void relocAll() {
+        final int[] from = arena;
+        final int[] to = new int[Math.max(1024, (arenaTop - arenaWasted) * 3 / 2)];
+        int top = 0;
+        for (int cref = 0; cref < arenaTop; cref += CL_HEADER + from[cref + CL_SIZE]) {
+            int idx = from[cref + CL_VIEW];
+            if (idx >= 0) {
+                int len = CL_HEADER + from[cref + CL_SIZE];
+                System.arraycopy(from, cref, to, top, len);
+                views[idx].cref = top;
+                top += len;
+            }
+        }
+        for (int l = 0; l < watches.length; l++) {
+            // the clause reference is followed by the blocker
+            for (int k = 0; k < watchSizes[l]; k += 2) {
+                watches[l][k] = views[from[watches[l][k] + CL_VIEW]].cref;
+            }
+            // the implied literal is followed by the clause reference
+            for (int k = 1; k < implicationSizes[l]; k += 2) {
+                implications[l][k] = views[from[implications[l][k] + CL_VIEW]].cref;
+            }
+        }
+        arena = to;
+        arenaTop = top;
+        arenaWasted = 0;
+    }
+
+    private static int[] push(int[] list, int size, int a, int b) {
+        if (list == null) {
+            list = new int[8];
+        } else if (size + 2 > list.length) {
+            list = Arrays.copyOf(list, list.length * 2);
+        }
+        list[size] = a;
+        list[size + 1] = b;
+        return list;
+    }
+
+    private static void remove(int[] list, int size, int at) {
+        System.arraycopy(list, at + 2, list, at, size - at - 2);
+    }
+
+    private void watch(int lit, int cref, int blocker) {
+        watches[lit] = push(watches[lit], watchSizes[lit], cref, blocker);
+        watchSizes[lit] += 2;
+    }
+
+    private void unwatch(int lit, int cref) {
+        int[] ws = watches[lit];
+        int i = watchSizes[lit] - 2;
+        while (i >= 0 && ws[i] != cref) {
+            i -= 2;
+        }
+        assert i > -1;
+        remove(ws, watchSizes[lit], i);
+        watchSizes[lit] -= 2;
+    }
+
+    private void imply(int lit, int implied, int cref) {
+        implications[lit] = push(implications[lit], implicationSizes[lit], implied, cref);
+        implicationSizes[lit] += 2;
+    }
+
+    private void unimply(int lit, int cref) {
+        int[] is = implications[lit];
+        int i = implicationSizes[lit] - 2;
+        while (i >= 0 && is[i + 1] != cref) {
+            i -= 2;
+        }
+        assert i > -1;
+        remove(is, implicationSizes[lit], i);
+        implicationSizes[lit] -= 2;
     }
 
     // Attach a clause to watcher lists.
     void attachClause(Clause cr) {
         assert cr.size() > 1;
-        MinimaList<Watcher> l0 = watches_.get(neg(cr._g(0)));
-        if (l0 == null) {
-            l0 = new MinimaList<>();
-            watches_.put(neg(cr._g(0)), l0);
-        }
-        MinimaList<Watcher> l1 = watches_.get(neg(cr._g(1)));
-        if (l1 == null) {
-            l1 = new MinimaList<>();
-            watches_.put(neg(cr._g(1)), l1);
-        }
-        l0.add(new Watcher(cr, cr._g(1)));
-        l1.add(new Watcher(cr, cr._g(0)));
+        int cref = ((ArenaClause) cr).cref;
+        int l0 = cr._g(0);
+        int l1 = cr._g(1);
+        if (cr.size() == 2) {
+            imply(neg(l0), l1, cref);
+            imply(neg(l1), l0, cref);
+        } else {
+            watch(neg(l0), cref, l1);
+            watch(neg(l1), cref, l0);
+        }
         if (cr.learnt()) learnts_literals += cr.size();
         else clauses_literals += cr.size();
     }
 
     void detachClause(Clause cr) {
-        MinimaList<Watcher> ws = watches_.get(neg(cr._g(0)));
-        int i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
-        }
-        assert i > -1;
-        ws.remove(i);
-        ws = watches_.get(neg(cr._g(1)));
-        i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+        if (cr.learnt()) learnts_literals -= cr.size();
+        else clauses_literals -= cr.size();
+        int cref = ((ArenaClause) cr).cref;
+        if (cr.size() == 2) {
+            unimply(neg(cr._g(0)), cref);
+            unimply(neg(cr._g(1)), cref);
+        } else {
+            unwatch(neg(cr._g(0)), cref);
+            unwatch(neg(cr._g(1)), cref);
         }
-        assert i > -1;
-        ws.remove(i);
     }
 
     // Perform unit propagation. returns true upon success.
@@ -610,80 +863,91 @@ public class MiniSat implements SatFactory {
 
     private void propagateLit(int p) {
         // 'p' is enqueued fact to propagate.
-        MinimaList<Watcher> ws = watches_.get(p);
-
+        final int false_lit = neg(p);
+        // Binary clauses first, their other literal is directly implied:
+        final int[] is = implications[p];
+        for (int i = 0, n = implicationSizes[p]; i < n; i += 2) {
+            final int implied = is[i];
+            final int val = valueLit(implied);
+            if (val == lTrue) {
+                continue;
+            }
+            final int cref = is[i + 1];
+            // Make sure the implied literal is data[0]:
+            arena[cref + CL_HEADER] = implied;
+            arena[cref + CL_HEADER + 1] = false_lit;
+            if (val == lFalse) {
+                confl = views[arena[cref + CL_VIEW]];
+                qhead_ = trail_.size();
+                onLiteralPushed(implied);
+                return;
+            }
+            uncheckedEnqueue(implied, views[arena[cref + CL_VIEW]]);
+        }
+        final int[] ws = watches[p];
+        final int n = watchSizes[p];
         int i = 0;
         int j = 0;
-        while (ws != null && i < ws.size()) {
-            Watcher w = ws.get(i);
+        while (i < n) {
+            final int cref = ws[i];
+            final int blocker = ws[i + 1];
+            i += 2;
             // Try to avoid inspecting the clause:
-            int blocker = w.blocker;
             if (valueLit(blocker) == lTrue) {
-                ws.set(j++, w);
-                i++;
+                ws[j++] = cref;
+                ws[j++] = blocker;
                 continue;
             }
 
             // Make sure the false literal is data[1]:
-            Clause cr = w.clause;
-            final int false_lit = neg(p);
-            if (cr._g(0) == false_lit) {
-                cr._s(0, cr._g(1));
-                cr._s(1, false_lit);
+            final int[] data = arena;
+            final int c0 = cref + CL_HEADER;
+            if (data[c0] == false_lit) {
+                data[c0] = data[c0 + 1];
+                data[c0 + 1] = false_lit;
             }
-            assert (cr._g(1) == false_lit);
-            i++;
+            assert (data[c0 + 1] == false_lit);
 
             // If 0th watch is true, then clause is already satisfied.
-            final int first = cr._g(0);
-//            Watcher w = new Watcher(cr, first);
-            /* ws.set(i - 1, null); // now w can be used
-            w.clause = cr; */
-            w.blocker = first;
+            final int first = data[c0];
             if (first != blocker && valueLit(first) == lTrue) {
-                ws.set(j++, w);
+                ws[j++] = cref;
+                ws[j++] = first;
                 continue;
             }
 
-            boolean cont = newWatch(cr, false_lit, w);
+            if (newWatch(cref, false_lit, first)) {
+                continue;
+            }
 
             // Did not find watch -- clause is unit under assignment:
-            if (!cont) {
-                ws.set(j++, w);
-                if (valueLit(first) == lFalse) {
-                    confl = cr;
-                    qhead_ = trail_.size();
-                    // Copy the remaining watches_:
-                    while (i < ws.size()) {
-                        ws.set(j++, ws.get(i++));
-                    }
-                    onLiteralPushed(first);
-                } else {
-                    uncheckedEnqueue(first, cr);
+            ws[j++] = cref;
+            ws[j++] = first;
+            if (valueLit(first) == lFalse) {
+                confl = views[data[cref + CL_VIEW]];
+                qhead_ = trail_.size();
+                // Copy the remaining watches:
+                while (i < n) {
+                    ws[j++] = ws[i++];
                 }
+                onLiteralPushed(first);
+            } else {
+                uncheckedEnqueue(first, views[data[cref + CL_VIEW]]);
             }
         }
-        if (ws != null && ws.size() > j) {
-//            for (int k = ws.size() - 1; k >= j; k--) {
-//                ws.remove(j);
-//            }
-//            ws.subList(j, ws.size()).clear();
-            ws.resize(j);
-        }
+        watchSizes[p] = j;
     }
 
-    private boolean newWatch(Clause cr, int false_lit, Watcher w) {
+    private boolean newWatch(int cref, int false_lit, int first) {
         // Look for new watch:
-        for (int k = 2; k < cr.size(); k++) {
-            if (valueLit(cr._g(k)) != lFalse) {
-                cr._s(1, cr._g(k));
-                cr._s(k, false_lit);
-                MinimaList<Watcher> lw = watches_.get(neg(cr._g(1)));
-                if (lw == null) {
-                    lw = new MinimaList<>();
-                    watches_.put(neg(cr._g(1)), lw);
-                }
-                lw.add(w);
+        final int[] data = arena;
+        final int end = cref + CL_HEADER + data[cref + CL_SIZE];
+        for (int k = cref + CL_HEADER + 2; k < end; k++) {
+            final int l = data[k];
+            if (valueLit(l) != lFalse) {
+                data[cref + CL_HEADER + 1] = l;
+                data[k] = false_lit;
+                watch(neg(l), cref, first);
                 return true;
             }
         }
@@ -693,7 +957,7 @@ public class MiniSat implements SatFactory {
     public int findConflictLevel() {
         int lvl = -1;
         for (int i = 0; i < confl.size(); i++) {
-            int l = vardata.get(var(confl._g(i))).level;
+            int l = varLevel[var(confl._g(i))];
             if (l > lvl) {
                 lvl = l;
             }
@@ -742,10 +1006,10 @@ public class MiniSat implements SatFactory {
             pathC = updateNogood(confl, out_learnt, p, pathC);
             // Select next clause to look at:
             //noinspection StatementWithEmptyBody
-            while (vardata.get(var(trail_.get(index--))).mark != analysisRound) ;
+            while (varMark[var(trail_.get(index--))] != analysisRound) ;
             p = trail_.get(index + 1);
             confl = getConfl(p);
-            vardata.get(var(p)).mark--;
+            varMark[var(p)]--;
             if (DEBUG > 1) System.out.printf("clear %d l:%d\n", var(p), p);
             pathC--;
             if (DEBUG > 1) System.out.printf("path-- (%d)\n", pathC);
@@ -762,8 +1026,14 @@ public class MiniSat implements SatFactory {
                 System.out.printf("%s\n", c.toString(this));
             else System.out.printf("%s\n", c.toString());
         }
-        if (c.learnt())
+        if (c.learnt()) {
             claBumpActivity(c);
+            if (exchange != null && c instanceof ArenaClause && ((ArenaClause) c).imported) {
+                // count an imported clause once
+                ((ArenaClause) c).imported = false;
+                exchange.useful();
+            }
+        }
         for (int j = (lit_p == litUndef) ? 0 : 1; j < c.size(); j++) {
             int lit_q = c._g(j);
             int var_q = var(lit_q);
@@ -778,9 +1048,9 @@ public class MiniSat implements SatFactory {
 
     private int updateNogoodRec(TIntList out_learnt, int lit_p, int pathC) {
         int var_p = var(lit_p);
-        if (vardata.get(var_p).mark != analysisRound) {
+        if (varMark[var_p] != analysisRound) {
             if (DEBUG > 1) System.out.printf("mark %d\n", var_p);
-            vardata.get(var_p).mark = analysisRound;
+            varMark[var_p] = analysisRound;
                 varBumpActivity(var_p);
                 if (level(var_p) >= trailMarker()) {
                     if (DEBUG > 1) System.out.printf("path++ (%d -- %d >= %d)\n", pathC, level(var_p), trailMarker());
@@ -812,7 +1082,7 @@ public class MiniSat implements SatFactory {
             i = replaceUnreliableLit(out_learnt, p, i);
         }
         while (!temporary_add_vector_.isEmpty()) {
-            vardata.get(var(temporary_add_vector_.removeAt(temporary_add_vector_.size() - 1))).mark--;
+            varMark[var(temporary_add_vector_.removeAt(temporary_add_vector_.size() - 1))]--;
         }
     }
 
@@ -825,8 +1095,8 @@ public class MiniSat implements SatFactory {
         i--;
         for (int j = 1; j < c.size(); j++) {
             int q = c._g(j);
-            if (vardata.get(var(q)).mark != analysisRound) {
-                vardata.get(var(q)).mark = analysisRound;
+            if (varMark[var(q)] != analysisRound) {
+                varMark[var(q)] = analysisRound;
                 out_learnt.add(q);
             }
         }
@@ -854,7 +1124,7 @@ public class MiniSat implements SatFactory {
         for (int k = 1; k < c.size(); k++) {
             int q = c._g(k); // The literal (either negative or positive)
             int v = var(q); // The boolean variable associated with the literal
-                if (level(v) > rootlvl && vardata.get(v).mark < analysisRound) { // The literal is neither a factor nor from the initial propagation but is not present in the initial no-good
+                if (level(v) > rootlvl && varMark[v] < analysisRound) { // The literal is neither a factor nor from the initial propagation but is not present in the initial no-good
                 return false;
             }
         }
@@ -867,23 +1137,23 @@ public class MiniSat implements SatFactory {
         while (!analyze_stack.isEmpty()) {
             int p = analyze_stack.removeAt(analyze_stack.size() - 1);
             int v_p = var(p);
-            if ((p != p_start && vardata.get(v_p).mark >= analysisRound) || (level(v_p) <= rootlvl)) continue;
+            if ((p != p_start && varMark[v_p] >= analysisRound) || (level(v_p) <= rootlvl)) continue;
             Clause c = getConfl(p);
             for (int k = 1; k < c.size(); k++) {
                 int q = c._g(k); // The literal (either negative or positive)
                 int v_q = var(q); // The boolean variable associated with the literal
                 if (level(v_q) <= rootlvl) continue;
-                if (vardata.get(v_q).mark < analysisRound) { // The literal is neither a factor nor from the initial propagation but is not present in the initial no-good
+                if (varMark[v_q] < analysisRound) { // The literal is neither a factor nor from the initial propagation but is not present in the initial no-good
                         int cur = v_p;
                         while (cur != var(p_start)) {
-                            vardata.get(cur).mark = keep;
-                            cur = vardata.get(cur).parent;
+                            varMark[cur] = keep;
+                            cur = varParent[cur];
                         }
                         return false;
                 }
             }
             if (p != p_start) {
-                vardata.get(v_p).mark = notKeep;
+                varMark[v_p] = notKeep;
             }
         }
         return true;
@@ -908,7 +1178,7 @@ public class MiniSat implements SatFactory {
             int v = var(out_learnt.get(i));
             levels[level(v)] = analysisRound;
             minRank[level(v)] = Math.min(minRank[level(v)], pos(v));
-//            vardata.get(v).mark = notKeep;
+//            varMark[v] = notKeep;
         }
 
         for (i = j = 1; i < out_learnt.size(); i++) {
@@ -929,15 +1199,15 @@ public class MiniSat implements SatFactory {
     boolean isDominatedRecursiveVersion(int p, int root) {
         int v = var(p);
         // IF the literal is marked as dominated and is not the root OR the literal is from the initial propagation THEN we may remove the root from the no-good
-        if ((p != root && vardata.get(v).mark == notKeep) || (level(v) <= rootlvl)) {
+        if ((p != root && varMark[v] == notKeep) || (level(v) <= rootlvl)) {
             return true;
         }
         // ELSE-IF the literal is marked as notDominated OR it is a decision OR it can not be dominated by literals from the no-good THEN we must keep the root in the no-good
-        else if (vardata.get(v).mark == keep
+        else if (varMark[v] == keep
                 || reason(v) == C_Undef
                 || levels[level(v)] != analysisRound
                 || pos(v) < minRank[level(v)]) {
-            vardata.get(v).mark = keep; // It is not necessary to mark the literal here, this is just an optimisation to avoid testing the other assertions in the future
+            varMark[v] = keep; // It is not necessary to mark the literal here, this is just an optimisation to avoid testing the other assertions in the future
             return false;
         }
         // ELSE check the predecessors, but ignore the literals from the initial propagation
@@ -953,15 +1223,15 @@ public class MiniSat implements SatFactory {
                 if (level(var(r)) > rootlvl
                         && !isDominatedRecursiveVersion(r, root)) {
                     if (p != root) { // The root is from the initial no-good, and literals from the initial no-good must remain marked as dominated
-                        assert vardata.get(v).mark < analysisRound : "Not supposed to re-mark literals";
-                        vardata.get(v).mark = keep;
+                        assert varMark[v] < analysisRound : "Not supposed to re-mark literals";
+                        varMark[v] = keep;
                     }
                     return false;
                 }
             }
             if (p != root) { // The root is from the initial no-good, and literals from the initial no-good are already marked as dominated
-                assert vardata.get(v).mark < analysisRound : "Not supposed to re-mark literals";
-                vardata.get(v).mark = notKeep;
+                assert varMark[v] < analysisRound : "Not supposed to re-mark literals";
+                varMark[v] = notKeep;
             }
             return true;
         }
@@ -974,32 +1244,32 @@ public class MiniSat implements SatFactory {
             int p = analyze_stack.removeAt(analyze_stack.size() - 1);
             int v_p = var(p);
             // IF the literal is marked as dominated and is not the root OR the literal is from the initial propagation THEN we may remove the root from the no-good
-            if ((p != p_start && vardata.get(v_p).mark >= analysisRound) || (level(v_p) <= rootlvl)) continue;
+            if ((p != p_start && varMark[v_p] >= analysisRound) || (level(v_p) <= rootlvl)) continue;
             Clause c = getConfl(p);
             for (int k = 1; k < c.size(); k++) {
                 int q = c._g(k); // The literal (either negative or positive)
                 int v_q = var(q); // The boolean variable associated with the literal
                 // IF the literal is marked as dominated and is not the root OR the literal is from the initial propagation THEN we may remove the root from the no-good
-                if ((vardata.get(v_q).mark == notKeep) || (level(v_q) <= rootlvl)) continue;
+                if ((varMark[v_q] == notKeep) || (level(v_q) <= rootlvl)) continue;
                 // ELSE-IF the literal is marked as notDominated OR it is a decision OR it can not be dominated by literals from the no-good THEN we must keep the root in the no-good
-                if (vardata.get(v_q).mark == keep
+                if (varMark[v_q] == keep
                         || reason(v_q) == C_Undef
                         || levels[level(v_q)] != analysisRound
                         || pos(v_q) < minRank[level(v_q)]) {
-                    vardata.get(v_q).mark = keep;
+                    varMark[v_q] = keep;
                     int cur = v_p;
                     while (cur != var(p_start)) {
-                        vardata.get(cur).mark = keep;
-                        cur = vardata.get(cur).parent;
+                        varMark[cur] = keep;
+                        cur = varParent[cur];
                     }
                     return false;
-                } else if (vardata.get(v_q).mark < analysisRound) { // not marked
+                } else if (varMark[v_q] < analysisRound) { // not marked
                     analyze_stack.add(q);
-                    vardata.get(v_q).parent = v_p;
+                    varParent[v_q] = v_p;
                 }
             }
             if (p != p_start) {
-                vardata.get(v_p).mark = notKeep;
+                varMark[v_p] = notKeep;
             }
         }
         return true;
@@ -1064,6 +1334,7 @@ public class MiniSat implements SatFactory {
         if (cs.size() > j) {
             cs.subList(j, cs.size()).clear();
         }
+        checkGarbage();
     }
 
     boolean satisfied(Clause c) {
@@ -1080,9 +1351,11 @@ public class MiniSat implements SatFactory {
             removeClause(c);
         }
         learnts.clear();
+        checkGarbage();
     }
 
     public void doReduceDB() {
+        Object event = recorder == null ? null : recorder.beginReduceDB();
         int i, j;
         double extra_lim = cla_inc / learnts.size();    // Remove any clause below this activity
 
@@ -1103,7 +1376,11 @@ public class MiniSat implements SatFactory {
         }
         int n = learnts.size();
         learnts.subList(j, n).clear();
+        checkGarbage();
         // System.out.printf("reduceDB removed %d clauses\n", n - j);
+        if (event != null) {
+            recorder.endReduceDB(event, n, j);
+        }
     }
 
     Clause getConfl(int p) {
@@ -1112,15 +1389,15 @@ public class MiniSat implements SatFactory {
     }
 
     Reason reason(int x) {
-        return vardata.get(x).cr;
+        return varReason[x];
     }
 
     public int level(int x) {
-        return vardata.get(x).level;
+        return varLevel[x];
     }
 
     int pos(int x) {
-        return vardata.get(x).pos;
+        return varPos[x];
     }
 
     boolean locked(Clause c) {
@@ -1134,8 +1411,9 @@ public class MiniSat implements SatFactory {
         detachClause(cr);
         // Don't leave pointers to free'd memory!
         if (locked(cr)) {
-            vardata.get(var(cr._g(0))).clearReason();
+            varReason[var(cr._g(0))] = R_Undef;
         }
+        freeClause(cr);
     }
 
 
@@ -1256,53 +1534,6 @@ public class MiniSat implements SatFactory {
         return String.valueOf(r);
     }
 
-    /**
-     * A watcher represent a clause attached to a literal.
-     * <br/>
-     * (or-tools, booleans.cc, ty L. Perron).
-     * <p>
-     * todo: recycle
-     *
-     * @author Charles Prud'homme
-     * @since 12/07/13
-     */
-    private static final class Watcher {
-
-        final Clause clause;
-        int blocker;
-
-        Watcher(final Clause cr, int l) {
-            this.clause = cr;
-            this.blocker = l;
-        }
-    }
-
-
-    private static final class VarData {
-        private Reason cr;
-        private int level;
-        private int pos;
-        private long mark; // used in conflict analysis, denotes status of a lit (analysisRound, keep, notKeep)
-        private int parent; // used in conflict minimisation, denotes the parent lit
-
-        public VarData(Reason cr, int level, int pos) {
-            this.cr = cr;
-            this.level = level;
-            this.pos = pos;
-            this.mark = 0;
-        }
-
-        private void set(Reason cr, int level, int pos) {
-            this.cr = cr;
-            this.level = level;
-            this.pos = pos;
-        }
-
-        private void clearReason() {
-            this.cr = R_Undef;
-        }
-    }
-
     public interface Channeler {
         void channel(boolean sign);
     }
@@ -1332,5 +1563,19 @@ public class MiniSat implements SatFactory {
                 var.channel(val, val_type, sign ? 1 : 0);
             }
         }
+
+        /**
+         * Return a key which identifies the meaning of the SAT variable in any equivalent model.
+         * It is made of the ID of the CP variable, the type of the literal and the value,
+         * the lowest bit is left free for the sign of a literal.
+         *
+         * @return the key of the SAT variable, or -1 if it is not channeled to a CP variable or unreliable
+         */
+        long key() {
+            if (cons_type != 1 || !reliable || !(var instanceof Identity)) {
+                return -1L;
+            }
+            return ((long) ((Identity) var).getId() << 34) | ((long) val_type << 33) | ((val & 0xFFFFFFFFL) << 1);
+        }
     }
 }
\ No newline at end of file
@@ -84,7 +84,7 @@ public class SatDecorator extends MiniSat {
                 ok_ = (confl == C_Undef);
                 return;
             default:
-                Clause cr = new ArrayClause(ps);
+                Clause cr = newClause(ps, false);
                 //removeDominated(cr);
                 dynClauses.add(cr);
                 attachClause(cr);
@@ -121,7 +121,7 @@ public class SatDecorator extends MiniSat {
 
     private void detachLearnt(int ci) {
         Clause cr = dynClauses.get(ci);
-        detachClause(cr);
+        removeClause(cr);
         dynClauses.remove(ci);
     }
 
@@ -132,9 +132,10 @@ public class SatDecorator extends MiniSat {
 
     private void deleteLearntClauses() {
         for (int i = dynClauses.size() - 1; i >= 0; i--) {
-            detachClause(dynClauses.get(i));
+            removeClause(dynClauses.get(i));
         }
         dynClauses.clear();
+        checkGarbage();
     }
 
 
@@ -0,0 +1,244 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.MemoryUtils;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A dense record of the values of integer variables in a solution.
+ * <p>
+ * Contrary to {@link Solution}, which maps the ID of each variable to its value,
+ * the variables to store are given once, as a fixed <i>scope</i>, and the values are stored in an <code>int[]</code>
+ * indexed by position in the scope.
+ * The scope and the map of positions are shared by the copies of a record,
+ * so that recording a solution costs one array of <i>n</i> integers.
+ * This suits the enumeration of many solutions, see
+ * {@link org.chocosolver.solver.search.IResolutionHelper#findAllCompactSolutions(IntVar[], org.chocosolver.util.criteria.Criterion...)}.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class CompactSolution {
+
+    /**
+     * No entry value for the map of positions
+     */
+    private static final int NO_ENTRY = -1;
+
+    /**
+     * Variables to store
+     */
+    private final IntVar[] scope;
+    /**
+     * Maps the ID of a variable to its position in {@link #scope}, shared among copies
+     */
+    private final TIntIntHashMap positions;
+    /**
+     * Value of each variable of the scope
+     */
+    private final int[] values;
+    /**
+     * Set to <tt>true</tt> when this object is empty
+     */
+    private boolean empty;
+
+    /**
+     * Create an empty record able to store the value of each variable in <code>scope</code>
+     * when calling {@link #record()}.
+     *
+     * @param scope variables to store in this object, in order
+     * @throws SolverException if <i>scope</i> is empty
+     */
+    public CompactSolution(IntVar... scope) {
+        if (scope.length == 0) {
+            throw new SolverException("The scope of a CompactSolution cannot be empty.");
+        }
+        this.scope = scope.clone();
+        this.positions = new TIntIntHashMap(scope.length, .5f, NO_ENTRY, NO_ENTRY);
+        for (int i = scope.length - 1; i >= 0; i--) {
+            positions.put(Objects.requireNonNull(scope[i]).getId(), i);
+        }
+        this.values = new int[scope.length];
+        this.empty = true;
+    }
+
+    private CompactSolution(CompactSolution origin) {
+        this.scope = origin.scope;
+        this.positions = origin.positions;
+        this.values = origin.values.clone();
+        this.empty = origin.empty;
+    }
+
+    /**
+     * Records the current values of the variables of the scope and clears the previous recording.
+     *
+     * @return this object
+     * @throws SolverException if a variable of the scope is not instantiated
+     */
+    public CompactSolution record() {
+        for (int i = 0; i < scope.length; i++) {
+            if (!scope[i].isInstantiated()) {
+                throw new SolverException("Cannot record the value of " + scope[i] + ": it is not instantiated.");
+            }
+            values[i] = scope[i].getValue();
+        }
+        empty = false;
+        return this;
+    }
+
+    /**
+     * @return a copy of this record, which shares its scope
+     */
+    public CompactSolution copy() {
+        return new CompactSolution(this);
+    }
+
+    /**
+     * @return the variables stored in this object, in order
+     */
+    public IntVar[] getScope() {
+        return scope.clone();
+    }
+
+    /**
+     * @return the number of variables stored in this object
+     */
+    public int size() {
+        return scope.length;
+    }
+
+    /**
+     * Estimate the memory occupied by this record, see {@link MemoryUtils}.
+     * The scope and the positions, shared among copies, are not taken into account.
+     *
+     * @return an estimate in bytes
+     */
+    public long getMemoryFootprint() {
+        return MemoryUtils.OBJECT_HEADER + 2 * MemoryUtils.REFERENCE + 8 + MemoryUtils.sizeOf(values);
+    }
+
+    /**
+     * Get the value of variable v in this solution.
+     *
+     * @param v IntVar (or BoolVar)
+     * @return the value of variable v in this solution
+     * @throws SolverException if no solution has been recorded or if <i>v</i> is not in the scope
+     */
+    public int getIntVal(IntVar v) {
+        int position = positions.get(v.getId());
+        if (position == NO_ENTRY) {
+            throw new SolverException("Cannot access value of " + v
+                    + ": This variable has not been declared to be recorded in the CompactSolution object (see CompactSolution constructor).");
+        }
+        return getIntVal(position);
+    }
+
+    /**
+     * Get the value of the variable at position <i>i</i> in the scope.
+     *
+     * @param i position of a variable in the scope
+     * @return the value of this variable in this solution
+     * @throws SolverException if no solution has been recorded
+     */
+    public int getIntVal(int i) {
+        if (empty) {
+            throw new SolverException("Cannot access value of " + scope[i]
+                    + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
+        }
+        return values[i];
+    }
+
+    /**
+     * Copies the values of this solution, by position in the scope, into <i>into</i>.
+     *
+     * @param into an array of size at least {@link #size()}
+     * @return <i>into</i>
+     * @throws SolverException if no solution has been recorded
+     */
+    public int[] getValues(int[] into) {
+        if (empty) {
+            throw new SolverException("No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
+        }
+        System.arraycopy(values, 0, into, 0, values.length);
+        return into;
+    }
+
+    /**
+     * @return <i>true</i> if a solution has been recorded into this, <i>false</i> otherwise.
+     */
+    public boolean exists() {
+        return !empty;
+    }
+
+    /**
+     * Restore the solution in the model of the scope, like {@link Solution#restore()} does.
+     *
+     * @throws SolverException if no solution has been recorded
+     * @throws ContradictionException if restoring the solution leads to failure
+     */
+    public void restore() throws ContradictionException {
+        if (empty) {
+            throw new SolverException("No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
+        }
+        for (int i = 0; i < scope.length; i++) {
+            scope[i].instantiateTo(values[i], Cause.Null);
+        }
+        scope[0].getModel().getSolver().propagate();
+    }
+
+    /**
+     * @return a {@link Solution} which stores the same values
+     * @throws SolverException if no solution has been recorded
+     */
+    public Solution toSolution() {
+        if (empty) {
+            throw new SolverException("No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
+        }
+        Solution solution = new Solution(scope[0].getModel(), scope.clone());
+        for (int i = 0; i < scope.length; i++) {
+            solution.setIntVal(scope[i], values[i]);
+        }
+        return solution;
+    }
+
+    @Override
+    public String toString() {
+        if (empty) {
+            return "Empty solution. No solution recorded yet";
+        }
+        StringBuilder st = new StringBuilder("Solution: ");
+        for (int i = 0; i < scope.length; i++) {
+            st.append(scope[i].getName()).append("=").append(values[i]).append(", ");
+        }
+        return st.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactSolution)) {
+            return false;
+        }
+        CompactSolution that = (CompactSolution) o;
+        return empty == that.empty && Arrays.equals(scope, that.scope) && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(values) + (empty ? 1 : 0);
+    }
+}
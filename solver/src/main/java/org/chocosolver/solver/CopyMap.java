@@ -0,0 +1,215 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.selectors.values.IntValueSelector;
+import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.view.IView;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.IdentityHashMap;
+
+/**
+ * <p>
+ * Maps the objects of a model to their counterpart in a copy of it, see {@link Model#copy()}.
+ * </p>
+ * <p>
+ * Each object builds its own copy, on the target model, from the copies of the objects it depends on:
+ * see {@link Variable#copy(CopyMap)}, {@link Propagator#copy(CopyMap)}, {@link Constraint#copy(CopyMap)},
+ * {@link AbstractStrategy#copy(CopyMap)}, {@link VariableSelector#copy(CopyMap)},
+ * {@link IntValueSelector#copy(CopyMap)} and {@link Criterion#copy(CopyMap)}.
+ * A variable is copied once, the first time it is asked for, and its copy is shared by the objects referring to it.
+ * Any other object is owned by a single object, and is copied on each call.
+ * Variables and propagators get the same id as the object they are copied from,
+ * so that learnt clauses can be exchanged between a model and its copies.
+ * </p>
+ * <p>
+ * An object which does not implement its copy, or whose class does not override it, makes the copy fail.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class CopyMap {
+
+    /**
+     * The model the copies are declared in
+     */
+    private final Model model;
+
+    /**
+     * Maps a variable of the original model to its copy
+     */
+    private final IdentityHashMap<Variable, Variable> variables;
+
+    CopyMap(Model model, int expectedSize) {
+        this.model = model;
+        this.variables = new IdentityHashMap<>(expectedSize);
+    }
+
+    /**
+     * @return the model the copies are declared in
+     */
+    public Model getModel() {
+        return model;
+    }
+
+    /**
+     * @param var a variable of the original model
+     * @return the copy of <i>var</i>, created on the first call
+     * @throws SolverException if <i>var</i> cannot be copied
+     */
+    public Variable get(Variable var) {
+        Variable copy = variables.get(var);
+        if (copy == null) {
+            if (var instanceof IView) {
+                // the observed variables are copied first, so that the view gets the same id
+                for (Variable observed : ((IView<?>) var).getVariables()) {
+                    get(observed);
+                }
+            }
+            model.setNextId(var.getId());
+            copy = check(var, var.copy(this));
+            variables.put(var, copy);
+        }
+        return copy;
+    }
+
+    /**
+     * @param var an integer variable of the original model
+     * @return the copy of <i>var</i>, created on the first call
+     * @throws SolverException if <i>var</i> cannot be copied
+     */
+    public IntVar get(IntVar var) {
+        return (IntVar) get((Variable) var);
+    }
+
+    /**
+     * @param var a boolean variable of the original model
+     * @return the copy of <i>var</i>, created on the first call
+     * @throws SolverException if <i>var</i> cannot be copied
+     */
+    public BoolVar get(BoolVar var) {
+        return (BoolVar) get((Variable) var);
+    }
+
+    /**
+     * @param vars integer variables of the original model
+     * @return a new array with the copy of each variable of <i>vars</i>
+     * @throws SolverException if a variable cannot be copied
+     */
+    public IntVar[] get(IntVar[] vars) {
+        IntVar[] copies = new IntVar[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            copies[i] = get(vars[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * @param vars boolean variables of the original model
+     * @return a new array with the copy of each variable of <i>vars</i>
+     * @throws SolverException if a variable cannot be copied
+     */
+    public BoolVar[] get(BoolVar[] vars) {
+        BoolVar[] copies = new BoolVar[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            copies[i] = get(vars[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * @param prop a propagator of the original model
+     * @param <V>  type of the variables of the propagator
+     * @return a copy of <i>prop</i>
+     * @throws SolverException if <i>prop</i>, or one of its variables, cannot be copied
+     */
+    public <V extends Variable> Propagator<V> get(Propagator<V> prop) {
+        // the variables are copied first, so that the propagator gets the same id
+        for (Variable var : prop.getVars()) {
+            get(var);
+        }
+        model.setNextId(prop.getId());
+        return check(prop, prop.copy(this));
+    }
+
+    /**
+     * @param props propagators of the original model
+     * @return a new array with a copy of each propagator of <i>props</i>
+     * @throws SolverException if a propagator cannot be copied
+     */
+    public Propagator<?>[] get(Propagator<?>[] props) {
+        Propagator<?>[] copies = new Propagator<?>[props.length];
+        for (int i = 0; i < props.length; i++) {
+            copies[i] = get(props[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * @param cstr a constraint of the original model
+     * @return a copy of <i>cstr</i>, not posted yet
+     * @throws SolverException if <i>cstr</i>, or one of its propagators, cannot be copied
+     */
+    public Constraint get(Constraint cstr) {
+        return check(cstr, cstr.copy(this));
+    }
+
+    /**
+     * @param strategy a search strategy of the original model
+     * @param <V>      type of the variables of the strategy
+     * @return a copy of <i>strategy</i>
+     * @throws SolverException if <i>strategy</i>, or one of its components, cannot be copied
+     */
+    public <V extends Variable> AbstractStrategy<V> get(AbstractStrategy<V> strategy) {
+        return check(strategy, strategy.copy(this));
+    }
+
+    /**
+     * @param selector a variable selector of the original model
+     * @param <V>      type of the variables to select
+     * @return a copy of <i>selector</i>
+     * @throws SolverException if <i>selector</i> cannot be copied
+     */
+    public <V extends Variable> VariableSelector<V> get(VariableSelector<V> selector) {
+        return check(selector, selector.copy(this));
+    }
+
+    /**
+     * @param selector a value selector of the original model
+     * @return a copy of <i>selector</i>
+     * @throws SolverException if <i>selector</i> cannot be copied
+     */
+    public IntValueSelector get(IntValueSelector selector) {
+        return check(selector, selector.copy(this));
+    }
+
+    /**
+     * @param criterion a stop criterion of the original model
+     * @return a copy of <i>criterion</i>
+     * @throws SolverException if <i>criterion</i> cannot be copied
+     */
+    public Criterion get(Criterion criterion) {
+        return check(criterion, criterion.copy(this));
+    }
+
+    private static <T> T check(Object original, T copy) {
+        // a sub-class which does not override the copy of its parent would lose its specificities
+        if (copy == null || copy.getClass() != original.getClass()) {
+            throw new SolverException(original.getClass().getName() + " does not support Model#copy()");
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,550 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.ACounter;
+import org.chocosolver.solver.search.limits.TimeCounter;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Embarrassingly Parallel Search (EPS).
+ * </p>
+ * <p>
+ * Contrary to {@link ParallelPortfolio}, where each model explores the whole search space with its own heuristics,
+ * the search space is here split into many sub-problems which are solved independently.
+ * The resolution is made of two steps:
+ *      <ol>
+ *          <li>the decomposition: partial assignments of the first decision variables are enumerated on a
+ *          <i>master</i> model, and only those that are not proven inconsistent by propagation are kept
+ *          (there are about {@link #setNbSubProblemsPerWorker(int)} times the parallelism of them),</li>
+ *          <li>the resolution: the sub-problems are solved on a work-stealing {@link ForkJoinPool},
+ *          each worker thread owning its own model.</li>
+ *      </ol>
+ * </p>
+ * <p>
+ * A sub-problem is stated as a sequence of non-refutable decisions put at the top of the worker's decision path,
+ * so that the worker search ends as soon as the sub-tree has been explored.
+ * Between two sub-problems, the worker's solver is reset but the model is kept,
+ * and so are the stop criteria declared on the model.
+ * When dealing with an optimization problem, the best solution is shared among workers without locking
+ * and each worker applies it before opening a node.
+ * </p>
+ * <p>
+ * The decomposition and each worker run on copies of the given model, see {@link Model#copy()}.
+ * The given model is neither modified nor solved.
+ * The search strategy declared on the model, if any, is used to solve each sub-problem,
+ * otherwise the default search is used.
+ * The stop criteria declared on the model are checked by each worker and hold for the whole resolution:
+ * a time limit (see {@link Solver#limitTime(String)}) is a deadline counted from the beginning of the resolution,
+ * the other counters (e.g., {@link Solver#limitNode(long)} or {@link Solver#limitFail(long)}) are summed over
+ * the workers and the sub-problems, and other criteria are checked on each sub-problem.
+ * As soon as one of them is met, the whole resolution stops.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(model, 16);
+ * long nbSolutions = eps.findAllSolutions(null);
+ * </code>
+ * </pre>
+ * </p>
+ * <p>
+ * Reference: "Embarrassingly Parallel Search", J.-C. Régin, M. Rezgui and A. Malapert, CP'13.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class EmbarrassinglyParallelSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The model to copy, never solved
+     */
+    private final Model model;
+
+    /**
+     * Number of threads to use
+     */
+    private final int parallelism;
+
+    /**
+     * Selects the variables to decompose the problem on.
+     */
+    private Function<Model, IntVar[]> decisionVariables = EmbarrassinglyParallelSearch::searchVariables;
+
+    /**
+     * Expected number of sub-problems per thread
+     */
+    private int nbSubProblemsPerWorker = 30;
+
+    /**
+     * Idle workers, at most one per thread
+     */
+    private final ConcurrentLinkedQueue<Worker> workers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The best solution found so far, shared among the workers
+     */
+    private PortfolioIncumbent incumbent;
+
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+    private final LongAdder nbSolutions = new LongAdder();
+
+    private final LongAdder nbSolvedSubProblems = new LongAdder();
+
+    private int nbSubProblems;
+
+    private boolean complete;
+
+    private long decompositionTime;
+
+    /**
+     * Time, in nanoseconds, when the current resolution started
+     */
+    private long start;
+
+    /**
+     * For each stop criterion declared on the model which counts something, the sum over the workers
+     */
+    private LongAdder[] totals;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new embarrassingly parallel search.
+     *
+     * @param model       the model to solve, which must be copyable (see {@link Model#copy()})
+     * @param parallelism number of threads to use
+     * @throws SolverException if <i>parallelism</i> is not strictly positive
+     */
+    public EmbarrassinglyParallelSearch(Model model, int parallelism) {
+        if (parallelism < 1) {
+            throw new SolverException("The parallelism of an EmbarrassinglyParallelSearch must be strictly positive.");
+        }
+        this.model = Objects.requireNonNull(model);
+        this.parallelism = parallelism;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Sets the variables to decompose the problem on, in order.
+     * By default, the integer variables of the search strategy declared on the model are used,
+     * or all integer variables of the model if none has been declared.
+     *
+     * @param decisionVariables selects, in a model, the variables to decompose the problem on
+     * @return this
+     */
+    public EmbarrassinglyParallelSearch setDecisionVariables(Function<Model, IntVar[]> decisionVariables) {
+        this.decisionVariables = Objects.requireNonNull(decisionVariables);
+        return this;
+    }
+
+    /**
+     * Sets the expected number of sub-problems per thread.
+     * A large number of sub-problems balances the load between workers,
+     * at the expense of a longer decomposition.
+     *
+     * @param nbSubProblemsPerWorker expected number of sub-problems per thread (30 by default)
+     * @return this
+     */
+    public EmbarrassinglyParallelSearch setNbSubProblemsPerWorker(int nbSubProblemsPerWorker) {
+        if (nbSubProblemsPerWorker < 1) {
+            throw new SolverException("The number of sub-problems per worker must be strictly positive.");
+        }
+        this.nbSubProblemsPerWorker = nbSubProblemsPerWorker;
+        return this;
+    }
+
+    /**
+     * Stops eagerly the current resolution.
+     * Can be called from any thread.
+     */
+    public void stop() {
+        terminated.set(true);
+    }
+
+    /**
+     * Attempts to find a solution of the declared satisfaction problem.
+     *
+     * @return a solution, or <i>null</i> if the problem has no solution or if the resolution has been stopped
+     */
+    public Solution findSolution() {
+        run(ResolutionPolicy.SATISFACTION, null, true);
+        return incumbent.getSolution();
+    }
+
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem.
+     * <p>
+     * The <i>listener</i>, if not <i>null</i>, is called on each solution, concurrently by the worker threads,
+     * and must be thread-safe.
+     * </p>
+     *
+     * @param listener called on each solution, can be <i>null</i>
+     * @return the number of solutions found
+     */
+    public long findAllSolutions(Consumer<Solution> listener) {
+        run(ResolutionPolicy.SATISFACTION, listener, false);
+        return nbSolutions.sum();
+    }
+
+    /**
+     * Attempts to find the optimal solution of the declared optimization problem.
+     * The objective is the one declared on the model with {@link Model#setObjective(boolean, Variable)}.
+     * Call {@link #isComplete()} to know whether optimality has been proven.
+     *
+     * @return the best solution found, or <i>null</i> if the problem has no solution or if the resolution has been
+     * stopped before any solution was found
+     */
+    public Solution findOptimalSolution() {
+        run(null, null, false);
+        return incumbent.getSolution();
+    }
+
+    /**
+     * @return the number of sub-problems built by the last decomposition
+     */
+    public int getNbSubProblems() {
+        return nbSubProblems;
+    }
+
+    /**
+     * @return the number of sub-problems fully explored during the last resolution
+     */
+    public long getNbSolvedSubProblems() {
+        return nbSolvedSubProblems.sum();
+    }
+
+    /**
+     * @return the time, in nanoseconds, spent in the last decomposition
+     */
+    public long getDecompositionTime() {
+        return decompositionTime;
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution explored all sub-problems,
+     * that is, all solutions have been found or the best one has been proven optimal
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private void run(ResolutionPolicy expected, Consumer<Solution> listener, boolean firstOnly) {
+        start = System.nanoTime();
+        terminated.set(false);
+        nbSolutions.reset();
+        nbSolvedSubProblems.reset();
+        incumbent = new PortfolioIncumbent();
+        workers.clear();
+        Model master = model.copy();
+        totals = new LongAdder[master.getSolver().getStopCriteria().size()];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = new LongAdder();
+        }
+        ResolutionPolicy policy = master.getResolutionPolicy();
+        if (expected != null && policy != expected) {
+            throw new SolverException("The model built is expected to be a " + expected + " problem.");
+        } else if (expected == null && policy == ResolutionPolicy.SATISFACTION) {
+            throw new SolverException("No objective has been defined");
+        }
+        long time = System.nanoTime();
+        List<int[]> units = decompose(master);
+        decompositionTime = System.nanoTime() - time;
+        nbSubProblems = units.size();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, units.size()).parallel()
+                    .forEach(i -> solve(units.get(i), listener, firstOnly))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("The embarrassingly parallel search has been interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException(e.getCause().getMessage());
+        } finally {
+            pool.shutdownNow();
+            workers.clear();
+        }
+        complete = nbSolvedSubProblems.sum() == nbSubProblems;
+    }
+
+    /**
+     * Splits the problem into consistent sub-problems, breadth-first, until there are enough of them.
+     * A sub-problem is encoded as a sequence of (index of the variable, value) pairs.
+     */
+    private List<int[]> decompose(Model master) {
+        IntVar[] vars = decisionVariables.apply(master);
+        Solver solver = master.getSolver();
+        int target = parallelism * nbSubProblemsPerWorker;
+        List<int[]> units = new ArrayList<>();
+        int root = master.getEnvironment().getWorldIndex();
+        master.getEnvironment().worldPush();
+        try {
+            solver.propagate();
+        } catch (ContradictionException e) {
+            master.getEnvironment().worldPopUntil(root);
+            return units;
+        }
+        units.add(new int[0]);
+        boolean split = true;
+        while (split && units.size() < target) {
+            split = false;
+            List<int[]> next = new ArrayList<>(units.size() * 2);
+            for (int[] unit : units) {
+                int level = master.getEnvironment().getWorldIndex();
+                master.getEnvironment().worldPush();
+                try {
+                    for (int j = 0; j < unit.length; j += 2) {
+                        vars[unit[j]].instantiateTo(unit[j + 1], Cause.Null);
+                    }
+                    solver.propagate();
+                    int i = unit.length == 0 ? 0 : unit[unit.length - 2] + 1;
+                    while (i < vars.length && vars[i].isInstantiated()) {
+                        i++;
+                    }
+                    if (i == vars.length) {
+                        next.add(unit);
+                    } else {
+                        split = true;
+                        DisposableValueIterator it = vars[i].getValueIterator(true);
+                        while (it.hasNext()) {
+                            int value = it.next();
+                            master.getEnvironment().worldPush();
+                            try {
+                                vars[i].instantiateTo(value, Cause.Null);
+                                solver.propagate();
+                                int[] child = Arrays.copyOf(unit, unit.length + 2);
+                                child[unit.length] = i;
+                                child[unit.length + 1] = value;
+                                next.add(child);
+                            } catch (ContradictionException ignored) {
+                                // this assignment is inconsistent, no sub-problem is created
+                            }
+                            master.getEnvironment().worldPop();
+                        }
+                        it.dispose();
+                    }
+                } catch (ContradictionException e) {
+                    throw new SolverException("A sub-problem which was consistent is now inconsistent.");
+                }
+                master.getEnvironment().worldPopUntil(level);
+            }
+            units = next;
+        }
+        master.getEnvironment().worldPopUntil(root);
+        return units;
+    }
+
+    private void solve(int[] unit, Consumer<Solution> listener, boolean firstOnly) {
+        if (terminated.get()) {
+            return;
+        }
+        Worker worker = workers.poll();
+        if (worker == null) {
+            // the model is only read, so it can be copied by several threads
+            worker = new Worker(model.copy(), listener, firstOnly);
+        }
+        try {
+            if (worker.solve(unit)) {
+                nbSolvedSubProblems.increment();
+            }
+        } finally {
+            workers.offer(worker);
+        }
+    }
+
+    static IntVar[] searchVariables(Model model) {
+        AbstractStrategy<Variable> search = model.getSolver().getSearch();
+        if (search == null) {
+            return model.retrieveIntVars(true);
+        }
+        return Arrays.stream(search.getVariables())
+                .filter(v -> (v.getTypeAndKind() & Variable.KIND) == Variable.INT
+                        || (v.getTypeAndKind() & Variable.KIND) == Variable.BOOL)
+                .distinct()
+                .toArray(IntVar[]::new);
+    }
+
+    /**
+     * A model, owned by one thread at a time, which solves sub-problems one after the other.
+     */
+    private final class Worker {
+
+        private final Model model;
+
+        private final IntVar[] vars;
+
+        private final AbstractStrategy<?> search;
+
+        private final boolean optimization;
+
+        /**
+         * Stop criteria declared on the model, made global to the resolution, before its solver is reset
+         */
+        private final Criterion[] limits;
+
+        /**
+         * Last value of each counter declared on the model, in the current sub-problem
+         */
+        private final long[] last;
+
+        Worker(Model model, Consumer<Solution> listener, boolean firstOnly) {
+            this.model = model;
+            this.vars = decisionVariables.apply(model);
+            Solver solver = model.getSolver();
+            if (solver.getSearch() == null) {
+                Search.defaultSearch(model);
+            }
+            this.search = solver.getSearch();
+            this.optimization = model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION;
+            List<Criterion> declared = solver.getStopCriteria();
+            this.limits = new Criterion[declared.size()];
+            this.last = new long[declared.size()];
+            for (int i = 0; i < limits.length; i++) {
+                limits[i] = global(i, declared.get(i));
+            }
+            solver.plugMonitor((IMonitorSolution) () -> {
+                nbSolutions.increment();
+                if (optimization) {
+                    incumbent.publish(model, true);
+                } else if (firstOnly) {
+                    incumbent.publish(model, true);
+                    terminated.set(true);
+                } else if (listener != null) {
+                    listener.accept(new Solution(model).record());
+                }
+            });
+            if (optimization) {
+                solver.plugMonitor(incumbent.pollerOf(model));
+            }
+        }
+
+        /**
+         * Turn the <i>i</i>-th stop criterion declared on the model into a criterion over the whole resolution.
+         */
+        private Criterion global(int i, Criterion criterion) {
+            if (criterion instanceof TimeCounter) {
+                long limit = ((TimeCounter) criterion).getLimitValue();
+                return () -> System.nanoTime() - start >= limit;
+            } else if (criterion instanceof ACounter) {
+                ACounter counter = (ACounter) criterion;
+                return () -> {
+                    long value = counter.currentValue();
+                    totals[i].add(value - last[i]);
+                    last[i] = value;
+                    return totals[i].sum() >= counter.getLimitValue();
+                };
+            }
+            return criterion;
+        }
+
+        /**
+         * Solves a sub-problem.
+         *
+         * @return <i>true</i> if the sub-problem has been fully explored
+         */
+        boolean solve(int[] unit) {
+            Solver solver = model.getSolver();
+            solver.reset();
+            // the counters start again from 0
+            Arrays.fill(last, 0L);
+            solver.addStopCriterion(limits);
+            solver.addStopCriterion(terminated::get);
+            int[] indices = new int[unit.length / 2];
+            int[] values = new int[unit.length / 2];
+            for (int j = 0; j < unit.length; j += 2) {
+                indices[j / 2] = unit[j];
+                values[j / 2] = unit[j + 1];
+            }
+            solver.setSearch(Search.greedySearch(new SubProblem(vars, indices, values)), search);
+            if (optimization) {
+                incumbent.pull(model);
+            }
+            //noinspection StatementWithEmptyBody
+            while (solver.solve()) ;
+            if (solver.getSearchState() == SearchState.STOPPED) {
+                // a stop criterion of the model is met, which stops the whole resolution
+                terminated.set(true);
+                return false;
+            }
+            return solver.getSearchState() == SearchState.TERMINATED;
+        }
+    }
+
+    /**
+     * States a sub-problem as a sequence of decisions.
+     * Once wrapped in a greedy search, the decisions cannot be refuted.
+     */
+    private static final class SubProblem extends AbstractStrategy<IntVar> {
+
+        private final IntVar[] scope;
+
+        private final int[] values;
+
+        SubProblem(IntVar[] vars, int[] indices, int[] values) {
+            super(vars);
+            this.scope = new IntVar[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                this.scope[i] = vars[indices[i]];
+            }
+            this.values = values;
+        }
+
+        @Override
+        public Decision<IntVar> getDecision() {
+            for (int i = 0; i < scope.length; i++) {
+                // a variable instantiated to another value is decided anyway, which leads to a failure
+                if (!scope[i].isInstantiatedTo(values[i])) {
+                    return makeIntDecision(scope[i], values[i]);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
 import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.variables.*;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.chocosolver.util.tools.VariableUtils;
@@ -310,6 +311,51 @@ public class Model implements IModel {
         return solver;
     }
 
+    /**
+     * <p>
+     * Creates a copy of this model, which is independent of it and can be solved by another thread.
+     * The modelling code is not run again: each variable, constraint and search component builds its own copy
+     * on the copy of the objects it depends on (see {@link CopyMap}).
+     * Variables are copied with their current domain, and keep their id.
+     * The objective, the search strategy, the stop criteria and the cached constants are copied too.
+     * Hooks referring to a variable, or to an array of variables, are copied, immutable hooks are shared,
+     * and the other ones are not copied.
+     * </p>
+     * <p>
+     * Only the following objects can be copied:
+     * <ul>
+     *     <li>integer and boolean variables (including the ones of LCG), constants, affine views and boolean views,</li>
+     *     <li>arithmetic, sum and scalar, all-different, table, element and regular constraints,
+     *     and any constraint or propagator which implements {@link Constraint#copy(CopyMap)}
+     *     or {@link Propagator#copy(CopyMap)},</li>
+     *     <li>search strategies made of {@link org.chocosolver.solver.search.strategy.strategy.IntStrategy}
+     *     with input order, first-fail, anti-first-fail, smallest or largest variable selection
+     *     and min, max or median value selection,</li>
+     *     <li>limits on the number of nodes, failures, solutions, backtracks and restarts, and on the time.</li>
+     * </ul>
+     * Any other object (in particular real, set and graph variables) makes the copy fail.
+     * Search monitors, restarts and moves are not copied either:
+     * they should be declared on the copy instead, once it is created.
+     * </p>
+     * <p>
+     * The time spent in copying is reported by {@link Solver#getCopyTimeCount()} on the copy.
+     * </p>
+     *
+     * @return a copy of this model
+     * @throws SolverException if this model is being solved, or if it references an object which cannot be copied
+     */
+    public Model copy() {
+        if (solver.getSearchState() != SearchState.NEW) {
+            throw new SolverException("A model can only be copied before being solved (or after a call to Solver#reset())");
+        }
+        long start = System.nanoTime();
+        Model copy = ModelCopier.copy(this);
+        copy.id = id;
+        copy.nameId = nameId;
+        copy.getSolver().getMeasures().setCopyTimeCount(System.nanoTime() - start);
+        return copy;
+    }
+
     /**
      * Returns the array of <code>Variable</code> objects declared in this <code>Model</code>.
      *
@@ -481,6 +527,16 @@ public class Model implements IModel {
         return Arrays.copyOf(cstrs, cIdx);
     }
 
+    /**
+     * Returns the <i>idx</i>-th constraint posted in this <code>Model</code>, without copying the array of constraints.
+     *
+     * @param idx index of the constraint, in [0, {@link #getNbCstrs()})
+     * @return the <i>idx</i>-th posted constraint
+     */
+    Constraint getCstr(int idx) {
+        return cstrs[idx];
+    }
+
     /**
      * Return the number of constraints posted in <code>this</code>.
      *
@@ -918,6 +974,16 @@ public class Model implements IModel {
         return id++;
     }
 
+    /**
+     * Sets the id of the next variable or propagator, so that a copy keeps the ids of the original objects.
+     *
+     * @param id the next id to use
+     * @see CopyMap
+     */
+    void setNextId(int id) {
+        this.id = id;
+    }
+
     /**
      * Get a free single-use name id to identify a variable created internally.
      * Should not be called by the user.
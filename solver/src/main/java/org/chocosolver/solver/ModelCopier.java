@@ -0,0 +1,106 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
+import org.chocosolver.solver.search.restart.AbstractRestart;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * <p>
+ * Copy of a {@link Model}, see {@link Model#copy()}.
+ * </p>
+ * <p>
+ * The copy is declared on a new model, with the same name, settings and seed,
+ * by asking each object for its own copy through a {@link CopyMap}, so that no modelling code is run again:
+ * the variables first, in the order they were declared, then the constraints, which are posted in the same order,
+ * the cached constants, the objective, the search strategy, the stop criteria and the hooks.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+final class ModelCopier {
+
+    private ModelCopier() {
+    }
+
+    /**
+     * @param source the model to copy
+     * @return a copy of <i>source</i>
+     * @throws SolverException if an object of <i>source</i> cannot be copied
+     */
+    static Model copy(Model source) {
+        Solver solver = source.getSolver();
+        // when the default search has been set by a previous resolution, the copy will set its own
+        boolean declaredSearch = !solver.isDefaultSearchUsed();
+        if (declaredSearch && (!solver.getSearchMonitors().isEmpty()
+                || solver.getRestarter() != AbstractRestart.NO_RESTART
+                || solver.getMove().getClass() != MoveBinaryDFS.class)) {
+            throw new SolverException("Search monitors, restarts and moves are not copied, " +
+                    "they should be declared on the copy instead");
+        }
+        Model target = new Model(source.getName(), source.getSettings());
+        target.setSeed(source.getSeed());
+        CopyMap map = new CopyMap(target, source.getNbVars());
+        for (Variable var : source.getVars()) {
+            map.get(var);
+        }
+        for (Constraint cstr : source.getCstrs()) {
+            map.get(cstr).post();
+        }
+        source.getCachedConstants().forEachEntry((value, cste) -> {
+            target.getCachedConstants().put(value, map.get(cste));
+            return true;
+        });
+        if (source.getObjective() != null) {
+            target.setObjective(source.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE,
+                    map.get(source.getObjective()));
+        }
+        if (declaredSearch) {
+            AbstractStrategy<Variable> search = solver.getSearch();
+            if (search != null) {
+                target.getSolver().setSearch(map.get(search));
+            }
+        }
+        for (Criterion criterion : solver.getStopCriteria()) {
+            target.getSolver().addStopCriterion(map.get(criterion));
+        }
+        copyHooks(source, map);
+        return target;
+    }
+
+    /**
+     * Copies the hooks made of variables, or of arrays of variables, and shares the immutable ones.
+     * Any other hook, like the instance of Ibex or the declared constraints, belongs to the model it is attached to.
+     */
+    private static void copyHooks(Model source, CopyMap map) {
+        for (Map.Entry<String, Object> hook : source.getHooks().entrySet()) {
+            Object value = hook.getValue();
+            if (value instanceof Variable) {
+                map.getModel().addHook(hook.getKey(), map.get((Variable) value));
+            } else if (value instanceof Variable[]) {
+                Variable[] vars = (Variable[]) value;
+                // keeps the type of the array
+                Variable[] copies = Arrays.copyOf(vars, vars.length);
+                for (int i = 0; i < vars.length; i++) {
+                    copies[i] = vars[i] == null ? null : map.get(vars[i]);
+                }
+                map.getModel().addHook(hook.getKey(), copies);
+            } else if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+                map.getModel().addHook(hook.getKey(), value);
+            }
+        }
+    }
+}
@@ -0,0 +1,524 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.bandit.Policy;
+import org.chocosolver.util.bandit.UCB1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Parallel Large Neighborhood Search (LNS).
+ * </p>
+ * <p>
+ * Each thread owns a model, built by the given modeller, and runs many short LNS dives:
+ *      <ol>
+ *          <li>first, each worker runs a complete search until a first solution is known by any of them,</li>
+ *          <li>then, each worker repeatedly relaxes the best solution known so far (the <i>incumbent</i>)
+ *          with one of its neighborhoods, and explores the fragment until a better solution is found or
+ *          until {@link #setFailLimit(long)} failures occur.</li>
+ *      </ol>
+ * </p>
+ * <p>
+ * The solutions are published to a shared incumbent without locking,
+ * and each worker applies the incumbent's bound before opening a node.
+ * Before a new dive, a worker adopts the incumbent found by another one as the basis of its neighborhoods.
+ * </p>
+ * <p>
+ * The neighborhood of each dive is chosen by a bandit {@link Policy} shared among workers:
+ * a dive is rewarded by 1 when it improves the incumbent, by 0 otherwise.
+ * Thus, the neighborhoods which pay off on the instance are played more often, whichever worker plays them.
+ * By default, each worker declares a random, a propagation-guided and a reversed propagation-guided neighborhood
+ * (see {@link INeighborFactory}) and the policy is {@link UCB1}.
+ * </p>
+ * <p>
+ * The models are built by the given modeller, which must always declare the same variables in the same order and
+ * the same objective.
+ * The search strategy declared by the modeller, if any, is used to complete the fragments,
+ * otherwise the default search is used.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelLargeNeighborhoodSearch lns = new ParallelLargeNeighborhoodSearch(() -> modeller(), 16);
+ * Solution best = lns.findBestSolution(60_000);
+ * </code>
+ * </pre>
+ * </p>
+ * <p>
+ * Reference: "Propagation Guided Large Neighborhood Search", L. Perron, P. Shaw and V. Furnon, CP'04.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class ParallelLargeNeighborhoodSearch {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Builds a new, populated, model on each call
+     */
+    private final Supplier<Model> modeller;
+
+    /**
+     * Number of threads to use
+     */
+    private final int parallelism;
+
+    /**
+     * Selects the variables to relax
+     */
+    private Function<Model, IntVar[]> decisionVariables = EmbarrassinglyParallelSearch::searchVariables;
+
+    /**
+     * Builds the neighborhoods of a worker, from a seed and the variables to relax
+     */
+    private final List<BiFunction<Long, IntVar[], ? extends INeighbor>> neighbors = new ArrayList<>();
+
+    /**
+     * Builds the policy which selects the neighborhood of each dive, from the number of neighborhoods
+     */
+    private IntFunction<Policy> policyFactory = UCB1::new;
+
+    /**
+     * Maximum number of failures of a dive
+     */
+    private long failLimit = 100;
+
+    private long seed = 0L;
+
+    /**
+     * The best solution found so far, shared among the workers
+     */
+    private PortfolioIncumbent incumbent;
+
+    /**
+     * The policy shared among the workers, guarded by itself
+     */
+    private Policy policy;
+
+    /**
+     * Number of dives started so far, guarded by {@link #policy}
+     */
+    private int step;
+
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+    private long deadline;
+
+    private final LongAdder nbSolutions = new LongAdder();
+
+    private LongAdder[] nbDives = new LongAdder[0];
+
+    private LongAdder[] nbImprovements = new LongAdder[0];
+
+    private boolean complete;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new parallel large neighborhood search.
+     *
+     * @param modeller    builds a new, populated, model on each call. Each model must declare the same variables in
+     *                    the same order and the same objective.
+     * @param parallelism number of threads to use
+     * @throws SolverException if <i>parallelism</i> is not strictly positive
+     */
+    public ParallelLargeNeighborhoodSearch(Supplier<Model> modeller, int parallelism) {
+        if (parallelism < 1) {
+            throw new SolverException("The parallelism of a ParallelLargeNeighborhoodSearch must be strictly positive.");
+        }
+        this.modeller = Objects.requireNonNull(modeller);
+        this.parallelism = parallelism;
+        this.neighbors.add(INeighborFactory::random);
+        this.neighbors.add(INeighborFactory::propagationGuided);
+        this.neighbors.add(INeighborFactory::reversedPropagationGuided);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Sets the variables to relax.
+     * By default, the integer variables of the search strategy declared by the modeller are used,
+     * or all integer variables of the model if none has been declared.
+     *
+     * @param decisionVariables selects, in a model, the variables to relax
+     * @return this
+     */
+    public ParallelLargeNeighborhoodSearch setDecisionVariables(Function<Model, IntVar[]> decisionVariables) {
+        this.decisionVariables = Objects.requireNonNull(decisionVariables);
+        return this;
+    }
+
+    /**
+     * Sets the neighborhoods each worker plays.
+     * A neighborhood is built from a seed, which differs from one worker to another, and the variables to relax,
+     * for instance <code>INeighborFactory::random</code>.
+     *
+     * @param neighbors builders of neighborhoods, each of them is an arm of the policy
+     * @return this
+     * @throws SolverException if no neighborhood is given
+     */
+    @SafeVarargs
+    public final ParallelLargeNeighborhoodSearch setNeighbors(BiFunction<Long, IntVar[], ? extends INeighbor>... neighbors) {
+        if (neighbors.length == 0) {
+            throw new SolverException("At least one neighborhood is expected.");
+        }
+        this.neighbors.clear();
+        for (BiFunction<Long, IntVar[], ? extends INeighbor> neighbor : neighbors) {
+            this.neighbors.add(Objects.requireNonNull(neighbor));
+        }
+        return this;
+    }
+
+    /**
+     * Sets the policy which selects the neighborhood of each dive (an instance of {@link UCB1} by default).
+     * The policy is shared among the workers, which never access it concurrently.
+     *
+     * @param policyFactory builds a policy from the number of neighborhoods,
+     *                      for instance <code>MOSS::new</code>
+     * @return this
+     */
+    public ParallelLargeNeighborhoodSearch setPolicy(IntFunction<Policy> policyFactory) {
+        this.policyFactory = Objects.requireNonNull(policyFactory);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of failures of a dive.
+     * Many short dives usually pay off more than a few long ones.
+     *
+     * @param failLimit maximum number of failures of a dive (100 by default)
+     * @return this
+     */
+    public ParallelLargeNeighborhoodSearch setFailLimit(long failLimit) {
+        if (failLimit < 1) {
+            throw new SolverException("The fail limit of a dive must be strictly positive.");
+        }
+        this.failLimit = failLimit;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the neighborhoods, the worker <i>i</i> uses <i>seed + i</i>.
+     *
+     * @param seed a seed (0 by default)
+     * @return this
+     */
+    public ParallelLargeNeighborhoodSearch setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Stops eagerly the current resolution.
+     * Can be called from any thread.
+     */
+    public void stop() {
+        terminated.set(true);
+    }
+
+    /**
+     * Attempts to find the best solution of the declared optimization problem within a time limit.
+     * The objective is the one declared by the modeller with {@link Model#setObjective(boolean, Variable)}.
+     * Since fragments are explored partially, optimality is not proven by the dives:
+     * call {@link #isComplete()} to know whether the problem has been proven infeasible.
+     *
+     * @param timeLimitInMs time limit, in milliseconds
+     * @return the best solution found, or <i>null</i> if the problem has no solution or if the resolution has been
+     * stopped before any solution was found
+     */
+    public Solution findBestSolution(long timeLimitInMs) {
+        terminated.set(false);
+        deadline = System.nanoTime() + timeLimitInMs * 1_000_000L;
+        nbSolutions.reset();
+        complete = false;
+        incumbent = new PortfolioIncumbent();
+        incumbent.setSharePhase(true);
+        int nbArms = neighbors.size();
+        policy = policyFactory.apply(nbArms);
+        policy.init();
+        step = 0;
+        nbDives = new LongAdder[nbArms];
+        nbImprovements = new LongAdder[nbArms];
+        for (int a = 0; a < nbArms; a++) {
+            nbDives[a] = new LongAdder();
+            nbImprovements[a] = new LongAdder();
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                long s = seed + i;
+                futures.add(executorService.submit(() -> new Worker(modeller.get(), s).solve()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("The parallel large neighborhood search has been interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException(e.getCause().getMessage());
+        } finally {
+            terminated.set(true);
+            executorService.shutdownNow();
+        }
+        return incumbent.getSolution();
+    }
+
+    /**
+     * @return the number of solutions found by all workers during the last resolution
+     */
+    public long getNbSolutions() {
+        return nbSolutions.sum();
+    }
+
+    /**
+     * @param neighbor index of a neighborhood, in the declaration order
+     * @return the number of dives started with this neighborhood during the last resolution
+     */
+    public long getNbDives(int neighbor) {
+        return nbDives[neighbor].sum();
+    }
+
+    /**
+     * @param neighbor index of a neighborhood, in the declaration order
+     * @return the number of dives made with this neighborhood which improved the incumbent during the last
+     * resolution
+     */
+    public long getNbImprovements(int neighbor) {
+        return nbImprovements[neighbor].sum();
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution proved that the problem has no solution
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private boolean isTerminated() {
+        if (!terminated.get() && System.nanoTime() - deadline >= 0) {
+            terminated.set(true);
+        }
+        return terminated.get();
+    }
+
+    /**
+     * @return the next neighborhood to play
+     */
+    private int select() {
+        synchronized (policy) {
+            return policy.nextAction(step++);
+        }
+    }
+
+    private void reward(int arm, boolean improved) {
+        if (improved) {
+            nbImprovements[arm].increment();
+        }
+        synchronized (policy) {
+            policy.update(arm, improved ? 1. : 0.);
+        }
+    }
+
+    /**
+     * A model, owned by one thread, which first looks for a solution, then dives from the incumbent.
+     */
+    private final class Worker {
+
+        private final Model model;
+
+        private final BanditNeighborhood neighbor;
+
+        Worker(Model model, long seed) {
+            if (model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+                throw new SolverException("No objective has been defined");
+            }
+            this.model = model;
+            IntVar[] vars = decisionVariables.apply(model);
+            INeighbor[] arms = new INeighbor[neighbors.size()];
+            for (int a = 0; a < arms.length; a++) {
+                arms[a] = neighbors.get(a).apply(seed, vars);
+            }
+            this.neighbor = new BanditNeighborhood(model, arms);
+            Solver solver = model.getSolver();
+            if (solver.getSearch() == null) {
+                Search.defaultSearch(model);
+            }
+            solver.plugMonitor((IMonitorSolution) () -> {
+                nbSolutions.increment();
+                neighbor.improved = incumbent.publish(model, true);
+            });
+            solver.plugMonitor(incumbent.pollerOf(model));
+        }
+
+        void solve() {
+            Solver solver = model.getSolver();
+            // looks for a first solution, unless another worker finds one
+            solver.addStopCriterion(() -> isTerminated() || incumbent.getFinder() != null);
+            if (!solver.solve() && incumbent.getFinder() == null) {
+                if (solver.getSearchState() == SearchState.TERMINATED) {
+                    complete = true;
+                    terminated.set(true);
+                }
+                return;
+            }
+            solver.reset();
+            solver.addStopCriterion(ParallelLargeNeighborhoodSearch.this::isTerminated);
+            solver.setLNS(neighbor, new FailCounter(model, failLimit), neighbor.adopt(incumbent.current()));
+            incumbent.pull(model);
+            //noinspection StatementWithEmptyBody
+            while (solver.solve()) ;
+        }
+    }
+
+    /**
+     * A composite neighborhood which selects the neighborhood of each dive with the shared policy,
+     * and which relaxes the incumbent, whoever found it.
+     */
+    private final class BanditNeighborhood implements INeighbor {
+
+        private final Model model;
+
+        private final INeighbor[] arms;
+
+        /**
+         * The arm played in the current dive, -1 if it has already been rewarded
+         */
+        private int pending = -1;
+
+        /**
+         * The last arm played
+         */
+        private int who;
+
+        /**
+         * Version of the last incumbent adopted
+         */
+        private long seen;
+
+        /**
+         * Set on solution, <i>true</i> if the solution is now the incumbent
+         */
+        private boolean improved;
+
+        BanditNeighborhood(Model model, INeighbor[] arms) {
+            this.model = model;
+            this.arms = arms;
+        }
+
+        /**
+         * Translates the incumbent into a solution of the worker's model.
+         *
+         * @param snapshot the incumbent
+         * @return a solution of the worker's model
+         */
+        Solution adopt(PortfolioIncumbent.Snapshot snapshot) {
+            seen = snapshot.version;
+            Solution solution = new Solution(model);
+            Variable[] vars = model.getVars();
+            for (int i = 0; i < vars.length && i < snapshot.values.length; i++) {
+                if (snapshot.recorded[i]) {
+                    solution.setIntVal((IntVar) vars[i], snapshot.values[i]);
+                }
+            }
+            return solution;
+        }
+
+        @Override
+        public void init() {
+            for (INeighbor arm : arms) {
+                arm.init();
+            }
+        }
+
+        @Override
+        public void recordSolution() {
+            if (pending >= 0) {
+                reward(pending, improved);
+                pending = -1;
+            }
+            if (!improved) {
+                // another worker found a better solution meanwhile, which is adopted on the next dive
+                seen = -1;
+            }
+            improved = false;
+            for (INeighbor arm : arms) {
+                arm.recordSolution();
+            }
+        }
+
+        @Override
+        public void fixSomeVariables() throws ContradictionException {
+            PortfolioIncumbent.Snapshot snapshot = incumbent.current();
+            if (snapshot.version != seen && snapshot.finder != model) {
+                loadFromSolution(adopt(snapshot));
+            }
+            seen = snapshot.version;
+            who = pending = select();
+            // a dive is counted when it starts, since the last one may be interrupted before being rewarded
+            nbDives[who].increment();
+            arms[who].fixSomeVariables();
+        }
+
+        @Override
+        public void restrictLess() {
+            if (pending >= 0) {
+                reward(pending, false);
+                pending = -1;
+            }
+            arms[who].restrictLess();
+        }
+
+        @Override
+        public void loadFromSolution(Solution solution) {
+            for (INeighbor arm : arms) {
+                arm.loadFromSolution(solution);
+            }
+        }
+    }
+}
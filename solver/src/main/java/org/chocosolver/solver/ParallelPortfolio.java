@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.sat.ClauseExchange;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
 import org.chocosolver.solver.constraints.real.RealConstraint;
@@ -13,6 +14,7 @@ import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
+import org.chocosolver.solver.search.measure.MeasuresSnapshot;
 import org.chocosolver.solver.search.strategy.BlackBoxConfigurator;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.SearchParams;
@@ -61,6 +63,8 @@ import java.util.stream.StreamSupport;
  *     the other ones are eagerly stopped.
  *     Moreover, when dealing with an optimization problem, cut on the objective variable's value is propagated
  *     to all models on solution.
+ *     Solutions are published without locking into a shared incumbent, which each model polls before
+ *     opening a node: the cut is then applied by the receiving model itself, on its own thread.
  *     It is essential to eagerly declare the objective variable(s) with {@link Model#setObjective(boolean, Variable)}.
  *
  * </p>
@@ -115,6 +119,11 @@ public class ParallelPortfolio {
      */
     private NogoodStealer manager = NogoodStealer.NONE;
 
+    /**
+     * Exchange of learnt clauses between LCG workers, <i>null</i> if disabled.
+     */
+    private ClauseExchange exchange = null;
+
     /**
      * Stores whether or not prepare() method has been called
      */
@@ -136,9 +145,10 @@ public class ParallelPortfolio {
     private final AtomicInteger solverRunning = new AtomicInteger(0);
 
     /**
-     * Point to (one of) the solver(s) which found a solution
+     * The best solution found so far, shared among the models.
+     * Also points to (one of) the solver(s) which found it.
      */
-    private Model finder;
+    private final PortfolioIncumbent incumbent = new PortfolioIncumbent();
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
@@ -185,6 +195,56 @@ public class ParallelPortfolio {
         this.manager = new NogoodStealer();
     }
 
+    /**
+     * Calling this method will ensure that, on solution, the values of the incumbent are shared among workers.
+     * Each worker then loads them into its {@link Solver#defaultSolution()}, on which solution-guided
+     * value selectors (a.k.a. phase saving, see
+     * {@link org.chocosolver.solver.search.strategy.selectors.values.IntDomainLast}) rely.
+     * Workers whose search heuristics is configured automatically use such a value selector.
+     *
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, each variable has
+     * the same position in each worker).
+     */
+    public void shareSolutionPhase() {
+        this.incumbent.setSharePhase(true);
+    }
+
+    /**
+     * Calling this method will ensure that the workers running with lazy clause generation
+     * (see {@link Settings#isLCG()}) share their short learnt clauses.
+     * A clause is exported by a reliable worker when it is learnt,
+     * it is imported by the other workers on their next restart.
+     * Only clauses over literals known by the importing worker are imported.
+     * <p>
+     * This is equivalent to {@code shareLearntClauses(8, 4)}.
+     *
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, they have the same solutions).
+     * The variables of the workers running with lazy clause generation are checked to be the same
+     * (same IDs, names and kinds), which is the case of models obtained with {@link Model#copy()}.
+     * @see #shareLearntClauses(int, int)
+     */
+    public void shareLearntClauses() {
+        shareLearntClauses(8, 4);
+    }
+
+    /**
+     * Calling this method will ensure that the workers running with lazy clause generation
+     * (see {@link Settings#isLCG()}) share their short learnt clauses.
+     * A clause is exported by a reliable worker when it is learnt,
+     * if its size is less than or equal to <i>maxSize</i> and its LBD is less than or equal to <i>maxLBD</i>.
+     * It is imported by the other workers on their next restart.
+     * Only clauses over literals known by the importing worker are imported.
+     *
+     * @param maxSize largest size of a shared clause
+     * @param maxLBD  largest literals block distance of a shared clause
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, they have the same solutions).
+     * The variables of the workers running with lazy clause generation are checked to be the same
+     * (same IDs, names and kinds), which is the case of models obtained with {@link Model#copy()}.
+     */
+    public void shareLearntClauses(int maxSize, int maxLBD) {
+        this.exchange = new ClauseExchange(1 << 14, maxSize, maxLBD);
+    }
+
     /**
      * <p>
      * Adds a model to the list of models to run in parallel.
@@ -264,9 +324,9 @@ public class ParallelPortfolio {
      * @throws SolverException if no model or only model has been added.
      */
     public boolean solve() {
-        getSolverTerminated().set(false);
-        getSolutionFound().set(false);
-        getSolverRunning().set(models.size());
+        solverTerminated.set(false);
+        solutionFound.set(false);
+        solverRunning.set(models.size());
         if (!isPrepared) {
             prepare();
         }
@@ -274,16 +334,16 @@ public class ParallelPortfolio {
         try {
             // run the solve() method of each model in parallel
             executorService.submit(() -> models.parallelStream().forEach(m -> {
-                if (!getSolverTerminated().get()) {
+                if (!solverTerminated.get()) {
                     boolean so = m.getSolver().solve();
                     // if a solution is found, update the best model
-                    if (!so || finder == m) {
-                        getSolverTerminated().set(so || reliableness.get(m) || getSolverRunning().decrementAndGet() <= 0);
+                    if (!so || getBestModel() == m) {
+                        solverTerminated.set(so || reliableness.get(m) || solverRunning.decrementAndGet() <= 0);
                     }
                 }
             })).get();
         } catch (InterruptedException | ExecutionException | SolverException e) {
-            getSolverRunning().decrementAndGet();
+            solverRunning.decrementAndGet();
             //If an InvalidSolutionException occurs and at least one model is not reliable
             // the exception may come from this model and should be ignored
             if (e.getCause() instanceof InvalidSolutionException) {
@@ -296,8 +356,8 @@ public class ParallelPortfolio {
             }
         }
         executorService.shutdownNow();
-        getSolverTerminated().set(false);// otherwise, solver.isStopCriterionMet() always returns true
-        if (getSolutionFound().get() && models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+        solverTerminated.set(false);// otherwise, solver.isStopCriterionMet() always returns true
+        if (solutionFound.get() && models.get(0).getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
             int bestAll = getBestModel().getSolver().getBestSolutionValue().intValue();
             for (Model m : models) {
                 int mVal = m.getSolver().getBestSolutionValue().intValue();
@@ -308,7 +368,7 @@ public class ParallelPortfolio {
                 } else assert m.getResolutionPolicy() != ResolutionPolicy.MINIMIZE || mVal >= bestAll || m.getSolver().isLCG() : mVal + " < " + bestAll;
             }
         }
-        return getSolutionFound().get();
+        return solutionFound.get();
     }
 
     /**
@@ -327,7 +387,45 @@ public class ParallelPortfolio {
      * @return the first model which finds a solution (or the best one) or <tt>null</tt> if no such model exists.
      */
     public Model getBestModel() {
-        return finder;
+        return incumbent.getFinder();
+    }
+
+    /**
+     * @return the number of times a model has polled an incumbent found by another model
+     */
+    public long getCutsReceived() {
+        return incumbent.getCutsReceived();
+    }
+
+    /**
+     * @return the number of received incumbents which actually improved the bound of the receiving model
+     */
+    public long getCutsApplied() {
+        return incumbent.getCutsApplied();
+    }
+
+    /**
+     * @return the number of learnt clauses exported by the workers
+     * @see #shareLearntClauses()
+     */
+    public long getClausesExported() {
+        return exchange == null ? 0L : exchange.getExported();
+    }
+
+    /**
+     * @return the number of learnt clauses imported by the workers
+     * @see #shareLearntClauses()
+     */
+    public long getClausesImported() {
+        return exchange == null ? 0L : exchange.getImported();
+    }
+
+    /**
+     * @return the number of imported clauses which took part in a conflict analysis of the importing worker
+     * @see #shareLearntClauses()
+     */
+    public long getClausesUseful() {
+        return exchange == null ? 0L : exchange.getUseful();
     }
 
     /**
@@ -337,6 +435,21 @@ public class ParallelPortfolio {
         return models;
     }
 
+    /**
+     * Return the last snapshot of the measures of each model, in the order of {@link #getModels()}.
+     * This method can be called from any thread, in particular while the portfolio is solving,
+     * see {@link org.chocosolver.solver.search.measure.MeasuresRecorder#getSnapshot()}.
+     *
+     * @return the last snapshot of the measures of each model
+     */
+    public MeasuresSnapshot[] getMeasuresSnapshots() {
+        MeasuresSnapshot[] snapshots = new MeasuresSnapshot[models.size()];
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = models.get(i).getSolver().getMeasures().getSnapshot();
+        }
+        return snapshots;
+    }
+
     /**
      * Attempts to find all solutions of the declared problem.
      * <ul>
@@ -400,18 +513,22 @@ public class ParallelPortfolio {
         for (int i = 0; i < models.size(); i++) {
             Model model = models.get(i);
             Solver solver = model.getSolver();
-            solver.addStopCriterion(() -> getSolverTerminated().get());
+            solver.addStopCriterion(solverTerminated::get);
             solver.plugMonitor((IMonitorSolution) () -> updateFromSolution(solver.getModel()));
+            solver.plugMonitor(incumbent.pollerOf(model));
+            if (exchange != null && solver.isLCG()) {
+                exchange.connect(solver.getSat(), reliableness.get(model));
+            }
             if (!unalterable.get(model)) {
                 configureModel(model, searchID++);
             }
         }
     }
 
-    private synchronized void updateFromSolution(Model m) {
+    private void updateFromSolution(Model m) {
         if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
-            finder = m;
-            getSolutionFound().set(true);
+            incumbent.publish(m, false);
+            solutionFound.set(true);
         } else {
             int solverVal = ((IntVar) m.getObjective()).getValue();
             int bestVal = m.getSolver().getObjectiveManager().getBestSolutionValue().intValue();
@@ -421,9 +538,9 @@ public class ParallelPortfolio {
                 assert
                         m.getResolutionPolicy() != ResolutionPolicy.MINIMIZE || solverVal >= bestVal : solverVal + "<" + bestVal;
             if (solverVal == bestVal) {
-                getSolutionFound().set(true);
-                finder = m;
-                models.forEach(s1 -> s1.getSolver().onReceivingExternalCut(bestVal));
+                // the other models will pick the cut up before opening their next node
+                incumbent.publish(m, false);
+                solutionFound.set(true);
             }
         }
     }
@@ -577,17 +694,43 @@ public class ParallelPortfolio {
                 }
             }
         }
+        if (exchange != null) {
+            checkSharedVariables();
+        }
     }
 
-    private synchronized AtomicBoolean getSolverTerminated() {
-        return solverTerminated;
-    }
-
-    private synchronized AtomicBoolean getSolutionFound() {
-        return solutionFound;
+    /**
+     * Learnt clauses are exchanged over the IDs of the CP variables,
+     * so the models which share them must declare the same variables.
+     */
+    private void checkSharedVariables() {
+        Model reference = null;
+        for (Model model : models) {
+            if (!model.getSolver().isLCG()) {
+                continue;
+            }
+            if (reference == null) {
+                reference = model;
+            } else if (!sameVariables(reference, model)) {
+                throw new SolverException("Learnt clauses can only be shared between models with the same variables, "
+                        + "but " + model.getName() + " differs from " + reference.getName()
+                        + ". Use Model#copy() to create the models of the portfolio.");
+            }
+        }
     }
 
-    private synchronized AtomicInteger getSolverRunning() {
-        return solverRunning;
+    private static boolean sameVariables(Model m1, Model m2) {
+        if (m1.getNbVars() != m2.getNbVars()) {
+            return false;
+        }
+        for (int i = 0; i < m1.getNbVars(); i++) {
+            Variable v1 = m1.getVar(i);
+            Variable v2 = m2.getVar(i);
+            if (v1.getId() != v2.getId() || v1.getTypeAndKind() != v2.getTypeAndKind()
+                    || !v1.getName().equals(v2.getName())) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,237 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * The best solution known by the workers of a {@link ParallelPortfolio}, of an {@link EmbarrassinglyParallelSearch}
+ * or of a {@link ParallelLargeNeighborhoodSearch}.
+ * </p>
+ * <p>
+ * A worker publishes its solutions with a compare-and-set on an immutable snapshot,
+ * so that no lock is taken on the solution path.
+ * The other workers never get their bound written from a foreign thread:
+ * each of them polls the snapshot before opening a node (a single volatile read)
+ * and applies the cut itself, on its own thread, when the incumbent is better than its local bound.
+ * </p>
+ * <p>
+ * When phase sharing is enabled, the values of the incumbent are also copied into the
+ * {@link Solver#defaultSolution()} of the polling worker, so that a solution-guided value selector
+ * (see {@link org.chocosolver.solver.search.strategy.selectors.values.IntDomainLast})
+ * steers the worker toward the incumbent.
+ * This assumes that all models are equivalent (ie, each variable has the same position in each worker).
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+final class PortfolioIncumbent {
+
+    /**
+     * An immutable view of the incumbent.
+     */
+    static final class Snapshot {
+        /**
+         * Incremented on each publication, used by the workers to detect a new incumbent
+         */
+        final long version;
+        /**
+         * The model which found the incumbent, <i>null</i> before the first publication
+         */
+        final Model finder;
+        /**
+         * The objective value of the incumbent (meaningless for satisfaction problems)
+         */
+        final int objective;
+        /**
+         * Values of the integer variables of the finder, by position in {@link Model#getVars()},
+         * or <i>null</i> if phase sharing is disabled
+         */
+        final int[] values;
+        /**
+         * Whether the variable at a given position was instantiated (and thus recorded) in the incumbent
+         */
+        final boolean[] recorded;
+        /**
+         * The incumbent, when recorded on publication, <i>null</i> otherwise
+         */
+        final Solution solution;
+
+        Snapshot(long version, Model finder, int objective, int[] values, boolean[] recorded, Solution solution) {
+            this.version = version;
+            this.finder = finder;
+            this.objective = objective;
+            this.values = values;
+            this.recorded = recorded;
+            this.solution = solution;
+        }
+    }
+
+    private static final Snapshot NONE = new Snapshot(0L, null, 0, null, null, null);
+
+    private final AtomicReference<Snapshot> incumbent = new AtomicReference<>(NONE);
+
+    /**
+     * Set to <i>true</i> to record and share the values of the incumbent
+     */
+    private volatile boolean sharePhase;
+
+    /**
+     * Number of incumbents polled by a worker which did not find it
+     */
+    private final LongAdder cutsReceived = new LongAdder();
+
+    /**
+     * Number of received incumbents which actually improved the bound of the receiving worker
+     */
+    private final LongAdder cutsApplied = new LongAdder();
+
+    void setSharePhase(boolean sharePhase) {
+        this.sharePhase = sharePhase;
+    }
+
+    /**
+     * @return the model which found the incumbent, or <i>null</i> if no solution has been published yet
+     */
+    Model getFinder() {
+        return incumbent.get().finder;
+    }
+
+    /**
+     * @return the incumbent, or <i>null</i> if no solution has been published yet or if it was not recorded
+     */
+    Solution getSolution() {
+        return incumbent.get().solution;
+    }
+
+    /**
+     * @return the current view of the incumbent
+     */
+    Snapshot current() {
+        return incumbent.get();
+    }
+
+    long getCutsReceived() {
+        return cutsReceived.sum();
+    }
+
+    long getCutsApplied() {
+        return cutsApplied.sum();
+    }
+
+    /**
+     * Publishes the current solution of <i>worker</i>.
+     * Must be called on the worker's thread, on solution.
+     * When dealing with optimization problems, the solution is only published if it strictly improves
+     * the incumbent.
+     *
+     * @param worker the model which has just found a solution
+     * @param record set to <i>true</i> to record the solution, in case <i>worker</i> goes on with another search
+     * @return <i>true</i> if the solution is now the incumbent
+     */
+    boolean publish(Model worker, boolean record) {
+        ResolutionPolicy policy = worker.getResolutionPolicy();
+        int objective = policy == ResolutionPolicy.SATISFACTION ? 0 : ((IntVar) worker.getObjective()).getValue();
+        int[] values = null;
+        boolean[] recorded = null;
+        Solution solution = null;
+        Snapshot cur;
+        do {
+            cur = incumbent.get();
+            if (cur.finder != null && !improves(policy, objective, cur.objective)) {
+                return false;
+            }
+            if (values == null && sharePhase) {
+                Variable[] vars = worker.getVars();
+                values = new int[vars.length];
+                recorded = new boolean[vars.length];
+                for (int i = 0; i < vars.length; i++) {
+                    int kind = vars[i].getTypeAndKind() & Variable.KIND;
+                    if ((kind == Variable.INT || kind == Variable.BOOL) && vars[i].isInstantiated()) {
+                        values[i] = ((IntVar) vars[i]).getValue();
+                        recorded[i] = true;
+                    }
+                }
+            }
+            if (solution == null && record) {
+                solution = new Solution(worker).record();
+            }
+        } while (!incumbent.compareAndSet(cur, new Snapshot(cur.version + 1, worker, objective, values, recorded, solution)));
+        return true;
+    }
+
+    /**
+     * Creates the monitor which makes <i>worker</i> poll the incumbent before opening a node.
+     *
+     * @param worker a model of the portfolio
+     * @return a monitor to plug into the solver of <i>worker</i>
+     */
+    IMonitorOpenNode pollerOf(Model worker) {
+        return new IMonitorOpenNode() {
+            long seen = 0L;
+
+            @Override
+            public void beforeOpenNode() {
+                Snapshot cur = incumbent.get();
+                if (cur.version != seen) {
+                    seen = cur.version;
+                    if (cur.finder != worker) {
+                        receive(worker, cur);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Makes <i>worker</i> apply the incumbent, whoever found it.
+     * Must be called on the worker's thread, typically after its solver has been reset.
+     *
+     * @param worker a model of the portfolio
+     */
+    void pull(Model worker) {
+        Snapshot cur = incumbent.get();
+        if (cur.finder != null) {
+            receive(worker, cur);
+        }
+    }
+
+    private void receive(Model worker, Snapshot cur) {
+        cutsReceived.increment();
+        ResolutionPolicy policy = worker.getResolutionPolicy();
+        if (policy != ResolutionPolicy.SATISFACTION) {
+            Solver solver = worker.getSolver();
+            int localBest = solver.getObjectiveManager().getBestSolutionValue().intValue();
+            if (improves(policy, cur.objective, localBest)) {
+                solver.onReceivingExternalCut(cur.objective);
+                cutsApplied.increment();
+            }
+        }
+        if (cur.values != null) {
+            Solution phase = worker.getSolver().defaultSolution();
+            Variable[] vars = worker.getVars();
+            for (int i = 0; i < vars.length && i < cur.values.length; i++) {
+                int kind = vars[i].getTypeAndKind() & Variable.KIND;
+                if (cur.recorded[i] && (kind == Variable.INT || kind == Variable.BOOL)) {
+                    phase.setIntVal((IntVar) vars[i], cur.values[i]);
+                }
+            }
+        }
+    }
+
+    private static boolean improves(ResolutionPolicy policy, int value, int reference) {
+        return policy == ResolutionPolicy.SATISFACTION
+                || (policy == ResolutionPolicy.MAXIMIZE ? value > reference : value < reference);
+    }
+}
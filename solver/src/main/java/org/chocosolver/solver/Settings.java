@@ -70,6 +70,18 @@ public class Settings {
 
     private final byte propagationEngineType;
 
+    private final boolean batchedPropagation;
+
+    private final boolean adaptivePropagation;
+
+    private final boolean presolve;
+
+    private final boolean incrementalVarSelection;
+
+    private final boolean flightRecorder;
+
+    private final long flightRecorderThreshold;
+
     private final int nbMaxLearnt;
 
     private final int reduceLearntClausesBase;
@@ -115,6 +127,12 @@ public class Settings {
         this.checkDeclaredMonitors = builder.checkDeclaredMonitors();
         this.printAllUndeclaredConstraints = builder.printAllUndeclaredConstraints();
         this.propagationEngineType = builder.setPropagationEngineType();
+        this.batchedPropagation = builder.batchedPropagation();
+        this.adaptivePropagation = builder.adaptivePropagation();
+        this.presolve = builder.presolve();
+        this.incrementalVarSelection = builder.incrementalVarSelection();
+        this.flightRecorder = builder.flightRecorder();
+        this.flightRecorderThreshold = builder.getFlightRecorderThreshold();
         this.nbMaxLearnt = builder.getNbMaxLearntClauses();
         this.reduceLearntClausesBase = builder.getReduceLearntClausesBase();
         this.reduceLearntClausesFactor = builder.getReduceLearntClausesFactor();
@@ -293,6 +311,53 @@ public class Settings {
         return propagationEngineType;
     }
 
+    /**
+     * @return <i>true</i> if the propagation engine proceeds by batches,
+     * see {@link org.chocosolver.solver.propagation.BatchedPropagationEngine}.
+     */
+    public boolean batchedPropagation() {
+        return batchedPropagation;
+    }
+
+    /**
+     * @return <i>true</i> if the propagation engine adapts the execution of expensive propagators,
+     * see {@link org.chocosolver.solver.propagation.AdaptivePropagationEngine}.
+     */
+    public boolean adaptivePropagation() {
+        return adaptivePropagation;
+    }
+
+    /**
+     * @return <i>true</i> if the model is presolved before the initial propagation,
+     * see {@link org.chocosolver.util.tools.Presolve}.
+     */
+    public boolean presolve() {
+        return presolve;
+    }
+
+    /**
+     * @return <i>true</i> if the variable selectors based on a score maintain the variables in a heap
+     * instead of scanning them at each decision.
+     */
+    public boolean incrementalVarSelection() {
+        return incrementalVarSelection;
+    }
+
+    /**
+     * @return <i>true</i> if the solver emits Java Flight Recorder events,
+     * see {@link org.chocosolver.solver.trace.FlightRecorder}.
+     */
+    public boolean flightRecorder() {
+        return flightRecorder;
+    }
+
+    /**
+     * @return the minimum duration, in microseconds, of a propagator call to emit a Java Flight Recorder event.
+     */
+    public long getFlightRecorderThreshold() {
+        return flightRecorderThreshold;
+    }
+
     /**
      * @return true if the solver is in Lazy Clause Generation mode (in opposition to the full CP mode).
      */
@@ -10,6 +10,7 @@ import org.chocosolver.memory.EnvironmentBuilder;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.ISatFactory;
 import org.chocosolver.solver.constraints.real.Ibex;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.strategy.BlackBoxConfigurator;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.util.ESat;
@@ -168,6 +169,53 @@ public class SettingsBuilder {
                     "when set to '0b10', this works as a variable-oriented propagation engine (default is 0b00).")
     private byte propagationEngineType = 0b00;
 
+    public static final String BATCHED_PROPAGATION = "batchedPropagation";
+    @Option(name = "--batchedPropagation",
+            aliases = {"--prop.batchedPropagation", "-bp"},
+            usage = "when true, the propagation engine schedules all the events of a fixpoint iteration at once " +
+                    "and counts schedules, re-schedules and idempotency skips, " +
+                    "when false, the propagation engine is driven by the propagation engine type (default is false).")
+    private boolean batchedPropagation = false;
+
+    public static final String ADAPTIVE_PROPAGATION = "adaptivePropagation";
+    @Option(name = "--adaptivePropagation",
+            aliases = {"--prop.adaptivePropagation", "-ap"},
+            usage = "when true, the propagation engine measures the cost and the yield of each propagator " +
+                    "and runs the expensive, low-yield ones only at fixpoint or every k nodes, " +
+                    "it cannot be combined with the batched propagation (default is false).")
+    private boolean adaptivePropagation = false;
+
+    public static final String PRESOLVE = "presolve";
+    @Option(name = "--presolve",
+            aliases = {"--model.presolve", "-ps"},
+            usage = "when true, the model is presolved before the initial propagation: " +
+                    "bounds are tightened, entailed constraints are removed, " +
+                    "and linear constraints are rewritten and merged (default is false).")
+    private boolean presolve = false;
+
+    public static final String INCREMENTAL_VAR_SELECTION = "incrementalVarSelection";
+    @Option(name = "--incrementalVarSelection",
+            aliases = {"--search.incrementalVarSelection", "-ivs"},
+            usage = "when true, dom/wdeg, CHS and activity-based searches maintain the variables in a heap " +
+                    "keyed on their score instead of scanning them at each decision (default is false).")
+    private boolean incrementalVarSelection = false;
+
+    public static final String FLIGHT_RECORDER = "flightRecorder";
+    @Option(name = "--flightRecorder",
+            aliases = {"--trace.flightRecorder", "-jfr"},
+            usage = "when true, the solver emits Java Flight Recorder events (restarts, solutions, fixpoints, " +
+                    "expensive propagator calls, learnt clauses reductions and LNS neighbors) " +
+                    "while a recording is running (default is false).")
+    private boolean flightRecorder = false;
+
+    public static final String FLIGHT_RECORDER_THRESHOLD = "flightRecorderThreshold";
+    @Option(name = "--flightRecorderThreshold",
+            aliases = {"--trace.flightRecorderThreshold", "-jfrt"},
+            usage = "minimum duration, in microseconds, of a propagator call to emit a Java Flight Recorder event. " +
+                    "Only active when flightRecorder is on (default is 1000).",
+            depends = "flightRecorder")
+    private long flightRecorderThreshold = 1_000L;
+
     public static final String NB_MAX_LEARNT_CLAUSES = "nbMaxLearntClauses";
     @Option(name = "--nbMaxLearntClauses",
             aliases = {"--sat.nbMaxLearntClauses", "-nblc"},
@@ -391,6 +439,24 @@ public class SettingsBuilder {
                 case PROPAGATION_ENGINE_TYPE:
                     this.getPropagationEnginType(Byte.parseByte(value));
                     break;
+                case BATCHED_PROPAGATION:
+                    this.setBatchedPropagation(Boolean.parseBoolean(value));
+                    break;
+                case ADAPTIVE_PROPAGATION:
+                    this.setAdaptivePropagation(Boolean.parseBoolean(value));
+                    break;
+                case PRESOLVE:
+                    this.setPresolve(Boolean.parseBoolean(value));
+                    break;
+                case INCREMENTAL_VAR_SELECTION:
+                    this.setIncrementalVarSelection(Boolean.parseBoolean(value));
+                    break;
+                case FLIGHT_RECORDER:
+                    this.setFlightRecorder(Boolean.parseBoolean(value));
+                    break;
+                case FLIGHT_RECORDER_THRESHOLD:
+                    this.setFlightRecorderThreshold(Long.parseLong(value));
+                    break;
                 case NB_MAX_LEARNT_CLAUSES:
                     this.setNbMaxLearntClauses(Integer.parseInt(value));
                     break;
@@ -458,10 +524,15 @@ public class SettingsBuilder {
      * Create a new instance of `Settings` which can then be adapted to requirements.
      *
      * @return a Settings with default values
+     * @throws SolverException if both the batched and the adaptive propagation engines are selected
      * @see #dev()
      * @see #prod()
      */
     public Settings build() {
+        if (batchedPropagation && adaptivePropagation) {
+            throw new SolverException("The batched propagation and the adaptive propagation cannot be combined, " +
+                    "select one of them.");
+        }
         return new Settings(this);
     }
 
@@ -488,7 +559,9 @@ public class SettingsBuilder {
     }
 
     /**
-     * Set the environment to be used
+     * Set the environment to be used.
+     * By default, a trailing environment is used,
+     * a copying one ({@link org.chocosolver.memory.copying.EnvironmentCopying}) suits small states with frequent backtracks.
      *
      * @param environmentSupplier provide an environment
      * @return the current instance
@@ -868,6 +941,131 @@ public class SettingsBuilder {
         return this;
     }
 
+    /**
+     * @return <i>true</i> if the propagation engine proceeds by batches,
+     * see {@link org.chocosolver.solver.propagation.BatchedPropagationEngine}.
+     */
+    public boolean batchedPropagation() {
+        return batchedPropagation;
+    }
+
+    /**
+     * Select the batched propagation engine, which schedules all the events of a fixpoint iteration at once
+     * and counts what happens in its queues.
+     * When set, the propagation engine type is ignored.
+     * It cannot be combined with the adaptive propagation engine, see {@link #setAdaptivePropagation(boolean)}.
+     *
+     * @param batchedPropagation {@code true} to use a {@link org.chocosolver.solver.propagation.BatchedPropagationEngine}
+     * @return the current instance
+     */
+    public SettingsBuilder setBatchedPropagation(boolean batchedPropagation) {
+        this.batchedPropagation = batchedPropagation;
+        return this;
+    }
+
+    /**
+     * @return <i>true</i> if the propagation engine adapts the execution of expensive propagators,
+     * see {@link org.chocosolver.solver.propagation.AdaptivePropagationEngine}.
+     */
+    public boolean adaptivePropagation() {
+        return adaptivePropagation;
+    }
+
+    /**
+     * Select the adaptive propagation engine, which measures the cost and the pruning yield of each propagator
+     * and runs the expensive, low-yield ones only at fixpoint or every k nodes.
+     * It cannot be combined with the batched propagation engine, see {@link #setBatchedPropagation(boolean)}.
+     *
+     * @param adaptivePropagation {@code true} to use a {@link org.chocosolver.solver.propagation.AdaptivePropagationEngine}
+     * @return the current instance
+     */
+    public SettingsBuilder setAdaptivePropagation(boolean adaptivePropagation) {
+        this.adaptivePropagation = adaptivePropagation;
+        return this;
+    }
+
+    /**
+     * @return <i>true</i> if the model is presolved before the initial propagation,
+     * see {@link org.chocosolver.util.tools.Presolve}.
+     */
+    public boolean presolve() {
+        return presolve;
+    }
+
+    /**
+     * Presolve the model before the initial propagation, with all the steps of {@link org.chocosolver.util.tools.Presolve}.
+     * A presolve with other steps can be declared with {@link Solver#setPresolve(org.chocosolver.util.tools.Presolve)}.
+     *
+     * @param presolve {@code true} to presolve the model
+     * @return the current instance
+     */
+    public SettingsBuilder setPresolve(boolean presolve) {
+        this.presolve = presolve;
+        return this;
+    }
+
+    /**
+     * @return <i>true</i> if the variable selectors based on a score maintain the variables in a heap
+     * instead of scanning them at each decision.
+     */
+    public boolean incrementalVarSelection() {
+        return incrementalVarSelection;
+    }
+
+    /**
+     * Let dom/wdeg, CHS and activity-based searches maintain the variables in a heap keyed on their score,
+     * re-keying only the variables whose domain or weight has changed, instead of scanning all of them at each decision.
+     * This pays off when there are many decision variables.
+     *
+     * @param incrementalVarSelection {@code true} to select variables incrementally
+     * @return the current instance
+     */
+    public SettingsBuilder setIncrementalVarSelection(boolean incrementalVarSelection) {
+        this.incrementalVarSelection = incrementalVarSelection;
+        return this;
+    }
+
+    /**
+     * @return <i>true</i> if the solver emits Java Flight Recorder events,
+     * see {@link org.chocosolver.solver.trace.FlightRecorder}.
+     */
+    public boolean flightRecorder() {
+        return flightRecorder;
+    }
+
+    /**
+     * Let the solver emit Java Flight Recorder events, see {@link org.chocosolver.solver.trace.FlightRecorder}.
+     * Events are only recorded while a recording is running, for instance when the JVM is started with
+     * {@code -XX:StartFlightRecording}.
+     * When off, the only overhead is a test at each restart, solution, fixpoint and propagator call.
+     *
+     * @param flightRecorder {@code true} to emit Java Flight Recorder events
+     * @return the current instance
+     */
+    public SettingsBuilder setFlightRecorder(boolean flightRecorder) {
+        this.flightRecorder = flightRecorder;
+        return this;
+    }
+
+    /**
+     * @return the minimum duration, in microseconds, of a propagator call to emit a Java Flight Recorder event.
+     */
+    public long getFlightRecorderThreshold() {
+        return flightRecorderThreshold;
+    }
+
+    /**
+     * Set the minimum duration, in microseconds, of a propagator call to emit a Java Flight Recorder event.
+     * Only active when {@link #flightRecorder()} is on.
+     *
+     * @param flightRecorderThreshold a duration in microseconds
+     * @return the current instance
+     */
+    public SettingsBuilder setFlightRecorderThreshold(long flightRecorderThreshold) {
+        this.flightRecorderThreshold = flightRecorderThreshold;
+        return this;
+    }
+
     /**
      * Set the solver to be in Lazy Clause Generation mode (in opposition to the full CP mode).
      *
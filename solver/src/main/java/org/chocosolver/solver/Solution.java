@@ -13,6 +13,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.variables.*;
+import org.chocosolver.util.tools.MemoryUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,6 +37,11 @@ public class Solution implements ICause {
      */
     private static final int NO_ENTRY = Integer.MAX_VALUE;
 
+    /**
+     * Estimated size of a map object, its arrays apart, in bytes
+     */
+    private static final int MAP_OVERHEAD = MemoryUtils.OBJECT_HEADER + 40;
+
     // SOLUTION
     /**
      * Set to <tt>true</tt> when this object is empty
@@ -404,6 +410,31 @@ public class Solution implements ICause {
         return !empty;
     }
 
+    /**
+     * Estimate the memory occupied by this solution, see {@link MemoryUtils}.
+     * The maps are supposed to be half full.
+     *
+     * @return an estimate in bytes
+     */
+    public long getMemoryFootprint() {
+        // header and fields, then, for each map, the object and its keys, values and states
+        long m = MemoryUtils.OBJECT_HEADER + 24;
+        if (intmap != null) {
+            m += MAP_OVERHEAD + MemoryUtils.sizeOfArray(2L * intmap.size(), Integer.BYTES * 2 + 1);
+        }
+        if (realmap != null) {
+            m += MAP_OVERHEAD + MemoryUtils.sizeOfArray(2L * realmap.size(), Integer.BYTES + MemoryUtils.REFERENCE + 1);
+            m += realmap.size() * MemoryUtils.sizeOfArray(2, Double.BYTES);
+        }
+        if (setmap != null) {
+            m += MAP_OVERHEAD + MemoryUtils.sizeOfArray(2L * setmap.size(), Integer.BYTES + MemoryUtils.REFERENCE + 1);
+            for (int[] values : setmap.valueCollection()) {
+                m += MemoryUtils.sizeOf(values);
+            }
+        }
+        return m;
+    }
+
 
     /**
      * Iterate over the variable of <code>this</code> and build a list that contains all the {@link
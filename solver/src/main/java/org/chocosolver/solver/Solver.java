@@ -13,12 +13,15 @@ import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTable;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.objective.IBoundsManager;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
+import org.chocosolver.solver.propagation.AdaptivePropagationEngine;
+import org.chocosolver.solver.propagation.BatchedPropagationEngine;
 import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.limits.ICounter;
@@ -44,6 +47,7 @@ import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.search.strategy.strategy.StrategiesSequencer;
 import org.chocosolver.solver.search.strategy.strategy.WarmStart;
+import org.chocosolver.solver.trace.FlightRecorder;
 import org.chocosolver.solver.trace.IOutputFactory;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
@@ -51,9 +55,12 @@ import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
 import org.chocosolver.util.logger.ANSILogger;
 import org.chocosolver.util.logger.Logger;
+import org.chocosolver.util.tools.MemoryUtils;
+import org.chocosolver.util.tools.Presolve;
 
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 import static org.chocosolver.solver.Solver.Action.*;
@@ -238,6 +245,21 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     private WarmStart warmStart = null;
 
+    /**
+     * Presolve to apply before the initial propagation, if any
+     */
+    private Presolve presolve = null;
+
+    /**
+     * To emit Java Flight Recorder events, <i>null</i> when disabled
+     */
+    private final FlightRecorder recorder;
+
+    /**
+     * Lists of solutions filled during the resolution, see {@link #addSolutionStore(List, ToLongFunction)}
+     */
+    private final List<SolutionStore<?>> solutionStores = new ArrayList<>();
+
     /**
      * Default logger
      */
@@ -259,22 +281,35 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         dpath = new DecisionPath(aModel.getEnvironment());
         action = initialize;
         mMeasures = new MeasuresRecorder(mModel.getName());
+        recorder = aModel.getSettings().flightRecorder() ? FlightRecorder.get() : null;
         criteria = new ArrayList<>();
         mMeasures.setSearchState(SearchState.NEW);
         mMeasures.setBoundsManager(objectivemanager);
+        mMeasures.setTrailMemory(mModel.getEnvironment()::getTrailMemory);
+        mMeasures.setTableMemory(this::tableMemory);
+        mMeasures.setStoredSolutionsMemory(this::storedSolutionsMemory);
         searchMonitors = new SearchMonitorList();
         M = new MoveBinaryDFS();
         L = new LearnNothing();
         restarter = AbstractRestart.NO_RESTART;
         if (mModel.getSettings().isLCG()) {
             mSat = new MiniSat(true, aModel.getSettings().getSatCCMinMode());
+            mSat.setFlightRecorder(recorder);
+            mMeasures.setLearntClausesMemory(mSat::getLearntClausesMemory);
             setLearner(new LazyClauseGeneration(this, mSat));
             reasonManager = IReasonManager.makeManager(mModel.getEnvironment(), mModel.getSettings().getReasonManager());
         } else {
             mSat = null;
             reasonManager = IReasonManager.makeManager(mModel.getEnvironment(), 0);
         }
-        engine = new PropagationEngine(mModel, mSat);
+        // the settings reject the combination of both engines
+        if (mModel.getSettings().batchedPropagation()) {
+            engine = new BatchedPropagationEngine(mModel, mSat);
+        } else if (mModel.getSettings().adaptivePropagation()) {
+            engine = new AdaptivePropagationEngine(mModel, mSat);
+        } else {
+            engine = new PropagationEngine(mModel, mSat);
+        }
     }
 
     public void throwsException(ICause c, Variable v, String s) throws ContradictionException {
@@ -340,6 +375,7 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         boolean left = true;
         Thread th = Thread.currentThread();
         while (!stop) {
+            mMeasures.publishSnapshotIfRequested();
             stop = isStopCriterionMet();
             if (stop || th.isInterrupted()) {
                 if (stop) {
@@ -392,6 +428,7 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         engine.initialize();
         getMeasures().setReadingTimeCount(System.nanoTime() - mModel.getCreationTime());
         // end note
+        boolean presolved = presolve();
 
         mMeasures.startStopwatch();
         rootWorldIndex = mModel.getEnvironment().getWorldIndex();
@@ -405,6 +442,9 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
             if (isLCG() && !getSat().ok_) {
                 this.throwsException(Cause.Sat, null, null);
             }
+            if (!presolved) {
+                this.throwsException(Cause.Null, null, "presolve");
+            }
             doPropagate();
             action = extend;
             pushTrail(); // store state after initial propagation; w = 1 -> 2
@@ -614,6 +654,31 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         engine.propagate();
     }
 
+    /**
+     * Applies the presolve, if any, and records its measures.
+     *
+     * @return <i>false</i> if the presolve proved that the model has no solution
+     */
+    private boolean presolve() {
+        if (presolve == null && mModel.getSettings().presolve()) {
+            presolve = new Presolve();
+        }
+        if (presolve == null || presolve.isApplied()) {
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean ok = true;
+        try {
+            presolve.apply(mModel);
+        } catch (ContradictionException ce) {
+            ok = false;
+        }
+        engine.initialize();
+        mMeasures.setPresolveTimeCount(System.nanoTime() - start);
+        mMeasures.setPresolveReductionCount(presolve.getNbReductions());
+        return ok;
+    }
+
     /**
      * Search loop propagation phase. This needs to be distinguished from {@link #propagate()}
      *
@@ -621,6 +686,7 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     private void propagate(boolean left) {
         searchMonitors.beforeDownBranch(left);
+        Object fixpoint = recorder == null ? null : recorder.beginFixpoint();
         try {
             mMeasures.incFixpointCount();
             doPropagate();
@@ -632,6 +698,9 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
             action = repair;
             searchMonitors.onContradiction(ce);
         }
+        if (fixpoint != null) {
+            recorder.endFixpoint(fixpoint, this, action == repair);
+        }
         searchMonitors.afterDownBranch(left);
     }
 
@@ -699,6 +768,9 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
                 mMeasures.updateTimeToBestSolution();
             }
         }
+        if (recorder != null) {
+            recorder.solution(this);
+        }
         searchMonitors.onSolution();
         jumpTo = 1;
         action = repair;
@@ -860,6 +932,7 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
      * Note that the restart may not be immediate
      */
     public void restart() {
+        Object event = recorder == null ? null : recorder.beginRestart();
         searchMonitors.beforeRestart();
         restoreRootNode();
         pushTrail();
@@ -868,15 +941,22 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
             mSat.topLevelCleanUp();
         }
         try {
+            if (isLCG() && !mSat.importSharedClauses()) {
+                // the clauses learnt by other solvers prove the root node inconsistent
+                this.throwsException(Cause.Sat, null, "imported clause");
+            }
             objectivemanager.postDynamicCut();
             mMeasures.incFixpointCount();
             doPropagate();
             action = extend;
         } catch (ContradictionException e) {
-            // trivial inconsistency is detected, due to the cut
+            // trivial inconsistency is detected, due to the cut or to the imported clauses
             stop = true;
         }
         searchMonitors.afterRestart();
+        if (event != null) {
+            recorder.endRestart(event, this);
+        }
     }
 
     /**
@@ -1105,6 +1185,14 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         return mSat;
     }
 
+    /**
+     * @return the Java Flight Recorder events emitter, or <i>null</i> if
+     * {@link org.chocosolver.solver.Settings#flightRecorder()} is off or JFR is not available.
+     */
+    public FlightRecorder getFlightRecorder() {
+        return recorder;
+    }
+
     /**
      * The ReasonManager is the component in charge of managing the reasons for domain reductions and failures.
      * It is used when learning is on, to record the reasons for propagations and contradictions, and to explain them when needed.
@@ -1213,6 +1301,83 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         return mMeasures;
     }
 
+    /**
+     * Declare a list of solutions filled during the resolution,
+     * to account for its memory and to be able to shed it.
+     * All the solutions of a list are supposed to have the same footprint.
+     *
+     * @param solutions a list of solutions, filled during the resolution
+     * @param footprint estimates the memory occupied by a solution, in bytes
+     * @param <S>       type of solution
+     * @see #getStoredSolutionsMemory()
+     * @see #dropStoredSolutions()
+     * @see #removeSolutionStore(List)
+     */
+    public <S> void addSolutionStore(List<S> solutions, ToLongFunction<S> footprint) {
+        solutionStores.add(new SolutionStore<>(solutions, footprint));
+    }
+
+    /**
+     * Forget a list of solutions previously declared with {@link #addSolutionStore(List, ToLongFunction)}.
+     *
+     * @param solutions a list of solutions
+     */
+    public void removeSolutionStore(List<?> solutions) {
+        solutionStores.removeIf(store -> store.solutions == solutions);
+    }
+
+    /**
+     * @return an estimate of the memory occupied by the lists of solutions declared, in bytes
+     * @see #addSolutionStore(List, ToLongFunction)
+     */
+    @Override
+    public long getStoredSolutionsMemory() {
+        return getMeasures().getStoredSolutionsMemory();
+    }
+
+    private long storedSolutionsMemory() {
+        long memory = 0L;
+        for (int i = 0; i < solutionStores.size(); i++) {
+            memory += solutionStores.get(i).memory();
+        }
+        return memory;
+    }
+
+    /**
+     * @return an estimate of the memory occupied by the supports of the table constraints posted, in bytes
+     */
+    private long tableMemory() {
+        long memory = 0L;
+        for (int i = 0; i < mModel.getNbCstrs(); i++) {
+            for (Propagator<?> p : mModel.getCstr(i).getPropagators()) {
+                if (p instanceof PropCompactTable) {
+                    memory += ((PropCompactTable) p).getSupportsMemory();
+                }
+            }
+        }
+        return memory;
+    }
+
+    /**
+     * Drop the solutions stored in the lists declared, except the last one of each list,
+     * which is the best one when optimizing.
+     * This is used to free some memory, the lists are then incomplete.
+     *
+     * @return the number of solutions dropped
+     * @see #addSolutionStore(List, ToLongFunction)
+     */
+    public int dropStoredSolutions() {
+        int dropped = 0;
+        for (int i = 0; i < solutionStores.size(); i++) {
+            List<?> solutions = solutionStores.get(i).solutions;
+            if (solutions.size() > 1) {
+                dropped += solutions.size() - 1;
+                solutions.subList(0, solutions.size() - 1).clear();
+            }
+        }
+        return dropped;
+    }
+
     /**
      * @return the propagation engine used in {@code this}.
      */
@@ -1251,7 +1416,9 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     public ESat isSatisfied() {
         int OK = 0;
-        for (Constraint c : mModel.getCstrs()) {
+        int nbCstrs = mModel.getNbCstrs();
+        for (int i = 0; i < nbCstrs; i++) {
+            Constraint c = mModel.getCstr(i);
             if (c.isEnabled()) {
                 ESat satC = c.isSatisfied();
                 if (FALSE == satC) {
@@ -1266,7 +1433,7 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
                 OK++;
             }
         }
-        if (OK == mModel.getCstrs().length) {
+        if (OK == nbCstrs) {
             return TRUE;
         } else {
             return UNDEFINED;
@@ -1433,6 +1600,24 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         warmStart.addHint(var, val);
     }
 
+    /**
+     * Declare a presolve to apply to the model before the initial propagation of the first resolution,
+     * in place of the one defined by {@link Settings#presolve()}.
+     *
+     * @param presolve a presolve, or <i>null</i> to use the one defined by {@link Settings#presolve()}
+     * @see Presolve
+     */
+    public void setPresolve(Presolve presolve) {
+        this.presolve = presolve;
+    }
+
+    /**
+     * @return the presolve declared or applied, <i>null</i> if none
+     */
+    public Presolve getPresolve() {
+        return presolve;
+    }
+
     /**
      * Remove declare hints
      */
@@ -1485,6 +1670,13 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         }
     }
 
+    /**
+     * @return the stop criteria declared, in a read-only list
+     */
+    public List<Criterion> getStopCriteria() {
+        return Collections.unmodifiableList(criteria);
+    }
+
     /**
      * Empties the list of stop criteria declared.
      * This is automatically called on {@link #reset()}.
@@ -1619,6 +1811,21 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         return getMeasures().getReadingTimeCount();
     }
 
+    @Override
+    public long getCopyTimeCountInNanoSeconds() {
+        return getMeasures().getCopyTimeCountInNanoSeconds();
+    }
+
+    @Override
+    public long getPresolveTimeCountInNanoSeconds() {
+        return getMeasures().getPresolveTimeCountInNanoSeconds();
+    }
+
+    @Override
+    public long getPresolveReductionCount() {
+        return getMeasures().getPresolveReductionCount();
+    }
+
     @Override
     public long getNodeCount() {
         return getMeasures().getNodeCount();
@@ -1664,6 +1871,21 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         return getMeasures().getDecisionCount();
     }
 
+    @Override
+    public long getTrailMemory() {
+        return getMeasures().getTrailMemory();
+    }
+
+    @Override
+    public long getLearntClausesMemory() {
+        return getMeasures().getLearntClausesMemory();
+    }
+
+    @Override
+    public long getTableMemory() {
+        return getMeasures().getTableMemory();
+    }
+
     @Override
     public long getMaxDepth() {
         return getMeasures().getMaxDepth();
@@ -1730,4 +1952,23 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
     public void logWithANSI(boolean ansi) {
         logger = ansi ? new ANSILogger(logger) : new Logger(logger);
     }
-}
\ No newline at end of file
+
+    /**
+     * A list of solutions filled during the resolution
+     */
+    private static final class SolutionStore<S> {
+        private final List<S> solutions;
+        private final ToLongFunction<S> footprint;
+
+        private SolutionStore(List<S> solutions, ToLongFunction<S> footprint) {
+            this.solutions = solutions;
+            this.footprint = footprint;
+        }
+
+        private long memory() {
+            int size = solutions.size();
+            // all solutions look alike, only the last one is measured
+            return size == 0 ? 0L : size * (MemoryUtils.REFERENCE + footprint.applyAsLong(solutions.get(size - 1)));
+        }
+    }
+}
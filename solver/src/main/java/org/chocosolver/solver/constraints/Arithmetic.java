@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.binary.*;
 import org.chocosolver.solver.constraints.unary.PropEqualXC;
@@ -158,6 +159,41 @@ public class Arithmetic extends Constraint {
 		}
 	}
 
+	/**
+	 * @return the variables of this constraint, in order
+	 */
+	public IntVar[] getVariables() {
+		return vars.clone();
+	}
+
+	/**
+	 * @return the first operator, that is, the comparison operator for VAR op CSTE and VAR op VAR,
+	 * the leftmost operator for VAR op VAR op CSTE
+	 */
+	public Operator getOp1() {
+		return op1;
+	}
+
+	/**
+	 * @return the second operator, {@link Operator#NONE} for VAR op CSTE,
+	 * {@link Operator#PL} for VAR op VAR, the rightmost operator for VAR op VAR op CSTE
+	 */
+	public Operator getOp2() {
+		return op2;
+	}
+
+	/**
+	 * @return the constant, 0 for VAR op VAR
+	 */
+	public int getCste() {
+		return cste;
+	}
+
+	@Override
+	public Arithmetic copy(CopyMap map) {
+		return new Arithmetic(getName(), map.get(vars), op1, op2, cste, map.get(propagators[0]));
+	}
+
 	@Override
 	public Constraint makeOpposite(){
 		Model model = vars[0].getModel();
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.reification.Opposite;
 import org.chocosolver.solver.exception.SolverException;
@@ -420,6 +421,18 @@ public class Constraint {
         return new Opposite(this);
     }
 
+    /**
+     * Creates the counterpart of this constraint in the model targeted by <i>map</i>, see {@link CopyMap}.
+     * By default, a constraint is made of the copies of its propagators.
+     * A sub-class should override this method to be copied.
+     *
+     * @param map maps the objects of the copied model to their copy
+     * @return a copy of this constraint, not posted yet
+     */
+    public Constraint copy(CopyMap map) {
+        return new Constraint(name, map.get(propagators));
+    }
+
     /**
      * Changes the name of <code>this</code> constraint
      *
@@ -158,6 +158,8 @@ public class ConstraintsName {
 
     public static final String CUMULATIVE = "CUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String GCC = "GCC";
 
     public static final String NOGOODCONSTRAINT = "NOGOODCONSTRAINT";
@@ -12,6 +12,7 @@ import java.util.function.Function;
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.nary.cumulative.PropagatorCumulative;
+import org.chocosolver.solver.constraints.nary.cumulative.PropagatorDisjunctive;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
@@ -95,6 +96,34 @@ public interface ISchedulingFactory extends ISelf<Model> {
             final IntVar capacity,
             final boolean energyNaive,
             final boolean disjunctiveEnergyNaive
+    ) {
+        return cumulative(tasks, heights, capacity, energyNaive, disjunctiveEnergyNaive, false);
+    }
+
+    /**
+     * Creates a cumulative constraint: Enforces that at each point in time,
+     * the cumulated height of the set of tasks that overlap that point
+     * does not exceed a given limit.
+     * <p>
+     * heights should be >= 0
+     * Discards tasks whose duration or height is equal to zero
+     *
+     * @param tasks    Task objects containing start, duration and end variables
+     * @param heights  integer variables representing the resource consumption of each task
+     * @param capacity integer variable representing the resource capacity
+     * @param energyNaive whether to apply the naive energy filtering
+     * @param disjunctiveEnergyNaive whether to apply the naive disjunctive energy filtering
+     * @param timetableEdgeFinding whether to apply the TimeTable Edge Finding filtering, in O(n^2),
+     *                             which is not applied when learning clauses
+     * @return a cumulative constraint
+     */
+    default Constraint cumulative(
+            final Task[] tasks,
+            final IntVar[] heights,
+            final IntVar capacity,
+            final boolean energyNaive,
+            final boolean disjunctiveEnergyNaive,
+            final boolean timetableEdgeFinding
     ) {
         if (tasks.length != heights.length) {
             throw new SolverException("Tasks and heights arrays should have same size");
@@ -119,7 +148,7 @@ public interface ISchedulingFactory extends ISelf<Model> {
         }
         return new Constraint(
                 ConstraintsName.CUMULATIVE,
-                new PropagatorCumulative(keptTasks, keptHeights, capacity, energyNaive, disjunctiveEnergyNaive)
+                new PropagatorCumulative(keptTasks, keptHeights, capacity, energyNaive, disjunctiveEnergyNaive, timetableEdgeFinding)
         );
     }
 
@@ -155,6 +184,64 @@ public interface ISchedulingFactory extends ISelf<Model> {
         return cumulative(tasks, h, ref().intVar(capacity));
     }
 
+    /////////////////////////////////////////////////////////////////////////////
+    //////////////////////////////// DISJUNCTIVE ////////////////////////////////
+    /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a disjunctive (or unary resource) constraint:
+     * Enforces that the tasks which are performed do not overlap,
+     * that is, at each point in time, at most one task is in progress.
+     * <p>
+     * It is equivalent to a cumulative constraint whose heights and capacity are equal to 1,
+     * but it is filtered with overload checking, detectable precedences, not-first/not-last and edge finding,
+     * each in O(n log n), see {@link PropagatorDisjunctive}.
+     * Optional tasks may be given, their bounds are not filtered, since they are free when they are not performed,
+     * but they are forced not to be performed when they do not fit on the resource.
+     * <p>
+     * Discards tasks whose duration is equal to zero
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(final Task[] tasks) {
+        // keep only tasks that can use the resource
+        final List<Task> tasksToKeep = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.getMaxDuration() > 0 && task.mayBePerformed()) {
+                tasksToKeep.add(task);
+            }
+        }
+        if (tasksToKeep.size() <= 1) {
+            return ref().trueConstraint();
+        }
+        return new Constraint(
+                ConstraintsName.DISJUNCTIVE,
+                new PropagatorDisjunctive(tasksToKeep.toArray(new Task[0]))
+        );
+    }
+
+    /**
+     * Creates a disjunctive (or unary resource) constraint:
+     * Enforces that the tasks do not overlap.
+     * <p>
+     * Task duration should be >= 0
+     * Discards tasks whose duration is equal to zero
+     *
+     * @param starts    starting time of each task
+     * @param durations processing time of each task
+     * @return a disjunctive constraint
+     * @see #disjunctive(Task[])
+     */
+    default Constraint disjunctive(final IntVar[] starts, final int[] durations) {
+        int n = starts.length;
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            tasks[i] = ref().taskVar(starts[i], durations[i]);
+        }
+        return disjunctive(tasks);
+    }
+
     /////////////////////////////////////////////////////////////////////////////
     ////////////////////////////////// SEARCH ///////////////////////////////////
     /////////////////////////////////////////////////////////////////////////////
@@ -13,6 +13,7 @@ import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.sat.IReasonManager;
 import org.chocosolver.sat.IndexBasedReason;
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
@@ -944,6 +945,13 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         scheduled = true;
     }
 
+    /**
+     * @return <i>true</i> if this is currently in a queue of the propagation engine
+     */
+    public final boolean isScheduled() {
+        return scheduled;
+    }
+
 
     /**
      * Apply scheduling instruction
@@ -1009,4 +1017,16 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    /**
+     * Creates the counterpart of this propagator in the model targeted by <i>map</i>, see {@link CopyMap}.
+     * The copy is built on the copies of the variables, with the parameters of this propagator,
+     * as if it was declared again.
+     *
+     * @param map maps the objects of the copied model to their copy
+     * @return a copy of this propagator, or <i>null</i> if it cannot be copied
+     */
+    public Propagator<V> copy(CopyMap map) {
+        return null;
+    }
 }
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -52,6 +53,11 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropEqualXY_C copy(CopyMap map) {
+        return new PropEqualXY_C(map.get(vars), cste);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         if (vars[0].hasEnumeratedDomain() && vars[1].hasEnumeratedDomain())
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -52,6 +53,11 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropEqualX_Y copy(CopyMap map) {
+        return new PropEqualX_Y(map.get(x), map.get(y));
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         if (vars[0].hasEnumeratedDomain() && vars[1].hasEnumeratedDomain())
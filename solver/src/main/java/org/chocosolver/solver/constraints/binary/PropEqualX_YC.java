@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -54,6 +55,11 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropEqualX_YC copy(CopyMap map) {
+        return new PropEqualX_YC(map.get(vars), cste);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         if (vars[0].hasEnumeratedDomain() && vars[1].hasEnumeratedDomain())
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -38,6 +39,11 @@ public final class PropGreaterOrEqualXY_C extends Propagator<IntVar> {
         this.cste = c;
     }
 
+    @Override
+    public PropGreaterOrEqualXY_C copy(CopyMap map) {
+        return new PropGreaterOrEqualXY_C(map.get(vars), cste);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         return IntEventType.INSTANTIATE.getMask() + IntEventType.DECUPP.getMask();
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -35,6 +36,11 @@ public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> {
         this.y = vars[1];
     }
 
+    @Override
+    public PropGreaterOrEqualX_Y copy(CopyMap map) {
+        return new PropGreaterOrEqualX_Y(map.get(vars));
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         if (vIdx == 0) {
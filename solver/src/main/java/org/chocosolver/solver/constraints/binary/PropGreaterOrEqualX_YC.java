@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -38,6 +39,11 @@ public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
         this.cste = c;
     }
 
+    @Override
+    public PropGreaterOrEqualX_YC copy(CopyMap map) {
+        return new PropGreaterOrEqualX_YC(map.get(vars), cste);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         if (vIdx == 0) {
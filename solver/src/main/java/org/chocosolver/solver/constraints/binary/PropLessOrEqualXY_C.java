@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -37,6 +38,11 @@ public final class PropLessOrEqualXY_C extends Propagator<IntVar> {
         this.cste = c;
     }
 
+    @Override
+    public PropLessOrEqualXY_C copy(CopyMap map) {
+        return new PropLessOrEqualXY_C(map.get(vars), cste);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         return IntEventType.lowerBoundAndInst();
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -48,6 +49,11 @@ public class PropNotEqualXY_C extends Propagator<IntVar> {
         this.cste = c;
     }
 
+    @Override
+    public PropNotEqualXY_C copy(CopyMap map) {
+        return new PropNotEqualXY_C(map.get(vars), cste);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         if (vars[vIdx].hasEnumeratedDomain()) {
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -47,6 +48,11 @@ public class PropNotEqualX_Y extends Propagator<IntVar> {
         this.y = vars[1];
     }
 
+    @Override
+    public PropNotEqualX_Y copy(CopyMap map) {
+        return new PropNotEqualX_Y(map.get(x), map.get(y));
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         //Principle : if v0 is instantiated and v1 is enumerated, then awakeOnInst(0) performs all needed pruning
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -48,6 +49,11 @@ public class PropNotEqualX_YC extends Propagator<IntVar> {
         this.cste = c;
     }
 
+    @Override
+    public PropNotEqualX_YC copy(CopyMap map) {
+        return new PropNotEqualX_YC(map.get(vars), cste);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         //Principle : if v0 is instantiated and v1 is enumerated, then awakeOnInst(0) performs all needed pruning
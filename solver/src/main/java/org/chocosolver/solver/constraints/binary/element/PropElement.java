@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.binary.element;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -75,6 +76,11 @@ public class PropElement extends Propagator<IntVar> {
 		pVals.setOffset(result.getLB());
 	}
 
+	@Override
+	public PropElement copy(CopyMap map) {
+		return new PropElement(map.get(result), values, map.get(index), offset);
+	}
+
 	@Override
 	public void propagate(int evtmask) throws ContradictionException {
 		index.updateBounds(offset, values.length - 1 + offset, this);
@@ -127,19 +127,17 @@ public class Tuples {
         if (vars.length != arity) {
             throw new SolverException("The given variable array does not match the arity: " + arity);
         }
-        int[] values = new int[vars.length];
         for (int i = 0; i < vars.length; i++) {
-            if (vars[i].isInstantiated()) {
-                values[i] = vars[i].getValue();
-            } else {
+            if (!vars[i].isInstantiated()) {
                 return ESat.UNDEFINED;
             }
         }
+        // values are read from the variables, this is called on each solution and should not allocate
         for (int ti = 0; ti < nbTuples(); ti++) {
             int[] tuple = tuples.get(ti);
             boolean valid = true;
-            for (int i = 0; i < values.length && valid; i++) {
-                valid = tuple[i] == values[i] || (allowStar && tuple[i] == star);
+            for (int i = 0; i < vars.length && valid; i++) {
+                valid = tuple[i] == vars[i].getValue() || (allowStar && tuple[i] == star);
             }
             if (valid) {
                 return isFeasible() ? ESat.TRUE : ESat.FALSE;
@@ -10,6 +10,7 @@ import gnu.trove.map.hash.TIntObjectHashMap;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -21,6 +22,7 @@ import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.solver.variables.view.IntView;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
+import org.chocosolver.util.tools.MemoryUtils;
 import org.chocosolver.util.tools.VariableUtils;
 
 import java.util.HashSet;
@@ -66,6 +68,12 @@ public class PropCompactTable extends Propagator<IntVar> {
          * @return the support for the given value.
          */
         long[] get(int val);
+
+        /**
+         * @return an estimate of the memory occupied by this support structure, in bytes.
+         * @see MemoryUtils
+         */
+        long memory();
     }
 
     /**
@@ -84,6 +92,12 @@ public class PropCompactTable extends Propagator<IntVar> {
         public long[] get(int val) {
             return supports[val];
         }
+
+        @Override
+        public long memory() {
+            return MemoryUtils.sizeOf(supports)
+                    + (supports.length == 0 ? 0L : supports.length * MemoryUtils.sizeOf(supports[0]));
+        }
     }
 
     /**
@@ -109,6 +123,13 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
             return m;
         }
+
+        @Override
+        public long memory() {
+            // keys, values and states of the map, then the bitsets
+            return MemoryUtils.sizeOfArray(map.size(), Integer.BYTES + MemoryUtils.REFERENCE + 1)
+                    + map.size() * MemoryUtils.sizeOfArray(nWords, Long.BYTES);
+        }
     }
 
     //***********************************************************************************
@@ -171,6 +192,11 @@ public class PropCompactTable extends Propagator<IntVar> {
         invariant = uniqueness && !tuples.allowUniversalValue();
     }
 
+    @Override
+    public PropCompactTable copy(CopyMap map) {
+        return new PropCompactTable(map.get(vars), tuples);
+    }
+
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
@@ -194,6 +220,18 @@ public class PropCompactTable extends Propagator<IntVar> {
         };
     }
 
+    /**
+     * @return an estimate of the memory occupied by the supports and the residues, in bytes.
+     * They are computed once, by {@link #computeSupports(Tuples)}.
+     */
+    public long getSupportsMemory() {
+        long memory = MemoryUtils.sizeOf(supports) + MemoryUtils.sizeOf(residues) + MemoryUtils.sizeOf(offset);
+        for (int i = 0; i < supports.length; i++) {
+            memory += supports[i].memory() + MemoryUtils.sizeOf(residues[i]);
+        }
+        return memory;
+    }
+
     protected void computeSupports(Tuples tuples) {
         int n = vars.length;
         offset = new int[n];
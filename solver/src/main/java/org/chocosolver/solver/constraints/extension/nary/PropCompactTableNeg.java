@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -40,6 +41,11 @@ public final class PropCompactTableNeg extends PropCompactTable {
         assert !tuples.isFeasible();
     }
 
+    @Override
+    public PropCompactTableNeg copy(CopyMap map) {
+        return new PropCompactTableNeg(map.get(vars), tuples);
+    }
+
     //***********************************************************************************
     // FILTERING
     //***********************************************************************************
@@ -6,11 +6,13 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
+import org.chocosolver.util.tools.MemoryUtils;
 
 /**
  * Propagator for table constraint based on
@@ -46,6 +48,11 @@ public final class PropCompactTableStar extends PropCompactTable {
         assert tuples.allowUniversalValue();
     }
 
+    @Override
+    public PropCompactTableStar copy(CopyMap map) {
+        return new PropCompactTableStar(map.get(vars), tuples);
+    }
+
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
@@ -70,6 +77,15 @@ public final class PropCompactTableStar extends PropCompactTable {
         };
     }
 
+    @Override
+    public long getSupportsMemory() {
+        long memory = super.getSupportsMemory() + MemoryUtils.sizeOf(inc_supports);
+        for (int i = 0; i < inc_supports.length; i++) {
+            memory += inc_supports[i].memory();
+        }
+        return memory;
+    }
+
     @Override
     protected void computeSupports(Tuples tuples) {
         int n = vars.length;
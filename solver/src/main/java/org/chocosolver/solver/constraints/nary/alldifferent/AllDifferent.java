@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
@@ -39,6 +40,15 @@ public class AllDifferent extends Constraint {
         super(ConstraintsName.ALLDIFFERENT, createPropagators(vars, type));
     }
 
+    private AllDifferent(String name, Propagator<?>[] propagators) {
+        super(name, propagators);
+    }
+
+    @Override
+    public AllDifferent copy(CopyMap map) {
+        return new AllDifferent(getName(), map.get(propagators));
+    }
+
     private static Propagator[] createPropagators(IntVar[] VARS, String consistency) {
         Model model = VARS[0].getModel();
         if (model.getSolver().isLCG()) {
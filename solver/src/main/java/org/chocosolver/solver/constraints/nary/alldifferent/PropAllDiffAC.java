@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -38,6 +39,8 @@ public class PropAllDiffAC extends Propagator<IntVar> {
 
     protected IAlldifferentAlgorithm filter;
 
+    protected final AllDifferent.Consistency mode;
+
     //***********************************************************************************
     // CONSTRUCTORS
     //***********************************************************************************
@@ -51,6 +54,7 @@ public class PropAllDiffAC extends Propagator<IntVar> {
      */
     public PropAllDiffAC(IntVar[] variables, AllDifferent.Consistency mode) {
         super(variables, PropagatorPriority.QUADRATIC, false);
+        this.mode = mode;
         switch (mode) {
             case AC_REGIN:
                 this.filter = new AlgoAllDiffAC(variables, this);
@@ -64,6 +68,11 @@ public class PropAllDiffAC extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropAllDiffAC copy(CopyMap map) {
+        return new PropAllDiffAC(map.get(vars), mode);
+    }
+
     //***********************************************************************************
     // PROPAGATION
     //***********************************************************************************
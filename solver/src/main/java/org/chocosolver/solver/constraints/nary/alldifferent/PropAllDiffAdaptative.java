@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -47,6 +48,11 @@ public class PropAllDiffAdaptative extends PropAllDiffAC {
         calls = success = 1;
     }
 
+    @Override
+    public PropAllDiffAdaptative copy(CopyMap map) {
+        return new PropAllDiffAdaptative(map.get(vars), mode);
+    }
+
     //***********************************************************************************
     // PROPAGATION
     //***********************************************************************************
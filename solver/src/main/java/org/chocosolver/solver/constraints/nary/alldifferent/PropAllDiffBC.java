@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -36,6 +37,11 @@ public class PropAllDiffBC extends Propagator<IntVar> {
         filter.reset(vars);
     }
 
+    @Override
+    public PropAllDiffBC copy(CopyMap map) {
+        return new PropAllDiffBC(map.get(vars));
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         return IntEventType.boundAndInst();
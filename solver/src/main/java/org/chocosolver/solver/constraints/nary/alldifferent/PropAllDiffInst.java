@@ -9,6 +9,7 @@ package org.chocosolver.solver.constraints.nary.alldifferent;
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.stack.array.TIntArrayStack;
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -68,6 +69,11 @@ public class PropAllDiffInst extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropAllDiffInst copy(CopyMap map) {
+        return new PropAllDiffInst(map.get(vars));
+    }
+
 
     //***********************************************************************************
     // INFO
@@ -9,6 +9,7 @@ package org.chocosolver.solver.constraints.nary.automata;
 import gnu.trove.iterator.TIntIterator;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
@@ -53,6 +54,16 @@ public class PropRegular extends Propagator<IntVar> {
         graph = initGraph(model.getEnvironment(), vars, automaton);
     }
 
+    @Override
+    public PropRegular copy(CopyMap map) {
+        try {
+            // the automaton is not shared, since it may compute some data lazily
+            return new PropRegular(map.get(vars), automaton.clone());
+        } catch (CloneNotSupportedException e) {
+            return null;
+        }
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         assert evtmask == PropagatorEventType.FULL_PROPAGATION.getMask();
@@ -37,6 +37,11 @@ public class PropClauseChanneling extends Propagator<IntVar> {
     private final IStateInt UB; // keep trace of lb and ub of iv to ease propagation
     private final int OFFSET;
     private final int LENGTH;
+    /**
+     * Bounds of iv before the current propagation, read by {@link #rem_proc}
+     */
+    private int remLB, remUB;
+    private final IntProcedure rem_proc;
 
     public PropClauseChanneling(IntVar iv, BoolVar[] eb, BoolVar[] lb) {
         super(ArrayUtils.append(new IntVar[]{iv}, eb, lb), PropagatorPriority.LINEAR, true);
@@ -52,6 +57,12 @@ public class PropClauseChanneling extends Propagator<IntVar> {
         if (eb.length != LENGTH || lb.length != LENGTH) {
             throw new SolverException("BoolVar[] wrong dimension");
         }
+        this.rem_proc = value -> {
+            value -= OFFSET;
+            if (value > remLB && value < remUB) {
+                eqs[value].instantiateTo(0, this);
+            }
+        };
     }
 
     @Override
@@ -137,12 +148,9 @@ public class PropClauseChanneling extends Propagator<IntVar> {
                     _uub(iv.getUB() - OFFSET, ub);
                 }
                 // then deal with removed values
-                dm.forEachRemVal((IntProcedure) value -> {
-                    value -= OFFSET;
-                    if (value > lb && value < ub) {
-                        eqs[value].instantiateTo(0, this);
-                    }
-                });
+                remLB = lb;
+                remUB = ub;
+                dm.forEachRemVal(rem_proc);
             }
         } else {
             vidx--; // idx in eqs or lqs
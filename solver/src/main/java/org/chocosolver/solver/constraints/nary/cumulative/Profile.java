@@ -9,6 +9,7 @@ package org.chocosolver.solver.constraints.nary.cumulative;
 import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.sort.ArraySort;
 
 import java.util.Arrays;
 import java.util.BitSet;
@@ -17,6 +18,12 @@ import static org.chocosolver.solver.constraints.nary.cumulative.SchedulingUtils
 
 /**
  * Class representing the Profile data structure described in <a href="https://doi.org/10.1007/978-3-319-23219-5_11">Gay, S., Hartert, R., and Schaus, P.: “Simple and Scalable Time-Table Filtering for the Cumulative Constraint”. In: Principles and Practice of Constraint Programming - 21st International Conference, CP 2015, Cork, Ireland, August 31 - September 4, 2015, Proceedings. Ed. by Gilles Pesant. Vol. 9255. Lecture Notes in Computer Science. Springer, 2015, pp. 149–157</a>.
+ * <p>
+ * The profile is either built from scratch with {@link #buildProfile(Task[], IntVar[], IStateBitSet)},
+ * or maintained incrementally: the compulsory part contributed by each task is recorded,
+ * and {@link #update(int, int, int, int)} only splits, shifts and merges the rectangles it overlaps.
+ * The incremental mode does not record the tasks contributing to each rectangle, so it cannot serve explanations.
+ * </p>
  *
  * @author Arthur Godet <arth.godet@gmail.com>
  * @since 19/10/2023
@@ -31,6 +38,16 @@ public class Profile {
     private int[] time;
     private int min;
     private int max;
+    // Compulsory part contributed by each task, in incremental mode
+    private final int[] cpStart;
+    private final int[] cpEnd;
+    private final int[] cpHeight;
+    // Events of a bulk rebuild, in incremental mode: 2 * i for the start of task i, 2 * i + 1 for its end
+    private final int[] events;
+    private final ArraySort<?> eventSort;
+    // Energy of the rectangles from j (included) to the end, computed on demand
+    private final long[] energy;
+    private boolean energyValid;
 
     /**
      * Instantiates a new Profile.
@@ -48,6 +65,12 @@ public class Profile {
         eventPointSeries = new EventPointSeries(nbTasks);
         list = new BitSet(nbTasks);
         time = new int[31];
+        cpStart = new int[nbTasks];
+        cpEnd = new int[nbTasks];
+        cpHeight = new int[nbTasks];
+        events = new int[2 * nbTasks];
+        eventSort = new ArraySort<>(2 * nbTasks, false, true);
+        energy = new long[2 * (nbTasks + 1)];
     }
 
     /**
@@ -55,6 +78,7 @@ public class Profile {
      */
     public void clear() {
         idx = 0;
+        energyValid = false;
     }
 
     /**
@@ -253,6 +277,175 @@ public class Profile {
         }
     }
 
+    /**
+     * Empties the profile in incremental mode: no task contributes to it.
+     */
+    public void reset() {
+        clear();
+        timePoints[idx] = Integer.MIN_VALUE;
+        heights[idx] = 0;
+        idx++;
+        timePoints[idx] = Integer.MAX_VALUE;
+        heights[idx] = 0;
+        idx++;
+        Arrays.fill(cpHeight, 0);
+    }
+
+    /**
+     * Returns true iff the compulsory part contributed by the task at index i differs from [start, end) of height
+     * <i>height</i>. An empty interval or a null height denotes no contribution.
+     *
+     * @param i      the index of a task
+     * @param start  the start of its compulsory part
+     * @param end    the end of its compulsory part
+     * @param height its minimal height
+     * @return true iff the contribution of the task changed
+     */
+    public boolean hasChanged(final int i, final int start, final int end, final int height) {
+        if (start >= end || height <= 0) {
+            return cpHeight[i] > 0;
+        }
+        return cpHeight[i] != height || cpStart[i] != start || cpEnd[i] != end;
+    }
+
+    /**
+     * Replaces the compulsory part contributed by the task at index i by [start, end) of height <i>height</i>.
+     * Only the rectangles overlapping the former and the new compulsory parts are modified.
+     *
+     * @param i      the index of a task
+     * @param start  the start of its compulsory part
+     * @param end    the end of its compulsory part
+     * @param height its minimal height
+     */
+    public void update(final int i, final int start, final int end, final int height) {
+        if (cpHeight[i] > 0) {
+            addRange(cpStart[i], cpEnd[i], -cpHeight[i]);
+        }
+        record(i, start, end, height);
+        if (cpHeight[i] > 0) {
+            addRange(start, end, height);
+        }
+        energyValid = false;
+    }
+
+    /**
+     * Records the compulsory part contributed by the task at index i without modifying the rectangles.
+     * {@link #rebuild()} should be called once all the modified tasks are recorded.
+     *
+     * @param i      the index of a task
+     * @param start  the start of its compulsory part
+     * @param end    the end of its compulsory part
+     * @param height its minimal height
+     */
+    public void record(final int i, final int start, final int end, final int height) {
+        if (start >= end || height <= 0) {
+            cpHeight[i] = 0;
+        } else {
+            cpStart[i] = start;
+            cpEnd[i] = end;
+            cpHeight[i] = height;
+        }
+    }
+
+    /**
+     * Rebuilds the rectangles from the recorded compulsory parts, with a sweep over their sorted bounds.
+     */
+    public void rebuild() {
+        clear();
+        int nbEvents = 0;
+        for (int i = 0; i < cpHeight.length; i++) {
+            if (cpHeight[i] > 0) {
+                events[nbEvents++] = 2 * i;
+                events[nbEvents++] = 2 * i + 1;
+            }
+        }
+        eventSort.sort(events, nbEvents, (e1, e2) -> Integer.compare(eventTime(e1), eventTime(e2)));
+        timePoints[idx] = Integer.MIN_VALUE;
+        heights[idx] = 0;
+        idx++;
+        int h = 0;
+        int k = 0;
+        while (k < nbEvents) {
+            final int t = eventTime(events[k]);
+            while (k < nbEvents && eventTime(events[k]) == t) {
+                final int e = events[k++];
+                h += (e & 1) == 0 ? cpHeight[e >> 1] : -cpHeight[e >> 1];
+            }
+            if (h != heights[idx - 1]) {
+                timePoints[idx] = t;
+                heights[idx] = h;
+                idx++;
+            }
+        }
+        assert h == 0;
+        timePoints[idx] = Integer.MAX_VALUE;
+        heights[idx] = 0;
+        idx++;
+    }
+
+    private int eventTime(final int e) {
+        return (e & 1) == 0 ? cpStart[e >> 1] : cpEnd[e >> 1];
+    }
+
+    /**
+     * Adds <i>delta</i> to the height of the profile on [a, b).
+     */
+    private void addRange(final int a, final int b, final int delta) {
+        final int ja = split(a);
+        final int jb = split(b);
+        for (int j = ja; j < jb; j++) {
+            heights[j] += delta;
+        }
+        // only the bounds of the range may now separate rectangles of equal heights
+        if (heights[jb] == heights[jb - 1]) {
+            removePoint(jb);
+        }
+        if (heights[ja] == heights[ja - 1]) {
+            removePoint(ja);
+        }
+    }
+
+    /**
+     * Returns the index of the time point t, inserted if needed.
+     */
+    private int split(final int t) {
+        final int j = find(t);
+        if (timePoints[j] == t) {
+            return j;
+        }
+        System.arraycopy(timePoints, j + 1, timePoints, j + 2, idx - j - 1);
+        System.arraycopy(heights, j + 1, heights, j + 2, idx - j - 1);
+        timePoints[j + 1] = t;
+        heights[j + 1] = heights[j];
+        idx++;
+        return j + 1;
+    }
+
+    private void removePoint(final int j) {
+        System.arraycopy(timePoints, j + 1, timePoints, j, idx - j - 1);
+        System.arraycopy(heights, j + 1, heights, j, idx - j - 1);
+        idx--;
+    }
+
+    /**
+     * Returns the energy of the profile after the time-point in parameter.
+     *
+     * @param time the time-point
+     * @return the energy of the profile after the time-point
+     */
+    public long energyAfter(final int time) {
+        if (!energyValid) {
+            final int n = size();
+            energy[n] = 0;
+            for (int j = n - 1; j >= 0; j--) {
+                energy[j] = energy[j + 1] + (long) heights[j] * ((long) timePoints[j + 1] - timePoints[j]);
+            }
+            energyValid = true;
+        }
+        final int j = find(time);
+        return energy[j + 1] + (long) heights[j] * ((long) timePoints[j + 1] - time);
+    }
+
     /**
      * Finds and returns the index of the rectangle containing the time-point in parameter.
      * Runs in logarithmic time in the number of rectangles.
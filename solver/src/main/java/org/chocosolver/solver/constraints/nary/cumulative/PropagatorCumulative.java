@@ -7,8 +7,8 @@
 package org.chocosolver.solver.constraints.nary.cumulative;
 
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
@@ -32,8 +32,15 @@ import static org.chocosolver.solver.constraints.nary.cumulative.SchedulingUtils
  * It uses : <ul>
  * <li>the scalable TimeTable algorithm from Gay et al. [Gay2015]</li>
  * <li>the OverloadChecking algorithm from Vilim [Vilim2011]</li>
+ * <li>optionally, the TimeTable Edge Finding rule from Vilim [Vilim2011], applied on the earliest start times and on
+ * the latest completion times of the tasks, in O(n^2)</li>
  * </ul>
  * The explanations are the ones described in [Schutt2011].
+ * The TimeTable Edge Finding rule is not explained yet, it is ignored when learning clauses.
+ * <br>
+ * Without explanations, the profile is maintained incrementally: the tasks modified since the previous call, as
+ * notified by fine events, update their compulsory part in the profile.
+ * Upon backtrack, or when many tasks are modified, the profile is rebuilt from scratch.
  * <br>
  * <a href="https://doi.org/10.1007/978-3-319-23219-5_11">Gay, S., Hartert, R., and Schaus, P.: “Simple and Scalable Time-Table Filtering for the Cumulative Constraint”. In: Principles and Practice of Constraint Programming - 21st International Conference, CP 2015, Cork, Ireland, August 31 - September 4, 2015, Proceedings. Ed. by Gilles Pesant. Vol. 9255. Lecture Notes in Computer Science. Springer, 2015, pp. 149–157</a>
  * <br>
@@ -51,13 +58,6 @@ public class PropagatorCumulative extends Propagator<IntVar> {
         return task.getDuration().getLB() - pTT;
     }
 
-    private static int compareTaskWithFreeParts(final Task a, final Task b) {
-        if (a.getEst() == b.getEst()) {
-            return a.getEst() + getFreeDuration(a) - (b.getEst() + getFreeDuration(b));
-        }
-        return a.getEst() - b.getEst();
-    }
-
     private static IntVar[] extractIntVars(final Task[] tasks, final IntVar[] heights, final IntVar capacity) {
         final List<IntVar> list = new ArrayList<>();
         for (int i = 0; i < tasks.length; i++) {
@@ -79,14 +79,26 @@ public class PropagatorCumulative extends Propagator<IntVar> {
     protected final IntVar[] heights;
     private final IntVar capacity;
     private final IStateBitSet activeTasks;
-    private final Map<IntVar, Integer> mapPerformedVarToIdxTask;
+    // Index of the task of each performed variable, the k-th one being at index 4 * n + 1 + k in vars
+    private final int[] performedToTask;
     // For the TimeTable
     private final Profile profile;
+    // Tasks modified since the profile was last synchronized
+    private final int[] modified;
+    private final boolean[] isModified;
+    private int nbModified;
+    // Number of synchronizations of the profile, the backtrackable copy differs upon backtrack
+    private int syncs;
+    private final IStateInt syncStamp;
     // For the overloadChecking
-    private final TIntIntHashMap ttAfter;
-    private final List<Task> tasksWithFreeParts;
-    private final Comparator<Task> comparatorFreeParts;
-    private final Map<Task, IntVar> mapTaskToHeight;
+    private final int[] freeParts;
+    private int nbFreeParts;
+    private final ArraySort<?> freePartsSorter;
+    private final IntComparator comparatorFreeParts;
+    // For the TimeTable Edge Finding
+    private final boolean timetableEdgeFinding;
+    private final int[] byLct;
+    private final int[] newBounds;
     // For energy naive
     private final boolean energyNaive;
     private final IntComparator comparator;
@@ -110,18 +122,39 @@ public class PropagatorCumulative extends Propagator<IntVar> {
             final IntVar capacity,
             final boolean energyNaive,
             final boolean disjunctiveEnergyNaive
+    ) {
+        this(tasks, heights, capacity, energyNaive, disjunctiveEnergyNaive, false);
+    }
+
+    public PropagatorCumulative(
+            final Task[] tasks,
+            final IntVar[] heights,
+            final IntVar capacity,
+            final boolean energyNaive,
+            final boolean disjunctiveEnergyNaive,
+            final boolean timetableEdgeFinding
     ) {
         super(extractIntVars(tasks, heights, capacity), PropagatorPriority.QUADRATIC, true);
         this.tasks = tasks;
         this.heights = heights;
         this.capacity = capacity;
         this.activeTasks = this.getModel().getEnvironment().makeBitSet(tasks.length);
-        mapPerformedVarToIdxTask = new HashMap<>();
+        performedToTask = new int[vars.length - 4 * tasks.length - 1];
         profile = new Profile(tasks.length);
-        tasksWithFreeParts = new ArrayList<>(tasks.length);
-        ttAfter = new TIntIntHashMap(2 * tasks.length);
-        comparatorFreeParts = PropagatorCumulative::compareTaskWithFreeParts;
-        mapTaskToHeight = new HashMap<>(tasks.length);
+        modified = new int[tasks.length];
+        isModified = new boolean[tasks.length];
+        syncStamp = this.getModel().getEnvironment().makeInt(-1);
+        freeParts = new int[tasks.length];
+        freePartsSorter = new ArraySort<>(tasks.length, false, true);
+        comparatorFreeParts = (i1, i2) -> {
+            if (tasks[i1].getEst() == tasks[i2].getEst()) {
+                return Integer.compare(getFreeDuration(tasks[i1]), getFreeDuration(tasks[i2]));
+            }
+            return Integer.compare(tasks[i1].getEst(), tasks[i2].getEst());
+        };
+        this.timetableEdgeFinding = timetableEdgeFinding;
+        byLct = new int[tasks.length];
+        newBounds = new int[tasks.length];
         this.energyNaive = energyNaive;
         sorArray = new int[tasks.length];
         sorter = new ArraySort<>(tasks.length, false, true);
@@ -135,11 +168,10 @@ public class PropagatorCumulative extends Propagator<IntVar> {
         comp = (i1, i2) -> tasks[i1].getEst() - tasks[i2].getEst();
         tsks = new int[tasks.length];
 
-        for (int i = 0; i < tasks.length; ++i) {
+        for (int i = 0, k = 0; i < tasks.length; ++i) {
             if (!tasks[i].mustBePerformed() && tasks[i].mayBePerformed()) {
-                mapPerformedVarToIdxTask.put(((OptionalTask) tasks[i]).getPerformed(), i);
+                performedToTask[k++] = i;
             }
-            mapTaskToHeight.put(tasks[i], heights[i]);
         }
         // Specific data structures for generating the explanations
         if (model.getSolver().isLCG()) {
@@ -174,13 +206,17 @@ public class PropagatorCumulative extends Propagator<IntVar> {
                     activeTasks.set(i);
                 }
             }
+            // the whole profile is checked on the next synchronization
+            syncStamp.set(-1);
         }
         if (activeTasks.size() <= 1) {
             // No need for TimeTable or OverloadChecking in such a case
             return;
         }
-        scalableTimeTable();
-        overloadChecking();
+        do {
+            scalableTimeTable();
+            overloadChecking();
+        } while (timetableEdgeFinding && !lcg() && timetableEdgeFinding());
         updateHeights();
         if (energyNaive) {
             energyNaive();
@@ -210,12 +246,14 @@ public class PropagatorCumulative extends Propagator<IntVar> {
                 forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
             }
         } else if (varIdx > 4 * n) { // performed variables
-            final int idxTask = mapPerformedVarToIdxTask.get(vars[varIdx]);
+            final int idxTask = performedToTask[varIdx - 4 * n - 1];
+            markModified(idxTask);
             if (!isActive(idxTask)) {
                 activeTasks.clear(idxTask);
             }
         } else {
             final int idxTask = varIdx / 4;
+            markModified(idxTask);
             if (!isActive(idxTask)) {
                 activeTasks.clear(idxTask);
             } else {
@@ -290,7 +328,11 @@ public class PropagatorCumulative extends Propagator<IntVar> {
      * @throws ContradictionException when a filtering error is encountered
      */
     private void buildProfile() throws ContradictionException {
-        profile.buildProfile(tasks, heights, activeTasks);
+        if (lcg()) {
+            profile.buildProfile(tasks, heights, activeTasks);
+        } else {
+            synchronizeProfile();
+        }
         int idxRectMaxHeight = 0;
         for (int j = 0; j < profile.size(); j++) {
             if (profile.getHeightRectangle(idxRectMaxHeight) < profile.getHeightRectangle(j)) {
@@ -315,6 +357,72 @@ public class PropagatorCumulative extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * Records that the task at index i may have been modified since the last synchronization of the profile.
+     *
+     * @param i the index of the task
+     */
+    private void markModified(final int i) {
+        if (!isModified[i]) {
+            isModified[i] = true;
+            modified[nbModified++] = i;
+        }
+    }
+
+    /**
+     * Updates the profile with the compulsory parts of the modified tasks.
+     * All the tasks are checked when the profile has not been synchronized yet or upon backtrack,
+     * and the profile is rebuilt from scratch when many tasks are modified.
+     */
+    private void synchronizeProfile() {
+        final boolean fromScratch = syncStamp.get() == -1;
+        if (fromScratch) {
+            profile.reset();
+        }
+        if (syncStamp.get() != syncs) {
+            for (int i = 0; i < tasks.length; i++) {
+                markModified(i);
+            }
+        }
+        int nbChanged = 0;
+        for (int k = 0; k < nbModified; k++) {
+            final int i = modified[k];
+            isModified[i] = false;
+            if (profile.hasChanged(i, cpStart(i), cpEnd(i), cpHeight(i))) {
+                modified[nbChanged++] = i;
+            }
+        }
+        nbModified = 0;
+        if (fromScratch || nbChanged > Math.max(8, tasks.length >> 4)) {
+            for (int k = 0; k < nbChanged; k++) {
+                final int i = modified[k];
+                profile.record(i, cpStart(i), cpEnd(i), cpHeight(i));
+            }
+            profile.rebuild();
+        } else {
+            for (int k = 0; k < nbChanged; k++) {
+                final int i = modified[k];
+                profile.update(i, cpStart(i), cpEnd(i), cpHeight(i));
+            }
+        }
+        syncStamp.set(++syncs);
+    }
+
+    private int cpStart(final int i) {
+        return tasks[i].getLst();
+    }
+
+    private int cpEnd(final int i) {
+        return tasks[i].getEct();
+    }
+
+    /**
+     * Returns the height of the compulsory part of the task at index i, 0 if it does not contribute to the profile.
+     */
+    private int cpHeight(final int i) {
+        return mustBePerformed(tasks[i], heights[i]) && tasks[i].hasCompulsoryPart() ? heights[i].getLB() : 0;
+    }
+
     /**
      * Returns the negated literal -[[v <= val]] = [[v >= val + 1]].
      *
@@ -405,9 +513,11 @@ public class PropagatorCumulative extends Propagator<IntVar> {
             final Task task = tasks[i];
             if (mayBePerformed(task, heights[i])) {
                 if (scalableTimeTableFilterEst(task, heights[i])) {
+                    markModified(i);
                     shouldRecomputeTimeTable |= task.hasCompulsoryPart() && mustBePerformed(task, heights[i]);
                 }
                 if (scalableTimeTableFilterLct(task, heights[i])) {
+                    markModified(i);
                     shouldRecomputeTimeTable |= task.hasCompulsoryPart() && mustBePerformed(task, heights[i]);
                 }
             }
@@ -515,64 +625,18 @@ public class PropagatorCumulative extends Propagator<IntVar> {
     }
 
     /**
-     * Computes the ttAfter map, which, to a given time point, associates the total amount of energy in the profile
-     * after said time point.
-     */
-    private void computeTtAfter() {
-        ttAfter.clear();
-        for (int i = activeTasks.nextSetBit(0); i != -1; i = activeTasks.nextSetBit(i + 1)) {
-            if (mustBePerformed(tasks[i], heights[i])) {
-                final int est = tasks[i].getEst();
-                final int lct = tasks[i].getLct();
-                if (!ttAfter.containsKey(est) || !ttAfter.containsKey(lct)) {
-                    computeTtAfter(est, lct);
-                }
-            }
-        }
-    }
-
-    /**
-     * Computes and adds to the ttAfter map, the total amount of energy in the profile after the latest completion time
-     * and the earliest start time of a task.
-     *
-     * @param est the earliest start time of a task
-     * @param lct the latest completion time of a task
-     */
-    private void computeTtAfter(final int est, final int lct) {
-        int ttAfterTime = 0;
-        int idx = profile.size() - 1;
-        while (0 <= idx && lct <= profile.getStartRectangle(idx)) {
-            ttAfterTime += profile.getHeightRectangle(idx) * (profile.getEndRectangle(idx) - profile.getStartRectangle(idx));
-            idx--;
-        }
-        if (0 <= idx && lct < profile.getEndRectangle(idx)) {
-            ttAfter.put(lct, ttAfterTime + profile.getHeightRectangle(idx) * (profile.getEndRectangle(idx) - lct));
-        } else {
-            ttAfter.put(lct, ttAfterTime);
-        }
-        while (0 <= idx && est <= profile.getStartRectangle(idx)) {
-            ttAfterTime += profile.getHeightRectangle(idx) * (profile.getEndRectangle(idx) - profile.getStartRectangle(idx));
-            idx--;
-        }
-        if (0 <= idx && est < profile.getEndRectangle(idx)) {
-            ttAfter.put(est, ttAfterTime + profile.getHeightRectangle(idx) * (profile.getEndRectangle(idx) - est));
-        } else {
-            ttAfter.put(est, ttAfterTime);
-        }
-    }
-
-    /**
-     * Computes the list of tasks that must be performed and with a non-null free duration, and sorts it.
+     * Computes the tasks that must be performed and with a non-null free duration, and sorts them by earliest start
+     * time.
      */
     private void computeTasksWithFreeParts() {
-        tasksWithFreeParts.clear();
+        nbFreeParts = 0;
         for (int i = activeTasks.nextSetBit(0); i != -1; i = activeTasks.nextSetBit(i + 1)) {
             if (mustBePerformed(tasks[i], heights[i]) && getFreeDuration(tasks[i]) > 0) {
-                tasksWithFreeParts.add(tasks[i]);
+                freeParts[nbFreeParts++] = i;
             }
         }
         // Sort free parts
-        tasksWithFreeParts.sort(comparatorFreeParts);
+        freePartsSorter.sort(freeParts, nbFreeParts, comparatorFreeParts);
     }
 
     /**
@@ -582,21 +646,21 @@ public class PropagatorCumulative extends Propagator<IntVar> {
      */
     private void overloadChecking() throws ContradictionException {
         // From PropCumulativeVilim2011
-        computeTtAfter();
         computeTasksWithFreeParts();
-        int eEF;
+        long eEF;
         Task a;
         Task b;
         int lctB;
-        for (int i = 0; i < tasksWithFreeParts.size(); i++) {
-            b = tasksWithFreeParts.get(i);
+        for (int i = 0; i < nbFreeParts; i++) {
+            b = tasks[freeParts[i]];
             lctB = b.getLct();
             eEF = 0;
-            for (int k = tasksWithFreeParts.size() - 1; k >= 0; k--) {
-                a = tasksWithFreeParts.get(k);
+            for (int k = nbFreeParts - 1; k >= 0; k--) {
+                a = tasks[freeParts[k]];
                 if (a.getLct() <= b.getLct()) {
-                    eEF += getFreeDuration(a) * mapTaskToHeight.get(a).getLB();
-                    if (capacity.getUB() * (lctB - a.getEst()) < eEF + ttAfter.get(a.getEst()) - ttAfter.get(lctB)) {
+                    eEF += (long) getFreeDuration(a) * heights[freeParts[k]].getLB();
+                    if ((long) capacity.getUB() * (lctB - a.getEst())
+                            < eEF + profile.energyAfter(a.getEst()) - profile.energyAfter(lctB)) {
                         fails(); // TODO : should be explained
                         break;
                     }
@@ -605,6 +669,125 @@ public class PropagatorCumulative extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * Applies the TimeTable Edge Finding rule [Vilim2011] on the earliest start times, then on the latest completion
+     * times. Should be called after {@link #overloadChecking()}, which computes the tasks with free parts.
+     * As the profile may change, it is applied again with the TimeTable until no task is filtered.
+     * <p>
+     * For a window [begin, end), the available energy is the capacity times the length of the window, minus the free
+     * energy of the tasks within the window and the energy of the profile in it.
+     * A task starting in the window and ending after it cannot start at its est if its free energy in the window
+     * exceeds the available energy, so its est is set to the latest time allowing its energy to fit in.
+     * Only the task requiring the most energy is filtered for each window.
+     *
+     * @return true iff a task has been filtered
+     * @throws ContradictionException when a filtering error is encountered
+     */
+    private boolean timetableEdgeFinding() throws ContradictionException {
+        if (nbFreeParts <= 1) {
+            return false;
+        }
+        boolean hasFiltered = false;
+        final long cap = capacity.getUB();
+        for (int k = 0; k < nbFreeParts; k++) {
+            byLct[k] = freeParts[k];
+        }
+        freePartsSorter.sort(byLct, nbFreeParts, (i1, i2) -> Integer.compare(tasks[i1].getLct(), tasks[i2].getLct()));
+        // earliest start times, freeParts being sorted by est
+        for (int k = 0; k < nbFreeParts; k++) {
+            newBounds[freeParts[k]] = tasks[freeParts[k]].getEst();
+        }
+        for (int l = nbFreeParts - 1; l >= 0; l--) {
+            final int end = tasks[byLct[l]].getLct();
+            if (l < nbFreeParts - 1 && tasks[byLct[l + 1]].getLct() == end) {
+                continue;
+            }
+            long free = 0;
+            long maxReq = 0;
+            int u = -1;
+            for (int k = nbFreeParts - 1; k >= 0; k--) {
+                final int i = freeParts[k];
+                final Task t = tasks[i];
+                final int h = heights[i].getLB();
+                if (t.getLct() <= end) {
+                    free += (long) getFreeDuration(t) * h;
+                } else if (t.getEst() < end) {
+                    // energy of its free part in the window when it starts at its est
+                    final long req = (long) h * (Math.min(end, t.getEst() + t.getMinDuration()) - t.getEst())
+                            - (long) h * Math.max(0, Math.min(end, t.getEct()) - t.getLst());
+                    if (req > maxReq) {
+                        maxReq = req;
+                        u = i;
+                    }
+                }
+                final int begin = t.getEst();
+                if (u >= 0 && begin < end && (k == 0 || tasks[freeParts[k - 1]].getEst() < begin)) {
+                    final long avail = cap * (end - begin) - free - (profile.energyAfter(begin) - profile.energyAfter(end));
+                    if (maxReq > avail) {
+                        final Task tu = tasks[u];
+                        final long cp = (long) heights[u].getLB() * Math.max(0, Math.min(end, tu.getEct()) - tu.getLst());
+                        final int est = (int) (end - Math.max(0, avail + cp) / heights[u].getLB());
+                        newBounds[u] = Math.max(newBounds[u], est);
+                    }
+                }
+            }
+        }
+        for (int k = 0; k < nbFreeParts; k++) {
+            final int i = freeParts[k];
+            if (newBounds[i] > tasks[i].getEst() && filterEst(tasks[i], heights[i], newBounds[i], this)) {
+                markModified(i);
+                hasFiltered = true;
+            }
+        }
+        // latest completion times, byLct being sorted by lct
+        for (int k = 0; k < nbFreeParts; k++) {
+            newBounds[byLct[k]] = tasks[byLct[k]].getLct();
+        }
+        for (int f = 0; f < nbFreeParts; f++) {
+            final int begin = tasks[freeParts[f]].getEst();
+            if (f > 0 && tasks[freeParts[f - 1]].getEst() == begin) {
+                continue;
+            }
+            long free = 0;
+            long maxReq = 0;
+            int u = -1;
+            for (int k = 0; k < nbFreeParts; k++) {
+                final int i = byLct[k];
+                final Task t = tasks[i];
+                final int h = heights[i].getLB();
+                if (t.getEst() >= begin) {
+                    free += (long) getFreeDuration(t) * h;
+                } else if (t.getLct() > begin) {
+                    // energy of its free part in the window when it ends at its lct
+                    final long req = (long) h * (t.getLct() - Math.max(begin, t.getLct() - t.getMinDuration()))
+                            - (long) h * Math.max(0, t.getEct() - Math.max(begin, t.getLst()));
+                    if (req > maxReq) {
+                        maxReq = req;
+                        u = i;
+                    }
+                }
+                final int end = t.getLct();
+                if (u >= 0 && begin < end && (k == nbFreeParts - 1 || tasks[byLct[k + 1]].getLct() > end)) {
+                    final long avail = cap * (end - begin) - free - (profile.energyAfter(begin) - profile.energyAfter(end));
+                    if (maxReq > avail) {
+                        final Task tu = tasks[u];
+                        final long cp = (long) heights[u].getLB() * Math.max(0, tu.getEct() - Math.max(begin, tu.getLst()));
+                        final int lct = (int) (begin + Math.max(0, avail + cp) / heights[u].getLB());
+                        newBounds[u] = Math.min(newBounds[u], lct);
+                    }
+                }
+            }
+        }
+        for (int k = 0; k < nbFreeParts; k++) {
+            final int i = byLct[k];
+            if (newBounds[i] < tasks[i].getLct() && filterLct(tasks[i], heights[i], newBounds[i], this)) {
+                markModified(i);
+                hasFiltered = true;
+            }
+        }
+        return hasFiltered;
+    }
+
     /**
      * Filters the heights variables based on the profile: the height of a task cannot be higher than the capacity
      * minus the maximum height of rectangles that the task intersects.
@@ -668,6 +851,7 @@ public class PropagatorCumulative extends Propagator<IntVar> {
                 final double availSurf = (xMax - xMin) * camax - surface;
                 heights[i].updateUpperBound((int) Math.floor((availSurf / tasks[i].getMinDuration()) + 0.01), this);
                 tasks[i].updateMaxDuration((int) Math.floor((availSurf / heights[i].getLB()) + 0.01), this);
+                markModified(i);
                 surface += (long) tasks[i].getMinDuration() * heights[i].getLB(); // potential overflow
                 if (xMax > xMin) {
                     capacity.updateLowerBound((int) Math.ceil(surface / (xMax - xMin) - 0.01), this);
@@ -707,6 +891,8 @@ public class PropagatorCumulative extends Propagator<IntVar> {
                     if (tasks[task1].getEct() > tasks[task2].getLst()) {
                         tasks[task1].updateEst(tasks[task2].getEct(), this);
                         tasks[task2].updateLct(tasks[task1].getLst(), this);
+                        markModified(task1);
+                        markModified(task2);
                     } else if (t1 < t2 && (t1 < tasks[task2].getEct() || t2 > tasks[task1].getLst())) {
                         int w = 0;
                         for (int z = 0; z < tskSize; z++) {
@@ -725,6 +911,8 @@ public class PropagatorCumulative extends Propagator<IntVar> {
                         if (w + tasks[task1].getMinDuration() + tasks[task2].getMinDuration() > t2 - t1) {
                             tasks[task1].updateEst(tasks[task2].getEct(), this);
                             tasks[task2].updateLct(tasks[task1].getLst(), this);
+                            markModified(task1);
+                            markModified(task2);
                         }
                     }
                 }
@@ -753,6 +941,7 @@ public class PropagatorCumulative extends Propagator<IntVar> {
      * @throws ContradictionException whenever a filtering error occurs
      */
     private void propagateTaskHeight(final int i) throws ContradictionException {
+        markModified(i);
         if (lcg()) {
             propTaskHeightExplained(i);
         } else {
@@ -0,0 +1,344 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.OptionalTask;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propagator for the Disjunctive (or unary resource) constraint: the tasks that are performed do not overlap.
+ * It uses the O(n log n) algorithms of [Vilim2004] on a {@link ThetaLambdaTree}:
+ * <ul>
+ * <li>overload checking,</li>
+ * <li>detectable precedences,</li>
+ * <li>not-first/not-last,</li>
+ * <li>edge finding,</li>
+ * </ul>
+ * each of them being applied on the tasks and on their mirror (by negating time), until a fixpoint is reached.
+ * <br/>
+ * Optional tasks (see {@link OptionalTask}) are handled as described in [Vilim2005]:
+ * only the tasks that must be performed are put in &Theta;, so they are the only ones to filter others.
+ * The bounds of an optional task are not filtered, since they are free when it is not performed,
+ * but it is forced not to be performed when it cannot be added to the resource without overloading it
+ * or when its filtered time window becomes too small.
+ * Tasks whose minimum duration is 0 are ignored until their duration is known to be positive.
+ * <br/>
+ * <a href="https://doi.org/10.1007/978-3-540-24664-0_23">Petr Vilím: “O(n log n) Filtering Algorithms for Unary Resource Constraint”. In: Integration of AI and OR Techniques in Constraint Programming for Combinatorial Optimization Problems, CPAIOR 2004. Vol. 3011. Lecture Notes in Computer Science. Springer, 2004, pp. 335–347</a>
+ * <br/>
+ * <a href="https://doi.org/10.1007/s10601-005-2814-0">Petr Vilím, Roman Barták, Ondřej Čepek: “Extension of O(n log n) Filtering Algorithms for the Unary Resource Constraint to Optional Activities”. In: Constraints An Int. J. 10.4 (2005), pp. 403–425</a>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class PropagatorDisjunctive extends Propagator<IntVar> {
+
+    private static IntVar[] extractIntVars(final Task[] tasks) {
+        final List<IntVar> list = new ArrayList<>();
+        for (Task task : tasks) {
+            list.add(task.getStart());
+            list.add(task.getDuration());
+            list.add(task.getEnd());
+        }
+        for (Task task : tasks) {
+            if (!task.mustBePerformed() && task.mayBePerformed()) {
+                list.add(((OptionalTask) task).getPerformed());
+            }
+        }
+        return list.toArray(new IntVar[0]);
+    }
+
+    protected final Task[] tasks;
+    private final ThetaLambdaTree tree;
+    private final ArraySort<?> sorter;
+    // Current tasks on the resource, in [0, m)
+    private int m;
+    private final int[] ids;
+    private final boolean[] mandatory;
+    private final int[] est;
+    private final int[] lct;
+    private final int[] p;
+    // Mirrored bounds
+    private final int[] mest;
+    private final int[] mlct;
+    // Filtered bounds, by the sweep on the tasks and by the sweep on their mirror
+    private final int[] newEst;
+    private final int[] newLct;
+    private final int[] mnewEst;
+    private final int[] mnewLct;
+    private final boolean[] notPerformed;
+    // Sorted indices, and rank of each task in the est order
+    private final int[] byEst;
+    private final int[] byLct;
+    private final int[] byEct;
+    private final int[] byLst;
+    private final int[] rank;
+
+    public PropagatorDisjunctive(final Task[] tasks) {
+        super(extractIntVars(tasks), PropagatorPriority.QUADRATIC, false);
+        this.tasks = tasks;
+        final int n = tasks.length;
+        this.tree = new ThetaLambdaTree(n);
+        this.sorter = new ArraySort<>(n, false, true);
+        this.ids = new int[n];
+        this.mandatory = new boolean[n];
+        this.est = new int[n];
+        this.lct = new int[n];
+        this.p = new int[n];
+        this.mest = new int[n];
+        this.mlct = new int[n];
+        this.newEst = new int[n];
+        this.newLct = new int[n];
+        this.mnewEst = new int[n];
+        this.mnewLct = new int[n];
+        this.notPerformed = new boolean[n];
+        this.byEst = new int[n];
+        this.byLct = new int[n];
+        this.byEct = new int[n];
+        this.byLst = new int[n];
+        this.rank = new int[n];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean hasFiltered;
+        do {
+            collect();
+            if (m <= 1) {
+                return;
+            }
+            for (int k = 0; k < m; k++) {
+                newEst[k] = est[k];
+                newLct[k] = lct[k];
+                notPerformed[k] = false;
+            }
+            overloadChecking(est, lct);
+            sweep(est, lct, newEst, newLct);
+            for (int k = 0; k < m; k++) {
+                mest[k] = -lct[k];
+                mlct[k] = -est[k];
+                mnewEst[k] = mest[k];
+                mnewLct[k] = mlct[k];
+            }
+            sweep(mest, mlct, mnewEst, mnewLct);
+            hasFiltered = false;
+            for (int k = 0; k < m; k++) {
+                Task task = tasks[ids[k]];
+                if (notPerformed[k]) {
+                    hasFiltered |= task.forceToBeOptional(this);
+                    continue;
+                }
+                int e = Math.max(newEst[k], -mnewLct[k]);
+                int l = Math.min(newLct[k], -mnewEst[k]);
+                if (!mandatory[k]) {
+                    // the bounds of a task which may not be performed are left free
+                    if ((long) e + p[k] > l) {
+                        hasFiltered |= task.forceToBeOptional(this);
+                    }
+                    continue;
+                }
+                if (e > est[k]) {
+                    hasFiltered |= task.updateEst(e, this);
+                }
+                if (l < lct[k]) {
+                    hasFiltered |= task.updateLct(l, this);
+                }
+            }
+        } while (hasFiltered);
+    }
+
+    /**
+     * Store the bounds of the tasks that may be performed and have a positive duration.
+     */
+    private void collect() {
+        m = 0;
+        for (int i = 0; i < tasks.length; i++) {
+            Task task = tasks[i];
+            if (task.mayBePerformed() && task.getMinDuration() > 0) {
+                ids[m] = i;
+                mandatory[m] = task.mustBePerformed();
+                est[m] = task.getEst();
+                lct[m] = task.getLct();
+                p[m] = task.getMinDuration();
+                m++;
+            }
+        }
+    }
+
+    /**
+     * Sort the tasks by est, lct, ect and lst, and compute the rank of each task in the est order.
+     */
+    private void sort(int[] est, int[] lct) {
+        for (int k = 0; k < m; k++) {
+            byEst[k] = byLct[k] = byEct[k] = byLst[k] = k;
+        }
+        sorter.sort(byEst, m, (i, j) -> Integer.compare(est[i], est[j]));
+        sorter.sort(byLct, m, (i, j) -> Integer.compare(lct[i], lct[j]));
+        sorter.sort(byEct, m, (i, j) -> Long.compare((long) est[i] + p[i], (long) est[j] + p[j]));
+        sorter.sort(byLst, m, (i, j) -> Long.compare((long) lct[i] - p[i], (long) lct[j] - p[j]));
+        for (int r = 0; r < m; r++) {
+            rank[byEst[r]] = r;
+        }
+    }
+
+    /**
+     * Fail if the tasks that must be performed overload the resource,
+     * and mark as not performed the optional tasks which cannot be added without overloading it.
+     */
+    private void overloadChecking(int[] est, int[] lct) throws ContradictionException {
+        sort(est, lct);
+        tree.reset(m);
+        for (int r = 0; r < m; r++) {
+            int j = byLct[r];
+            if (mandatory[j]) {
+                tree.addToTheta(rank[j], est[j], p[j]);
+                if (tree.getEct() > lct[j]) {
+                    fails();
+                }
+            } else {
+                tree.addToLambda(rank[j], est[j], p[j]);
+            }
+            while (tree.getEctBar() > lct[j] && tree.getResponsibleEctBar() >= 0) {
+                int o = byEst[tree.getResponsibleEctBar()];
+                notPerformed[o] = true;
+                tree.remove(rank[o]);
+            }
+        }
+    }
+
+    /**
+     * Apply detectable precedences and edge finding to filter est, and not-last to filter lct.
+     */
+    private void sweep(int[] est, int[] lct, int[] newEst, int[] newLct) throws ContradictionException {
+        sort(est, lct);
+        detectablePrecedences(est, lct, newEst);
+        notLast(est, lct, newLct);
+        edgeFinding(est, lct, newEst);
+    }
+
+    private void detectablePrecedences(int[] est, int[] lct, int[] newEst) {
+        tree.reset(m);
+        int q = 0;
+        for (int r = 0; r < m; r++) {
+            int i = byEct[r];
+            long ect = (long) est[i] + p[i];
+            while (q < m && ect > (long) lct[byLst[q]] - p[byLst[q]]) {
+                int j = byLst[q++];
+                if (mandatory[j]) {
+                    tree.addToTheta(rank[j], est[j], p[j]);
+                }
+            }
+            long ectTheta = ectWithout(i, est);
+            if (ectTheta > newEst[i]) {
+                newEst[i] = toInt(ectTheta);
+            }
+        }
+    }
+
+    private void notLast(int[] est, int[] lct, int[] newLct) {
+        tree.reset(m);
+        int q = 0;
+        int last = -1;
+        for (int r = 0; r < m; r++) {
+            int i = byLct[r];
+            while (q < m && lct[i] > lct[byLst[q]] - p[byLst[q]]) {
+                int j = byLst[q++];
+                if (mandatory[j]) {
+                    tree.addToTheta(rank[j], est[j], p[j]);
+                    last = j;
+                }
+            }
+            if (last >= 0 && ectWithout(i, est) > (long) lct[i] - p[i]) {
+                newLct[i] = Math.min(newLct[i], lct[last] - p[last]);
+            }
+        }
+    }
+
+    private void edgeFinding(int[] est, int[] lct, int[] newEst) throws ContradictionException {
+        tree.reset(m);
+        for (int k = 0; k < m; k++) {
+            if (mandatory[k]) {
+                tree.addToTheta(rank[k], est[k], p[k]);
+            } else {
+                tree.addToLambda(rank[k], est[k], p[k]);
+            }
+        }
+        for (int r = m - 1; r >= 0; r--) {
+            int j = byLct[r];
+            if (tree.getEct() > lct[j]) {
+                fails();
+            }
+            while (tree.getEctBar() > lct[j] && tree.getResponsibleEctBar() >= 0) {
+                int i = byEst[tree.getResponsibleEctBar()];
+                if (tree.getEct() > newEst[i]) {
+                    newEst[i] = toInt(tree.getEct());
+                }
+                tree.remove(rank[i]);
+            }
+            if (mandatory[j]) {
+                tree.moveToLambda(rank[j]);
+            }
+        }
+    }
+
+    /**
+     * @return ECT(&Theta; \ {i})
+     */
+    private long ectWithout(int i, int[] est) {
+        if (tree.inTheta(rank[i])) {
+            tree.remove(rank[i]);
+            long ect = tree.getEct();
+            tree.addToTheta(rank[i], est[i], p[i]);
+            return ect;
+        }
+        return tree.getEct();
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public ESat isEntailed() {
+        boolean instantiated = true;
+        for (int i = 0; i < tasks.length; i++) {
+            Task ti = tasks[i];
+            if (!ti.getStart().isInstantiated() || !ti.getDuration().isInstantiated()
+                    || (ti.mayBePerformed() && !ti.mustBePerformed())) {
+                instantiated = false;
+                continue;
+            }
+            if (!ti.mustBePerformed() || ti.getMinDuration() == 0) {
+                continue;
+            }
+            for (int j = i + 1; j < tasks.length; j++) {
+                Task tj = tasks[j];
+                if (tj.mustBePerformed() && tj.getStart().isInstantiated() && tj.getDuration().isInstantiated()
+                        && tj.getMinDuration() > 0
+                        && ti.getEst() < tj.getEst() + tj.getMinDuration()
+                        && tj.getEst() < ti.getEst() + ti.getMinDuration()) {
+                    return ESat.FALSE;
+                }
+            }
+        }
+        return instantiated ? ESat.TRUE : ESat.UNDEFINED;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import java.util.Arrays;
+
+/**
+ * A Theta-Lambda tree, as described in [Vilim2004], stored in flat arrays.
+ * <br/>
+ * Leaves are the tasks sorted by non-decreasing earliest starting times (the caller gives the rank of each task).
+ * A leaf is either empty, in the set &Theta; (white task) or in the set &Lambda; (gray task).
+ * Each node maintains, for the leaves below it:
+ * <ul>
+ *     <li>&Sigma;P and ECT: the sum of processing times and the earliest completion time of the white tasks,</li>
+ *     <li>&Sigma;P' and ECT': the same values when at most one gray task is added, and the gray task responsible for them.</li>
+ * </ul>
+ * Adding, removing or changing the color of a leaf costs O(log n).
+ * <br/>
+ * <a href="https://doi.org/10.1007/978-3-540-24664-0_23">Petr Vilím: “O(n log n) Filtering Algorithms for Unary Resource Constraint”. In: Integration of AI and OR Techniques in Constraint Programming for Combinatorial Optimization Problems, CPAIOR 2004. Vol. 3011. Lecture Notes in Computer Science. Springer, 2004, pp. 335–347</a>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+final class ThetaLambdaTree {
+
+    /**
+     * Earliest completion time of an empty set
+     */
+    static final long NEG_INF = Long.MIN_VALUE / 4;
+
+    /**
+     * Number of leaves, a power of two
+     */
+    private int size;
+    private long[] sumP;
+    private long[] ect;
+    private long[] sumPBar;
+    private long[] ectBar;
+    /**
+     * Leaf of the gray task responsible for {@link #sumPBar}, -1 if none
+     */
+    private int[] respP;
+    /**
+     * Leaf of the gray task responsible for {@link #ectBar}, -1 if none
+     */
+    private int[] respE;
+
+    ThetaLambdaTree(int capacity) {
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        sumP = new long[2 * size];
+        ect = new long[2 * size];
+        sumPBar = new long[2 * size];
+        ectBar = new long[2 * size];
+        respP = new int[2 * size];
+        respE = new int[2 * size];
+    }
+
+    /**
+     * Empty the tree, which can then store up to <i>n</i> leaves.
+     *
+     * @param n number of leaves
+     */
+    void reset(int n) {
+        if (n > size) {
+            allocate(n);
+        }
+        Arrays.fill(sumP, 0L);
+        Arrays.fill(ect, NEG_INF);
+        Arrays.fill(sumPBar, 0L);
+        Arrays.fill(ectBar, NEG_INF);
+        Arrays.fill(respP, -1);
+        Arrays.fill(respE, -1);
+    }
+
+    /**
+     * Put a leaf in &Theta;.
+     *
+     * @param leaf rank of the task
+     * @param est  earliest starting time of the task
+     * @param p    processing time of the task
+     */
+    void addToTheta(int leaf, long est, long p) {
+        int v = size + leaf;
+        sumP[v] = p;
+        ect[v] = est + p;
+        sumPBar[v] = p;
+        ectBar[v] = est + p;
+        respP[v] = -1;
+        respE[v] = -1;
+        update(v >> 1);
+    }
+
+    /**
+     * Put a leaf in &Lambda;.
+     *
+     * @param leaf rank of the task
+     * @param est  earliest starting time of the task
+     * @param p    processing time of the task
+     */
+    void addToLambda(int leaf, long est, long p) {
+        int v = size + leaf;
+        sumP[v] = 0;
+        ect[v] = NEG_INF;
+        sumPBar[v] = p;
+        ectBar[v] = est + p;
+        respP[v] = leaf;
+        respE[v] = leaf;
+        update(v >> 1);
+    }
+
+    /**
+     * Move a leaf from &Theta; to &Lambda;.
+     *
+     * @param leaf rank of the task
+     */
+    void moveToLambda(int leaf) {
+        int v = size + leaf;
+        sumP[v] = 0;
+        ect[v] = NEG_INF;
+        respP[v] = leaf;
+        respE[v] = leaf;
+        update(v >> 1);
+    }
+
+    /**
+     * Empty a leaf.
+     *
+     * @param leaf rank of the task
+     */
+    void remove(int leaf) {
+        int v = size + leaf;
+        sumP[v] = 0;
+        ect[v] = NEG_INF;
+        sumPBar[v] = 0;
+        ectBar[v] = NEG_INF;
+        respP[v] = -1;
+        respE[v] = -1;
+        update(v >> 1);
+    }
+
+    /**
+     * @param leaf rank of a task
+     * @return <i>true</i> if the leaf is in &Theta;
+     */
+    boolean inTheta(int leaf) {
+        return ect[size + leaf] != NEG_INF;
+    }
+
+    /**
+     * @return ECT(&Theta;)
+     */
+    long getEct() {
+        return ect[1];
+    }
+
+    /**
+     * @return ECT(&Theta;, &Lambda;), the largest ECT of &Theta; with at most one task of &Lambda;
+     */
+    long getEctBar() {
+        return ectBar[1];
+    }
+
+    /**
+     * @return the leaf of the gray task responsible for ECT(&Theta;, &Lambda;), -1 if none
+     */
+    int getResponsibleEctBar() {
+        return respE[1];
+    }
+
+    private void update(int v) {
+        while (v > 0) {
+            int l = v << 1;
+            int r = l + 1;
+            sumP[v] = sumP[l] + sumP[r];
+            ect[v] = Math.max(ect[r], ect[l] + sumP[r]);
+            long a = sumPBar[l] + sumP[r];
+            long b = sumP[l] + sumPBar[r];
+            if (a >= b) {
+                sumPBar[v] = a;
+                respP[v] = respP[l];
+            } else {
+                sumPBar[v] = b;
+                respP[v] = respP[r];
+            }
+            long c1 = ectBar[r];
+            long c2 = ect[l] + sumPBar[r];
+            long c3 = ectBar[l] + sumP[r];
+            if (c1 >= c2 && c1 >= c3) {
+                ectBar[v] = c1;
+                respE[v] = respE[r];
+            } else if (c2 >= c3) {
+                ectBar[v] = c2;
+                respE[v] = respP[r];
+            } else {
+                ectBar[v] = c3;
+                respE[v] = respE[l];
+            }
+            v >>= 1;
+        }
+    }
+}
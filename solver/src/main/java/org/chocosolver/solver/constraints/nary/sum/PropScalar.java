@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -46,6 +47,16 @@ public class PropScalar extends PropSum {
         this.c = coeffs;
     }
 
+    @Override
+    public PropScalar copy(CopyMap map) {
+        return new PropScalar(map.get(vars), c, pos, o, b);
+    }
+
+
+    @Override
+    public int getCoefficient(int idx) {
+        return c[idx];
+    }
 
     @Override
     protected void prepare() {
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
@@ -87,6 +88,11 @@ public class PropSum extends Propagator<IntVar> {
         this(variables, pos, o, b, computePriority(variables.length), false);
     }
 
+    @Override
+    public PropSum copy(CopyMap map) {
+        return new PropSum(map.get(vars), pos, o, b);
+    }
+
 
     PropSum(IntVar[] variables, int pos, Operator o, int b, PropagatorPriority priority, boolean reactOnFineEvent) {
         super(variables, priority, reactOnFineEvent);
@@ -117,6 +123,28 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param idx position of a variable
+     * @return the coefficient of the variable at position <i>idx</i>
+     */
+    public int getCoefficient(int idx) {
+        return idx < pos ? 1 : -1;
+    }
+
+    /**
+     * @return the operator, among EQ, LE, GE and NE
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public int getBound() {
+        return b;
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         switch (o) {
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -13,6 +14,8 @@ import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 
+import java.util.Arrays;
+
 import static org.chocosolver.solver.constraints.PropagatorPriority.BINARY;
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
@@ -68,6 +71,11 @@ public class PropSumBool extends PropSum {
         this(variables, pos, o, sum, b, false);
     }
 
+    @Override
+    public PropSumBool copy(CopyMap map) {
+        return new PropSumBool(map.getModel().toBoolVar(map.get(Arrays.copyOf(vars, l - 1))), pos, o, map.get(sum), b);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         switch (o) {
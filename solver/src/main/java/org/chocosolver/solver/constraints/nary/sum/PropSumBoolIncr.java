@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -14,6 +15,8 @@ import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 
+import java.util.Arrays;
+
 /**
  * A propagator for SUM(x_i) = y + b, where x_i are boolean variables, maintained incrementally.
  * <br/>
@@ -62,6 +65,11 @@ public class PropSumBoolIncr extends PropSumBool {
         this.bUB = model.getEnvironment().makeInt();
     }
 
+    @Override
+    public PropSumBoolIncr copy(CopyMap map) {
+        return new PropSumBoolIncr(map.getModel().toBoolVar(map.get(Arrays.copyOf(vars, l - 1))), pos, o, map.get(sum), b);
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         if (PropagatorEventType.isFullPropagation(evtmask)) {
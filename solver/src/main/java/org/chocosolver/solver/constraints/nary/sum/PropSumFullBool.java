@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -57,6 +58,11 @@ public class PropSumFullBool extends PropSum {
         this(variables, pos, o, b, false);
     }
 
+    @Override
+    public PropSumFullBool copy(CopyMap map) {
+        return new PropSumFullBool(map.getModel().toBoolVar(map.get(vars)), pos, o, b);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         return IntEventType.INSTANTIATE.getMask();
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -60,6 +61,11 @@ public class PropSumFullBoolIncr extends PropSumFullBool {
         this.bUB = model.getEnvironment().makeInt();
     }
 
+    @Override
+    public PropSumFullBoolIncr copy(CopyMap map) {
+        return new PropSumFullBoolIncr(map.getModel().toBoolVar(map.get(vars)), pos, o, b);
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         if (PropagatorEventType.isFullPropagation(evtmask)) {
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -27,6 +28,13 @@ public class SumConstraint extends Constraint {
         super(ConstraintsName.SUM, propagator);
     }
 
+    @Override
+    public SumConstraint copy(CopyMap map) {
+        SumConstraint copy = new SumConstraint(map.get(propagators[0]));
+        copy.setName(getName());
+        return copy;
+    }
+
     /**
      * The only reason this class exists
      *
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.unary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -34,6 +35,11 @@ public class PropEqualXC extends Propagator<IntVar> {
         this.constant = cste;
     }
 
+    @Override
+    public PropEqualXC copy(CopyMap map) {
+        return new PropEqualXC(map.get(vars[0]), constant);
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         vars[0].instantiateTo(constant, this, Reason.undef());
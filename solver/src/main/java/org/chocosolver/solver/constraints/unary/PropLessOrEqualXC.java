@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.unary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -32,6 +33,11 @@ public class PropLessOrEqualXC extends Propagator<IntVar> {
         this.constant = cste;
     }
 
+    @Override
+    public PropLessOrEqualXC copy(CopyMap map) {
+        return new PropLessOrEqualXC(map.get(vars[0]), constant);
+    }
+
     @Override
     public int getPropagationConditions(int vIdx) {
         return IntEventType.boundAndInst();
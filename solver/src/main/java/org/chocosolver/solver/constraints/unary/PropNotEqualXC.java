@@ -7,6 +7,7 @@
 package org.chocosolver.solver.constraints.unary;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -32,6 +33,11 @@ public class PropNotEqualXC extends Propagator<IntVar> {
         this.constant = cste;
     }
 
+    @Override
+    public PropNotEqualXC copy(CopyMap map) {
+        return new PropNotEqualXC(map.get(vars[0]), constant);
+    }
+
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         if (vars[0].removeValue(constant, this, Reason.undef()) || !vars[0].contains(constant)) {
@@ -0,0 +1,380 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * An archive of mutually non-dominated points (objective vectors, to be maximized), each of them carrying an item.
+ * <p>
+ * Points are indexed by a k-d tree stored in flat arrays, in which each node maintains the bounding box of its
+ * subtree. The dominance checks and the bound computations only visit the subtrees whose box may hold a relevant
+ * point, so that they are sub-linear in practice, even on large fronts:
+ * <ul>
+ *     <li>{@link #insert(int[], Object, Consumer)} removes the points weakly dominated by the new one, then adds it,</li>
+ *     <li>{@link #tightest(int, int[])} computes the bound of {@link ParetoMaximizer} for an objective.</li>
+ * </ul>
+ * Removed points are only marked as dead, and the tree is rebuilt (balanced, and compacted) when dead points are as
+ * many as alive ones, or when an insertion goes too deep.
+ * The items are kept in insertion order.
+ * </p>
+ *
+ * @param <T> type of the items
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class ParetoArchive<T> {
+
+    private static final int NONE = -1;
+
+    /**
+     * Number of objectives
+     */
+    private final int m;
+    /**
+     * Number of slots used, dead or alive, in insertion order
+     */
+    private int size;
+    /**
+     * Number of alive points
+     */
+    private int nbAlive;
+    private int root = NONE;
+    /**
+     * Coordinates of the point of a slot, at <i>slot * m + d</i>
+     */
+    private int[] coords;
+    private Object[] items;
+    private boolean[] alive;
+    private int[] left;
+    private int[] right;
+    /**
+     * Splitting dimension of a node
+     */
+    private int[] split;
+    /**
+     * Bounding box of the subtree rooted in a node, at <i>node * m + d</i>
+     */
+    private int[] lo;
+    private int[] hi;
+    /**
+     * Traversal stack and permutation used to rebuild the tree
+     */
+    private int[] stack;
+    private int[] perm;
+
+    /**
+     * Creates an empty archive.
+     *
+     * @param m number of objectives
+     */
+    public ParetoArchive(int m) {
+        this.m = m;
+        allocate(16);
+    }
+
+    private void allocate(int capacity) {
+        coords = coords == null ? new int[capacity * m] : Arrays.copyOf(coords, capacity * m);
+        lo = lo == null ? new int[capacity * m] : Arrays.copyOf(lo, capacity * m);
+        hi = hi == null ? new int[capacity * m] : Arrays.copyOf(hi, capacity * m);
+        items = items == null ? new Object[capacity] : Arrays.copyOf(items, capacity);
+        alive = alive == null ? new boolean[capacity] : Arrays.copyOf(alive, capacity);
+        left = left == null ? new int[capacity] : Arrays.copyOf(left, capacity);
+        right = right == null ? new int[capacity] : Arrays.copyOf(right, capacity);
+        split = split == null ? new int[capacity] : Arrays.copyOf(split, capacity);
+        stack = new int[capacity];
+        perm = new int[capacity];
+    }
+
+    /**
+     * @return the number of points in the archive
+     */
+    public int size() {
+        return nbAlive;
+    }
+
+    /**
+     * Calls <i>action</i> on each item of the archive, in insertion order.
+     *
+     * @param action what to do with each item
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (int s = 0; s < size; s++) {
+            if (alive[s]) {
+                action.accept((T) items[s]);
+            }
+        }
+    }
+
+    /**
+     * Removes the points weakly dominated by <i>point</i> (including the points equal to it), then adds it.
+     *
+     * @param point   a vector of <i>m</i> values, which is copied
+     * @param item    the item attached to <i>point</i>
+     * @param removed called on the item of each removed point, can be <i>null</i>
+     * @return the number of removed points
+     */
+    public int insert(int[] point, T item, Consumer<? super T> removed) {
+        int nbRemoved = removeDominatedBy(point, removed);
+        if (size == alive.length) {
+            allocate(size * 2);
+        }
+        int s = size++;
+        System.arraycopy(point, 0, coords, s * m, m);
+        System.arraycopy(point, 0, lo, s * m, m);
+        System.arraycopy(point, 0, hi, s * m, m);
+        items[s] = item;
+        alive[s] = true;
+        left[s] = right[s] = NONE;
+        nbAlive++;
+        int depth = 0;
+        if (root == NONE) {
+            root = s;
+            split[s] = 0;
+        } else {
+            int node = root;
+            while (true) {
+                depth++;
+                extend(node, point);
+                int d = split[node];
+                if (point[d] < coords[node * m + d]) {
+                    if (left[node] == NONE) {
+                        left[node] = s;
+                        break;
+                    }
+                    node = left[node];
+                } else {
+                    if (right[node] == NONE) {
+                        right[node] = s;
+                        break;
+                    }
+                    node = right[node];
+                }
+            }
+            split[s] = (split[node] + 1) % m;
+        }
+        if (2 * nbAlive < size || depth > 2 * (32 - Integer.numberOfLeadingZeros(nbAlive)) + 8) {
+            rebuild();
+        }
+        return nbRemoved;
+    }
+
+    private void extend(int node, int[] point) {
+        int o = node * m;
+        for (int d = 0; d < m; d++) {
+            if (point[d] < lo[o + d]) {
+                lo[o + d] = point[d];
+            }
+            if (point[d] > hi[o + d]) {
+                hi[o + d] = point[d];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int removeDominatedBy(int[] point, Consumer<? super T> removed) {
+        int nbRemoved = 0;
+        int top = push(0, root);
+        while (top > 0) {
+            int node = stack[--top];
+            int o = node * m;
+            // the subtree holds a point <= point only if its lower corner is <= point
+            boolean prune = false;
+            for (int d = 0; d < m && !prune; d++) {
+                prune = lo[o + d] > point[d];
+            }
+            if (prune) {
+                continue;
+            }
+            if (alive[node] && dominates(point, node)) {
+                alive[node] = false;
+                nbAlive--;
+                nbRemoved++;
+                if (removed != null) {
+                    removed.accept((T) items[node]);
+                }
+                items[node] = null;
+            }
+            top = push(top, left[node]);
+            top = push(top, right[node]);
+        }
+        return nbRemoved;
+    }
+
+    /**
+     * @return <i>true</i> if <i>point</i> is greater than or equal to the point of <i>node</i> on each dimension
+     */
+    private boolean dominates(int[] point, int node) {
+        int o = node * m;
+        for (int d = 0; d < m; d++) {
+            if (coords[o + d] > point[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int push(int top, int node) {
+        if (node != NONE) {
+            stack[top++] = node;
+        }
+        return top;
+    }
+
+    /**
+     * Computes the tightest lower bound of the objective <i>i</i>, given the dominated point
+     * <i>DP<sub>i</sub> = (obj<sub>1</sub><sup>max</sup>, ..., obj<sub>i</sub><sup>min</sup>, ...,
+     * obj<sub>m</sub><sup>max</sup>)</i>:
+     * among the points <i>p</i> which dominate <i>DP<sub>i</sub></i>,
+     * the largest <i>p<sub>i</sub></i> when <i>p</i> equals <i>DP<sub>i</sub></i> on the other dimensions,
+     * <i>p<sub>i</sub> + 1</i> otherwise.
+     *
+     * @param i  index of the objective
+     * @param dp the dominated point of the objective <i>i</i>
+     * @return the tightest lower bound, or {@link Integer#MIN_VALUE} if no point dominates <i>dp</i>
+     */
+    public int tightest(int i, int[] dp) {
+        int best = Integer.MIN_VALUE;
+        int top = push(0, root);
+        while (top > 0) {
+            int node = stack[--top];
+            int o = node * m;
+            // the subtree holds a point >= dp only if its upper corner is >= dp,
+            // and cannot improve the bound if its largest value on i cannot
+            boolean prune = (long) hi[o + i] + 1 <= best;
+            for (int d = 0; d < m && !prune; d++) {
+                prune = hi[o + d] < dp[d];
+            }
+            if (prune) {
+                continue;
+            }
+            if (alive[node]) {
+                int dominates = dominates(node, dp, i);
+                if (dominates > 0) {
+                    int current = dominates == 1 ? coords[o + i] : coords[o + i] + 1;
+                    if (best < current) {
+                        best = current;
+                    }
+                }
+            }
+            top = push(top, left[node]);
+            top = push(top, right[node]);
+        }
+        return best;
+    }
+
+    /**
+     * Return an int :
+     * 0 if the point of <i>node</i> doesn't dominate b
+     * 1 if it dominates b and equals b if we don't take into account index i
+     * 2 if it dominates b and dominates b if we don't take into account index i
+     */
+    private int dominates(int node, int[] b, int i) {
+        int o = node * m;
+        int dominates = 0;
+        for (int j = 0; j < m; j++) {
+            if (coords[o + j] < b[j]) return 0;
+            if (coords[o + j] > b[j]) {
+                if (dominates == 0) dominates = 1;
+                if (j != i) dominates = 2;
+            }
+        }
+        return dominates;
+    }
+
+    /**
+     * Compacts the alive points, in insertion order, and builds a balanced tree over them.
+     */
+    private void rebuild() {
+        int n = 0;
+        for (int s = 0; s < size; s++) {
+            if (alive[s]) {
+                if (n != s) {
+                    System.arraycopy(coords, s * m, coords, n * m, m);
+                    items[n] = items[s];
+                    alive[n] = true;
+                }
+                n++;
+            }
+        }
+        Arrays.fill(items, n, size, null);
+        Arrays.fill(alive, n, size, false);
+        size = n;
+        for (int s = 0; s < n; s++) {
+            perm[s] = s;
+        }
+        root = build(0, n, 0);
+    }
+
+    private int build(int from, int to, int d) {
+        if (from >= to) {
+            return NONE;
+        }
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, d);
+        int node = perm[mid];
+        split[node] = d;
+        int next = (d + 1) % m;
+        left[node] = build(from, mid, next);
+        right[node] = build(mid + 1, to, next);
+        int o = node * m;
+        System.arraycopy(coords, o, lo, o, m);
+        System.arraycopy(coords, o, hi, o, m);
+        if (left[node] != NONE) {
+            merge(node, left[node]);
+        }
+        if (right[node] != NONE) {
+            merge(node, right[node]);
+        }
+        return node;
+    }
+
+    private void merge(int node, int child) {
+        int o = node * m;
+        int c = child * m;
+        for (int d = 0; d < m; d++) {
+            lo[o + d] = Math.min(lo[o + d], lo[c + d]);
+            hi[o + d] = Math.max(hi[o + d], hi[c + d]);
+        }
+    }
+
+    /**
+     * Rearranges <i>perm[l..r]</i> so that <i>perm[k]</i> is the point of rank <i>k</i> on dimension <i>d</i>,
+     * (quickselect with a three-way partition, to deal with equal coordinates).
+     */
+    private void select(int l, int r, int k, int d) {
+        while (l < r) {
+            int pivot = coords[perm[(l + r) >>> 1] * m + d];
+            int lt = l, gt = r, i = l;
+            while (i <= gt) {
+                int v = coords[perm[i] * m + d];
+                if (v < pivot) {
+                    swap(lt++, i++);
+                } else if (v > pivot) {
+                    swap(i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                r = lt - 1;
+            } else if (k > gt) {
+                l = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int t = perm[i];
+        perm[i] = perm[j];
+        perm[j] = t;
+    }
+}
@@ -35,9 +35,8 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     // VARIABLES
     //***********************************************************************************
 
-    // Set of incomparable and Pareto-best solutions
-    private final List<Solution> paretoSolutions;
-    private final List<int[]> paretoFront;
+    // Set of incomparable and Pareto-best solutions, indexed by their objective values
+    private final ParetoArchive<Solution> paretoFront;
 
     private final Model model;
 
@@ -48,7 +47,9 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     private final IntVar[] objectives;
     private final int n;
 
-    //private final int[] vals;
+    // objective values of the current solution, and dominated point, reused
+    private final int[] vals;
+    private final int[] dp;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -68,12 +69,12 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      */
     public ParetoMaximizer(final IntVar[] objectives) {
         super(objectives, PropagatorPriority.QUADRATIC, false);
-        this.paretoSolutions = new ArrayList<>();
-        this.paretoFront = new ArrayList<>();
         this.objectives = objectives.clone();
         n = objectives.length;
+        this.paretoFront = new ParetoArchive<>(n);
         model = objectives[0].getModel();
-        //vals = new int[n];
+        vals = new int[n];
+        dp = new int[n];
     }
 
     //***********************************************************************************
@@ -81,46 +82,30 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     //***********************************************************************************
 
     /**
-     * @return the set of Pareto-best (possibly optimal) solutions found so far
+     * @return the set of Pareto-best (possibly optimal) solutions found so far, in the order they were found
      */
     public List<Solution> getParetoFront() {
+        List<Solution> paretoSolutions = new ArrayList<>(paretoFront.size());
+        paretoFront.forEach(paretoSolutions::add);
         return paretoSolutions;
     }
 
     @Override
     public void onSolution() {
         // get objective values
-        int[] vals = new int[objectives.length];
         for (int i = 0; i < objectives.length; i++) {
             vals[i] = objectives[i].getValue();
         }
-        // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoSolutions.get(i), vals)) {
-                poolSols.add(paretoSolutions.remove(i));
-                paretoFront.remove(i);
-            }
-        }
         // store current solution
         Solution solution;
         if (poolSols.isEmpty()) {
             solution = new Solution(model);
         } else {
-            solution = poolSols.remove(0);
+            solution = poolSols.remove(poolSols.size() - 1);
         }
         solution.record();
-        paretoSolutions.add(solution);
-        paretoFront.add(vals);
-    }
-
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if (delta > 0) {
-                return false;
-            }
-        }
-        return true;
+        // and remove dominated solutions
+        paretoFront.insert(vals, solution, poolSols::add);
     }
 
     @Override
@@ -141,17 +126,8 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     private void computeTightestPoint(int i) throws ContradictionException {
         // tightest point can not be calculated if paretoFront is empty
         if (paretoFront.size() > 0) {
-            int tightestPoint = Integer.MIN_VALUE;
-            int[] dominatedPoint = computeDominatedPoint(i);
-            for (int[] sol : paretoFront) {
-                int dominates = dominates(sol, dominatedPoint, i);
-                if (dominates > 0) {
-                    int currentPoint = dominates == 1 ? sol[i] : sol[i] + 1;
-                    if (tightestPoint < currentPoint) {
-                        tightestPoint = currentPoint;
-                    }
-                }
-            }
+            computeDominatedPoint(i);
+            int tightestPoint = paretoFront.tightest(i, dp);
             if (tightestPoint > Integer.MIN_VALUE) {
                 objectives[i].updateLowerBound(tightestPoint, this);
             }
@@ -163,38 +139,12 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * i.e. DP_i = (obj_1_max,...,obj_i_min,...,obj_m_max)
      *
      * @param i index of the variable
-     * @return dominated point
      */
-    private int[] computeDominatedPoint(int i) {
-        int[] dp = new int[objectives.length];
+    private void computeDominatedPoint(int i) {
         for (int j = 0; j < objectives.length; j++) {
             dp[j] = objectives[j].getUB();
         }
         dp[i] = objectives[i].getLB();
-        return dp;
-    }
-
-    /**
-     * Return an int :
-     * 0 if a doesn't dominate b
-     * 1 if a dominates b and a = b if we don't take into account index i
-     * 2 if a dominates b and a dominates b if we don't take into account index i
-     *
-     * @param a vector
-     * @param b vector
-     * @param i index
-     * @return an int representing the fact that a dominates b
-     */
-    private int dominates(int[] a, int[] b, int i) {
-        int dominates = 0;
-        for (int j = 0; j < objectives.length; j++) {
-            if (a[j] < b[j]) return 0;
-            if (a[j] > b[j]) {
-                if (dominates == 0) dominates = 1;
-                if (j != i) dominates = 2;
-            }
-        }
-        return dominates;
     }
 
     @Override
@@ -0,0 +1,425 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+
+import java.util.Arrays;
+
+/**
+ * A propagation engine which measures, at run time, the time spent in each propagator and its pruning yield
+ * (the share of its calls which filter some values or fail), and which adapts how often expensive
+ * and low-yield propagators are executed.
+ * <p>
+ * Once a propagator has been called {@link #setWarmUp(int)} times, it is in one of the following modes:
+ * <ul>
+ *     <li>{@link Mode#NORMAL}: it is scheduled wrt its priority, as in {@link PropagationEngine},</li>
+ *     <li>{@link Mode#DEFERRED}: its mean cost exceeds {@link #setExpensiveThreshold(long)} and its yield
+ *     is below the demotion threshold; it is only executed once all the other propagators have reached a fixpoint,</li>
+ *     <li>{@link Mode#SKIPPED}: like {@link Mode#DEFERRED}, but its yield is below the skip threshold;
+ *     at a fixpoint, it is only executed if it has not been executed for {@link #setSkipPeriod(int)} nodes
+ *     or if all its variables are instantiated.</li>
+ * </ul>
+ * A demoted propagator is promoted back to {@link Mode#NORMAL} as soon as its yield exceeds twice the demotion threshold.
+ * The cost and the yield are exponential moving averages, so that the modes follow the search.
+ * </p>
+ * <p>
+ * Only the propagators which do not react to fine events can be demoted, since they are always fully propagated
+ * and keep no pending events: delaying them weakens the filtering, but never its correctness.
+ * In {@link Mode#SKIPPED}, a solution is only checked by a skipped propagator because all its variables are
+ * instantiated, so the search strategy must instantiate all the variables.
+ * </p>
+ * <p>
+ * The engine counts demotions, promotions, events absorbed by demoted propagators and their executions at fixpoint.
+ * It can be selected with {@link org.chocosolver.solver.SettingsBuilder#setAdaptivePropagation(boolean)}.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class AdaptivePropagationEngine extends PropagationEngine {
+
+    /**
+     * Execution modes of a propagator
+     */
+    public enum Mode {
+        /**
+         * Scheduled wrt its priority
+         */
+        NORMAL,
+        /**
+         * Executed at fixpoint
+         */
+        DEFERRED,
+        /**
+         * Executed at fixpoint, every k nodes or when all its variables are instantiated
+         */
+        SKIPPED
+    }
+
+    private static final Mode[] MODES = Mode.values();
+
+    /**
+     * Weight of the last call in the moving averages
+     */
+    private static final double ALPHA = 1. / 32;
+
+    private int warmUp = 64;
+    private long expensiveThreshold = 50_000;
+    private double demotionYield = .05;
+    private double skipYield = .01;
+    private int skipPeriod = 16;
+
+    // statistics, indexed by propagator id
+    private long[] calls = new long[0];
+    private long[] times = new long[0];
+    private long[] filterings = new long[0];
+    private double[] costs = new double[0];
+    private double[] yields = new double[0];
+    private byte[] modes = new byte[0];
+    private long[] lastRuns = new long[0];
+    private boolean[] parked = new boolean[0];
+
+    /**
+     * Demoted propagators which received events since their last execution
+     */
+    private Propagator<?>[] deferred = new Propagator<?>[8];
+    private int nbDeferred;
+    /**
+     * Number of modifications caused by the propagator currently executed
+     */
+    private long nbFiltered;
+
+    private long nbDemotions;
+    private long nbPromotions;
+    private long nbAbsorbedEvents;
+    private long nbDeferredRuns;
+
+    /**
+     * An adaptive seven-queue propagation engine.
+     *
+     * @param model the declaring model
+     * @param sat   the SAT solver, required for LCG mode
+     */
+    public AdaptivePropagationEngine(Model model, MiniSat sat) {
+        super(model, sat);
+    }
+
+    /**
+     * An adaptive seven-queue propagation engine.
+     *
+     * @param model the declaring model
+     */
+    public AdaptivePropagationEngine(Model model) {
+        this(model, null);
+    }
+
+    @Override
+    public void propagate() throws ContradictionException {
+        super.propagate();
+        while (nbDeferred > 0 && release()) {
+            super.propagate();
+        }
+    }
+
+    @Override
+    protected void propagateEvents() throws ContradictionException {
+        int id = lastProp.getId();
+        ensureCapacity(id);
+        if (parked[id]) {
+            unpark(lastProp);
+        }
+        long filtered = nbFiltered;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            super.propagateEvents();
+            failed = false;
+        } finally {
+            update(lastProp, id, System.nanoTime() - start, failed || nbFiltered > filtered);
+        }
+    }
+
+    @Override
+    public void schedule(Propagator<?> prop, int pindice, int mask) {
+        int id = prop.getId();
+        if (id < modes.length && modes[id] != 0 && !prop.reactToFineEvent()) {
+            nbAbsorbedEvents++;
+            if (!parked[id]) {
+                park(prop);
+            }
+        } else {
+            super.schedule(prop, pindice, mask);
+        }
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        if (cause == lastProp) {
+            nbFiltered++;
+        }
+        super.onVariableUpdate(variable, type, cause);
+    }
+
+    @Override
+    public void dynamicDeletion(Propagator<?>... ps) {
+        for (Propagator<?> p : ps) {
+            unpark(p);
+        }
+        super.dynamicDeletion(ps);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        while (nbDeferred > 0) {
+            unpark(deferred[nbDeferred - 1]);
+        }
+    }
+
+    private void park(Propagator<?> prop) {
+        if (nbDeferred == deferred.length) {
+            deferred = Arrays.copyOf(deferred, nbDeferred * 2);
+        }
+        deferred[nbDeferred++] = prop;
+        parked[prop.getId()] = true;
+    }
+
+    private void unpark(Propagator<?> prop) {
+        int id = prop.getId();
+        if (id < parked.length && parked[id]) {
+            parked[id] = false;
+            for (int i = 0; i < nbDeferred; i++) {
+                if (deferred[i] == prop) {
+                    deferred[i] = deferred[--nbDeferred];
+                    deferred[nbDeferred] = null;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the first demoted propagator which is allowed to run.
+     *
+     * @return <i>false</i> if no demoted propagator was allowed to run
+     */
+    private boolean release() throws ContradictionException {
+        long node = model.getSolver().getNodeCount();
+        for (int i = 0; i < nbDeferred; i++) {
+            Propagator<?> prop = deferred[i];
+            int id = prop.getId();
+            if (modes[id] != Mode.SKIPPED.ordinal()
+                    || node - lastRuns[id] >= skipPeriod
+                    || prop.isCompletelyInstantiated()) {
+                unpark(prop);
+                nbDeferredRuns++;
+                lastProp = prop;
+                delayedPropagationType = 0;
+                propagateEvents();
+                propagateSat();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void update(Propagator<?> prop, int id, long time, boolean filtered) {
+        long n = ++calls[id];
+        times[id] += time;
+        if (filtered) {
+            filterings[id]++;
+        }
+        lastRuns[id] = model.getSolver().getNodeCount();
+        if (n == 1) {
+            costs[id] = time;
+            yields[id] = filtered ? 1. : 0.;
+        } else {
+            costs[id] += ALPHA * (time - costs[id]);
+            yields[id] += ALPHA * ((filtered ? 1. : 0.) - yields[id]);
+        }
+        if (n < warmUp || prop.reactToFineEvent()) {
+            return;
+        }
+        int mode = modes[id];
+        int next = mode;
+        if (yields[id] >= 2 * demotionYield) {
+            next = Mode.NORMAL.ordinal();
+        } else if (costs[id] >= expensiveThreshold && yields[id] < demotionYield) {
+            next = yields[id] < skipYield ? Mode.SKIPPED.ordinal() : Mode.DEFERRED.ordinal();
+        }
+        if (next != mode) {
+            if (mode == Mode.NORMAL.ordinal()) {
+                nbDemotions++;
+            } else if (next == Mode.NORMAL.ordinal()) {
+                nbPromotions++;
+            }
+            modes[id] = (byte) next;
+        }
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= calls.length) {
+            int size = Math.max(id + 1, calls.length * 3 / 2 + 1);
+            calls = Arrays.copyOf(calls, size);
+            times = Arrays.copyOf(times, size);
+            filterings = Arrays.copyOf(filterings, size);
+            costs = Arrays.copyOf(costs, size);
+            yields = Arrays.copyOf(yields, size);
+            modes = Arrays.copyOf(modes, size);
+            lastRuns = Arrays.copyOf(lastRuns, size);
+            parked = Arrays.copyOf(parked, size);
+        }
+    }
+
+    /**
+     * Set the number of calls of a propagator before its mode can change (default is 64).
+     *
+     * @param warmUp number of calls
+     * @return this engine
+     */
+    public AdaptivePropagationEngine setWarmUp(int warmUp) {
+        this.warmUp = warmUp;
+        return this;
+    }
+
+    /**
+     * Set the mean cost of a call, in nanoseconds, above which a propagator is said expensive (default is 50µs).
+     *
+     * @param expensiveThreshold a time in nanoseconds
+     * @return this engine
+     */
+    public AdaptivePropagationEngine setExpensiveThreshold(long expensiveThreshold) {
+        this.expensiveThreshold = expensiveThreshold;
+        return this;
+    }
+
+    /**
+     * Set the yields under which an expensive propagator is demoted (default is 0.05)
+     * and under which it is skipped (default is 0.01).
+     *
+     * @param demotionYield share of the calls which filter or fail under which a propagator is deferred
+     * @param skipYield     share of the calls which filter or fail under which a propagator is skipped,
+     *                      not greater than <i>demotionYield</i>
+     * @return this engine
+     */
+    public AdaptivePropagationEngine setYieldThresholds(double demotionYield, double skipYield) {
+        this.demotionYield = demotionYield;
+        this.skipYield = Math.min(skipYield, demotionYield);
+        return this;
+    }
+
+    /**
+     * Set the number of nodes between two executions of a skipped propagator (default is 16).
+     *
+     * @param skipPeriod a number of nodes
+     * @return this engine
+     */
+    public AdaptivePropagationEngine setSkipPeriod(int skipPeriod) {
+        this.skipPeriod = skipPeriod;
+        return this;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the current mode of <i>propagator</i>
+     */
+    public Mode getMode(Propagator<?> propagator) {
+        int id = propagator.getId();
+        return id < modes.length ? MODES[modes[id]] : Mode.NORMAL;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the number of times <i>propagator</i> has been called from the queues
+     */
+    public long getNbCalls(Propagator<?> propagator) {
+        int id = propagator.getId();
+        return id < calls.length ? calls[id] : 0;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the time spent in <i>propagator</i>, in nanoseconds
+     */
+    public long getTime(Propagator<?> propagator) {
+        int id = propagator.getId();
+        return id < times.length ? times[id] : 0;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the share of the calls of <i>propagator</i> which filtered some values or failed
+     */
+    public double getYield(Propagator<?> propagator) {
+        int id = propagator.getId();
+        return id < calls.length && calls[id] > 0 ? (double) filterings[id] / calls[id] : 0.;
+    }
+
+    /**
+     * @return the number of propagators currently deferred or skipped
+     */
+    public int getNbDemotedPropagators() {
+        int n = 0;
+        for (byte mode : modes) {
+            if (mode != 0) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @return the number of times a propagator has been demoted
+     */
+    public long getNbDemotions() {
+        return nbDemotions;
+    }
+
+    /**
+     * @return the number of times a propagator has been promoted back to {@link Mode#NORMAL}
+     */
+    public long getNbPromotions() {
+        return nbPromotions;
+    }
+
+    /**
+     * @return the number of events received by a demoted propagator, which did not schedule it
+     */
+    public long getNbAbsorbedEvents() {
+        return nbAbsorbedEvents;
+    }
+
+    /**
+     * @return the number of executions of demoted propagators at fixpoint
+     */
+    public long getNbDeferredRuns() {
+        return nbDeferredRuns;
+    }
+
+    /**
+     * Reset the counters of this engine, the modes of the propagators are kept
+     */
+    public void resetStatistics() {
+        nbDemotions = 0;
+        nbPromotions = 0;
+        nbAbsorbedEvents = 0;
+        nbDeferredRuns = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d demoted propagators, %d demotions, %d promotions, %d absorbed events, %d deferred runs",
+                getNbDemotedPropagators(), nbDemotions, nbPromotions, nbAbsorbedEvents, nbDeferredRuns);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+
+/**
+ * A propagation engine which proceeds by batches.
+ * <br/>
+ * A fixpoint iteration (a batch) first turns all the variable events recorded so far into schedules,
+ * then executes every scheduled propagator, wrt to their priority.
+ * The events generated while executing a batch are only recorded: they are scheduled once the batch is over.
+ * Thus, a propagator is scheduled at most once per batch, whatever the number of events it receives,
+ * and the masks of these events are coalesced before it is executed.
+ * <p>
+ * This engine also counts what happens in its queues:
+ * the number of batches, the depth of the queues, the number of schedules,
+ * the number of events absorbed by an already scheduled propagator (re-schedules)
+ * and the number of events not forwarded to the propagator that caused them (idempotency skips).
+ * <br/>
+ * It can be selected with {@link org.chocosolver.solver.SettingsBuilder#setBatchedPropagation(boolean)}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class BatchedPropagationEngine extends PropagationEngine {
+
+    /**
+     * Number of propagators currently in the queues
+     */
+    private int pending;
+    /**
+     * Number of fixpoint iterations
+     */
+    private long nbBatches;
+    /**
+     * Sum of the queue depths at the beginning of each batch
+     */
+    private long depthSum;
+    /**
+     * Largest number of propagators simultaneously in the queues
+     */
+    private int maxDepth;
+    /**
+     * Number of propagators added to a queue
+     */
+    private long nbSchedules;
+    /**
+     * Number of events received by a propagator already in a queue
+     */
+    private long nbReschedules;
+    /**
+     * Number of events not forwarded to the propagator which caused them
+     */
+    private long nbSkips;
+
+    /**
+     * A batched seven-queue propagation engine.
+     *
+     * @param model the declaring model
+     * @param sat   the SAT solver, required for LCG mode
+     */
+    public BatchedPropagationEngine(Model model, MiniSat sat) {
+        super(model, sat);
+    }
+
+    /**
+     * A batched seven-queue propagation engine.
+     *
+     * @param model the declaring model
+     */
+    public BatchedPropagationEngine(Model model) {
+        this(model, null);
+    }
+
+    @Override
+    public void propagate() throws ContradictionException {
+        propagateSat();
+        activatePropagators();
+        while (!var_queue.isEmpty() || notEmpty != 0) {
+            // first, schedule the propagators of all the variables modified so far
+            while (!var_queue.isEmpty()) {
+                var_queue.pollFirst().schedulePropagators(this);
+            }
+            nbBatches++;
+            depthSum += pending;
+            // then, empty the queues, the new events are only recorded
+            for (int i = nextNotEmpty(); i > -1; i = nextNotEmpty()) {
+                assert !pro_queue[i].isEmpty() : "try to pop a propagator from an empty queue";
+                lastProp = pro_queue[i].pollFirst();
+                if (pro_queue[i].isEmpty()) {
+                    notEmpty &= ~(1 << i);
+                }
+                pending--;
+                lastProp.unschedule();
+                delayedPropagationType = 0;
+                propagateEvents();
+                propagateSat();
+            }
+        }
+    }
+
+    @Override
+    public void schedule(Propagator<?> prop, int pindice, int mask) {
+        if (prop.isScheduled()) {
+            nbReschedules++;
+        } else {
+            nbSchedules++;
+            if (++pending > maxDepth) {
+                maxDepth = pending;
+            }
+        }
+        super.schedule(prop, pindice, mask);
+    }
+
+    @Override
+    public void skip(Propagator<?> prop, int pindice, int mask) {
+        nbSkips++;
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        pending = 0;
+    }
+
+    /**
+     * @return the number of fixpoint iterations
+     */
+    public long getNbBatches() {
+        return nbBatches;
+    }
+
+    /**
+     * @return the largest number of propagators simultaneously in the queues
+     */
+    public int getMaxQueueDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return the average number of propagators in the queues at the beginning of a batch
+     */
+    public double getMeanQueueDepth() {
+        return nbBatches == 0 ? 0. : (double) depthSum / nbBatches;
+    }
+
+    /**
+     * @return the number of propagators added to a queue
+     */
+    public long getNbSchedules() {
+        return nbSchedules;
+    }
+
+    /**
+     * @return the number of events received by an already scheduled propagator,
+     * their masks were coalesced with the pending ones
+     */
+    public long getNbReschedules() {
+        return nbReschedules;
+    }
+
+    /**
+     * @return the number of events not forwarded to the propagator which caused them
+     */
+    public long getNbIdempotencySkips() {
+        return nbSkips;
+    }
+
+    /**
+     * Reset the counters of this engine
+     */
+    public void resetStatistics() {
+        nbBatches = 0;
+        depthSum = 0;
+        maxDepth = 0;
+        nbSchedules = 0;
+        nbReschedules = 0;
+        nbSkips = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d batches, queue depth %.2f (max %d), %d schedules, %d re-schedules, %d idempotency skips",
+                nbBatches, getMeanQueueDepth(), maxDepth, nbSchedules, nbReschedules, nbSkips);
+    }
+}
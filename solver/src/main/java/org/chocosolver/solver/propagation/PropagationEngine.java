@@ -15,6 +15,7 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.trace.FlightRecorder;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
@@ -64,9 +65,9 @@ public class PropagationEngine {
      * The main structure of this engine: seven circular queues,
      * each of them is dedicated to store propagator to execute wrt their priority.
      */
-    private final CircularQueue<Propagator<?>>[] pro_queue;
+    final CircularQueue<Propagator<?>>[] pro_queue;
 
-    private final CircularQueue<Variable> var_queue;
+    final CircularQueue<Variable> var_queue;
 
     private final CircularQueue<Propagator<?>> awake_queue;
     /**
@@ -76,11 +77,11 @@ public class PropagationEngine {
     /**
      * One bit per queue: true if the queue is not empty.
      */
-    private int notEmpty;
+    int notEmpty;
     /**
      * PropagatorEventType's mask for delayed propagation
      */
-    private int delayedPropagationType;
+    int delayedPropagationType;
     /**
      * Set to <tt>true</tt> once {@link #initialize()} has been called.
      */
@@ -92,6 +93,14 @@ public class PropagationEngine {
      * when set to '0b10', this works as a variable-oriented propagation engine.
      */
     private byte hybrid;
+    /**
+     * To emit an event for expensive propagator calls, <i>null</i> when disabled
+     */
+    private final FlightRecorder recorder;
+    /**
+     * Minimum duration, in nanoseconds, of a propagator call to emit an event
+     */
+    private final long recorderThreshold;
     /**
      * For dynamic addition, avoid creating a new lambda at each call
      */
@@ -128,6 +137,8 @@ public class PropagationEngine {
         //0b10: var-ori
         this.hybrid = model.getSettings().getPropagationEnginType();
         this.sat = sat;
+        this.recorder = model.getSettings().flightRecorder() ? FlightRecorder.get() : null;
+        this.recorderThreshold = model.getSettings().getFlightRecorderThreshold() * 1_000L;
     }
 
     /**
@@ -236,7 +247,7 @@ public class PropagationEngine {
         } while (!var_queue.isEmpty());
     }
 
-    private void propagateSat() throws ContradictionException {
+    void propagateSat() throws ContradictionException {
         if (sat != null) {
             model.getSolver().getMeasures().incPropagationCount();
             sat.propagate();
@@ -247,6 +258,26 @@ public class PropagationEngine {
     }
 
     protected void propagateEvents() throws ContradictionException {
+        if (recorder == null) {
+            propagateLastProp();
+        } else {
+            // the propagator may be removed while propagating
+            Propagator<?> propagator = lastProp;
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                propagateLastProp();
+                failed = false;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= recorderThreshold) {
+                    recorder.propagatorCall(propagator, elapsed, failed);
+                }
+            }
+        }
+    }
+
+    private void propagateLastProp() throws ContradictionException {
         if (lastProp.reactToFineEvent()) {
             model.getSolver().getMeasures().incPropagationCount();
             lastProp.doFinePropagation();
@@ -265,7 +296,7 @@ public class PropagationEngine {
      *
      * @throws ContradictionException if a propagation fails
      */
-    private void activatePropagators() throws ContradictionException {
+    void activatePropagators() throws ContradictionException {
         int cw = model.getEnvironment().getWorldIndex(); // get current index
         dynPropagators.descending(cw, consumer);
         while (!awake_queue.isEmpty()) {
@@ -312,7 +343,7 @@ public class PropagationEngine {
         }
     }
 
-    private int nextNotEmpty() {
+    int nextNotEmpty() {
         if (notEmpty == 0) return -1;
         return Integer.numberOfTrailingZeros(notEmpty);
     }
@@ -366,6 +397,18 @@ public class PropagationEngine {
         notEmpty |= (1 << prop.doSchedule(pro_queue));
     }
 
+    /**
+     * Called instead of {@link #schedule(Propagator, int, int)} when the propagator is the cause of the event:
+     * propagators being idempotent, they are not scheduled on their own modifications.
+     *
+     * @param prop    the propagator which is not scheduled
+     * @param pindice index of the modified variable in <i>prop</i>
+     * @param mask    type of modification
+     */
+    public void skip(Propagator<?> prop, int pindice, int mask) {
+        // nothing to do by default
+    }
+
     /**
      * Execute a delayed propagator
      *
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search;
 
+import org.chocosolver.solver.CompactSolution;
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
@@ -25,12 +26,16 @@ import org.chocosolver.solver.search.limits.ACounter;
 import org.chocosolver.solver.search.limits.SolutionCounter;
 import org.chocosolver.solver.search.measure.IMeasures;
 import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.trace.SolutionSink;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.Collectors;
@@ -146,13 +151,83 @@ public interface IResolutionHelper extends ISelf<Solver> {
         ref().getModel().clearObjective();
         ref().addStopCriterion(stop);
         List<Solution> solutions = new ArrayList<>();
+        ref().addSolutionStore(solutions, Solution::getMemoryFootprint);
         while (ref().solve()) {
             solutions.add(new Solution(ref().getModel()).record());
         }
+        ref().removeSolutionStore(solutions);
         ref().removeStopCriterion(stop);
         return solutions;
     }
 
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem, and records the values of the
+     * variables of <i>scope</i> only, in dense records.
+     * <p>
+     * This method behaves like {@link #findAllSolutions(Criterion...)} but a solution costs an array of
+     * <i>scope.length</i> integers, instead of a map over all variables of the model.
+     * <p>
+     * Note that it clears the current objective function, if any
+     *
+     * @param scope the variables to record, they must be instantiated in each solution
+     * @param stop  optional criterion to stop the search before finding all solutions
+     * @return a list that contained the found solutions.
+     */
+    default List<CompactSolution> findAllCompactSolutions(IntVar[] scope, Criterion... stop) {
+        ref().getModel().clearObjective();
+        ref().addStopCriterion(stop);
+        List<CompactSolution> solutions = new ArrayList<>();
+        ref().addSolutionStore(solutions, CompactSolution::getMemoryFootprint);
+        CompactSolution solution = new CompactSolution(scope);
+        while (ref().solve()) {
+            solutions.add(solution.record().copy());
+        }
+        ref().removeSolutionStore(solutions);
+        ref().removeStopCriterion(stop);
+        return solutions;
+    }
+
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem, and writes them to <i>sink</i>
+     * as they are found, without materialising them.
+     * <p>
+     * This method runs the following instructions:
+     * <pre>
+     *     {@code
+     *     while (model.getSolver().solve()){
+     *          sink.write();
+     *     }
+     *     sink.flush();
+     *     return sink.getNbSolutions();
+     *     }
+     * </pre>
+     * <p>
+     * The sink is flushed, but not closed.
+     * Its counters give the throughput of the writing, see {@link SolutionSink#getNanosPerSolution()}.
+     * <p>
+     * Note that it clears the current objective function, if any
+     *
+     * @param sink where to write the solutions, for instance {@link SolutionSink#binary(OutputStream, IntVar...)}
+     * @param stop optional criterion to stop the search before finding all solutions
+     * @return the number of solutions written by <i>sink</i> so far
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    default long findAllSolutions(SolutionSink sink, Criterion... stop) {
+        ref().getModel().clearObjective();
+        ref().addStopCriterion(stop);
+        try {
+            while (ref().solve()) {
+                sink.write();
+            }
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            ref().removeStopCriterion(stop);
+        }
+        return sink.getNbSolutions();
+    }
+
     /**
      * Attempts to find all solutions of the declared problem.
      * <ul>
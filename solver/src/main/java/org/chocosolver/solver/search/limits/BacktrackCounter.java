@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.limits;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.measure.IMeasures;
 
@@ -28,6 +29,11 @@ public final class BacktrackCounter extends ACounter {
         super(measures, backtracklimit);
     }
 
+    @Override
+    public BacktrackCounter copy(CopyMap map) {
+        return new BacktrackCounter(map.getModel(), max);
+    }
+
     @Override
     public long currentValue() {
         return measures.getBackTrackCount();
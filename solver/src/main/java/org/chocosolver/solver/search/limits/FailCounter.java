@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.limits;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.measure.IMeasures;
 
@@ -27,6 +28,11 @@ public final class FailCounter extends ACounter{
         super(measures, faillimit);
     }
 
+    @Override
+    public FailCounter copy(CopyMap map) {
+        return new FailCounter(map.getModel(), max);
+    }
+
     @Override
     public long currentValue() {
         return measures.getFailCount();
@@ -0,0 +1,207 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.limits;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.util.criteria.Criterion;
+import org.chocosolver.util.tools.MemoryUtils;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.function.LongSupplier;
+
+/**
+ * A limit over the memory used during the resolution.
+ * <br/>
+ * Every <i>period</i> calls, the memory used is compared to the budget.
+ * When the budget is exceeded, and if shedding is allowed, the criterion first tries to free some memory:
+ * it forces a reduction of the learnt clauses (when LCG is on)
+ * and drops the stored solutions but the last one of each list (see {@link Solver#dropStoredSolutions()}).
+ * The search goes on as long as something can be shed, and stops otherwise,
+ * so that the best solution found so far is returned instead of running out of memory.
+ * <br/>
+ * By default, the memory used is the occupancy of the heap measured after the last garbage collections
+ * (see {@link #liveHeap()}), so that garbage not collected yet does not trip the budget.
+ * Since this measure is only refreshed by a collection, once some memory has been shed,
+ * the budget is checked again only after the next collection.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class MemoryBudget implements Criterion {
+
+    /**
+     * Default number of calls between two checks
+     */
+    public static final int DEFAULT_PERIOD = 1000;
+
+    private final Solver solver;
+    private final long budget;
+    private final boolean shed;
+    private final int period;
+    private final LongSupplier usedMemory;
+    private final boolean afterCollection;
+    private int calls;
+    private int sheds;
+    /**
+     * Number of garbage collections when memory was last shed, -1 if none
+     */
+    private long collectionsAtShed = -1;
+
+    /**
+     * @param solver the solver to watch
+     * @param budget a String which states the memory budget, like "512m" or "2g"
+     * @param shed   set to <i>true</i> to free memory before stopping
+     * @see MemoryUtils#convertInBytes(String)
+     */
+    public MemoryBudget(Solver solver, String budget, boolean shed) {
+        this(solver, MemoryUtils.convertInBytes(budget), shed);
+    }
+
+    /**
+     * @param solver the solver to watch
+     * @param budget the memory budget, in bytes
+     * @param shed   set to <i>true</i> to free memory before stopping
+     */
+    public MemoryBudget(Solver solver, long budget, boolean shed) {
+        this(solver, budget, shed, DEFAULT_PERIOD, MemoryBudget::liveHeap, true);
+    }
+
+    /**
+     * @param solver     the solver to watch
+     * @param budget     the memory budget, in bytes
+     * @param shed       set to <i>true</i> to free memory before stopping
+     * @param period     number of calls between two checks
+     * @param usedMemory returns the memory used, in bytes,
+     *                   for instance {@code solver.getMeasures()::getAccountedMemory} to only consider the accounted components
+     */
+    public MemoryBudget(Solver solver, long budget, boolean shed, int period, LongSupplier usedMemory) {
+        this(solver, budget, shed, period, usedMemory, false);
+    }
+
+    /**
+     * @param solver          the solver to watch
+     * @param budget          the memory budget, in bytes
+     * @param shed            set to <i>true</i> to free memory before stopping
+     * @param period          number of calls between two checks
+     * @param usedMemory      returns the memory used, in bytes
+     * @param afterCollection set to <i>true</i> if <i>usedMemory</i> is only refreshed by garbage collections,
+     *                        like {@link #liveHeap()}, then the budget is not checked again after shedding
+     *                        until the next collection
+     */
+    public MemoryBudget(Solver solver, long budget, boolean shed, int period, LongSupplier usedMemory,
+                        boolean afterCollection) {
+        if (period < 1) {
+            throw new IllegalArgumentException("The period must be positive");
+        }
+        this.solver = solver;
+        this.budget = budget;
+        this.shed = shed;
+        this.period = period;
+        this.usedMemory = usedMemory;
+        this.afterCollection = afterCollection;
+    }
+
+    /**
+     * @return the memory used by the heap, in bytes, including garbage not collected yet
+     */
+    public static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Return the occupancy of the heap after the last garbage collection of each of its memory pools,
+     * that is, an estimation of the live data which ignores garbage.
+     * When no pool reports it, the current usage is returned instead (see {@link #usedHeap()}).
+     *
+     * @return the memory used by the heap after the last garbage collections, in bytes
+     */
+    public static long liveHeap() {
+        long used = 0;
+        boolean reported = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                MemoryUsage usage = pool.getCollectionUsage();
+                if (usage != null) {
+                    used += usage.getUsed();
+                    reported = true;
+                }
+            }
+        }
+        return reported ? used : usedHeap();
+    }
+
+    /**
+     * @return the number of garbage collections so far
+     */
+    private static long collections() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isMet() {
+        if (++calls < period) {
+            return false;
+        }
+        calls = 0;
+        if (afterCollection && collectionsAtShed == collections()) {
+            // what has been shed is not reflected by the memory used yet
+            return false;
+        }
+        if (usedMemory.getAsLong() <= budget) {
+            return false;
+        }
+        if (shed && shed()) {
+            if (afterCollection) {
+                collectionsAtShed = collections();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Free some memory
+     *
+     * @return <i>true</i> if something has been shed
+     */
+    private boolean shed() {
+        boolean shed = false;
+        if (solver.isLCG() && solver.getSat().nLearnts() > 0) {
+            long before = solver.getSat().getLearntClausesMemory();
+            solver.getSat().doReduceDB();
+            shed = solver.getSat().getLearntClausesMemory() < before;
+        }
+        shed |= solver.dropStoredSolutions() > 0;
+        if (shed) {
+            sheds++;
+        }
+        return shed;
+    }
+
+    /**
+     * @return the memory budget, in bytes
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the number of times some memory has been shed
+     */
+    public int getShedCount() {
+        return sheds;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.limits;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.measure.IMeasures;
 
@@ -27,6 +28,11 @@ public final class RestartCounter extends ACounter {
         super(measures, nodelimit);
     }
 
+    @Override
+    public RestartCounter copy(CopyMap map) {
+        return new RestartCounter(map.getModel(), max);
+    }
+
     @Override
     public long currentValue() {
         return measures.getRestartCount();
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.limits;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.measure.IMeasures;
 import org.chocosolver.util.tools.TimeUtils;
@@ -45,6 +46,11 @@ public class TimeCounter extends ACounter {
         super(measures, timeLimitInNano);
     }
 
+    @Override
+    public TimeCounter copy(CopyMap map) {
+        return new TimeCounter(map.getModel(), max);
+    }
+
     @Override
     public long currentValue() {
         return measures.getTimeCountInNanoSeconds();
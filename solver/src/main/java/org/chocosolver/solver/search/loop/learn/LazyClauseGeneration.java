@@ -242,8 +242,10 @@ public class LazyClauseGeneration implements Learn {
         public SortableIntArrayList(final boolean sort) {
             super();
             if (sort) {
-                comparator = Comparator.comparingInt(a -> mSat.level(MiniSat.var(a)));
-                comparator = comparator.thenComparingInt(i -> i);
+                comparator = (a, b) -> {
+                    int c = Integer.compare(mSat.level(MiniSat.var(a)), mSat.level(MiniSat.var(b)));
+                    return c != 0 ? c : Integer.compare(a, b);
+                };
             }
         }
 
@@ -12,6 +12,7 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.limits.*;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.criteria.Criterion;
+import org.chocosolver.util.tools.MemoryUtils;
 import org.chocosolver.util.tools.TimeUtils;
 
 /**
@@ -130,6 +131,29 @@ public interface ISearchMonitorFactory extends ISelf<Solver> {
         limitTime(TimeUtils.convertInMilliseconds(duration));
     }
 
+    /**
+     * Defines a limit over the memory used during the resolution, see {@link MemoryBudget}.
+     * When the limit is reached, some memory is shed first if <i>shed</i> is set to <i>true</i>,
+     * then the resolution is stopped.
+     *
+     * @param budget maximal memory used, in bytes
+     * @param shed   set to <i>true</i> to drop learnt clauses and stored solutions before stopping
+     */
+    default void limitMemory(long budget, boolean shed) {
+        limitSearch(new MemoryBudget(ref(), budget, shed));
+    }
+
+    /**
+     * Defines a limit over the memory used during the resolution, see {@link MemoryBudget}.
+     * When the limit is reached, some memory is shed first, then the resolution is stopped.
+     *
+     * @param budget a String which states the memory budget, like "512m" or "2g".
+     * @see MemoryUtils#convertInBytes(String)
+     */
+    default void limitMemory(String budget) {
+        limitMemory(MemoryUtils.convertInBytes(budget), true);
+    }
+
     /**
      * Attach a solution recorder to this solver
      * @param solution solution object to be filled on solutions.
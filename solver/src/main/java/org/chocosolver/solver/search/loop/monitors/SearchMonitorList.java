@@ -193,6 +193,14 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
         }
     }
 
+    /**
+     * @return <tt>true</tt> if this list contains no search monitor
+     */
+    public boolean isEmpty() {
+        return mclos.isEmpty() && mcont.isEmpty() && mdbra.isEmpty() && minit.isEmpty()
+                && mopno.isEmpty() && mrest.isEmpty() && msolu.isEmpty() && mubra.isEmpty();
+    }
+
     /**
      * Checks if this list contains a search monitor.
      * @param sm a search monitor
@@ -7,10 +7,11 @@
 package org.chocosolver.solver.search.loop.monitors;
 
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.measure.IMeasures;
 
 import java.util.LinkedHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 /**
  * A class to return the solving statistics as a JSON object.
@@ -38,6 +39,10 @@ import java.util.function.Function;
  * The time is given in seconds, and the memory usage in bytes.
  * When the objective is not set, the value is "--".
  * When an error occurs when estimating the memory usage, the value is "-1".
+ * Search statistics are read from the last snapshot published by the solver
+ * (see {@link org.chocosolver.solver.search.measure.MeasuresRecorder#getSnapshot()}),
+ * so this is safe to call from another thread.
+ * When called from the solving thread, for instance from a search monitor, the snapshot is a fresh one.
  * <br/>
  * An example of usage is:
  * <pre>
@@ -60,23 +65,23 @@ import java.util.function.Function;
  */
 public class SolvingStatisticsFlow {
 
-    private static final LinkedHashMap<String, Function<Solver, String>> elements = new LinkedHashMap<>();
+    private static final LinkedHashMap<String, BiFunction<Solver, IMeasures, String>> elements = new LinkedHashMap<>();
 
     static {
-        elements.put("variables", solver -> Long.toString(solver.getModel().getNbVars()));
-        elements.put("constraints", solver -> Long.toString(solver.getModel().getNbCstrs()));
-        elements.put("objective", solver ->
-                (solver.hasObjective() ? solver.getBestSolutionValue().toString() : "--"));
-        elements.put("solutions", solver -> Long.toString(solver.getSolutionCount()));
-        elements.put("nodes", solver -> Long.toString(solver.getNodeCount()));
-        elements.put("fails", solver -> Long.toString(solver.getFailCount()));
-        elements.put("backtracks", solver -> Long.toString(solver.getBackTrackCount()));
-        elements.put("backjumps", solver -> Long.toString(solver.getBackjumpCount()));
-        elements.put("restarts", solver -> Long.toString(solver.getRestartCount()));
-        elements.put("fixpoints", solver -> Long.toString(solver.getFixpointCount()));
-        elements.put("depth", solver -> Long.toString(solver.getMeasures().getCurrentDepth()));
-        elements.put("time", solver -> SolvingStatisticsFlow.toHHmmss((long) (solver.getTimeCount() * 1000)));
-        elements.put("memory", SolvingStatisticsFlow::memory);
+        elements.put("variables", (solver, m) -> Long.toString(solver.getModel().getNbVars()));
+        elements.put("constraints", (solver, m) -> Long.toString(solver.getModel().getNbCstrs()));
+        elements.put("objective", (solver, m) ->
+                (m.hasObjective() ? m.getBestSolutionValue().toString() : "--"));
+        elements.put("solutions", (solver, m) -> Long.toString(m.getSolutionCount()));
+        elements.put("nodes", (solver, m) -> Long.toString(m.getNodeCount()));
+        elements.put("fails", (solver, m) -> Long.toString(m.getFailCount()));
+        elements.put("backtracks", (solver, m) -> Long.toString(m.getBackTrackCount()));
+        elements.put("backjumps", (solver, m) -> Long.toString(m.getBackjumpCount()));
+        elements.put("restarts", (solver, m) -> Long.toString(m.getRestartCount()));
+        elements.put("fixpoints", (solver, m) -> Long.toString(m.getFixpointCount()));
+        elements.put("depth", (solver, m) -> Long.toString(m.getCurrentDepth()));
+        elements.put("time", (solver, m) -> SolvingStatisticsFlow.toHHmmss((long) (m.getTimeCount() * 1000)));
+        elements.put("memory", (solver, m) -> SolvingStatisticsFlow.memory(solver));
     }
 
     private final Solver solver;
@@ -99,9 +104,10 @@ public class SolvingStatisticsFlow {
      * @return a JSON object
      */
     public static String toJSON(Solver solver) {
+        IMeasures measures = solver.getMeasures().getSnapshot();
         StringBuilder sb = new StringBuilder();
         sb.append("{");
-        elements.forEach((k, v) -> sb.append("\"").append(k).append("\":\"").append(v.apply(solver)).append("\","));
+        elements.forEach((k, v) -> sb.append("\"").append(k).append("\":\"").append(v.apply(solver, measures)).append("\","));
         sb.deleteCharAt(sb.length() - 1);
         sb.append("}");
         return sb.toString();
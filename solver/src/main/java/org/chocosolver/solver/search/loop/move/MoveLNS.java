@@ -15,6 +15,7 @@ import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
 import org.chocosolver.solver.search.strategy.decision.RootDecision;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.trace.FlightRecorder;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IntEventType;
@@ -65,6 +66,15 @@ public class MoveLNS implements Move {
 
     private boolean canApplyNeighborhood;
 
+    /**
+     * The flight recorder event of the neighbor being explored, if any
+     */
+    private Object neighborEvent;
+    /**
+     * Number of nodes and fails when the neighbor being explored was applied
+     */
+    private long neighborNodes, neighborFails;
+
     /**
      * Create a move which defines a Large Neighborhood Search.
      * @param move how the subtree is explored
@@ -133,13 +143,14 @@ public class MoveLNS implements Move {
                 }
                 solver.getEngine().propagateOnBacktrack(prop);
                 canApplyNeighborhood = true;
+                beginNeighbor(solver);
                 freshRestart = false;
                 extend = true;
             } else {
                 // if fast restart is on
                 if (counter.isMet()) {
                     // then is restart is triggered
-                    doRestart(solver);
+                    doRestart(solver, "limit", false);
                     extend = true;
                 } else {
                     extend = move.extend(solver);
@@ -201,7 +212,7 @@ public class MoveLNS implements Move {
                 solutions++;
                 solutionLoaded = false;
                 neighbor.recordSolution();
-                doRestart(solver);
+                doRestart(solver, "improved", true);
             }
             // when posting the cut directly at root node fails
             else if (freshRestart) {
@@ -212,14 +223,16 @@ public class MoveLNS implements Move {
                 // but the neighbor cannot ensure completeness
                 if (!neighbor.isSearchComplete()) {
                     // then a restart is triggered
-                    doRestart(solver);
+                    doRestart(solver, "exhausted", false);
                     repair = true;
+                } else {
+                    endNeighbor(solver, "complete", false);
                 }
             }
             // or a fast restart is on
             else if (counter.isMet()) {
                 // then is restart is triggered
-                doRestart(solver);
+                doRestart(solver, "limit", false);
             }
         }else{
             repair = move.repair(solver);
@@ -239,7 +252,7 @@ public class MoveLNS implements Move {
         if(solutions == 0){
             freshRestart = true;
         }else{
-            doRestart(solver);
+            doRestart(solver, "loaded", false);
         }
     }
 
@@ -266,9 +279,12 @@ public class MoveLNS implements Move {
     /**
      * Extend the neighbor when conditions are met and do the restart
      *
-     * @param solver SearchLoop
+     * @param solver   SearchLoop
+     * @param outcome  why the current neighbor is left
+     * @param improved true if a solution was found in the current neighbor
      */
-    private void doRestart(Solver solver) {
+    private void doRestart(Solver solver, String outcome, boolean improved) {
+        endNeighbor(solver, outcome, improved);
         if (!freshRestart) {
             neighbor.restrictLess();
         }
@@ -277,6 +293,35 @@ public class MoveLNS implements Move {
         solver.restart();
     }
 
+    /**
+     * Start a flight recorder event for the neighbor about to be explored, if enabled
+     *
+     * @param solver SearchLoop
+     */
+    private void beginNeighbor(Solver solver) {
+        FlightRecorder recorder = solver.getFlightRecorder();
+        if (recorder != null) {
+            neighborEvent = recorder.beginNeighbor();
+            neighborNodes = solver.getNodeCount();
+            neighborFails = solver.getFailCount();
+        }
+    }
+
+    /**
+     * End the flight recorder event of the neighbor being explored, if any
+     *
+     * @param solver   SearchLoop
+     * @param outcome  why the neighbor is left
+     * @param improved true if a solution was found in the neighbor
+     */
+    private void endNeighbor(Solver solver, String outcome, boolean improved) {
+        if (neighborEvent != null) {
+            solver.getFlightRecorder().endNeighbor(neighborEvent, solver, neighbor, outcome, improved,
+                    solver.getNodeCount() - neighborNodes, solver.getFailCount() - neighborFails);
+            neighborEvent = null;
+        }
+    }
+
     @Override
     public List<Move> getChildMoves() {
         return Collections.singletonList(move);
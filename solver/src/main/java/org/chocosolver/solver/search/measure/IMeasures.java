@@ -71,6 +71,40 @@ public interface IMeasures extends Serializable {
      */
     long getReadingTimeCountInNanoSeconds();
 
+    /**
+     * @return the time count (in sec) spent to copy the model, 0 if the model is not a copy
+     * @see org.chocosolver.solver.Model#copy()
+     */
+    default float getCopyTimeCount() {
+        return getCopyTimeCountInNanoSeconds() / IN_SEC;
+    }
+
+    /**
+     * @return the time count (in nano seconds) spent to copy the model, 0 if the model is not a copy
+     * @see org.chocosolver.solver.Model#copy()
+     */
+    long getCopyTimeCountInNanoSeconds();
+
+    /**
+     * @return the time count (in sec) spent to presolve the model, 0 if the model has not been presolved
+     * @see org.chocosolver.util.tools.Presolve
+     */
+    default float getPresolveTimeCount() {
+        return getPresolveTimeCountInNanoSeconds() / IN_SEC;
+    }
+
+    /**
+     * @return the time count (in nano seconds) spent to presolve the model, 0 if the model has not been presolved
+     * @see org.chocosolver.util.tools.Presolve
+     */
+    long getPresolveTimeCountInNanoSeconds();
+
+    /**
+     * @return the number of reductions made by the presolve, 0 if the model has not been presolved
+     * @see org.chocosolver.util.tools.Presolve#getNbReductions()
+     */
+    long getPresolveReductionCount();
+
     /**
      * @return the node count
      */
@@ -151,6 +185,37 @@ public interface IMeasures extends Serializable {
      */
     IBoundsManager getBoundsManager();
 
+    /**
+     * @return an estimate of the memory (in bytes) allocated by the trails of the environment
+     * @see org.chocosolver.memory.IEnvironment#getTrailMemory()
+     */
+    long getTrailMemory();
+
+    /**
+     * @return an estimate of the memory (in bytes) occupied by the learnt clauses, 0 if LCG is off
+     * @see org.chocosolver.sat.MiniSat#getLearntClausesMemory()
+     */
+    long getLearntClausesMemory();
+
+    /**
+     * @return an estimate of the memory (in bytes) occupied by the supports of the table constraints
+     */
+    long getTableMemory();
+
+    /**
+     * @return an estimate of the memory (in bytes) occupied by the solutions stored during the resolution
+     * @see org.chocosolver.solver.Solver#getStoredSolutionsMemory()
+     */
+    long getStoredSolutionsMemory();
+
+    /**
+     * @return an estimate of the memory (in bytes) occupied by the accounted components,
+     * that is, the sum of the trails, the learnt clauses, the table supports and the stored solutions
+     */
+    default long getAccountedMemory() {
+        return getTrailMemory() + getLearntClausesMemory() + getTableMemory() + getStoredSolutionsMemory();
+    }
+
     /**
      * @return a summary of recorded statistics
      */
@@ -233,6 +298,9 @@ public interface IMeasures extends Serializable {
         st.append(
             String.format(
                 "\tBuilding time : %,.3fs\n" +
+                    (getCopyTimeCountInNanoSeconds() > 0 ? String.format("\tCopy time : %,.3fs\n", getCopyTimeCount()) : "") +
+                    (getPresolveTimeCountInNanoSeconds() > 0 ? String.format("\tPresolve time : %,.3fs (%,d reductions)\n",
+                            getPresolveTimeCount(), getPresolveReductionCount()) : "") +
                     "\tResolution time : %,.3fs\n" +
                     (hasObjective() ? String.format("\tTime to best solution : %,.3fs\n",getTimeToBestSolution()) : "") +
                     "\tNodes: %,d (%,.1f n/s) \n" +
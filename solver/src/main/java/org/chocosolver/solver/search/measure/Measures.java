@@ -64,6 +64,21 @@ public class Measures implements IMeasures, Cloneable {
      */
     protected long readingTimeCount;
 
+    /**
+     * Counts the time spent into copying the model, if it is a copy
+     */
+    protected long copyTimeCount;
+
+    /**
+     * Counts the time spent into presolving the model, if it is presolved
+     */
+    protected long presolveTimeCount;
+
+    /**
+     * Counts the number of reductions made by the presolve
+     */
+    protected long presolveReductionCount;
+
     /**
      * Counts the number of nodes opened so far.
      */
@@ -109,6 +124,26 @@ public class Measures implements IMeasures, Cloneable {
      */
     protected long backjumpCount;
 
+    /**
+     * Estimates the memory allocated by the trails, in bytes
+     */
+    protected long trailMemory;
+
+    /**
+     * Estimates the memory occupied by the learnt clauses, in bytes
+     */
+    protected long learntClausesMemory;
+
+    /**
+     * Estimates the memory occupied by the supports of the table constraints, in bytes
+     */
+    protected long tableMemory;
+
+    /**
+     * Estimates the memory occupied by the stored solutions, in bytes
+     */
+    protected long storedSolutionsMemory;
+
     //***********************************************************************************
     // CONSTRUCTOR
     //***********************************************************************************
@@ -138,6 +173,9 @@ public class Measures implements IMeasures, Cloneable {
         solutionCount = measures.getSolutionCount();
         timeCount = measures.getTimeCountInNanoSeconds();
         readingTimeCount = measures.getReadingTimeCountInNanoSeconds();
+        copyTimeCount = measures.getCopyTimeCountInNanoSeconds();
+        presolveTimeCount = measures.getPresolveTimeCountInNanoSeconds();
+        presolveReductionCount = measures.getPresolveReductionCount();
         timeToBestSolution = measures.getTimeToBestSolutionInNanoSeconds();
         nodeCount = measures.getNodeCount();
         backtrackCount = measures.getBackTrackCount();
@@ -145,6 +183,13 @@ public class Measures implements IMeasures, Cloneable {
         failCount = measures.getFailCount();
         depth = measures.getCurrentDepth();
         maxDepth = measures.getMaxDepth();
+        fixpointCount = measures.getFixpointCount();
+        propagationCount = measures.getPropagationCount();
+        backjumpCount = measures.getBackjumpCount();
+        trailMemory = measures.getTrailMemory();
+        learntClausesMemory = measures.getLearntClausesMemory();
+        tableMemory = measures.getTableMemory();
+        storedSolutionsMemory = measures.getStoredSolutionsMemory();
     }
 
     //****************************************************************************************************************//
@@ -198,6 +243,21 @@ public class Measures implements IMeasures, Cloneable {
         return readingTimeCount;
     }
 
+    @Override
+    public long getCopyTimeCountInNanoSeconds() {
+        return copyTimeCount;
+    }
+
+    @Override
+    public long getPresolveTimeCountInNanoSeconds() {
+        return presolveTimeCount;
+    }
+
+    @Override
+    public long getPresolveReductionCount() {
+        return presolveReductionCount;
+    }
+
 
     @Override
     public final long getRestartCount() {
@@ -259,6 +319,26 @@ public class Measures implements IMeasures, Cloneable {
         return nodeCount - solutionCount;
     }
 
+    @Override
+    public long getTrailMemory() {
+        return trailMemory;
+    }
+
+    @Override
+    public long getLearntClausesMemory() {
+        return learntClausesMemory;
+    }
+
+    @Override
+    public long getTableMemory() {
+        return tableMemory;
+    }
+
+    @Override
+    public long getStoredSolutionsMemory() {
+        return storedSolutionsMemory;
+    }
+
     @Override
     public String toString() {
         return toMultiLineString();
@@ -13,10 +13,20 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.LongSupplier;
 
 /**
  * Object which stores resolution information to get statistics
+ * <p>
+ * Counters are plain fields, only updated and safely read by the solving thread.
+ * Other threads should read {@link MeasuresSnapshot}s instead: the solving thread publishes an immutable snapshot
+ * when asked to, at its next step in the search loop (see {@link #publishSnapshotIfRequested()}),
+ * and each time the search state changes.
+ * When the solving thread asks for a snapshot itself, for instance from a search monitor, a fresh one is published.
+ * Reading a snapshot is lock-free and does not slow the search loop down.
+ * </p>
  *
  * @author Charles Prud'Homme, Arnaud Malapert
  * @since 3.0.0
@@ -32,12 +42,37 @@ public final class MeasuresRecorder extends Measures {
 
     transient private LongSupplier currentNanoTime;
 
+    /**
+     * Sources of the memory estimates, queried when the estimates are read
+     */
+    transient private LongSupplier trailMemorySource;
+    transient private LongSupplier learntClausesMemorySource;
+    transient private LongSupplier tableMemorySource;
+    transient private LongSupplier storedSolutionsMemorySource;
+
+    /**
+     * Last snapshot published by the solving thread
+     */
+    transient private volatile MeasuresSnapshot snapshot;
+
+    /**
+     * Set to <i>true</i> when a thread asks for a fresh snapshot
+     */
+    transient private volatile boolean snapshotRequested;
+
+    /**
+     * Identifier of the thread which ran the last resolution, -1 if none
+     */
+    transient private volatile long solvingThread = -1;
+
     /**
      * Create a measures recorder
      */
     public MeasuresRecorder(String modelName) {
         super(modelName);
         currentNanoTime = () -> timeCount;
+        initMemorySources();
+        publishSnapshot();
     }
 
     private void writeObject(ObjectOutputStream out) throws IOException {
@@ -50,6 +85,82 @@ public final class MeasuresRecorder extends Measures {
         in.defaultReadObject();
         // now we are a "live" object again, so let's run rebuild and start
         currentNanoTime = () -> timeCount;
+        solvingThread = -1;
+        initMemorySources();
+        publishSnapshot();
+    }
+
+    private void initMemorySources() {
+        trailMemorySource = () -> trailMemory;
+        learntClausesMemorySource = () -> learntClausesMemory;
+        tableMemorySource = () -> tableMemory;
+        storedSolutionsMemorySource = () -> storedSolutionsMemory;
+    }
+
+    //****************************************************************************************************************//
+    //**************************************** SNAPSHOTS *************************************************************//
+    //****************************************************************************************************************//
+
+    /**
+     * Return the last snapshot published and ask the solving thread for a fresh one.
+     * This method can be called from any thread.
+     * When called by the solving thread while the search is running, a fresh snapshot is published first and returned.
+     *
+     * @return the last snapshot published, see {@link MeasuresSnapshot#getNanoTime()} to know when it was taken
+     */
+    public MeasuresSnapshot getSnapshot() {
+        if (state == SearchState.RUNNING && Thread.currentThread().getId() == solvingThread) {
+            publishSnapshot();
+        } else {
+            snapshotRequested = true;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Ask the solving thread for a fresh snapshot and wait for it, at most <i>timeout</i>.
+     * When the search is not running, the last snapshot published is up-to-date and returned immediately.
+     * When called by the solving thread, a fresh snapshot is published and returned immediately.
+     * This method can be called from any thread.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of <i>timeout</i>
+     * @return a fresh snapshot, or the last snapshot published if the solving thread did not answer in time
+     */
+    public MeasuresSnapshot awaitSnapshot(long timeout, TimeUnit unit) {
+        if (Thread.currentThread().getId() == solvingThread) {
+            return getSnapshot();
+        }
+        MeasuresSnapshot last = snapshot;
+        if (last.getSearchState() != SearchState.RUNNING) {
+            return last;
+        }
+        snapshotRequested = true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        MeasuresSnapshot current;
+        while ((current = snapshot) == last && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(100_000L);
+        }
+        return current;
+    }
+
+    /**
+     * Publish a snapshot if another thread asked for it.
+     * Must be called by the solving thread, it only costs a volatile read when no snapshot is requested.
+     */
+    public void publishSnapshotIfRequested() {
+        if (snapshotRequested) {
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Publish a snapshot of the current measures.
+     * Must be called by the solving thread.
+     */
+    public void publishSnapshot() {
+        snapshotRequested = false;
+        snapshot = new MeasuresSnapshot(this);
     }
 
     @Override
@@ -58,6 +169,30 @@ public final class MeasuresRecorder extends Measures {
         return super.getTimeCountInNanoSeconds();
     }
 
+    @Override
+    public long getTrailMemory() {
+        trailMemory = trailMemorySource.getAsLong();
+        return super.getTrailMemory();
+    }
+
+    @Override
+    public long getLearntClausesMemory() {
+        learntClausesMemory = learntClausesMemorySource.getAsLong();
+        return super.getLearntClausesMemory();
+    }
+
+    @Override
+    public long getTableMemory() {
+        tableMemory = tableMemorySource.getAsLong();
+        return super.getTableMemory();
+    }
+
+    @Override
+    public long getStoredSolutionsMemory() {
+        storedSolutionsMemory = storedSolutionsMemorySource.getAsLong();
+        return super.getStoredSolutionsMemory();
+    }
+
     public void updateTimeToBestSolution() {
         timeToBestSolution = currentNanoTime.getAsLong();
     }
@@ -115,6 +250,7 @@ public final class MeasuresRecorder extends Measures {
         depth = 0;
         maxDepth = 0;
         propagationCount = 0;
+        publishSnapshot();
     }
 
     //****************************************************************************************************************//
@@ -184,16 +320,21 @@ public final class MeasuresRecorder extends Measures {
      */
     public void setSearchState(SearchState state) {
         Objects.requireNonNull(state);
+        if (state == SearchState.RUNNING) {
+            solvingThread = Thread.currentThread().getId();
+        }
         this.state = state;
+        publishSnapshot();
     }
 
     /**
-     * Update the bounds managed
+     * Update the bounds managed, and publish a snapshot which states the new objective
      * @param boundsManager new bound manager
      */
     public void setBoundsManager(IBoundsManager boundsManager) {
         Objects.requireNonNull(boundsManager);
         this.boundsManager = boundsManager;
+        publishSnapshot();
     }
 
     public void setReadingTimeCount(long readingTimeCount) {
@@ -202,4 +343,48 @@ public final class MeasuresRecorder extends Measures {
         }
     }
 
+    public void setCopyTimeCount(long copyTimeCount) {
+        this.copyTimeCount = copyTimeCount;
+    }
+
+    public void setPresolveTimeCount(long presolveTimeCount) {
+        this.presolveTimeCount = presolveTimeCount;
+    }
+
+    public void setPresolveReductionCount(long presolveReductionCount) {
+        this.presolveReductionCount = presolveReductionCount;
+    }
+
+    /**
+     * Set the source of the trail memory estimate, queried each time the estimate is read.
+     * @param source returns an estimate, in bytes
+     */
+    public void setTrailMemory(LongSupplier source) {
+        this.trailMemorySource = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Set the source of the learnt clauses memory estimate, queried each time the estimate is read.
+     * @param source returns an estimate, in bytes
+     */
+    public void setLearntClausesMemory(LongSupplier source) {
+        this.learntClausesMemorySource = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Set the source of the stored solutions memory estimate, queried each time the estimate is read.
+     * @param source returns an estimate, in bytes
+     */
+    public void setStoredSolutionsMemory(LongSupplier source) {
+        this.storedSolutionsMemorySource = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Set the source of the table constraints memory estimate, queried each time the estimate is read.
+     * @param source returns an estimate, in bytes
+     */
+    public void setTableMemory(LongSupplier source) {
+        this.tableMemorySource = Objects.requireNonNull(source);
+    }
+
 }
@@ -0,0 +1,104 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.measure;
+
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.objective.IBoundsManager;
+
+/**
+ * An immutable copy of the measures of a solver, taken by the solving thread at a given instant,
+ * that can be read from any thread.
+ * <br/>
+ * Snapshots are published by {@link MeasuresRecorder}, see {@link MeasuresRecorder#getSnapshot()}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class MeasuresSnapshot extends Measures {
+
+    private static final long serialVersionUID = 5187301637781126348L;
+
+    /**
+     * Value of {@link System#nanoTime()} when this snapshot was taken
+     */
+    private final long nanoTime;
+
+    /**
+     * Create a snapshot of <i>measures</i>.
+     * Must be called by the thread that updates <i>measures</i>.
+     *
+     * @param measures the measures to copy
+     */
+    MeasuresSnapshot(IMeasures measures) {
+        super(measures);
+        this.nanoTime = System.nanoTime();
+        IBoundsManager bounds = measures.getBoundsManager();
+        // the satisfaction manager has no state
+        this.boundsManager = bounds.isOptimization() ? new FrozenBounds(bounds) : bounds;
+    }
+
+    /**
+     * @return the value of {@link System#nanoTime()} when this snapshot was taken
+     */
+    public long getNanoTime() {
+        return nanoTime;
+    }
+
+    /**
+     * @return the age of this snapshot, in nanoseconds
+     */
+    public long getAgeInNanoSeconds() {
+        return System.nanoTime() - nanoTime;
+    }
+
+    /**
+     * A copy of the bounds of an optimization problem
+     */
+    private static final class FrozenBounds implements IBoundsManager {
+
+        private static final long serialVersionUID = -4013185393196409432L;
+
+        private final ResolutionPolicy policy;
+        private final Number bestLB;
+        private final Number bestUB;
+        private final Number bestSolutionValue;
+        private final String description;
+
+        FrozenBounds(IBoundsManager bounds) {
+            this.policy = bounds.getPolicy();
+            this.bestLB = bounds.getBestLB();
+            this.bestUB = bounds.getBestUB();
+            this.bestSolutionValue = bounds.getBestSolutionValue();
+            this.description = bounds.toString();
+        }
+
+        @Override
+        public ResolutionPolicy getPolicy() {
+            return policy;
+        }
+
+        @Override
+        public Number getBestLB() {
+            return bestLB;
+        }
+
+        @Override
+        public Number getBestUB() {
+            return bestUB;
+        }
+
+        @Override
+        public Number getBestSolutionValue() {
+            return bestSolutionValue;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -25,4 +26,9 @@ public final class IntDomainMax implements IntValueSelector {
         return var.getUB();
     }
 
+    @Override
+    public IntDomainMax copy(CopyMap map) {
+        // no state, the selector is shared
+        return this;
+    }
 }
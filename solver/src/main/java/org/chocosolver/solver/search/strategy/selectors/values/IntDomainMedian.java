@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -36,4 +37,10 @@ public class IntDomainMedian implements IntValueSelector {
 		}
 		return median;
     }
+
+    @Override
+    public IntDomainMedian copy(CopyMap map) {
+        // no state, the selector is shared
+        return this;
+    }
 }
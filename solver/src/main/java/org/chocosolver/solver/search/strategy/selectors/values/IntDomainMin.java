@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -22,4 +23,9 @@ public final class IntDomainMin implements IntValueSelector {
         return var.getLB();
     }
 
+    @Override
+    public IntDomainMin copy(CopyMap map) {
+        // no state, the selector is shared
+        return this;
+    }
 }
@@ -10,17 +10,31 @@ import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.variables.IVariableMonitor;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.util.objects.IdentityToDouble;
+import org.chocosolver.util.objects.IntMap;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * <p>
  * Project: choco.
+ * <p>
+ * By default, the variable to branch on is found by scanning the non-instantiated variables.
+ * When created <i>incremental</i>, the variables are stored in an indexed binary heap keyed on their score
+ * (weight divided by domain size).
+ * A variable is marked as dirty when its domain or its weight is modified, and again on backtrack
+ * when its domain is restored, and only dirty variables are re-keyed before selecting the top of the heap.
+ * Weights stored in {@link #weights} are tracked automatically,
+ * other weights must be declared with {@link #invalidate(Variable)} and its siblings.
+ * </p>
  *
  * @author Charles Prud'homme
  * @since 26/02/2020.
@@ -55,6 +69,29 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     final IdentityToDouble<Variable> weights;
 
+    // TO MANAGE INCREMENTAL SELECTION
+    /**
+     * Decision variables, in their original order, when selected incrementally
+     */
+    private final V[] scope;
+    /**
+     * Non-instantiated decision variables, keyed on their score, when selected incrementally
+     */
+    private final VariableHeap heap;
+    /**
+     * Variables observed: the decision variables first, then the ones sharing a propagator with them
+     * when {@link #dependsOnFutvars()}
+     */
+    private Variable[] observed;
+    /**
+     * Position of each observed variable in {@link #observed}, indexed by the variable id
+     */
+    private IntMap positions;
+    /**
+     * Observes the modifications of the variables
+     */
+    private final IVariableMonitor<Variable> monitor = this::onModification;
+
     /**
      * Create a variable selector based on a criterion
      *
@@ -63,12 +100,58 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      * @param flush flush-threshold. Counts the number of restarts, and flushes the weights if it exceeds this value.
      */
     public AbstractCriterionBasedVariableSelector(V[] vars, long seed, int flush) {
+        this(vars, seed, flush, false);
+    }
+
+    /**
+     * Create a variable selector based on a criterion
+     *
+     * @param vars        decision variables
+     * @param seed        seed for breaking ties randomly, if set to -1, ties are broken by the variable position
+     * @param flush       flush-threshold. Counts the number of restarts, and flushes the weights if it exceeds this value.
+     * @param incremental set to <i>true</i> to maintain the variables in a heap keyed on their score,
+     *                    instead of scanning them at each selection
+     */
+    public AbstractCriterionBasedVariableSelector(V[] vars, long seed, int flush, boolean incremental) {
         this.random = seed > -1 ? new java.util.Random(seed) : null;
         this.solver = vars[0].getModel().getSolver();
         this.environment = vars[0].getModel().getEnvironment();
         this.last = environment.makeInt(vars.length - 1);
-        this.weights = new IdentityToDouble<>();
         flushThs = flush;
+        if (incremental) {
+            this.scope = vars.clone();
+            this.heap = new VariableHeap(scope, i -> weight(scope[i]), environment);
+            this.weights = new IdentityToDouble<Variable>() {
+                @Override
+                public void set(Variable v, double weight) {
+                    super.set(v, weight);
+                    invalidate(v);
+                }
+
+                @Override
+                public void inc(Variable v, double delta) {
+                    super.inc(v, delta);
+                    invalidate(v);
+                }
+
+                @Override
+                public void clear() {
+                    super.clear();
+                    invalidateAll();
+                }
+            };
+        } else {
+            this.scope = null;
+            this.heap = null;
+            this.weights = new IdentityToDouble<>();
+        }
+    }
+
+    /**
+     * @return <i>true</i> if the variables are maintained in a heap keyed on their score
+     */
+    public final boolean isIncremental() {
+        return heap != null;
     }
 
     /**
@@ -77,6 +160,10 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     @Override
     public final V getVariable(V[] vars) {
+        if (heap != null) {
+            int i = heap.top(random);
+            return i < 0 ? null : scope[i];
+        }
         V best = null;
         bests.resetQuick();
         double w = Double.NEGATIVE_INFINITY;
@@ -116,6 +203,129 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
     protected abstract double weight(V v);
 
+    /**
+     * @return <i>true</i> if the weight of a variable depends on the number of non-instantiated variables
+     * of its propagators. In that case, and in incremental mode, the variables sharing a propagator
+     * with the decision variables are observed too, and the instantiation of the last but one variable of a propagator
+     * (or its restoration) invalidates the variables of that propagator.
+     */
+    protected boolean dependsOnFutvars() {
+        return false;
+    }
+
+    /**
+     * Plug the monitor of the incremental mode, if any, into the variables.
+     * Should be called when the selector is initialized.
+     */
+    protected final void plugIncremental() {
+        if (heap == null) {
+            return;
+        }
+        if (observed == null) {
+            List<Variable> obs = new ArrayList<>(Arrays.asList(scope));
+            positions = new IntMap(scope.length);
+            for (int i = 0; i < scope.length; i++) {
+                positions.put(scope[i].getId(), i);
+            }
+            if (dependsOnFutvars()) {
+                for (V v : scope) {
+                    v.streamPropagators().forEach(p -> {
+                        for (int i = 0; i < p.getNbVars(); i++) {
+                            Variable w = p.getVar(i);
+                            if (positions.get(w.getId()) == -1) {
+                                positions.put(w.getId(), obs.size());
+                                obs.add(w);
+                            }
+                        }
+                    });
+                }
+            }
+            observed = obs.toArray(new Variable[0]);
+            for (Variable v : observed) {
+                v.addMonitor(monitor);
+            }
+        }
+        heap.reset();
+    }
+
+    /**
+     * Unplug the monitor of the incremental mode, if any, from the variables.
+     */
+    protected final void unplugIncremental() {
+        if (observed != null) {
+            for (Variable v : observed) {
+                v.removeMonitor(monitor);
+            }
+            observed = null;
+            positions = null;
+        }
+    }
+
+    private void onModification(Variable var, IEventType evt) {
+        int i = positions.get(var.getId());
+        if (i < 0) {
+            return;
+        }
+        if (i < scope.length) {
+            heap.onDomainChange(i);
+        }
+        if (var.isInstantiated() && dependsOnFutvars()) {
+            var.forEachPropagator(this::onInstantiation);
+        }
+    }
+
+    private void onInstantiation(Variable var, Propagator<?> p) {
+        int fut = 0;
+        for (int j = 0; j < p.getNbVars() && fut < 2; j++) {
+            if (!p.getVar(j).isInstantiated()) {
+                fut++;
+            }
+        }
+        if (fut < 2) {
+            invalidate(p);
+            if (environment.getWorldIndex() > 0) {
+                environment.save(() -> invalidate(p));
+            }
+        }
+    }
+
+    /**
+     * Declare that the score of <i>var</i> has changed, in incremental mode.
+     * Nothing is done if <i>var</i> is not a decision variable.
+     *
+     * @param var a variable
+     */
+    protected final void invalidate(Variable var) {
+        if (positions != null) {
+            int i = positions.get(var.getId());
+            if (i >= 0 && i < scope.length) {
+                heap.markDirty(i);
+            }
+        }
+    }
+
+    /**
+     * Declare that the scores of the variables of <i>prop</i> have changed, in incremental mode.
+     *
+     * @param prop a propagator
+     */
+    protected final void invalidate(Propagator<?> prop) {
+        if (positions != null) {
+            for (int j = 0; j < prop.getNbVars(); j++) {
+                invalidate(prop.getVar(j));
+            }
+        }
+    }
+
+    /**
+     * Declare that the scores of all variables have changed, in incremental mode.
+     */
+    protected final void invalidateAll() {
+        if (positions != null) {
+            heap.markAllDirty();
+        }
+    }
+
     int remapInc() {
         return 0;
     }
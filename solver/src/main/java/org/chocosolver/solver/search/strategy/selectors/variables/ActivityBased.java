@@ -8,6 +8,8 @@ package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntDoubleHashMap;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.limits.ACounter;
@@ -37,6 +39,11 @@ import static java.lang.Integer.MAX_VALUE;
  * "Activity-Based Search for Black-Box Constraint Propagramming Solver",
  * Laurent Michel and Pascal Van Hentenryck, CPAIOR12.
  * <br/>
+ * When {@link org.chocosolver.solver.Settings#incrementalVarSelection()} is set,
+ * activities are aged lazily, by a global factor instead of variable by variable,
+ * and, once the sampling phase is over, the variables are selected from a heap keyed on their score
+ * instead of being scanned.
+ * <br/>
  *
  * @author Charles Prud'homme
  * @since 07/06/12
@@ -97,7 +104,11 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
     private final IntMap v2i;
     private final IntVar[] vars;
 
-    private final double[] A; // activity of all variables
+    private final double[] A; // activity of all variables, divided by G when the variable is not instantiated
+    private double G = ONE; // global aging factor, only used when incremental
+    private final boolean[] frozen; // variables instantiated, their activity is not divided by G
+    private final IOperation[] unfreeze; // restore variables on backtrack
+    private final VariableHeap heap; // not null when incremental
     private final double[] mA; // the mean -- maintained incrementally
     private final double[] sA; // the variance -- maintained incrementally -- std dev = sqrt(sA/path-1)
     private final ValueActivity[] vAct; // activity of each value of all variables
@@ -136,6 +147,20 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
         sA = new double[vars.length];
         vAct = new ValueActivity[vars.length];
         affected = new BitSet(vars.length);
+        frozen = new boolean[vars.length];
+        unfreeze = new IOperation[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            final int idx = i;
+            unfreeze[i] = () -> {
+                A[idx] /= G;
+                frozen[idx] = false;
+            };
+        }
+        if (model.getSettings().incrementalVarSelection()) {
+            heap = new VariableHeap(vars, i -> A[i], model.getEnvironment());
+        } else {
+            heap = null;
+        }
 
         this.v2i = new IntMap(vars.length);
         assert g >= 0.0f && g <= 1.0f;
@@ -180,6 +205,9 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
                 vAct[i] = new ValueActivity.Array(ampl, vars[i].getLB());
             }
         }
+        if (heap != null) {
+            heap.reset();
+        }
         if (restartAfterEachLeaf) {
             mRestarter = new Restarter(new MonotonicCutoff(1),
                     new ACounter(model.getSolver().getMeasures(), 1) {
@@ -233,6 +261,10 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
 
     @Override
     public Decision<IntVar> getDecision() {
+        if (heap != null && !sampling) {
+            currentVar = heap.top(random);
+            return computeDecision(currentVar < 0 ? null : vars[currentVar]);
+        }
         IntVar best = null;
         bests.resetQuick();
         double bestVal = -1.0d;
@@ -265,8 +297,8 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
         int id1 = v2i.get(o1.getId());
         int id2 = v2i.get(o2.getId());
         // avoid using / operation, * is faster
-        double b1 = A[id1] * o2.getDomainSize();
-        double b2 = A[id2] * o1.getDomainSize();
+        double b1 = activity(id1) * o2.getDomainSize();
+        double b2 = activity(id2) * o1.getDomainSize();
         if (b1 > b2) {
             return -1;
         } else if (b1 < b2) {
@@ -276,9 +308,30 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
     }
 
 
+    /**
+     * @param i index of a variable
+     * @return the activity of the variable
+     */
+    private double activity(int i) {
+        return frozen[i] ? A[i] : A[i] * G;
+    }
+
     @Override
     public void onUpdate(IntVar var, IEventType evt) {
-        affected.set(v2i.get(var.getId()));
+        int i = v2i.get(var.getId());
+        affected.set(i);
+        if (heap != null) {
+            heap.onDomainChange(i);
+            if (!frozen[i] && var.isInstantiated()) {
+                // an instantiated variable is not aged anymore
+                A[i] *= G;
+                frozen[i] = true;
+                IEnvironment environment = model.getEnvironment();
+                if (environment.getWorldIndex() > 0) {
+                    environment.save(unfreeze[i]);
+                }
+            }
+        }
     }
 
     @Override
@@ -291,6 +344,10 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
     @Override
     public void afterDownBranch(boolean left) {
         if (left && currentVar > -1) {  // if the decision was computed by another strategy
+            if (heap != null) {
+                ageLazily();
+                return;
+            }
             for (int i = 0; i < A.length; i++) {
                 if (vars[i].getDomainSize() > 1) {
                     A[i] *= sampling ? ONE : g;
@@ -309,6 +366,37 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
         }
     }
 
+    /**
+     * Age the activities in O(|affected|): instead of multiplying the activity of each non-instantiated variable by
+     * {@link #g}, the global factor {@link #G} is, and the increments of these variables are divided by {@link #G}.
+     */
+    private void ageLazily() {
+        if (!sampling) {
+            G *= g;
+        }
+        for (int i = affected.nextSetBit(0); i >= 0; i = affected.nextSetBit(i + 1)) {
+            A[i] += frozen[i] ? ONE : ONE / G;
+            heap.markDirty(i);
+        }
+        if (G < 1e-100) {
+            // renormalize, to avoid an underflow
+            for (int i = 0; i < A.length; i++) {
+                if (!frozen[i]) {
+                    A[i] *= G;
+                }
+            }
+            G = ONE;
+            heap.markAllDirty();
+        }
+        double act = vAct[currentVar].activity(currentVal);
+        if (sampling) {
+            vAct[currentVar].setactivity(currentVal, act + affected.cardinality());
+        } else {
+            vAct[currentVar].setactivity(currentVal, (act * (a - 1) + affected.cardinality()) / a);
+        }
+        currentVar = -1;
+    }
+
     @Override
     public void beforeRestart() {
     }
@@ -334,6 +422,9 @@ public final class ActivityBased extends AbstractStrategy<IntVar> implements IMo
             }
             //BEWARE: when it fails very soon (after 1 node), it is worth forcing sampling
             if (nb_probes > samplingIterationForced && idx == vars.length) {
+                if (heap != null) {
+                    heap.markAllDirty();
+                }
                 sampling = false;
                 if (restartAfterEachLeaf) {
                     removeRFMove();
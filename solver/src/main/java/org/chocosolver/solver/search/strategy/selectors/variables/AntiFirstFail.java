@@ -7,6 +7,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -30,6 +31,11 @@ public class AntiFirstFail implements VariableSelector<IntVar>,VariableEvaluator
         lastIdx = model.getEnvironment().makeInt(0);
     }
 
+    @Override
+    public AntiFirstFail copy(CopyMap map) {
+        return new AntiFirstFail(map.getModel());
+    }
+
     @Override
     public IntVar getVariable(IntVar[] variables) {
         int large_idx = -1;
@@ -66,7 +66,18 @@ public class ConflictHistorySearch<V extends Variable>
      * @param seed seed for breaking ties randomly
      */
     public ConflictHistorySearch(V[] vars, long seed) {
-        super(vars, seed, 20);
+        this(vars, seed, vars[0].getModel().getSettings().incrementalVarSelection());
+    }
+
+    /**
+     * Create a Conflict History Search variable selector.
+     * @param vars decision variables
+     * @param seed seed for breaking ties randomly
+     * @param incremental set to <i>true</i> to maintain the variables in a heap keyed on their score,
+     *                    instead of scanning them at each selection
+     */
+    public ConflictHistorySearch(V[] vars, long seed, boolean incremental) {
+        super(vars, seed, 20, incremental);
     }
 
     @Override
@@ -74,6 +85,7 @@ public class ConflictHistorySearch<V extends Variable>
         if (!solver.getSearchMonitors().contains(this)) {
             solver.plugMonitor(this);
         }
+        plugIncremental();
         return true;
     }
 
@@ -82,6 +94,12 @@ public class ConflictHistorySearch<V extends Variable>
         if (solver.getSearchMonitors().contains(this)) {
             solver.unplugMonitor(this);
         }
+        unplugIncremental();
+    }
+
+    @Override
+    protected boolean dependsOnFutvars() {
+        return true;
     }
 
     @Override
@@ -114,6 +132,7 @@ public class ConflictHistorySearch<V extends Variable>
             alpha = Math.max(ALPHA_LIMIT, alpha - STEP);
             // update conflicts
             conflict.put(p, conflicts);
+            invalidate(p);
         }
     }
 
@@ -124,5 +143,6 @@ public class ConflictHistorySearch<V extends Variable>
             q.put(p, qj * Math.pow(DECAY, (conflicts - conflict.get(p))));
         }
         alpha = .4d;
+        invalidateAll();
     }
 }
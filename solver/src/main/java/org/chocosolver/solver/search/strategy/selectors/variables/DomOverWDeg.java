@@ -103,7 +103,20 @@ public class DomOverWDeg<V extends Variable>
      * @param flushThs  flush threshold, when reached, it flushes scores
      */
     public DomOverWDeg(V[] variables, long seed, int flushThs) {
-        super(variables, seed, flushThs);
+        this(variables, seed, flushThs, variables[0].getModel().getSettings().incrementalVarSelection());
+    }
+
+    /**
+     * Creates a DomOverWDeg variable selector
+     *
+     * @param variables   decision variables
+     * @param seed        seed for breaking ties randomly
+     * @param flushThs    flush threshold, when reached, it flushes scores
+     * @param incremental set to <i>true</i> to maintain the variables in a heap keyed on their score,
+     *                    instead of scanning them at each selection
+     */
+    public DomOverWDeg(V[] variables, long seed, int flushThs, boolean incremental) {
+        super(variables, seed, flushThs, incremental);
     }
 
 
@@ -112,6 +125,7 @@ public class DomOverWDeg<V extends Variable>
         if (!solver.getSearchMonitors().contains(this)) {
             solver.plugMonitor(this);
         }
+        plugIncremental();
         return true;
     }
 
@@ -120,6 +134,7 @@ public class DomOverWDeg<V extends Variable>
         if (solver.getSearchMonitors().contains(this)) {
             solver.unplugMonitor(this);
         }
+        unplugIncremental();
     }
 
     @Override
@@ -42,6 +42,19 @@ public class DomOverWDegRef<V extends Variable> extends DomOverWDeg<V> {
         super(variables, seed, flushThs);
     }
 
+    /**
+     * Creates a DomOverWDegRef variable selector with "CACD" as weight incrementer.
+     *
+     * @param variables   decision variables
+     * @param seed        seed for breaking ties randomly
+     * @param flushThs    flush threshold, when reached, it flushes scores
+     * @param incremental set to <i>true</i> to maintain the variables in a heap keyed on their score,
+     *                    instead of scanning them at each selection
+     */
+    public DomOverWDegRef(V[] variables, long seed, int flushThs, boolean incremental) {
+        super(variables, seed, flushThs, incremental);
+    }
+
     /**
      * @implNote This is the reason this class exists.
      * The only difference with {@link DomOverWDeg} is the increment
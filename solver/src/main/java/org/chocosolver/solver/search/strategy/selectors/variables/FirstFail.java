@@ -7,6 +7,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -29,6 +30,11 @@ public class FirstFail implements VariableSelector<IntVar>, VariableEvaluator<In
     public FirstFail(Model model){
         lastIdx = model.getEnvironment().makeInt(0);
     }
+
+    @Override
+    public FirstFail copy(CopyMap map) {
+        return new FirstFail(map.getModel());
+    }
     
     
     @Override
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.Variable;
 
@@ -31,6 +32,11 @@ public class InputOrder<V extends Variable> implements VariableSelector<V> {
         lastIdx = model.getEnvironment().makeInt(0);
     }
 
+    @Override
+    public InputOrder<V> copy(CopyMap map) {
+        return new InputOrder<>(map.getModel());
+    }
+
     @Override
     public V getVariable(V[] variables) {
         for (int idx = lastIdx.get(); idx < variables.length; idx++) {
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -38,4 +39,10 @@ public class Largest implements VariableSelector<IntVar>,VariableEvaluator<IntVa
     public double evaluate(IntVar variable) {
         return -variable.getUB();
     }
+
+    @Override
+    public Largest copy(CopyMap map) {
+        // no state, the selector is shared
+        return this;
+    }
 }
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -37,4 +38,10 @@ public class Smallest implements VariableSelector<IntVar>, VariableEvaluator<Int
     public double evaluate(IntVar variable) {
         return variable.getLB();
     }
+
+    @Override
+    public Smallest copy(CopyMap map) {
+        // no state, the selector is shared
+        return this;
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.IntHeap;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * An indexed binary heap of non-instantiated variables, keyed on their score, that is, their weight divided by
+ * their domain size.
+ * <p>
+ * Scores are not maintained eagerly: a variable is marked as <i>dirty</i> when its weight or its domain changes,
+ * and only dirty variables are re-keyed before the top of the heap is consulted.
+ * Since a domain is restored on backtrack, a modified variable is marked as dirty again on backtrack.
+ * </p>
+ * <p>
+ * Project: choco.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+final class VariableHeap {
+
+    /**
+     * Variables in the heap, designated by their index
+     */
+    private final Variable[] vars;
+    /**
+     * Weight of a variable, designated by its index
+     */
+    private final IntToDoubleFunction weight;
+    /**
+     * Needed to save operations
+     */
+    private final IEnvironment environment;
+    /**
+     * Score of each variable, as computed the last time it was dirty
+     */
+    private final double[] keys;
+    /**
+     * Non-instantiated variables, the one with the largest score first
+     */
+    private final IntHeap heap;
+    /**
+     * Dirty variables, to re-key before the next selection
+     */
+    private final boolean[] dirty;
+    private final int[] dirties;
+    private int nbDirties;
+    /**
+     * Timestamp of the environment when the last {@link #redirty} operation was saved, for each variable
+     */
+    private final int[] stamps;
+    /**
+     * Operations marking a variable as dirty on backtrack
+     */
+    private final IOperation[] redirty;
+    /**
+     * Set to <i>false</i> when the heap needs to be built from scratch
+     */
+    private boolean built;
+    /**
+     * Temporary. Stores positions in the heap to visit
+     */
+    private final TIntArrayList stack = new TIntArrayList();
+    /**
+     * Temporary. Stores index of variables with the same (best) score
+     */
+    private final TIntArrayList bests = new TIntArrayList();
+
+    /**
+     * Create a heap of variables
+     *
+     * @param vars        variables
+     * @param weight      weight of a variable, designated by its index in <i>vars</i>
+     * @param environment the environment, to be notified of backtracks
+     */
+    VariableHeap(Variable[] vars, IntToDoubleFunction weight, IEnvironment environment) {
+        this.vars = vars;
+        this.weight = weight;
+        this.environment = environment;
+        this.keys = new double[vars.length];
+        this.dirty = new boolean[vars.length];
+        this.dirties = new int[vars.length];
+        this.stamps = new int[vars.length];
+        Arrays.fill(stamps, -1);
+        this.redirty = new IOperation[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            final int idx = i;
+            redirty[i] = () -> markDirty(idx);
+        }
+        this.heap = new IntHeap((a, b) -> keys[a] > keys[b] || (keys[a] == keys[b] && a < b));
+    }
+
+    /**
+     * Declare that the domain of the <i>i</i><sup>th</sup> variable has changed.
+     * It is marked as dirty now and upon backtrack.
+     *
+     * @param i index of a variable
+     */
+    void onDomainChange(int i) {
+        markDirty(i);
+        if (stamps[i] != environment.getTimeStamp() && environment.getWorldIndex() > 0) {
+            stamps[i] = environment.getTimeStamp();
+            environment.save(redirty[i]);
+        }
+    }
+
+    /**
+     * Declare that the weight of the <i>i</i><sup>th</sup> variable has changed.
+     *
+     * @param i index of a variable
+     */
+    void markDirty(int i) {
+        if (!dirty[i]) {
+            dirty[i] = true;
+            dirties[nbDirties++] = i;
+        }
+    }
+
+    /**
+     * Declare that the weights of all variables have changed.
+     */
+    void markAllDirty() {
+        for (int i = 0; i < vars.length; i++) {
+            markDirty(i);
+        }
+    }
+
+    /**
+     * Force the heap to be built from scratch on the next call to {@link #top(Random)}.
+     */
+    void reset() {
+        built = false;
+    }
+
+    /**
+     * Re-key the dirty variables then return the one with the largest score.
+     *
+     * @param random to break ties randomly, can be <i>null</i>, in that case, ties are broken by the variable index
+     * @return the index of the variable with the largest score, or -1 if all variables are instantiated
+     */
+    int top(Random random) {
+        if (!built) {
+            heap.clear();
+            markAllDirty();
+            built = true;
+        }
+        for (int k = 0; k < nbDirties; k++) {
+            int i = dirties[k];
+            dirty[i] = false;
+            int domSize = vars[i].getDomainSize();
+            if (domSize > 1) {
+                keys[i] = weight.applyAsDouble(i) / domSize;
+                heap.update(i);
+            } else if (heap.contains(i)) {
+                heap.remove(i);
+            }
+        }
+        nbDirties = 0;
+        if (heap.isEmpty()) {
+            return -1;
+        }
+        int best = heap.get(0);
+        if (random != null) {
+            // ties are on top of the heap
+            bests.resetQuick();
+            stack.resetQuick();
+            stack.add(0);
+            double w = keys[best];
+            while (!stack.isEmpty()) {
+                int pos = stack.removeAt(stack.size() - 1);
+                int i = heap.get(pos);
+                if (keys[i] == w) {
+                    bests.add(i);
+                    if (2 * pos + 1 < heap.size()) {
+                        stack.add(2 * pos + 1);
+                    }
+                    if (2 * pos + 2 < heap.size()) {
+                        stack.add(2 * pos + 2);
+                    }
+                }
+            }
+            best = bests.get(random.nextInt(bests.size()));
+        }
+        return best;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.variables.Variable;
 
 
@@ -45,4 +46,15 @@ public interface VariableSelector<V extends Variable>  {
 
     }
 
+    /**
+     * Creates the counterpart of this selector in the model targeted by <i>map</i>, see {@link CopyMap}.
+     * A selector with no state can return itself.
+     *
+     * @param map maps the objects of the copied model to their copy
+     * @return a copy of this selector, or <i>null</i> if it cannot be copied
+     */
+    default VariableSelector<V> copy(CopyMap map) {
+        return null;
+    }
+
 }
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
@@ -146,6 +147,16 @@ public abstract class AbstractStrategy<V extends Variable> {
 
     }
 
+    /**
+     * Creates the counterpart of this strategy in the model targeted by <i>map</i>, see {@link CopyMap}.
+     *
+     * @param map maps the objects of the copied model to their copy
+     * @return a copy of this strategy, or <i>null</i> if it cannot be copied
+     */
+    public AbstractStrategy<V> copy(CopyMap map) {
+        return null;
+    }
+
     /**
      * Creates a <code>String</code> object containing a pretty print of the current variables.
      *
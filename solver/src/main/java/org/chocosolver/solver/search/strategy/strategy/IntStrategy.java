@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
@@ -74,6 +75,12 @@ public class IntStrategy extends AbstractStrategy<IntVar> {
 		this.decisionOperator = decOperator;
     }
 
+    @Override
+    public IntStrategy copy(CopyMap map) {
+        // decision operators are singletons, they are shared
+        return new IntStrategy(map.get(vars), map.get(variableSelector), map.get(valueSelector), decisionOperator);
+    }
+
     @Override
     public boolean init() {
         return variableSelector.init();
@@ -11,6 +11,7 @@
 
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -99,4 +100,10 @@ public class SetTimes extends Propagator<IntVar> implements VariableSelector<Int
     public ESat isEntailed() {
         return ESat.TRUE;
     }
+
+    @Override
+    public SetTimes copy(CopyMap map) {
+        // both a propagator and a variable selector, which cannot be copied apart
+        return null;
+    }
 }
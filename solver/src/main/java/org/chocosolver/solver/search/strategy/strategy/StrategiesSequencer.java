@@ -8,6 +8,7 @@ package org.chocosolver.solver.search.strategy.strategy;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -54,6 +55,18 @@ public class StrategiesSequencer<U extends Variable> extends AbstractStrategy<U>
         this.strategies = strategies;
     }
 
+    @Override
+    public StrategiesSequencer<U> copy(CopyMap map) {
+        AbstractStrategy<U>[] copies = strategies.clone();
+        for (int i = 0; i < copies.length; i++) {
+            copies[i] = map.get(strategies[i]);
+        }
+        if (index == null) {
+            return new StrategiesSequencer<>(copies);
+        }
+        return new StrategiesSequencer<>(map.getModel().getEnvironment(), copies);
+    }
+
     @Override
     public boolean init() {
         boolean ok = true;
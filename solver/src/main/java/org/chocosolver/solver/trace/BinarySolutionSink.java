@@ -0,0 +1,183 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * A sink which writes solutions in a compact binary format:
+ * <ul>
+ *     <li>a header made of the magic number {@link #MAGIC} (4 bytes, big-endian), the number <i>n</i> of variables
+ *     and, for each of them, a reference value (its lower bound when the sink is created),</li>
+ *     <li>then, for each solution, the difference between the value of each variable and its reference value.</li>
+ * </ul>
+ * All numbers but the magic one are zigzag-encoded variable-length integers (7 bits per byte),
+ * so that a variable whose domain holds less than 128 values is written on a single byte.
+ * The solutions can be read back with {@link #read(InputStream, Consumer)}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class BinarySolutionSink extends SolutionSink {
+
+    /**
+     * Magic number of the format, "CSOL"
+     */
+    public static final int MAGIC = 0x43534F4C;
+
+    private final OutputStream out;
+    /**
+     * Reference value of each variable of the scope
+     */
+    private final int[] references;
+    private final byte[] buffer = new byte[1 << 13];
+    private int count;
+    private long nbBytes;
+
+    /**
+     * Creates a sink which writes solutions in a compact binary format, the header is written immediately.
+     *
+     * @param out   the stream to write to
+     * @param scope the variables to write, in order
+     */
+    public BinarySolutionSink(OutputStream out, IntVar... scope) {
+        super(scope);
+        this.out = out;
+        this.references = new int[scope.length];
+        for (int i = 0; i < scope.length; i++) {
+            references[i] = scope[i].getLB();
+        }
+        for (int s = 24; s >= 0; s -= 8) {
+            buffer[count++] = (byte) (MAGIC >>> s);
+        }
+        try {
+            writeVarInt(scope.length);
+            for (int reference : references) {
+                writeVarInt(zigzag(reference));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void encode(int[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            writeVarInt(zigzag(values[i] - references[i]));
+        }
+    }
+
+    private void writeVarInt(int v) throws IOException {
+        if (count > buffer.length - 5) {
+            drain();
+        }
+        while ((v & ~0x7F) != 0) {
+            buffer[count++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[count++] = (byte) v;
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, count);
+        nbBytes += count;
+        count = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    @Override
+    public long getNbBytes() {
+        return nbBytes + count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+
+    private static int zigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    private static int unzigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Reads the solutions written by a {@link BinarySolutionSink}.
+     *
+     * @param in     the stream to read from, which is not closed
+     * @param action called on each solution with the values of the variables, by position in the scope;
+     *               the array is reused from one solution to the other
+     * @return the number of solutions read
+     * @throws IOException if an I/O error occurs or if the stream is not well-formed
+     */
+    public static long read(InputStream in, Consumer<int[]> action) throws IOException {
+        int magic = 0;
+        for (int k = 0; k < 4; k++) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Missing header");
+            }
+            magic = (magic << 8) | b;
+        }
+        if (magic != MAGIC) {
+            throw new IOException("Not a binary solution stream");
+        }
+        int n = readVarInt(in, in.read());
+        int[] references = new int[n];
+        for (int i = 0; i < n; i++) {
+            references[i] = unzigzag(readVarInt(in, in.read()));
+        }
+        int[] values = new int[n];
+        long nbSolutions = 0;
+        int first;
+        // the end of the stream is only expected between two solutions
+        while ((first = in.read()) >= 0) {
+            for (int i = 0; i < n; i++) {
+                values[i] = references[i] + unzigzag(readVarInt(in, i == 0 ? first : in.read()));
+            }
+            nbSolutions++;
+            action.accept(values);
+        }
+        return nbSolutions;
+    }
+
+    /**
+     * @param b the first byte of the integer, already read
+     * @return the next integer
+     */
+    private static int readVarInt(InputStream in, int b) throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (shift > 0) {
+                b = in.read();
+            }
+            if (b < 0) {
+                throw new EOFException("Truncated solution");
+            }
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("Malformed integer");
+    }
+}
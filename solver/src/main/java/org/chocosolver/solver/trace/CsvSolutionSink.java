@@ -0,0 +1,136 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A sink which writes solutions as comma-separated values (RFC 4180), one line per solution,
+ * preceded by a header made of the names of the variables.
+ * Values are formatted directly into a byte buffer, so that writing a solution does not allocate.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class CsvSolutionSink extends SolutionSink {
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[1 << 13];
+    private int count;
+    private long nbBytes;
+
+    /**
+     * Creates a sink which writes solutions as comma-separated values, the header is written immediately.
+     *
+     * @param out   the stream to write to
+     * @param scope the variables to write, in order
+     */
+    public CsvSolutionSink(OutputStream out, IntVar... scope) {
+        super(scope);
+        this.out = out;
+        StringBuilder header = new StringBuilder();
+        for (int i = 0; i < scope.length; i++) {
+            if (i > 0) {
+                header.append(',');
+            }
+            String name = scope[i].getName();
+            if (name.indexOf(',') >= 0 || name.indexOf('"') >= 0 || name.indexOf('\n') >= 0) {
+                header.append('"').append(name.replace("\"", "\"\"")).append('"');
+            } else {
+                header.append(name);
+            }
+        }
+        header.append('\n');
+        try {
+            byte[] bytes = header.toString().getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                nbBytes += bytes.length;
+            } else {
+                System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+                count = bytes.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void encode(int[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            // an int is written on at most 11 bytes, plus a separator
+            if (count > buffer.length - 12) {
+                drain();
+            }
+            if (i > 0) {
+                buffer[count++] = ',';
+            }
+            writeInt(values[i]);
+        }
+        if (count == buffer.length) {
+            drain();
+        }
+        buffer[count++] = '\n';
+    }
+
+    private void writeInt(int v) {
+        if (v == Integer.MIN_VALUE) {
+            byte[] min = Integer.toString(v).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(min, 0, buffer, count, min.length);
+            count += min.length;
+            return;
+        }
+        if (v < 0) {
+            buffer[count++] = '-';
+            v = -v;
+        }
+        int end = count + digits(v);
+        int pos = end;
+        do {
+            buffer[--pos] = (byte) ('0' + v % 10);
+            v /= 10;
+        } while (v > 0);
+        count = end;
+    }
+
+    private static int digits(int v) {
+        int d = 1;
+        while (v >= 10) {
+            v /= 10;
+            d++;
+        }
+        return d;
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, count);
+        nbBytes += count;
+        count = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    @Override
+    public long getNbBytes() {
+        return nbBytes + count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+}
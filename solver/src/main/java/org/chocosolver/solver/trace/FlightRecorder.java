@@ -0,0 +1,366 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Emits <a href="https://docs.oracle.com/en/java/javase/17/jfapi/">Java Flight Recorder</a> events
+ * describing the resolution, so that a recording made on a production node can be analysed offline,
+ * for instance with JDK Mission Control.
+ * <br/>
+ * The events, all in the category "Choco", are:
+ * <ul>
+ *     <li>{@code org.chocosolver.Restart}: a restart, including the propagation of the root node,</li>
+ *     <li>{@code org.chocosolver.Solution}: a solution, with the best objective value so far, if any,</li>
+ *     <li>{@code org.chocosolver.Fixpoint}: a fixpoint reached (or failed) in the search loop,</li>
+ *     <li>{@code org.chocosolver.PropagatorCall}: a propagator call that lasted more than
+ *     {@link org.chocosolver.solver.Settings#getFlightRecorderThreshold()} microseconds,</li>
+ *     <li>{@code org.chocosolver.ReduceDB}: a reduction of the learnt clauses database,</li>
+ *     <li>{@code org.chocosolver.Neighbor}: a neighbor explored by a Large Neighborhood Search, and its outcome.</li>
+ * </ul>
+ * Events are only emitted when {@link org.chocosolver.solver.Settings#flightRecorder()} is set to <i>true</i>
+ * and a recording is running, for instance when the JVM is started with
+ * {@code -XX:StartFlightRecording:filename=choco.jfr}.
+ * Each event type can be enabled or disabled in the recording settings.
+ * <p>
+ * The solver is compiled against Java 8, that is why the events are created dynamically,
+ * with {@code jdk.jfr.EventFactory}, and accessed with method handles.
+ * When JFR is not available in the running JVM, {@link #get()} returns <i>null</i> and no event is emitted.
+ * When it is available but the event types cannot be registered, {@link #get()} throws an exception.
+ * When the solver runs on the module path, {@code --add-modules jdk.jfr} may be needed.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public final class FlightRecorder {
+
+    private static final String CATEGORY = "Choco";
+
+    private final MethodHandle newEvent;
+    private final MethodHandle isEnabled;
+    private final MethodHandle begin;
+    private final MethodHandle commit;
+    private final MethodHandle set;
+
+    private final Object restart;
+    private final Object solution;
+    private final Object fixpoint;
+    private final Object propagatorCall;
+    private final Object reduceDB;
+    private final Object neighbor;
+
+    /**
+     * Lazy holder of the unique instance, event types are registered once per JVM
+     */
+    private static final class Holder {
+        /**
+         * Set when JFR is available but the event types cannot be registered
+         */
+        private static Throwable failure;
+        private static final FlightRecorder INSTANCE = create();
+
+        private static FlightRecorder create() {
+            try {
+                Class.forName("jdk.jfr.Event");
+            } catch (ClassNotFoundException e) {
+                // JFR is not available
+                return null;
+            }
+            try {
+                return new FlightRecorder();
+            } catch (Throwable e) {
+                failure = e;
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return the flight recorder, or <i>null</i> if JFR is not available in the running JVM
+     * @throws SolverException if JFR is available but the event types cannot be registered
+     */
+    public static FlightRecorder get() {
+        if (Holder.failure != null) {
+            SolverException e = new SolverException("Unable to register the flight recorder events: "
+                    + Holder.failure);
+            e.initCause(Holder.failure);
+            throw e;
+        }
+        return Holder.INSTANCE;
+    }
+
+    private FlightRecorder() throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Class<?> event = Class.forName("jdk.jfr.Event");
+        Class<?> factory = Class.forName("jdk.jfr.EventFactory");
+        newEvent = lookup.unreflect(factory.getMethod("newEvent"))
+                .asType(MethodType.methodType(Object.class, Object.class));
+        isEnabled = lookup.unreflect(event.getMethod("isEnabled"))
+                .asType(MethodType.methodType(boolean.class, Object.class));
+        begin = lookup.unreflect(event.getMethod("begin"))
+                .asType(MethodType.methodType(void.class, Object.class));
+        commit = lookup.unreflect(event.getMethod("commit"))
+                .asType(MethodType.methodType(void.class, Object.class));
+        set = lookup.unreflect(event.getMethod("set", int.class, Object.class))
+                .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+        restart = type("Restart", "Restart", "A restart, including the propagation of the root node",
+                String.class, "solver", "Solver",
+                long.class, "restarts", "Restarts",
+                long.class, "nodes", "Nodes",
+                long.class, "fails", "Fails");
+        solution = type("Solution", "Solution", "A solution found by a solver",
+                String.class, "solver", "Solver",
+                long.class, "solutions", "Solutions",
+                long.class, "nodes", "Nodes",
+                long.class, "fails", "Fails",
+                double.class, "objective", "Best Objective Value");
+        fixpoint = type("Fixpoint", "Fixpoint", "A fixpoint reached, or failed, in the search loop",
+                String.class, "solver", "Solver",
+                int.class, "depth", "Depth",
+                boolean.class, "failed", "Failed");
+        propagatorCall = type("PropagatorCall", "Expensive Propagator Call",
+                "A propagator call that lasted more than the configured threshold",
+                String.class, "propagator", "Propagator",
+                String.class, "constraint", "Constraint",
+                long.class, "elapsed", "Elapsed",
+                boolean.class, "failed", "Failed");
+        reduceDB = type("ReduceDB", "Learnt Clauses Reduction", "A reduction of the learnt clauses database",
+                int.class, "before", "Learnt Clauses Before",
+                int.class, "after", "Learnt Clauses After");
+        neighbor = type("Neighbor", "LNS Neighbor", "A neighbor explored by a Large Neighborhood Search",
+                String.class, "solver", "Solver",
+                String.class, "neighbor", "Neighbor",
+                String.class, "outcome", "Outcome",
+                boolean.class, "improved", "Improved",
+                long.class, "nodes", "Nodes",
+                long.class, "fails", "Fails");
+    }
+
+    /**
+     * Register a new event type, <i>fields</i> is made of triplets: type, name and label.
+     * A long field named "elapsed" is a timespan in nanoseconds.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object type(String name, String label, String description, Object... fields)
+            throws ReflectiveOperationException {
+        Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+        Constructor<?> annotationWithValue = annotationElement.getConstructor(Class.class, Object.class);
+        Class<? extends Annotation> nameA = (Class<? extends Annotation>) Class.forName("jdk.jfr.Name");
+        Class<? extends Annotation> labelA = (Class<? extends Annotation>) Class.forName("jdk.jfr.Label");
+        Class<? extends Annotation> descriptionA = (Class<? extends Annotation>) Class.forName("jdk.jfr.Description");
+        Class<? extends Annotation> categoryA = (Class<? extends Annotation>) Class.forName("jdk.jfr.Category");
+        Class<? extends Annotation> stackTraceA = (Class<? extends Annotation>) Class.forName("jdk.jfr.StackTrace");
+        Class<? extends Annotation> timespanA = (Class<? extends Annotation>) Class.forName("jdk.jfr.Timespan");
+        List<Object> annotations = Arrays.asList(
+                annotationWithValue.newInstance(nameA, "org.chocosolver." + name),
+                annotationWithValue.newInstance(labelA, label),
+                annotationWithValue.newInstance(descriptionA, description),
+                annotationWithValue.newInstance(categoryA, new String[]{CATEGORY}),
+                // stack traces are useless here, and costly
+                annotationWithValue.newInstance(stackTraceA, false)
+        );
+        Constructor<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor")
+                .getConstructor(Class.class, String.class, List.class);
+        List<Object> descriptors = new ArrayList<>();
+        for (int i = 0; i < fields.length; i += 3) {
+            List<Object> fieldAnnotations = new ArrayList<>();
+            fieldAnnotations.add(annotationWithValue.newInstance(labelA, fields[i + 2]));
+            if ("elapsed".equals(fields[i + 1])) {
+                // Timespan.NANOSECONDS
+                fieldAnnotations.add(annotationWithValue.newInstance(timespanA, "NANOSECONDS"));
+            }
+            descriptors.add(valueDescriptor.newInstance(fields[i], fields[i + 1], fieldAnnotations));
+        }
+        return Class.forName("jdk.jfr.EventFactory")
+                .getMethod("create", List.class, List.class)
+                .invoke(null, annotations, Collections.unmodifiableList(descriptors));
+    }
+
+    /**
+     * Create a new event of type <i>type</i> and start its timing.
+     *
+     * @return the event, or <i>null</i> if this event type is not enabled in any recording
+     */
+    private Object begin(Object type) {
+        try {
+            Object event = (Object) newEvent.invokeExact(type);
+            if (!(boolean) isEnabled.invokeExact(event)) {
+                return null;
+            }
+            begin.invokeExact(event);
+            return event;
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Set the fields of <i>event</i> then commit it.
+     */
+    private void commit(Object event, Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                set.invokeExact(event, i, values[i]);
+            }
+            commit.invokeExact(event);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new SolverException("Unable to emit a flight recorder event: " + t.getMessage());
+    }
+
+    /**
+     * Start a restart event, to be ended with {@link #endRestart(Object, Solver)}.
+     *
+     * @return the event, or <i>null</i> if it is not enabled
+     */
+    public Object beginRestart() {
+        return begin(restart);
+    }
+
+    /**
+     * End a restart event.
+     *
+     * @param event  an event returned by {@link #beginRestart()}, ignored when <i>null</i>
+     * @param solver the solver that restarted
+     */
+    public void endRestart(Object event, Solver solver) {
+        if (event != null) {
+            commit(event, solver.getModel().getName(), solver.getRestartCount(),
+                    solver.getNodeCount(), solver.getFailCount());
+        }
+    }
+
+    /**
+     * Emit a solution event.
+     *
+     * @param solver the solver that found a solution
+     */
+    public void solution(Solver solver) {
+        Object event = begin(solution);
+        if (event != null) {
+            Number best = solver.getObjectiveManager().isOptimization() ?
+                    solver.getObjectiveManager().getBestSolutionValue() : null;
+            commit(event, solver.getModel().getName(), solver.getSolutionCount(),
+                    solver.getNodeCount(), solver.getFailCount(),
+                    best == null ? Double.NaN : best.doubleValue());
+        }
+    }
+
+    /**
+     * Start a fixpoint event, to be ended with {@link #endFixpoint(Object, Solver, boolean)}.
+     *
+     * @return the event, or <i>null</i> if it is not enabled
+     */
+    public Object beginFixpoint() {
+        return begin(fixpoint);
+    }
+
+    /**
+     * End a fixpoint event.
+     *
+     * @param event  an event returned by {@link #beginFixpoint()}, ignored when <i>null</i>
+     * @param solver the solver that reached the fixpoint
+     * @param failed <i>true</i> if the propagation ended with a failure
+     */
+    public void endFixpoint(Object event, Solver solver, boolean failed) {
+        if (event != null) {
+            commit(event, solver.getModel().getName(), solver.getDecisionPath().size(), failed);
+        }
+    }
+
+    /**
+     * Emit an expensive propagator call event.
+     * The caller is in charge of comparing <i>elapsed</i> to the threshold.
+     *
+     * @param propagator the propagator called
+     * @param elapsed    duration of the call, in nanoseconds
+     * @param failed     <i>true</i> if the call ended with a failure
+     */
+    public void propagatorCall(Propagator<?> propagator, long elapsed, boolean failed) {
+        Object event = begin(propagatorCall);
+        if (event != null) {
+            commit(event, propagator.getClass().getSimpleName() + "#" + propagator.getId(),
+                    propagator.getConstraint().getName(), elapsed, failed);
+        }
+    }
+
+    /**
+     * Start a learnt clauses reduction event,
+     * to be ended with {@link #endReduceDB(Object, int, int)}.
+     *
+     * @return the event, or <i>null</i> if it is not enabled
+     */
+    public Object beginReduceDB() {
+        return begin(reduceDB);
+    }
+
+    /**
+     * End a learnt clauses reduction event.
+     *
+     * @param event  an event returned by {@link #beginReduceDB()}, ignored when <i>null</i>
+     * @param before number of learnt clauses before the reduction
+     * @param after  number of learnt clauses after the reduction
+     */
+    public void endReduceDB(Object event, int before, int after) {
+        if (event != null) {
+            commit(event, before, after);
+        }
+    }
+
+    /**
+     * Start a neighbor event,
+     * to be ended with {@link #endNeighbor(Object, Solver, INeighbor, String, boolean, long, long)}.
+     *
+     * @return the event, or <i>null</i> if it is not enabled
+     */
+    public Object beginNeighbor() {
+        return begin(neighbor);
+    }
+
+    /**
+     * End a neighbor event.
+     *
+     * @param event    an event returned by {@link #beginNeighbor()}, ignored when <i>null</i>
+     * @param solver   the solver running the LNS
+     * @param neighbor the neighbor explored
+     * @param outcome  how the exploration of the neighbor ended
+     * @param improved <i>true</i> if a new solution was found in the neighbor
+     * @param nodes    number of nodes explored in the neighbor
+     * @param fails    number of fails met in the neighbor
+     */
+    public void endNeighbor(Object event, Solver solver, INeighbor neighbor, String outcome,
+                            boolean improved, long nodes, long fails) {
+        if (event != null) {
+            commit(event, solver.getModel().getName(), neighbor.getClass().getSimpleName(), outcome,
+                    improved, nodes, fails);
+        }
+    }
+}
@@ -9,10 +9,16 @@ package org.chocosolver.solver.trace;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
 import org.chocosolver.solver.search.loop.monitors.IMonitorInitialize;
+import org.chocosolver.solver.search.measure.MeasuresRecorder;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * A search monitor logger which prints statistics every XX ms.
  * <br/>
+ * Statistics are read from a snapshot published by the solving thread on demand,
+ * see {@link MeasuresRecorder#awaitSnapshot(long, TimeUnit)}.
+ * <br/>
  *
  * @author Charles Prud'homme
  * @since 18 aug. 2010
@@ -36,13 +42,15 @@ public class LogStatEveryXXms implements IMonitorInitialize, IMonitorClose {
      */
     public LogStatEveryXXms(final Solver solver, final long duration) {
 
+        MeasuresRecorder measures = solver.getMeasures();
         printer = new Thread(() -> {
             alive = true;
             try {
                 Thread.sleep(duration);
                 //noinspection InfiniteLoopStatement
                 do {
-                    solver.log().white().printf(">> %s %n", solver.toOneLineString());
+                    solver.log().white().printf(">> %s %n",
+                            measures.awaitSnapshot(duration, TimeUnit.MILLISECONDS).toOneLineString());
                     Thread.sleep(duration);
                 } while (alive);
             } catch (InterruptedException ignored) {
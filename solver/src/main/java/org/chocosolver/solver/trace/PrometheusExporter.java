@@ -0,0 +1,389 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ParallelPortfolio;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.measure.MeasuresRecorder;
+import org.chocosolver.solver.search.measure.MeasuresSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exports the measures of running solvers in the
+ * <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Prometheus text format</a>,
+ * either to a file rewritten periodically or to an {@link Endpoint}, like an HTTP server, provided by the user.
+ * This keeps the solver free from any dependency on a server implementation.
+ * <br/>
+ * Each registered solver is described by the labels {@code solver} (the name of its model) and {@code worker}
+ * (its index in a {@link ParallelPortfolio}, empty otherwise).
+ * Counters and gauges are read from {@link MeasuresSnapshot}s, so exporting never blocks nor slows the searches.
+ * Rates (nodes, fails and solutions per second) are computed between two consecutive scrapes.
+ * <p>
+ * An example of usage, serving the measures with the HTTP server of the JDK (module {@code jdk.httpserver}), is:
+ * <pre>
+ *     try (PrometheusExporter exporter = new PrometheusExporter()) {
+ *         exporter.register(solver);
+ *         exporter.exportTo((contentType, scrape) -> {
+ *             HttpServer server = HttpServer.create(new InetSocketAddress(9464), 0);
+ *             server.createContext("/metrics", exchange -> {
+ *                 byte[] body = scrape.get().getBytes(StandardCharsets.UTF_8);
+ *                 exchange.getResponseHeaders().set("Content-Type", contentType);
+ *                 exchange.sendResponseHeaders(200, body.length);
+ *                 try (OutputStream os = exchange.getResponseBody()) {
+ *                     os.write(body);
+ *                 }
+ *             });
+ *             server.start();
+ *             return () -> server.stop(0);
+ *         });
+ *         while (solver.solve()) ;
+ *     }
+ * </pre>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class PrometheusExporter implements Closeable {
+
+    /**
+     * The content type of the Prometheus text format
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Serves the measures of the registered solvers, for instance over HTTP.
+     */
+    @FunctionalInterface
+    public interface Endpoint {
+
+        /**
+         * Start serving the measures.
+         *
+         * @param contentType the content type of the measures, that is {@link #CONTENT_TYPE}
+         * @param scrape      returns the current measures on each call, see {@link #scrape()},
+         *                    it can be called from any thread but a solving one
+         * @return a handle which stops serving when closed
+         * @throws IOException if the endpoint cannot be started
+         */
+        Closeable start(String contentType, Supplier<String> scrape) throws IOException;
+    }
+
+    /**
+     * A registered solver
+     */
+    private static final class Source {
+        final String labels;
+        final MeasuresRecorder measures;
+        MeasuresSnapshot previous;
+        MeasuresSnapshot current;
+        double nodeRate;
+        double failRate;
+        double solutionRate;
+
+        Source(String solver, String worker, MeasuresRecorder measures) {
+            this.labels = "{solver=\"" + escape(solver) + "\",worker=\"" + escape(worker) + "\"}";
+            this.measures = measures;
+        }
+    }
+
+    private final List<Source> sources = new CopyOnWriteArrayList<>();
+
+    /**
+     * Maximum time, in nanoseconds, a scrape waits for the solvers to publish fresh snapshots
+     */
+    private final long waitNanos;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Endpoints started so far
+     */
+    private final List<Closeable> endpoints = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create an exporter which waits at most 50ms for the solvers to publish fresh snapshots.
+     */
+    public PrometheusExporter() {
+        this(50, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create an exporter.
+     *
+     * @param wait maximum time a scrape waits for the solvers to publish fresh snapshots,
+     *             beyond that the last snapshots published are exported
+     * @param unit unit of <i>wait</i>
+     */
+    public PrometheusExporter(long wait, TimeUnit unit) {
+        this.waitNanos = unit.toNanos(wait);
+    }
+
+    /**
+     * Register a solver, labelled with the name of its model.
+     *
+     * @param solver a solver
+     * @return this exporter
+     */
+    public PrometheusExporter register(Solver solver) {
+        return register(solver.getModel().getName(), solver);
+    }
+
+    /**
+     * Register a solver.
+     *
+     * @param name   label of the solver
+     * @param solver a solver
+     * @return this exporter
+     */
+    public PrometheusExporter register(String name, Solver solver) {
+        sources.add(new Source(name, "", solver.getMeasures()));
+        return this;
+    }
+
+    /**
+     * Register the solvers of a portfolio, each of them labelled with <i>name</i> and its index in the portfolio.
+     * Models added to the portfolio after this call are not registered.
+     *
+     * @param name      label of the portfolio
+     * @param portfolio a portfolio
+     * @return this exporter
+     */
+    public PrometheusExporter register(String name, ParallelPortfolio portfolio) {
+        List<Model> models = portfolio.getModels();
+        for (int i = 0; i < models.size(); i++) {
+            sources.add(new Source(name, Integer.toString(i), models.get(i).getSolver().getMeasures()));
+        }
+        return this;
+    }
+
+    /**
+     * Unregister a solver, or a solver of a portfolio.
+     *
+     * @param solver a solver
+     */
+    public void unregister(Solver solver) {
+        sources.removeIf(s -> s.measures == solver.getMeasures());
+    }
+
+    /**
+     * Collect fresh snapshots of the registered solvers and format them.
+     * Can be called from any thread, but not from a solving one.
+     *
+     * @return the measures of the registered solvers in the Prometheus text format
+     */
+    public synchronized String scrape() {
+        Source[] srcs = sources.toArray(new Source[0]);
+        // ask every solver at once, then collect
+        for (Source s : srcs) {
+            s.measures.getSnapshot();
+        }
+        long deadline = System.nanoTime() + waitNanos;
+        for (Source s : srcs) {
+            s.current = s.measures.awaitSnapshot(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            updateRates(s);
+        }
+        StringBuilder sb = new StringBuilder(256 + srcs.length * 1024);
+        counter(sb, srcs, "choco_solutions_total", "Number of solutions found.", MeasuresSnapshot::getSolutionCount);
+        counter(sb, srcs, "choco_nodes_total", "Number of nodes opened.", MeasuresSnapshot::getNodeCount);
+        counter(sb, srcs, "choco_fails_total", "Number of failures.", MeasuresSnapshot::getFailCount);
+        counter(sb, srcs, "choco_backtracks_total", "Number of backtracks.", MeasuresSnapshot::getBackTrackCount);
+        counter(sb, srcs, "choco_backjumps_total", "Number of non-chronological backtracks.", MeasuresSnapshot::getBackjumpCount);
+        counter(sb, srcs, "choco_restarts_total", "Number of restarts.", MeasuresSnapshot::getRestartCount);
+        counter(sb, srcs, "choco_fixpoints_total", "Number of propagation fixpoints.", MeasuresSnapshot::getFixpointCount);
+        counter(sb, srcs, "choco_propagations_total", "Number of propagator executions.", MeasuresSnapshot::getPropagationCount);
+        gauge(sb, srcs, "choco_depth", "Current depth in the search tree.", MeasuresSnapshot::getCurrentDepth);
+        gauge(sb, srcs, "choco_max_depth", "Maximum depth reached in the search tree.", MeasuresSnapshot::getMaxDepth);
+        gauge(sb, srcs, "choco_solving_time_seconds", "Solving time.", MeasuresSnapshot::getTimeCount);
+        gauge(sb, srcs, "choco_running", "1 if the search is running, 0 otherwise.",
+                m -> m.getSearchState() == SearchState.RUNNING ? 1 : 0);
+        header(sb, "choco_objective", "gauge", "Objective value of the best solution found.");
+        for (Source s : srcs) {
+            if (s.current.hasObjective() && s.current.getSolutionCount() > 0) {
+                sample(sb, "choco_objective", s, s.current.getBestSolutionValue().doubleValue());
+            }
+        }
+        header(sb, "choco_nodes_per_second", "gauge", "Nodes opened per second since the previous scrape.");
+        for (Source s : srcs) {
+            sample(sb, "choco_nodes_per_second", s, s.nodeRate);
+        }
+        header(sb, "choco_fails_per_second", "gauge", "Failures per second since the previous scrape.");
+        for (Source s : srcs) {
+            sample(sb, "choco_fails_per_second", s, s.failRate);
+        }
+        header(sb, "choco_solutions_per_second", "gauge", "Solutions found per second since the previous scrape.");
+        for (Source s : srcs) {
+            sample(sb, "choco_solutions_per_second", s, s.solutionRate);
+        }
+        gauge(sb, srcs, "choco_snapshot_age_seconds", "Age of the exported measures.",
+                m -> m.getAgeInNanoSeconds() / 1e9);
+        return sb.toString();
+    }
+
+    private static void updateRates(Source s) {
+        MeasuresSnapshot p = s.previous;
+        MeasuresSnapshot c = s.current;
+        if (p == c) {
+            // nothing new
+            return;
+        }
+        if (p == null || c.getNodeCount() < p.getNodeCount()) {
+            // first scrape or the solver has been reset: average rates
+            double time = c.getTimeCount();
+            s.nodeRate = time > 0 ? c.getNodeCount() / time : 0;
+            s.failRate = time > 0 ? c.getFailCount() / time : 0;
+            s.solutionRate = time > 0 ? c.getSolutionCount() / time : 0;
+        } else {
+            double time = (c.getNanoTime() - p.getNanoTime()) / 1e9;
+            s.nodeRate = time > 0 ? (c.getNodeCount() - p.getNodeCount()) / time : 0;
+            s.failRate = time > 0 ? (c.getFailCount() - p.getFailCount()) / time : 0;
+            s.solutionRate = time > 0 ? (c.getSolutionCount() - p.getSolutionCount()) / time : 0;
+        }
+        s.previous = c;
+    }
+
+    private static void counter(StringBuilder sb, Source[] srcs, String name, String help,
+                                ToDoubleFunction<MeasuresSnapshot> value) {
+        header(sb, name, "counter", help);
+        for (Source s : srcs) {
+            sample(sb, name, s, value.applyAsDouble(s.current));
+        }
+    }
+
+    private static void gauge(StringBuilder sb, Source[] srcs, String name, String help,
+                              ToDoubleFunction<MeasuresSnapshot> value) {
+        header(sb, name, "gauge", help);
+        for (Source s : srcs) {
+            sample(sb, name, s, value.applyAsDouble(s.current));
+        }
+    }
+
+    private static void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String name, Source s, double value) {
+        sb.append(name).append(s.labels).append(' ');
+        if (value == (long) value) {
+            sb.append((long) value);
+        } else if (Double.isNaN(value)) {
+            sb.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            sb.append(value > 0 ? "+Inf" : "-Inf");
+        } else {
+            sb.append(value);
+        }
+        sb.append('\n');
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Write the measures of the registered solvers to <i>file</i>.
+     * The file is replaced atomically, so that a reader never sees a partial content.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, scrape().getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Rewrite <i>file</i> every <i>period</i>, from a daemon thread, until this exporter is closed.
+     * This suits the textfile collector of the Prometheus node exporter.
+     *
+     * @param file   the file to write
+     * @param period delay between two writes
+     * @param unit   unit of <i>period</i>
+     */
+    public synchronized void exportToFile(Path file, long period, TimeUnit unit) {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "choco-prometheus-exporter");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        ScheduledExecutorService owner = scheduler;
+        owner.scheduleAtFixedRate(() -> {
+            // writes hold the lock of this exporter, and give up once the scheduler is closed
+            synchronized (this) {
+                if (scheduler != owner) {
+                    return;
+                }
+                try {
+                    writeTo(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }, 0, period, unit);
+    }
+
+    /**
+     * Serve the measures of the registered solvers on <i>endpoint</i>, until this exporter is closed.
+     *
+     * @param endpoint an endpoint, started at once
+     * @throws IOException if the endpoint cannot be started
+     */
+    public synchronized void exportTo(Endpoint endpoint) throws IOException {
+        endpoints.add(endpoint.start(CONTENT_TYPE, this::scrape));
+    }
+
+    /**
+     * Stop the periodic writes and the endpoints, if any.
+     * A write in progress is waited for, so that the file is not written afterwards.
+     *
+     * @throws UncheckedIOException if an endpoint fails to stop, the other ones being stopped anyway
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            // no write is in progress, since this method holds the lock
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        IOException failure = null;
+        for (Closeable endpoint : endpoints) {
+            try {
+                endpoint.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        endpoints.clear();
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A sink which writes solutions, one after the other, without materialising them.
+ * <p>
+ * The variables to write are given once, as a fixed <i>scope</i>.
+ * On each call to {@link #write()}, the current values of the variables of the scope
+ * are copied into a reused buffer and encoded by the concrete sink.
+ * The number of solutions, the number of bytes written and the time spent in writing are counted,
+ * which gives the throughput of the sink per solution.
+ * </p>
+ * <p>
+ * A sink does not close the stream it writes to until {@link #close()} is called.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @see CsvSolutionSink
+ * @see BinarySolutionSink
+ * @see org.chocosolver.solver.search.IResolutionHelper#findAllSolutions(SolutionSink, org.chocosolver.util.criteria.Criterion...)
+ * @since 17/10/2026
+ */
+public abstract class SolutionSink implements Closeable {
+
+    /**
+     * Variables to write
+     */
+    protected final IntVar[] scope;
+    /**
+     * Current values of the variables of the scope, reused from one solution to the other
+     */
+    private final int[] values;
+    /**
+     * Number of solutions written so far
+     */
+    private long nbSolutions;
+    /**
+     * Time spent in writing solutions, in nanoseconds
+     */
+    private long writingTime;
+
+    protected SolutionSink(IntVar[] scope) {
+        if (scope.length == 0) {
+            throw new SolverException("The scope of a SolutionSink cannot be empty.");
+        }
+        this.scope = scope.clone();
+        this.values = new int[scope.length];
+    }
+
+    /**
+     * Creates a sink which writes solutions as comma-separated values, preceded by a header made of the names of
+     * the variables.
+     *
+     * @param out   the stream to write to
+     * @param scope the variables to write, in order
+     * @return a new sink
+     */
+    public static SolutionSink csv(OutputStream out, IntVar... scope) {
+        return new CsvSolutionSink(out, scope);
+    }
+
+    /**
+     * Creates a sink which writes solutions in a compact binary format, see {@link BinarySolutionSink}.
+     *
+     * @param out   the stream to write to
+     * @param scope the variables to write, in order
+     * @return a new sink
+     */
+    public static SolutionSink binary(OutputStream out, IntVar... scope) {
+        return new BinarySolutionSink(out, scope);
+    }
+
+    /**
+     * Writes the current values of the variables of the scope.
+     *
+     * @throws SolverException        if a variable of the scope is not instantiated
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public final void write() {
+        long start = System.nanoTime();
+        for (int i = 0; i < scope.length; i++) {
+            if (!scope[i].isInstantiated()) {
+                throw new SolverException("Cannot write the value of " + scope[i] + ": it is not instantiated.");
+            }
+            values[i] = scope[i].getValue();
+        }
+        try {
+            encode(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        nbSolutions++;
+        writingTime += System.nanoTime() - start;
+    }
+
+    /**
+     * Encodes a solution.
+     *
+     * @param values value of each variable of the scope, by position; the array is reused by the next call
+     * @throws IOException if an I/O error occurs
+     */
+    protected abstract void encode(int[] values) throws IOException;
+
+    /**
+     * Writes any buffered data to the underlying stream.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public abstract void flush() throws IOException;
+
+    /**
+     * @return the number of bytes written so far, including the header
+     */
+    public abstract long getNbBytes();
+
+    /**
+     * @return the number of solutions written so far
+     */
+    public long getNbSolutions() {
+        return nbSolutions;
+    }
+
+    /**
+     * @return the time spent in writing solutions, in nanoseconds
+     */
+    public long getWritingTime() {
+        return writingTime;
+    }
+
+    /**
+     * @return the mean time spent in writing a solution, in nanoseconds, or 0 if none has been written
+     */
+    public double getNanosPerSolution() {
+        return nbSolutions == 0 ? 0. : (double) writingTime / nbSolutions;
+    }
+
+    /**
+     * @return the mean number of bytes written per solution, header included, or 0 if none has been written
+     */
+    public double getBytesPerSolution() {
+        return nbSolutions == 0 ? 0. : (double) getNbBytes() / nbSolutions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d solutions, %d bytes, %.1f ns/solution, %.1f bytes/solution",
+                nbSolutions, getNbBytes(), getNanosPerSolution(), getBytesPerSolution());
+    }
+}
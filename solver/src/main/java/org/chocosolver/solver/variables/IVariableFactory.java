@@ -285,11 +285,22 @@ public interface IVariableFactory extends ISelf<Model> {
 
     /**
      * Create an integer variable of initial domain <i>values</i>
-     * Uses an enumerated domain that supports holes
+     * Uses an enumerated domain that supports holes.
+     * <p>
+     * The domain implementation depends on the density of <i>values</i> over the range they span over:
+     * <ul>
+     *     <li>a bitset when the domain is dense enough (or when LCG is enabled),</li>
+     *     <li>otherwise, a list of ranges when the values mostly form long ranges,</li>
+     *     <li>otherwise, a sparse set, whose footprint only depends on the number of values.</li>
+     * </ul>
+     * </p>
      *
      * @param name   name of the variable
      * @param values initial domain
      * @return an IntVar of domain <i>values</i>
+     * @see BitsetIntVarImpl
+     * @see RangeListIntVarImpl
+     * @see SparseSetIntVarImpl
      */
     default IntVar intVar(String name, int[] values) {
         values = ArrayUtils.mergeAndSortIfNot(values.clone());
@@ -298,12 +309,24 @@ public interface IVariableFactory extends ISelf<Model> {
             return intVar(name, values[0]);
         } else if (values.length == 2 && values[0] == 0 && values[1] == 1) {
             return boolVar(name);
+        } else if (ref().getSettings().isLCG()) {
+            return new IntVarEagerLit(new BitsetIntVarImpl(name, values, ref()));
         } else {
-            IntVar v = new BitsetIntVarImpl(name, values, ref());
-            if (ref().getSettings().isLCG()) {
-                v = new IntVarEagerLit(v);
+            long span = (long) values[values.length - 1] - values[0] + 1;
+            if (span <= 30 || span / values.length <= 5) {
+                return new BitsetIntVarImpl(name, values, ref());
             }
-            return v;
+            int nbRanges = 1;
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] != values[i - 1] + 1) {
+                    nbRanges++;
+                }
+            }
+            if (nbRanges * 4L <= values.length) {
+                // ranges are made of 4 values or more, on average
+                return new RangeListIntVarImpl(name, values, ref());
+            }
+            return new SparseSetIntVarImpl(name, values, ref());
         }
     }
 
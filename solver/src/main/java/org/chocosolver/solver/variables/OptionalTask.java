@@ -10,6 +10,7 @@ import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.util.ESat;
 
 /**
  * Container representing an optional task:
@@ -478,6 +479,19 @@ public class OptionalTask extends Task {
         return mirror;
     }
 
+    @Override
+    public ESat isEntailed() {
+        if (!mayBePerformed()) {
+            // start + duration = end is only required when the task is performed
+            return ESat.TRUE;
+        }
+        ESat sat = super.isEntailed();
+        if (sat == ESat.FALSE && !mustBePerformed()) {
+            return ESat.UNDEFINED;
+        }
+        return sat;
+    }
+
     @Override
     public String toString() {
         return "OptionalTask[" +
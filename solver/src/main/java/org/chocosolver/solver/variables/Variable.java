@@ -7,6 +7,7 @@
 package org.chocosolver.solver.variables;
 
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
@@ -383,4 +384,15 @@ public interface Variable extends Identity, Comparable<Variable> {
      * if different causes modified this variable (this may happen when a view refers to this).
      */
     ICause getCause();
+
+    /**
+     * Creates the counterpart of this variable in the model targeted by <i>map</i>, with the current domain
+     * of this variable, see {@link CopyMap}.
+     *
+     * @param map maps the objects of the copied model to their copy
+     * @return a copy of this variable, or <i>null</i> if it cannot be copied
+     */
+    default Variable copy(CopyMap map) {
+        return null;
+    }
 }
@@ -175,8 +175,12 @@ final class BipartiteList implements IBipartiteList {
         }
         for (int p = s; p < last; p++) {
             Propagator<?> prop = propagators[p];
-            if (prop.isActive() && cause != prop) {
-                engine.schedule(prop, pindices[p], mask);
+            if (prop.isActive()) {
+                if (cause != prop) {
+                    engine.schedule(prop, pindices[p], mask);
+                } else {
+                    engine.skip(prop, pindices[p], mask);
+                }
             }
         }
     }
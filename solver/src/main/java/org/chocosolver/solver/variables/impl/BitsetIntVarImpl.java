@@ -10,6 +10,7 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -115,6 +116,11 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         this(name, ArrayUtils.array(min, max), model);
     }
 
+    @Override
+    public BitsetIntVarImpl copy(CopyMap map) {
+        return new BitsetIntVarImpl(name, stream().toArray(), map.getModel());
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
@@ -9,6 +9,7 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.sat.MiniSat;
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Explained;
@@ -93,6 +94,13 @@ public class BoolVarEagerLit extends AbstractVariable implements BoolVar, LitVar
         type = t;
     }
 
+    @Override
+    public BoolVarEagerLit copy(CopyMap map) {
+        BoolVarEagerLit copy = new BoolVarEagerLit(name, map.getModel(), getLB(), getUB());
+        copy.isNot = isNot;
+        return copy;
+    }
+
     @Override
     public boolean removeValue(int value, ICause cause, Reason reason) throws ContradictionException {
         assert cause != null;
@@ -8,6 +8,7 @@ package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -77,6 +78,14 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
         mValue = kUNDEF;
     }
 
+    @Override
+    public BoolVarImpl copy(CopyMap map) {
+        BoolVarImpl copy = new BoolVarImpl(name, map.getModel());
+        copy.mValue = mValue;
+        copy.isNot = isNot;
+        return copy;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
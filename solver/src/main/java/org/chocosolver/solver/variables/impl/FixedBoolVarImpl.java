@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.Variable;
@@ -31,6 +32,11 @@ public class FixedBoolVarImpl extends FixedIntVarImpl implements BoolVar {
         assert constant == 0 || constant == 1 : "FixedBoolVarImpl value should be taken in {0,1}";
     }
 
+    @Override
+    public FixedBoolVarImpl copy(CopyMap map) {
+        return new FixedBoolVarImpl(name, getValue(), map.getModel());
+    }
+
     @Override
     public int getTypeAndKind() {
         return Variable.BOOL | Variable.CSTE;
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -63,6 +64,11 @@ public class FixedIntVarImpl extends AbstractVariable implements IntVar {
         this.constante = constante;
     }
 
+    @Override
+    public FixedIntVarImpl copy(CopyMap map) {
+        return new FixedIntVarImpl(name, constante, map.getModel());
+    }
+
     @Override
     public boolean removeValue(int value, ICause cause, Reason reason) throws ContradictionException {
         if (value == constante) {
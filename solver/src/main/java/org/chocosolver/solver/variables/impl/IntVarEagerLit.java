@@ -9,6 +9,7 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.sat.MiniSat;
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -91,6 +92,11 @@ public final class IntVarEagerLit extends AbstractVariable implements IntVar, Li
         }
     }
 
+    @Override
+    public IntVarEagerLit copy(CopyMap map) {
+        return new IntVarEagerLit(map.get(var));
+    }
+
     private void initDenseDomain() {
         for (int v = lit_min; v <= lit_max; v++) {
             sat.newVariable(new MiniSat.ChannelInfo(this, 1, 0, v));
@@ -9,6 +9,7 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.sat.MiniSat;
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -79,6 +80,11 @@ public final class IntVarLazyLit extends AbstractVariable implements IntVar, Lit
         }
     }
 
+    @Override
+    public IntVarLazyLit copy(CopyMap map) {
+        return new IntVarLazyLit(map.get(var));
+    }
+
     // duplicated code from IntVarEagerLit
     @Override
     public void channel(int val, int val_type, int sign) {
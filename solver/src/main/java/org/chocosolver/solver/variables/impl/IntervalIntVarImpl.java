@@ -9,6 +9,7 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -74,6 +75,11 @@ public final class IntervalIntVarImpl extends AbstractVariable implements IntVar
         this.UB = env.makeInt(max);
     }
 
+    @Override
+    public IntervalIntVarImpl copy(CopyMap map) {
+        return new IntervalIntVarImpl(name, getLB(), getUB(), map.getModel());
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
@@ -0,0 +1,900 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Arrays;
+
+/**
+ * An enumerated IntVar based on a sorted list of disjoint ranges,
+ * dedicated to domains made of few long ranges spread over a wide range.
+ * <p>
+ * The ranges of the current domain are stored in two arrays, between the indices <i>first</i> (included)
+ * and <i>last</i> (excluded).
+ * Updating a bound only moves <i>first</i> or <i>last</i>, removing a value from a range may split it in two.
+ * The lookups are binary searches over the ranges, and the memory footprint only depends on the number of ranges.
+ * </p>
+ * <p>
+ * The ranges are not stored in trailed structures: each modification is recorded in a journal,
+ * and the journal is rolled back to the state of the world on backtrack, thanks to an operation
+ * registered to the environment once per world.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @see SparseSetIntVarImpl
+ * @since 17/10/2026
+ */
+public final class RangeListIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Journal entries: the lower bound of a range has been changed
+     */
+    private static final int SET_LOW = 0;
+    /**
+     * Journal entries: the upper bound of a range has been changed
+     */
+    private static final int SET_HIGH = 1;
+    /**
+     * Journal entries: <i>first</i> and/or <i>last</i> have been changed
+     */
+    private static final int SET_FIRST_LAST = 2;
+    /**
+     * Journal entries: a range has been removed, the next ones have been shifted to the left
+     */
+    private static final int DELETE = 3;
+    /**
+     * Journal entries: a range has been inserted, the next ones have been shifted to the right
+     */
+    private static final int INSERT = 4;
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Lower bounds of the ranges
+     */
+    private int[] lows;
+    /**
+     * Upper bounds of the ranges
+     */
+    private int[] highs;
+    /**
+     * Index of the first range of the current domain
+     */
+    private int first;
+    /**
+     * Index following the last range of the current domain
+     */
+    private int last;
+    /**
+     * Current size of domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * The environment, to detect world changes
+     */
+    private final IEnvironment env;
+    /**
+     * Modifications of the ranges, four integers per entry: type, index and two old values
+     */
+    private int[] journal = new int[64];
+    private int top;
+    /**
+     * Size of the journal when a world has been modified for the first time, one per modified world
+     */
+    private int[] marks = new int[16];
+    private int nbMarks;
+    /**
+     * Timestamp of the environment when the last mark was set
+     */
+    private int stamp = -1;
+    /**
+     * Rolls the journal back to the last mark
+     */
+    private final IOperation rollbackOp = this::rollback;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Create an enumerated IntVar based on a list of ranges
+     *
+     * @param name         name of the variable
+     * @param sortedValues original domain values, sorted and without duplicates
+     * @param model        declaring model
+     */
+    public RangeListIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        this.env = model.getEnvironment();
+        int n = 1;
+        for (int i = 1; i < sortedValues.length; i++) {
+            if (sortedValues[i] != sortedValues[i - 1] + 1) {
+                n++;
+            }
+        }
+        this.lows = new int[n];
+        this.highs = new int[n];
+        lows[0] = sortedValues[0];
+        for (int i = 1, r = 0; i < sortedValues.length; i++) {
+            if (sortedValues[i] != sortedValues[i - 1] + 1) {
+                highs[r++] = sortedValues[i - 1];
+                lows[r] = sortedValues[i];
+            }
+        }
+        highs[n - 1] = sortedValues[sortedValues.length - 1];
+        this.first = 0;
+        this.last = n;
+        this.SIZE = env.makeInt(sortedValues.length);
+    }
+
+    /**
+     * Create an enumerated IntVar based on a list of ranges
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param model declaring model
+     */
+    public RangeListIntVarImpl(String name, int min, int max, Model model) {
+        super(name, model);
+        this.env = model.getEnvironment();
+        this.lows = new int[]{min};
+        this.highs = new int[]{max};
+        this.first = 0;
+        this.last = 1;
+        this.SIZE = env.makeInt(max - min + 1);
+    }
+
+    @Override
+    public RangeListIntVarImpl copy(CopyMap map) {
+        return new RangeListIntVarImpl(name, stream().toArray(), map.getModel());
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///// journal //////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Records a modification of the ranges, to be undone on backtrack.
+     * Nothing is recorded in the root world, since it is never restored.
+     */
+    private void record(int type, int index, int a, int b) {
+        if (env.getWorldIndex() == 0) {
+            return;
+        }
+        if (stamp != env.getTimeStamp()) {
+            // first modification in this world
+            stamp = env.getTimeStamp();
+            if (nbMarks == marks.length) {
+                marks = Arrays.copyOf(marks, nbMarks * 2);
+            }
+            marks[nbMarks++] = top;
+            env.save(rollbackOp);
+        }
+        if (top + 4 > journal.length) {
+            journal = Arrays.copyOf(journal, journal.length * 2);
+        }
+        journal[top++] = type;
+        journal[top++] = index;
+        journal[top++] = a;
+        journal[top++] = b;
+    }
+
+    private void rollback() {
+        int mark = marks[--nbMarks];
+        while (top > mark) {
+            top -= 4;
+            int i = journal[top + 1];
+            switch (journal[top]) {
+                case SET_LOW:
+                    lows[i] = journal[top + 2];
+                    break;
+                case SET_HIGH:
+                    highs[i] = journal[top + 2];
+                    break;
+                case SET_FIRST_LAST:
+                    first = journal[top + 2];
+                    last = journal[top + 3];
+                    break;
+                case DELETE:
+                    insert(i, journal[top + 2], journal[top + 3]);
+                    break;
+                case INSERT:
+                    System.arraycopy(lows, i + 1, lows, i, last - i - 1);
+                    System.arraycopy(highs, i + 1, highs, i, last - i - 1);
+                    last--;
+                    lows[last] = journal[top + 2];
+                    highs[last] = journal[top + 3];
+                    break;
+            }
+        }
+        stamp = -1;
+    }
+
+    /**
+     * Inserts the range [<i>low</i>, <i>high</i>] at index <i>i</i>, the next ones are shifted to the right.
+     */
+    private void insert(int i, int low, int high) {
+        if (last == lows.length) {
+            lows = Arrays.copyOf(lows, last * 3 / 2 + 1);
+            highs = Arrays.copyOf(highs, last * 3 / 2 + 1);
+        }
+        System.arraycopy(lows, i, lows, i + 1, last - i);
+        System.arraycopy(highs, i, highs, i + 1, last - i);
+        lows[i] = low;
+        highs[i] = high;
+        last++;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return the index of the first range whose upper bound is greater than or equal to <i>value</i>
+     * (<i>last</i> if there is none)
+     */
+    private int ceilRange(int value) {
+        int lo = first, hi = last;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (highs[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return the index of the last range whose lower bound is smaller than or equal to <i>value</i>
+     * (<i>first - 1</i> if there is none)
+     */
+    private int floorRange(int value) {
+        int lo = first, hi = last;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (lows[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+
+    /**
+     * Removes the values of the domain in [<i>from</i>, <i>to</i>], without notifying the propagators.
+     *
+     * @return <i>true</i> if at least one value has been removed
+     * @throws ContradictionException if the domain becomes empty
+     */
+    private boolean removeRange(int from, int to, ICause cause, String msg) throws ContradictionException {
+        int i = ceilRange(from);
+        int j = floorRange(to);
+        if (i > j) {
+            return false;
+        }
+        int count = 0;
+        for (int k = i; k <= j; k++) {
+            count += Math.min(to, highs[k]) - Math.max(from, lows[k]) + 1;
+        }
+        if (count == SIZE.get()) {
+            this.contradiction(cause, msg);
+        }
+        if (reactOnRemoval) {
+            for (int k = i; k <= j; k++) {
+                for (int v = Math.max(from, lows[k]), e = Math.min(to, highs[k]); v <= e; v++) {
+                    delta.add(v, cause);
+                }
+            }
+        }
+        if (i == j && lows[i] < from && to < highs[i]) {
+            // split the range
+            record(SET_HIGH, i, highs[i], 0);
+            // the slot following the last range may hold a range removed by an upper bound update,
+            // it is overwritten by the insertion and thus recorded too
+            int s = Math.min(last, lows.length - 1);
+            record(INSERT, i + 1, lows[s], highs[s]);
+            insert(i + 1, to + 1, highs[i]);
+            highs[i] = from - 1;
+        } else {
+            if (lows[i] < from) {
+                record(SET_HIGH, i, highs[i], 0);
+                highs[i] = from - 1;
+                i++;
+            }
+            if (to < highs[j]) {
+                record(SET_LOW, j, lows[j], 0);
+                lows[j] = to + 1;
+                j--;
+            }
+            if (i <= j) {
+                // remove the ranges i to j, both cannot be the first and last ones, otherwise the domain would be empty
+                if (i == first || j == last - 1) {
+                    record(SET_FIRST_LAST, 0, first, last);
+                    if (i == first) {
+                        first = j + 1;
+                    } else {
+                        last = i;
+                    }
+                } else {
+                    // recorded as successive deletions of the ranges j to i
+                    for (int k = j; k >= i; k--) {
+                        record(DELETE, k, lows[k], highs[k]);
+                    }
+                    int k = j - i + 1;
+                    System.arraycopy(lows, j + 1, lows, i, last - j - 1);
+                    System.arraycopy(highs, j + 1, highs, i, last - j - 1);
+                    last -= k;
+                }
+            }
+        }
+        SIZE.add(-count);
+        return true;
+    }
+
+    /**
+     * Notifies the propagators of the modification of the domain, given the previous bounds.
+     */
+    private void notifyChange(int olb, int oub, ICause cause) throws ContradictionException {
+        IntEventType e;
+        if (isInstantiated()) {
+            e = IntEventType.INSTANTIATE;
+        } else if (olb != getLB()) {
+            e = oub != getUB() ? IntEventType.BOUND : IntEventType.INCLOW;
+        } else if (oub != getUB()) {
+            e = IntEventType.DECUPP;
+        } else {
+            e = IntEventType.REMOVE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        if (removeRange(value, value, cause, MSG_REMOVE)) {
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        boolean hasChanged = false;
+        // the next value of the domain
+        int value = nextValue(olb - 1);
+        while (value <= oub) {
+            int v = values.nextValue(value - 1);
+            if (v > oub) {
+                break;
+            }
+            int i = ceilRange(v);
+            if (i < last && lows[i] <= v) {
+                // remove the run of values starting at v, within the range
+                int w = Math.min(values.nextValueOut(v) - 1, highs[i]);
+                hasChanged |= removeRange(v, w, cause, MSG_REMOVE);
+                value = nextValue(w);
+            } else if (i < last) {
+                value = lows[i];
+            } else {
+                break;
+            }
+        }
+        if (hasChanged) {
+            notifyChange(olb, oub, cause);
+        }
+        return hasChanged;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        boolean hasChanged = false;
+        int value = olb;
+        while (value <= oub) {
+            if (values.contains(value)) {
+                value = nextValue(values.nextValueOut(value) - 1);
+            } else {
+                int w = Math.min(values.nextValue(value) - 1, oub);
+                hasChanged |= removeRange(value, w, cause, MSG_REMOVE);
+                value = nextValue(w);
+            }
+        }
+        if (hasChanged) {
+            notifyChange(olb, oub, cause);
+        }
+        return hasChanged;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        if (removeRange(from, to, cause, from <= olb ? MSG_LOW : MSG_UPP)) {
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            if (reactOnRemoval) {
+                for (int k = first; k < last; k++) {
+                    for (int v = lows[k]; v <= highs[k]; v++) {
+                        if (v != value) {
+                            delta.add(v, cause);
+                        }
+                    }
+                }
+            }
+            int i = ceilRange(value);
+            record(SET_FIRST_LAST, 0, first, last);
+            record(SET_LOW, i, lows[i], 0);
+            record(SET_HIGH, i, highs[i], 0);
+            lows[i] = highs[i] = value;
+            first = i;
+            last = i + 1;
+            this.SIZE.set(1);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        if (olb < value) {
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            }
+            removeRange(olb, value - 1, cause, MSG_LOW);
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        if (oub > value) {
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            }
+            removeRange(value + 1, oub, cause, MSG_UPP);
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        if (olb < lb || oub > ub) {
+            if (oub < lb) {
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                removeRange(olb, lb - 1, cause, MSG_LOW);
+            }
+            if (getLB() > ub) {
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                removeRange(ub + 1, oub, cause, MSG_UPP);
+            }
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        int i = ceilRange(aValue);
+        return i < last && lows[i] <= aValue;
+    }
+
+    @Override
+    public int getValue() throws IllegalStateException {
+        if (!isInstantiated()) {
+            throw new IllegalStateException("getValue() can be only called on instantiated variable. " +
+                    name + " is not instantiated");
+        }
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return lows[first];
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return highs[last - 1];
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    /**
+     * @return the number of ranges of the current domain
+     */
+    public int getNbRanges() {
+        return last - first;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        if (aValue < getLB()) return getLB();
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        int i = ceilRange(aValue + 1);
+        return Math.max(lows[i], aValue + 1);
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        if (getLB() - 1 <= aValue && aValue <= getUB()) {
+            int i = ceilRange(aValue + 1);
+            if (i < last && lows[i] <= aValue + 1) {
+                return highs[i] + 1;
+            }
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        if (aValue > getUB()) return getUB();
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        int j = floorRange(aValue - 1);
+        return Math.min(highs[j], aValue - 1);
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        if (getLB() <= aValue && aValue <= getUB() + 1) {
+            int j = floorRange(aValue - 1);
+            if (j >= first && highs[j] >= aValue - 1) {
+                return lows[j] - 1;
+            }
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            s.append('{');
+            for (int k = first; k < last; k++) {
+                if (k > first) s.append(",");
+                s.append(lows[k]);
+                if (lows[k] < highs[k]) s.append("..").append(highs[k]);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler<IntEventType> createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current range
+                 */
+                int range;
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.range = first;
+                    this.value = lows[first];
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.range = last - 1;
+                    this.value = highs[last - 1];
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.range < last;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.range >= first;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    if (old < highs[range]) {
+                        this.value++;
+                    } else if (++range < last) {
+                        this.value = lows[range];
+                    }
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    if (old > lows[range]) {
+                        this.value--;
+                    } else if (--range >= first) {
+                        this.value = highs[range];
+                    }
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Current range
+                 */
+                int range;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.range = first;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.range = last - 1;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.range < last;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.range >= first;
+                }
+
+                @Override
+                public void next() {
+                    this.range++;
+                }
+
+                @Override
+                public void previous() {
+                    this.range--;
+                }
+
+                @Override
+                public int min() {
+                    return lows[range];
+                }
+
+                @Override
+                public int max() {
+                    return highs[range];
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+}
@@ -0,0 +1,770 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Arrays;
+
+/**
+ * An enumerated IntVar based on a sparse set, dedicated to domains made of few values spread over a wide range.
+ * <p>
+ * The initial values are sorted and identified by their rank.
+ * The ranks are stored in a dense array, the ones of the current domain being stored before the (trailed) size pointer,
+ * and each rank knows its position in the dense array.
+ * A value is removed in constant time by swapping its rank with the last one of the domain
+ * and then decrementing the size pointer, and is restored by restoring the size pointer.
+ * The memory footprint only depends on the number of values, not on the range they span over.
+ * </p>
+ * <p>
+ * Finding a value costs a binary search over the initial values, and finding the next (or previous) value of the
+ * domain requires to skip the ranks removed in between.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @see RangeListIntVarImpl
+ * @since 17/10/2026
+ */
+public final class SparseSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Initial values, sorted, a value is identified by its rank in this array
+     */
+    private final int[] values;
+    /**
+     * Ranks of the values, the ones of the current domain are stored before {@link #SIZE}
+     */
+    private final int[] dense;
+    /**
+     * Position of each rank in {@link #dense}
+     */
+    private final int[] where;
+    /**
+     * Current size of domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * Rank of the lower bound of the current domain
+     */
+    private final IStateInt LB;
+    /**
+     * Rank of the upper bound of the current domain
+     */
+    private final IStateInt UB;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Create an enumerated IntVar based on a sparse set
+     *
+     * @param name         name of the variable
+     * @param sortedValues original domain values, sorted and without duplicates
+     * @param model        declaring model
+     */
+    public SparseSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        int n = sortedValues.length;
+        this.values = sortedValues.clone();
+        this.dense = new int[n];
+        this.where = new int[n];
+        for (int r = 0; r < n; r++) {
+            dense[r] = r;
+            where[r] = r;
+        }
+        this.SIZE = env.makeInt(n);
+        this.LB = env.makeInt(0);
+        this.UB = env.makeInt(n - 1);
+    }
+
+    @Override
+    public SparseSetIntVarImpl copy(CopyMap map) {
+        return new SparseSetIntVarImpl(name, stream().toArray(), map.getModel());
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return the rank of the smallest initial value greater than or equal to <i>value</i>
+     * (<i>values.length</i> if there is none)
+     */
+    private int ceil(int value) {
+        int r = Arrays.binarySearch(values, value);
+        return r < 0 ? -r - 1 : r;
+    }
+
+    /**
+     * @return the rank of the largest initial value smaller than or equal to <i>value</i> (-1 if there is none)
+     */
+    private int floor(int value) {
+        int r = Arrays.binarySearch(values, value);
+        return r < 0 ? -r - 2 : r;
+    }
+
+    private boolean present(int rank) {
+        return where[rank] < SIZE.get();
+    }
+
+    /**
+     * @return the smallest rank of the domain greater than or equal to <i>rank</i>, -1 if there is none
+     */
+    private int nextRank(int rank) {
+        int ub = UB.get();
+        while (rank <= ub && !present(rank)) {
+            rank++;
+        }
+        return rank <= ub ? rank : -1;
+    }
+
+    /**
+     * @return the largest rank of the domain smaller than or equal to <i>rank</i>, -1 if there is none
+     */
+    private int prevRank(int rank) {
+        int lb = LB.get();
+        while (rank >= lb && !present(rank)) {
+            rank--;
+        }
+        return rank >= lb ? rank : -1;
+    }
+
+    /**
+     * Swaps <i>rank</i> with the last rank of the domain and decrements <i>size</i>.
+     */
+    private void remove(int rank, int size) {
+        int last = dense[size - 1];
+        int pos = where[rank];
+        dense[pos] = last;
+        where[last] = pos;
+        dense[size - 1] = rank;
+        where[rank] = size - 1;
+    }
+
+    /**
+     * Removes the values of the domain in [<i>from</i>, <i>to</i>], without notifying the propagators.
+     *
+     * @return <i>true</i> if at least one value has been removed
+     * @throws ContradictionException if the domain becomes empty
+     */
+    private boolean removeRange(int from, int to, ICause cause, String msg) throws ContradictionException {
+        int lb = LB.get();
+        int ub = UB.get();
+        int a = Math.max(lb, ceil(from));
+        int b = Math.min(ub, floor(to));
+        if (a > b) {
+            return false;
+        }
+        int size = SIZE.get();
+        if (a == lb && b == ub) {
+            this.contradiction(cause, msg);
+        }
+        int count = size;
+        for (int r = a; r <= b; r++) {
+            if (where[r] < count) {
+                remove(r, count--);
+                if (reactOnRemoval) {
+                    delta.add(values[r], cause);
+                }
+            }
+        }
+        if (count == size) {
+            return false;
+        }
+        SIZE.set(count);
+        // the bounds cannot be both removed, otherwise the domain would be empty
+        if (a == lb) {
+            LB.set(nextRank(b + 1));
+        } else if (b == ub) {
+            UB.set(prevRank(a - 1));
+        }
+        return true;
+    }
+
+    /**
+     * Notifies the propagators of the modification of the domain, given the previous bounds.
+     */
+    private void notifyChange(int olb, int oub, ICause cause) throws ContradictionException {
+        IntEventType e;
+        if (isInstantiated()) {
+            e = IntEventType.INSTANTIATE;
+        } else if (olb != LB.get()) {
+            e = oub != UB.get() ? IntEventType.BOUND : IntEventType.INCLOW;
+        } else if (oub != UB.get()) {
+            e = IntEventType.DECUPP;
+        } else {
+            e = IntEventType.REMOVE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        if (removeRange(value, value, cause, MSG_REMOVE)) {
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        boolean hasChanged = false;
+        int ub = getUB();
+        int value = values.nextValue(getLB() - 1);
+        while (value <= ub) {
+            int d = nextValue(value - 1);
+            if (d == value) {
+                hasChanged |= removeRange(value, value, cause, MSG_REMOVE);
+                value = values.nextValue(value);
+            } else if (d <= ub) {
+                // jump to the next value of the domain
+                value = values.nextValue(d - 1);
+            } else {
+                break;
+            }
+        }
+        if (hasChanged) {
+            notifyChange(olb, oub, cause);
+        }
+        return hasChanged;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        int size = SIZE.get();
+        int count = 0;
+        // first count the values to keep, to detect a wipe-out before modifying the domain
+        for (int r = olb; r != -1; r = nextRank(r + 1)) {
+            if (values.contains(this.values[r])) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            this.contradiction(cause, MSG_REMOVE);
+        }
+        if (count == size) {
+            return false;
+        }
+        int cur = size;
+        for (int r = olb; r <= oub; r++) {
+            if (where[r] < cur && !values.contains(this.values[r])) {
+                remove(r, cur--);
+                if (reactOnRemoval) {
+                    delta.add(this.values[r], cause);
+                }
+            }
+        }
+        assert cur == count;
+        SIZE.set(cur);
+        LB.set(nextRank(olb));
+        UB.set(prevRank(oub));
+        notifyChange(olb, oub, cause);
+        return true;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        if (removeRange(from, to, cause, from <= getLB() ? MSG_LOW : MSG_UPP)) {
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            int rank = ceil(value);
+            if (reactOnRemoval) {
+                int size = SIZE.get();
+                for (int i = 0; i < size; i++) {
+                    if (dense[i] != rank) {
+                        delta.add(values[dense[i]], cause);
+                    }
+                }
+            }
+            remove(rank, 1); // moves the rank at the first position
+            this.SIZE.set(1);
+            this.LB.set(rank);
+            this.UB.set(rank);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        if (getLB() < value) {
+            if (getUB() < value) {
+                this.contradiction(cause, MSG_LOW);
+            }
+            removeRange(getLB(), value - 1, cause, MSG_LOW);
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause, Reason reason) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        if (getUB() > value) {
+            if (getLB() > value) {
+                this.contradiction(cause, MSG_UPP);
+            }
+            removeRange(value + 1, getUB(), cause, MSG_UPP);
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        if (getLB() < lb || getUB() > ub) {
+            if (getUB() < lb) {
+                this.contradiction(cause, MSG_LOW);
+            } else if (getLB() < lb) {
+                removeRange(getLB(), lb - 1, cause, MSG_LOW);
+            }
+            if (getLB() > ub) {
+                this.contradiction(cause, MSG_UPP);
+            } else if (getUB() > ub) {
+                removeRange(ub + 1, getUB(), cause, MSG_UPP);
+            }
+            notifyChange(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        if (aValue < getLB() || aValue > getUB()) {
+            return false;
+        }
+        int r = Arrays.binarySearch(values, aValue);
+        return r >= 0 && present(r);
+    }
+
+    @Override
+    public int getValue() throws IllegalStateException {
+        if (!isInstantiated()) {
+            throw new IllegalStateException("getValue() can be only called on instantiated variable. " +
+                    name + " is not instantiated");
+        }
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return values[LB.get()];
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return values[UB.get()];
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        if (aValue < getLB()) return getLB();
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        return values[nextRank(ceil(aValue + 1))];
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        if (getLB() - 1 <= aValue && aValue <= getUB()) {
+            aValue++;
+            while (contains(aValue)) {
+                aValue++;
+            }
+            return aValue;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        if (aValue > getUB()) return getUB();
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        return values[prevRank(floor(aValue - 1))];
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        if (getLB() <= aValue && aValue <= getUB() + 1) {
+            aValue--;
+            while (contains(aValue)) {
+                aValue--;
+            }
+            return aValue;
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            int v = getLB(), w;
+            s.append('{').append(v);
+            w = nextValueOut(v);
+            if (v < w - 1) s.append("..").append(w - 1);
+            v = nextValue(w);
+            while (v < Integer.MAX_VALUE) {
+                s.append(",").append(v);
+                w = nextValueOut(v);
+                if (v < w - 1) s.append("..").append(w - 1);
+                v = nextValue(w);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler<IntEventType> createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Rank of the current value
+                 */
+                int rank;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.rank = LB.get();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.rank = UB.get();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.rank != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.rank != -1;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.rank;
+                    this.rank = nextRank(this.rank + 1);
+                    return values[old];
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.rank;
+                    this.rank = prevRank(this.rank - 1);
+                    return values[old];
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Rank of the lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Rank of the upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.from = LB.get();
+                    this.to = extendUp(from);
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.to = UB.get();
+                    this.from = extendDown(to);
+                }
+
+                /**
+                 * @return the rank of the upper bound of the range starting at rank <i>r</i>
+                 */
+                private int extendUp(int r) {
+                    int ub = UB.get();
+                    while (r < ub && values[r + 1] == values[r] + 1 && present(r + 1)) {
+                        r++;
+                    }
+                    return r;
+                }
+
+                /**
+                 * @return the rank of the lower bound of the range ending at rank <i>r</i>
+                 */
+                private int extendDown(int r) {
+                    int lb = LB.get();
+                    while (r > lb && values[r - 1] == values[r] - 1 && present(r - 1)) {
+                        r--;
+                    }
+                    return r;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.from != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.to != -1;
+                }
+
+                @Override
+                public void next() {
+                    this.from = nextRank(this.to + 1);
+                    this.to = this.from == -1 ? -1 : extendUp(this.from);
+                }
+
+                @Override
+                public void previous() {
+                    this.to = prevRank(this.from - 1);
+                    this.from = this.to == -1 ? -1 : extendDown(this.to);
+                }
+
+                @Override
+                public int min() {
+                    return values[from];
+                }
+
+                @Override
+                public int max() {
+                    return values[to];
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+}
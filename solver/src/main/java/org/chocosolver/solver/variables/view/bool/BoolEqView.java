@@ -8,6 +8,7 @@ package org.chocosolver.solver.variables.view.bool;
 
 import org.chocosolver.sat.MiniSat;
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -39,6 +40,11 @@ public final class BoolEqView<I extends IntVar> extends BoolIntView<I> {
         super("(" + var.getName() + "=" + cste + ")", var, cste);
     }
 
+    @Override
+    public BoolEqView<IntVar> copy(CopyMap map) {
+        return new BoolEqView<>(map.get(var), cste);
+    }
+
     @Override
     public ESat getBooleanValue() {
         if (!var.contains(cste)) {
@@ -8,6 +8,7 @@ package org.chocosolver.solver.variables.view.bool;
 
 import org.chocosolver.sat.MiniSat;
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -38,6 +39,11 @@ public final class BoolGeqView<I extends IntVar> extends BoolIntView<I> {
         super("(" + var.getName() + "≥" + cste + ")", var, cste);
     }
 
+    @Override
+    public BoolGeqView<IntVar> copy(CopyMap map) {
+        return new BoolGeqView<>(map.get(var), cste);
+    }
+
     @Override
     public ESat getBooleanValue() {
         if (var.getUB() < cste) {
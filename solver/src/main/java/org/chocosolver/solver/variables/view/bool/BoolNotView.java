@@ -7,6 +7,7 @@
 package org.chocosolver.solver.variables.view.bool;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -41,6 +42,14 @@ public final class BoolNotView<B extends BoolVar> extends IntView<B> implements
         super("not(" + var.getName() + ")", var);
     }
 
+    @Override
+    public BoolNotView<BoolVar> copy(CopyMap map) {
+        BoolVar bool = map.get(var);
+        BoolNotView<BoolVar> copy = new BoolNotView<>(bool);
+        bool._setNot(copy);
+        return copy;
+    }
+
     @Override
     public ESat getBooleanValue() {
         return ESat.not(var.getBooleanValue());
@@ -7,6 +7,7 @@
 package org.chocosolver.solver.variables.view.integer;
 
 import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.CopyMap;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -53,6 +54,11 @@ public final class IntAffineView<I extends IntVar> extends IntView<I> {
         this.b = b;
     }
 
+    @Override
+    public IntAffineView<IntVar> copy(CopyMap map) {
+        return new IntAffineView<>(map.get(var), p ? a : -a, b);
+    }
+
     @Override
     public IIntDeltaMonitor monitorDelta(ICause propagator) {
         var.createDelta();
@@ -6,6 +6,8 @@
  */
 package org.chocosolver.util.criteria;
 
+import org.chocosolver.solver.CopyMap;
+
 /**
  * An interface which defines a criterion with lambda
  *
@@ -15,4 +17,14 @@ package org.chocosolver.util.criteria;
 public interface Criterion {
 
     boolean isMet();
+
+    /**
+     * Creates the counterpart of this criterion in the model targeted by <i>map</i>, see {@link CopyMap}.
+     *
+     * @param map maps the objects of the copied model to their copy
+     * @return a copy of this criterion, or <i>null</i> if it cannot be copied
+     */
+    default Criterion copy(CopyMap map) {
+        return null;
+    }
 }
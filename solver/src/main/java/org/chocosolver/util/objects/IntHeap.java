@@ -145,6 +145,25 @@ public class IntHeap {
     }
 
 
+    /**
+     * Remove an element from this heap, wherever it is.
+     *
+     * @param n an element
+     */
+    public void remove(int n) {
+        assert (contains(n));
+        int i = indices.get(n);
+        int x = heap.get(heap.size() - 1);
+        heap.removeAt(heap.size() - 1);
+        indices.set(n, -1);
+        if (x != n) {
+            heap.set(i, x);
+            indices.set(x, i);
+            percolateUp(i);
+            percolateDown(indices.get(x));
+        }
+    }
+
     /**
      * Empty this and add elements from {@code elements}.
      *
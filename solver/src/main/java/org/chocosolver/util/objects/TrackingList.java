@@ -7,6 +7,7 @@
 package org.chocosolver.util.objects;
 
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
 
 /**
  * The Tracking list is similar to a doubly linked list
@@ -31,6 +32,15 @@ public class TrackingList {
     private final int maxValue;
     private final int maxSize;
     private int universeSize;
+    /**
+     * Indices removed from the universe with {@link #removeFromUniverse(int, IEnvironment)}, in order of removal
+     */
+    private final int[] stackUniverseRemoved;
+    private int topUniverseRemoved;
+    /**
+     * Puts back the last index removed from the universe, saved once per removal so that no lambda is created
+     */
+    private final IOperation restoreLastUniverseRemoved;
 
     public TrackingList(int a, int b) {
         this.minValue = a;
@@ -49,6 +59,16 @@ public class TrackingList {
         this.topRemoved = 0;
         this.present = new boolean[maxSize];
         for (int i = 0; i < maxSize; i++) {present[i] = true;}
+        this.stackUniverseRemoved = new int[maxSize];
+        this.topUniverseRemoved = 0;
+        this.restoreLastUniverseRemoved = () -> {
+            int i = stackUniverseRemoved[--topUniverseRemoved];
+            // the links of a removed element are left untouched, they still point to its former neighbours
+            successor[predecessor[i] + 1] = i;
+            predecessor[successor[i + 1]] = i;
+            universeSize++;
+            present[i] = true;
+        };
     }
 
 
@@ -139,20 +159,14 @@ public class TrackingList {
         if (!isPresent(e)) {throw new Error("Error: This element is not present in the in-list");}
         else if (topRemoved != 0) {throw new Error("Error: The tracking has not been refilled yet with all elements from the universe");}
         int i = convertToIndex(e);
-        int pi = predecessor[i];
-        int si = successor[i + 1];
-        successor[pi + 1] = si;
-        predecessor[si] = pi;
+        successor[predecessor[i] + 1] = successor[i + 1];
+        predecessor[successor[i + 1]] = predecessor[i];
         universeSize--;
         present[i] = false;
 
-        // Here we store the operations to call during the backtrack
-        env.save(() -> {
-            successor[pi + 1] = i;
-            predecessor[si] = i;
-            universeSize++;
-            present[i] = true;
-        });
+        // Here we store the operation to call during the backtrack
+        stackUniverseRemoved[topUniverseRemoved++] = i;
+        env.save(restoreLastUniverseRemoved);
     }
 
     /**
@@ -0,0 +1,122 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.tools;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class to estimate, cheaply, the memory footprint of the main data structures.
+ * <br/>
+ * Estimates assume a 64-bit JVM with compressed references, which is the default for heaps smaller than 32GB.
+ * They are meant to be maintained incrementally during the search,
+ * contrary to {@link org.chocosolver.solver.Model#getEstimatedMemory()} which walks the whole object graph.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class MemoryUtils {
+
+    /**
+     * Size of an object header, in bytes
+     */
+    public static final int OBJECT_HEADER = 12;
+
+    /**
+     * Size of an array header, in bytes
+     */
+    public static final int ARRAY_HEADER = 16;
+
+    /**
+     * Size of a reference, in bytes
+     */
+    public static final int REFERENCE = 4;
+
+    /**
+     * Pattern for a memory size, like "512m" or "1.5g"
+     */
+    private static final Pattern SIZE = Pattern.compile("(\\d+(\\.\\d+)?)\\s*([kmgt]?)b?", Pattern.CASE_INSENSITIVE);
+
+    private MemoryUtils() {
+    }
+
+    /**
+     * @param length      number of elements in an array
+     * @param elementSize size of an element, in bytes
+     * @return the estimated size of the array, in bytes
+     */
+    public static long sizeOfArray(long length, int elementSize) {
+        // arrays are aligned on 8 bytes
+        return (ARRAY_HEADER + length * elementSize + 7) & ~7L;
+    }
+
+    /**
+     * @param array an array, can be <i>null</i>
+     * @return the estimated size of <i>array</i>, in bytes, 0 if it is <i>null</i>
+     */
+    public static long sizeOf(int[] array) {
+        return array == null ? 0L : sizeOfArray(array.length, Integer.BYTES);
+    }
+
+    /**
+     * @param array an array, can be <i>null</i>
+     * @return the estimated size of <i>array</i>, in bytes, 0 if it is <i>null</i>
+     */
+    public static long sizeOf(long[] array) {
+        return array == null ? 0L : sizeOfArray(array.length, Long.BYTES);
+    }
+
+    /**
+     * @param array an array, can be <i>null</i>
+     * @return the estimated size of <i>array</i>, in bytes, 0 if it is <i>null</i>
+     */
+    public static long sizeOf(double[] array) {
+        return array == null ? 0L : sizeOfArray(array.length, Double.BYTES);
+    }
+
+    /**
+     * @param array an array, can be <i>null</i>
+     * @return the estimated size of <i>array</i>, in bytes, 0 if it is <i>null</i>
+     */
+    public static long sizeOf(boolean[] array) {
+        return array == null ? 0L : sizeOfArray(array.length, 1);
+    }
+
+    /**
+     * @param array an array, can be <i>null</i>
+     * @return the estimated size of <i>array</i>, in bytes, 0 if it is <i>null</i>,
+     * the referenced objects are not taken into account
+     */
+    public static long sizeOf(Object[] array) {
+        return array == null ? 0L : sizeOfArray(array.length, REFERENCE);
+    }
+
+    /**
+     * Convert a string which represents a memory size, in bytes or with a unit among k, m, g and t
+     * (powers of 1024).
+     * Examples:
+     * <p>
+     * - "1024": 1024 bytes<p/>
+     * - "512m" or "512MB": 512 megabytes<p/>
+     * - "1.5g": one gigabyte and a half<p/>
+     *
+     * @param size a string which represents a memory size
+     * @return the size in bytes
+     * @throws IllegalArgumentException if <i>size</i> cannot be parsed
+     */
+    public static long convertInBytes(String size) {
+        Matcher matcher = SIZE.matcher(size.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unable to parse the memory size \"" + size + "\"");
+        }
+        double value = Double.parseDouble(matcher.group(1));
+        // the unit is a power of 1024, no unit stands for bytes
+        String unit = matcher.group(3).toLowerCase();
+        int power = unit.isEmpty() ? 0 : "kmgt".indexOf(unit) + 1;
+        return (long) (value * Math.pow(1024, power));
+    }
+}
@@ -0,0 +1,646 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.tools;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.monitors.IMonitorInitialize;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Singleton Arc Consistency (SAC), and its restriction to bounds, applied in parallel.
+ * <p>
+ * On creation, the model is propagated and copied once per worker (see {@link Model#copy()}).
+ * A run is made of rounds. In a round, the variables left to probe are shared among the workers, each of them
+ * probing the values of a variable on its own copy (push a world, instantiate, propagate, pop the world).
+ * An unsupported value is removed at once from the worker's copy, so that its next probes benefit from it,
+ * and reported. At the end of a round, the reported values are removed from the main model, which is propagated.
+ * If the main model has been reduced, the next round probes all the variables again, as {@link PreProcessing#sac(Model, long)}
+ * does, otherwise the run stops.
+ * Before each round, the copies are synchronized with the domains of the main model.
+ * </p>
+ * <p>
+ * Runs are incremental:
+ * <ul>
+ *     <li>the copies are created once, and restored to their initial state at the end of each run,</li>
+ *     <li>a run interrupted by its time limit is resumed from the variables it did not probe,</li>
+ *     <li>a run on domains which have not changed since the last completed run does nothing,</li>
+ *     <li>when runs are triggered on restarts (see {@link #plugOnRestarts(long, boolean)}), the values removed
+ *     during the current resolution are removed again, without probing, before checking the domains.</li>
+ * </ul>
+ * The workers run on a pool of daemon threads, created on the first run and reused by the next ones,
+ * until {@link #close()} is called.
+ * </p>
+ * <p>
+ * Unlike {@link PreProcessing#sacBound(Model, long)}, which only shaves the lower bounds,
+ * {@link #sacBound(long)} shaves both bounds of each variable until a fixpoint is reached,
+ * so it may remove more values.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>try (ParallelSAC sac = new ParallelSAC(model, 8)) {
+ *     sac.sac(10_000);
+ *     sac.plugOnRestarts(1_000, true);
+ *     model.getSolver().solve();
+ * }
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @see PreProcessing#parallelSac(Model, int, long)
+ * @see PreProcessing#parallelSacBound(Model, int, long)
+ * @since 17/10/2026
+ */
+public final class ParallelSAC implements AutoCloseable {
+
+    private final Model model;
+    /**
+     * Integer variables of the main model, in declaration order
+     */
+    private final IntVar[] vars;
+    private final Worker[] workers;
+    /**
+     * Threads of the workers, created on the first run
+     */
+    private ExecutorService pool;
+    /**
+     * Variables which remain to be probed
+     */
+    private final BitSet pending = new BitSet();
+    /**
+     * Domains of the variables (lower bound, upper bound and size) at the end of the last run
+     */
+    private int[] snapshot;
+    /**
+     * Whether the last run probed bounds only
+     */
+    private boolean lastBounds;
+    /**
+     * Values removed during the current resolution, as (index of the variable, value) pairs
+     */
+    private final TIntArrayList inSearchRemovals = new TIntArrayList();
+    /**
+     * Set to <i>true</i> when a run triggered on restart proves the problem inconsistent
+     */
+    private volatile boolean inconsistent;
+
+    // state of the current round, shared with the workers
+    private int[] tasks;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final boolean[] probed;
+    private long deadline;
+    private boolean bounds;
+
+    private boolean complete;
+    private long nbRuns;
+    private long nbRounds;
+    private long nbProbes;
+    private long nbRemovedValues;
+    private long time;
+
+    /**
+     * Creates a parallel SAC for <i>model</i>, and the copies of the workers.
+     * If the initial propagation has not been done yet, it is done first.
+     *
+     * @param model     the model to pre-process
+     * @param nbWorkers number of threads, each of them owning a copy of <i>model</i>
+     * @throws SolverException if <i>nbWorkers</i> is not strictly positive, if the resolution has already started
+     *                         or if the initial propagation fails
+     */
+    public ParallelSAC(Model model, int nbWorkers) {
+        if (nbWorkers < 1) {
+            throw new SolverException("The number of workers of a ParallelSAC must be strictly positive.");
+        }
+        Solver solver = model.getSolver();
+        if (solver.getSearchState() != SearchState.NEW) {
+            throw new SolverException("A ParallelSAC can only be created before the resolution starts.");
+        }
+        if (!solver.getEngine().isInitialized()) {
+            try {
+                solver.propagate();
+            } catch (ContradictionException e) {
+                throw new SolverException("Preprocessing failed");
+            }
+        }
+        this.model = model;
+        this.vars = model.retrieveIntVars(true);
+        this.probed = new boolean[vars.length];
+        this.workers = new Worker[nbWorkers];
+        for (int w = 0; w < nbWorkers; w++) {
+            workers[w] = new Worker(model.copy());
+        }
+        pending.set(0, vars.length);
+    }
+
+    /**
+     * Applies SAC on every (variable, value) combination of the model, until a fixpoint is reached
+     * or the time limit is reached.
+     *
+     * @param timeLimitInMS time limit of the run, in milliseconds, ignored if not strictly positive
+     * @return the number of values removed by the probes of this run
+     * @throws SolverException if the model is proven inconsistent, or if the resolution has started and is not running
+     */
+    public long sac(long timeLimitInMS) {
+        return apply(timeLimitInMS, false);
+    }
+
+    /**
+     * Applies SAC on the bounds of each variable of the model, until a fixpoint is reached
+     * or the time limit is reached.
+     *
+     * @param timeLimitInMS time limit of the run, in milliseconds, ignored if not strictly positive
+     * @return the number of values removed by the probes of this run
+     * @throws SolverException if the model is proven inconsistent, or if the resolution has started and is not running
+     */
+    public long sacBound(long timeLimitInMS) {
+        return apply(timeLimitInMS, true);
+    }
+
+    /**
+     * Runs this SAC, with a time limit, after each restart of the search.
+     * The values removed are valid until the end of the current resolution.
+     * When a run proves that the sub-problem at the root node is inconsistent, the next nodes fail,
+     * so that the search ends as if the root node had failed: the problem is proven infeasible,
+     * or the best solution found so far is proven optimal.
+     *
+     * @param timeLimitInMS time limit of each run, in milliseconds, ignored if not strictly positive
+     * @param bounds        set to <i>true</i> to probe the bounds only, <i>false</i> to probe all the values
+     * @throws SolverException if the resolution has already started
+     */
+    public void plugOnRestarts(long timeLimitInMS, boolean bounds) {
+        if (model.getSolver().getSearchState() != SearchState.NEW) {
+            throw new SolverException("A ParallelSAC can only be plugged before the resolution starts.");
+        }
+        OnRestarts onRestarts = new OnRestarts(timeLimitInMS, bounds);
+        new Constraint("ParallelSAC", onRestarts.prop).post();
+        model.getSolver().plugMonitor(onRestarts);
+    }
+
+    /**
+     * Shuts down the threads of the workers, they are created again if a new run is triggered.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    private long apply(long timeLimitInMS, boolean bounds) {
+        SearchState state = model.getSolver().getSearchState();
+        if (state != SearchState.NEW && state != SearchState.RUNNING) {
+            throw new SolverException("SAC can only be applied before the resolution starts or on restarts.");
+        }
+        long removed = nbRemovedValues;
+        if (!run(timeLimitInMS, bounds)) {
+            throw new SolverException("Preprocessing failed");
+        }
+        return nbRemovedValues - removed;
+    }
+
+    /**
+     * @return <i>false</i> if the model is proven inconsistent
+     */
+    private boolean run(long timeLimitInMS, boolean bounds) {
+        long start = System.nanoTime();
+        Solver solver = model.getSolver();
+        boolean inSearch = solver.getSearchState() == SearchState.RUNNING;
+        boolean verbose = !inSearch && model.getSettings().warnUser();
+        if (verbose && timeLimitInMS > 0) {
+            solver.log().white().printf("Running parallel %s step (%dms, %d workers).\n",
+                    bounds ? "SACBound" : "SAC", timeLimitInMS, workers.length);
+        }
+        this.deadline = timeLimitInMS > 0 ? start + timeLimitInMS * 1_000_000L : Long.MAX_VALUE;
+        this.bounds = bounds;
+        nbRuns++;
+        complete = false;
+        long before = cardinality();
+        boolean ok = true;
+        try {
+            for (int k = 0; k < inSearchRemovals.size(); k += 2) {
+                vars[inSearchRemovals.getQuick(k)].removeValue(inSearchRemovals.getQuick(k + 1), Cause.Null);
+            }
+            solver.getEngine().propagate();
+            if (bounds != lastBounds || hasChanged()) {
+                pending.set(0, vars.length);
+            }
+            lastBounds = bounds;
+            ok = rounds(inSearch);
+        } catch (ContradictionException e) {
+            solver.getEngine().flush();
+            ok = false;
+        } finally {
+            for (Worker worker : workers) {
+                worker.release();
+            }
+        }
+        if (ok) {
+            takeSnapshot();
+        }
+        time += System.nanoTime() - start;
+        long after = cardinality();
+        if (verbose && before - after > 0) {
+            solver.log().white().printf("Preprocessing reduces the search space by approximately %.2f%%\n", (before - after) * 100. / before);
+        }
+        return ok;
+    }
+
+    private boolean rounds(boolean inSearch) throws ContradictionException {
+        if (pool == null) {
+            pool = Executors.newFixedThreadPool(workers.length, r -> {
+                Thread t = new Thread(r, "choco-parallel-sac");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        try {
+            while (System.nanoTime() <= deadline) {
+                tasks = pending.stream()
+                        .filter(i -> !vars[i].isInstantiated())
+                        .boxed()
+                        .sorted((i, j) -> PreProcessing.PROBING_ORDER.compare(vars[i], vars[j]))
+                        .mapToInt(i -> i)
+                        .toArray();
+                if (tasks.length == 0) {
+                    pending.clear();
+                    complete = true;
+                    return true;
+                }
+                nbRounds++;
+                cursor.set(0);
+                Arrays.fill(probed, false);
+                List<Future<?>> futures = new ArrayList<>(workers.length);
+                for (Worker worker : workers) {
+                    futures.add(pool.submit(worker::round));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                if (failed.get()) {
+                    return false;
+                }
+                for (int i = 0; i < vars.length; i++) {
+                    if (probed[i] || vars[i].isInstantiated()) {
+                        pending.clear(i);
+                    }
+                }
+                boolean changed = false;
+                for (Worker worker : workers) {
+                    nbProbes += worker.nbProbes;
+                    worker.nbProbes = 0;
+                    TIntArrayList removed = worker.removed;
+                    for (int k = 0; k < removed.size(); k += 2) {
+                        int i = removed.getQuick(k);
+                        int a = removed.getQuick(k + 1);
+                        if (vars[i].removeValue(a, Cause.Null)) {
+                            changed = true;
+                            nbRemovedValues++;
+                            if (inSearch) {
+                                inSearchRemovals.add(i);
+                                inSearchRemovals.add(a);
+                            }
+                        }
+                    }
+                    removed.resetQuick();
+                }
+                if (changed) {
+                    model.getSolver().getEngine().propagate();
+                    pending.set(0, vars.length);
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("The parallel SAC has been interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException(e.getCause().getMessage());
+        } finally {
+            failed.set(false);
+        }
+    }
+
+    private long cardinality() {
+        return Arrays.stream(vars)
+                .mapToLong(VariableUtils::domainCardinality)
+                .sum();
+    }
+
+    private boolean hasChanged() {
+        if (snapshot == null) {
+            return true;
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (snapshot[3 * i] != vars[i].getLB()
+                    || snapshot[3 * i + 1] != vars[i].getUB()
+                    || snapshot[3 * i + 2] != vars[i].getDomainSize()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void takeSnapshot() {
+        if (snapshot == null) {
+            snapshot = new int[3 * vars.length];
+        }
+        for (int i = 0; i < vars.length; i++) {
+            snapshot[3 * i] = vars[i].getLB();
+            snapshot[3 * i + 1] = vars[i].getUB();
+            snapshot[3 * i + 2] = vars[i].getDomainSize();
+        }
+    }
+
+    /**
+     * @return <i>true</i> if the last run reached a fixpoint
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the number of runs so far
+     */
+    public long getNbRuns() {
+        return nbRuns;
+    }
+
+    /**
+     * @return the number of rounds, over all runs
+     */
+    public long getNbRounds() {
+        return nbRounds;
+    }
+
+    /**
+     * @return the number of (variable, value) combinations probed, over all runs
+     */
+    public long getNbProbes() {
+        return nbProbes;
+    }
+
+    /**
+     * @return the number of values removed by the probes, over all runs
+     */
+    public long getNbRemovedValues() {
+        return nbRemovedValues;
+    }
+
+    /**
+     * @return the time spent in runs, in nanoseconds
+     */
+    public long getTime() {
+        return time;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d workers, %d runs, %d rounds, %d probes, %d removed values, %.3fs",
+                workers.length, nbRuns, nbRounds, nbProbes, nbRemovedValues, time / 1e9);
+    }
+
+    /**
+     * A copy of the main model, owned by one thread during a round.
+     */
+    private final class Worker {
+
+        private final Solver solver;
+        /**
+         * Integer variables of the copy, in the same order as {@link #vars}
+         */
+        private final IntVar[] copies;
+        /**
+         * Unsupported values found in the current round, as (index of the variable, value) pairs
+         */
+        private final TIntArrayList removed = new TIntArrayList();
+        private long nbProbes;
+        /**
+         * World index of the copy before the current run, or -1 out of a run
+         */
+        private int base = -1;
+
+        Worker(Model copy) {
+            this.solver = copy.getSolver();
+            this.copies = copy.retrieveIntVars(true);
+            assert copies.length == vars.length;
+            // the copy is not propagated yet, while the main model is
+            try {
+                solver.propagate();
+            } catch (ContradictionException e) {
+                throw new SolverException("Preprocessing failed");
+            }
+        }
+
+        void round() {
+            try {
+                if (base == -1) {
+                    base = solver.getModel().getEnvironment().getWorldIndex();
+                    solver.pushTrail();
+                }
+                synchronize();
+                int t;
+                while (!failed.get() && (t = cursor.getAndIncrement()) < tasks.length) {
+                    int i = tasks[t];
+                    if (bounds ? probeBounds(i) : probeAll(i)) {
+                        probed[i] = true;
+                    } else {
+                        break;
+                    }
+                }
+            } catch (ContradictionException e) {
+                solver.getEngine().flush();
+                failed.set(true);
+            }
+        }
+
+        /**
+         * Restores the copy to the state it had before the current run.
+         */
+        void release() {
+            if (base > -1) {
+                while (solver.getModel().getEnvironment().getWorldIndex() > base) {
+                    solver.cancelTrail();
+                }
+                base = -1;
+            }
+            removed.resetQuick();
+            nbProbes = 0;
+        }
+
+        /**
+         * Removes from the copy the values which are not in the main model anymore.
+         */
+        private void synchronize() throws ContradictionException {
+            for (int i = 0; i < vars.length; i++) {
+                IntVar o = vars[i];
+                IntVar c = copies[i];
+                c.updateBounds(o.getLB(), o.getUB(), Cause.Null);
+                if (c.hasEnumeratedDomain() && c.getDomainSize() > 1) {
+                    int ub = c.getUB();
+                    for (int a = c.getLB(); a <= ub; a = c.nextValue(a)) {
+                        if (!o.contains(a)) {
+                            c.removeValue(a, Cause.Null);
+                        }
+                    }
+                }
+            }
+            solver.getEngine().propagate();
+        }
+
+        /**
+         * @return <i>false</i> if the deadline has been reached before all the values were probed
+         */
+        private boolean probeAll(int i) throws ContradictionException {
+            IntVar v = copies[i];
+            for (int a = v.getLB(); a != Integer.MAX_VALUE && !v.isInstantiated(); a = v.nextValue(a)) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                probe(i, a);
+            }
+            return true;
+        }
+
+        /**
+         * @return <i>false</i> if the deadline has been reached before both bounds were proven supported
+         */
+        private boolean probeBounds(int i) throws ContradictionException {
+            IntVar v = copies[i];
+            do {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+            } while (!v.isInstantiated() && probe(i, v.getLB()));
+            do {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+            } while (!v.isInstantiated() && probe(i, v.getUB()));
+            return true;
+        }
+
+        /**
+         * Probes a value and, if it has no support, removes it from the copy and reports it.
+         *
+         * @return <i>true</i> if the value has no support
+         */
+        private boolean probe(int i, int a) throws ContradictionException {
+            nbProbes++;
+            solver.pushTrail();
+            boolean noSupport = hasNoSupport(copies[i], a);
+            solver.cancelTrail();
+            if (noSupport) {
+                removed.add(i);
+                removed.add(a);
+                copies[i].removeValue(a, Cause.Null);
+                solver.getEngine().propagate();
+            }
+            return noSupport;
+        }
+
+        private boolean hasNoSupport(IntVar var, int val) {
+            try {
+                var.instantiateTo(val, Cause.Null);
+                solver.getEngine().propagate();
+                return false;
+            } catch (ContradictionException e) {
+                solver.getEngine().flush();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Runs the SAC after each restart and, once the root node is proven inconsistent,
+     * makes every node fail until the search is exhausted.
+     */
+    private final class OnRestarts implements IMonitorInitialize, IMonitorRestart {
+
+        private final long timeLimitInMS;
+        private final boolean bounds;
+        private final PropInconsistent prop;
+
+        OnRestarts(long timeLimitInMS, boolean bounds) {
+            this.timeLimitInMS = timeLimitInMS;
+            this.bounds = bounds;
+            this.prop = new PropInconsistent(model.intVar(2));
+        }
+
+        @Override
+        public void beforeInitialize() {
+            // the values removed during a previous resolution may depend on its cuts
+            inSearchRemovals.resetQuick();
+            inconsistent = false;
+        }
+
+        @Override
+        public void afterRestart() {
+            if (!inconsistent && !run(timeLimitInMS, bounds)) {
+                inconsistent = true;
+                // executed at the next propagation and again each time the search backtracks up to it,
+                // including on the root propagation of the next restarts
+                model.getSolver().getEngine().propagateOnBacktrack(prop);
+            }
+        }
+    }
+
+    /**
+     * Fails when executed after a run has proven the root node inconsistent.
+     */
+    private final class PropInconsistent extends Propagator<IntVar> {
+
+        PropInconsistent(IntVar var) {
+            super(var);
+            this.vars = new IntVar[0];
+        }
+
+        @Override
+        public int getPropagationConditions(int vIdx) {
+            return IntEventType.VOID.getMask();
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            if (inconsistent) {
+                fails();
+            }
+        }
+
+        @Override
+        public ESat isEntailed() {
+            return ESat.TRUE;
+        }
+    }
+}
@@ -48,6 +48,20 @@ public class PreProcessing {
     private static final Predicate<Constraint> POSTED = c -> c.getStatus() == Constraint.Status.POSTED;
     private static final Predicate<Constraint> EQXY = c -> c.getPropagator(0) instanceof PropEqualX_Y;
     private static final Predicate<Constraint> NEQXY = c -> c.getPropagator(0) instanceof PropNotEqualX_Y;
+    /**
+     * Order in which variables are probed by SAC:
+     * by increasing number of propagators, then by decreasing domain size, then by increasing id.
+     */
+    static final Comparator<IntVar> PROBING_ORDER = (v, w) -> {
+        int d = v.getNbProps() - w.getNbProps();
+        if (d == 0) {
+            d = w.getDomainSize() - v.getDomainSize();
+            if (d == 0) {
+                d = v.getId() - w.getId();
+            }
+        }
+        return d;
+    };
 
 
     /**
@@ -275,16 +289,7 @@ public class PreProcessing {
         }
         long tl = System.currentTimeMillis() + timeLimitInMS;
         IntVar[] ivars = m.retrieveIntVars(true);
-        Arrays.sort(ivars, (v, w) -> {
-            int d = v.getNbProps() - w.getNbProps();
-            if (d == 0) {
-                d = w.getDomainSize() - v.getDomainSize();
-                if (d == 0) {
-                    d = v.getId() - w.getId();
-                }
-            }
-            return d;
-        });
+        Arrays.sort(ivars, PROBING_ORDER);
         long before = Arrays.stream(ivars)
                 .mapToLong(VariableUtils::domainCardinality)
                 .sum();
@@ -352,16 +357,7 @@ public class PreProcessing {
         long before = Arrays.stream(ivars)
                 .mapToLong(VariableUtils::domainCardinality)
                 .sum();
-        Arrays.sort(ivars, (v, w) -> {
-            int d = v.getNbProps() - w.getNbProps();
-            if (d == 0) {
-                d = w.getDomainSize() - v.getDomainSize();
-                if (d == 0) {
-                    d = v.getId() - w.getId();
-                }
-            }
-            return d;
-        });
+        Arrays.sort(ivars, PROBING_ORDER);
         boolean hasChanged = true;
         loop:
         while (hasChanged) {
@@ -423,6 +419,46 @@ public class PreProcessing {
         }
     }
 
+    /**
+     * Applies Singleton Arc Consistency on every combination of (variable, value), like {@link #sac(Model, long)},
+     * but the combinations are probed in parallel, on copies of the model.
+     * The values proven unsupported are removed from <i>m</i>.
+     * The method ends when the time limit is reached or when a fixpoint is reached.
+     * <p>
+     * To re-run SAC incrementally, for instance on restarts, use a {@link ParallelSAC} instead.
+     *
+     * @param m             the model to pre-process
+     * @param nbWorkers     number of threads to use
+     * @param timeLimitInMS time limit, in milliseconds, ignored if not strictly positive
+     * @implSpec If not done yet, a first propagation is done before copying the model.
+     */
+    public static void parallelSac(Model m, int nbWorkers, long timeLimitInMS) {
+        try (ParallelSAC sac = new ParallelSAC(m, nbWorkers)) {
+            sac.sac(timeLimitInMS);
+        }
+    }
+
+    /**
+     * Applies Singleton Arc Consistency on bounds of each integer variable, like {@link #sacBound(Model, long)},
+     * but the bounds are probed in parallel, on copies of the model.
+     * Both bounds of each variable are shaved until a fixpoint is reached, whereas {@link #sacBound(Model, long)}
+     * only shaves the lower bounds, so more values may be removed.
+     * The values proven unsupported are removed from <i>m</i>.
+     * The method ends when the time limit is reached or when a fixpoint is reached.
+     * <p>
+     * To re-run SAC incrementally, for instance on restarts, use a {@link ParallelSAC} instead.
+     *
+     * @param m             the model to pre-process
+     * @param nbWorkers     number of threads to use
+     * @param timeLimitInMS time limit, in milliseconds, ignored if not strictly positive
+     * @implSpec If not done yet, a first propagation is done before copying the model.
+     */
+    public static void parallelSacBound(Model m, int nbWorkers, long timeLimitInMS) {
+        try (ParallelSAC sac = new ParallelSAC(m, nbWorkers)) {
+            sac.sacBound(timeLimitInMS);
+        }
+    }
+
     /**
      * Check if a value is supported by the variable.
      *
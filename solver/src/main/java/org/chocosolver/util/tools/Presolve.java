@@ -0,0 +1,698 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.tools;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Arithmetic;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.nary.sum.PropSum;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+
+import java.util.*;
+
+/**
+ * A presolve of a model, applied before the initial propagation.
+ * <p>
+ * The presolve proceeds by rounds, until a round makes no reduction or the maximum number of rounds is reached.
+ * Each round applies the enabled {@link Step}s, in that order:
+ * <ol>
+ *     <li>{@link Step#TIGHTEN_BOUNDS}: the constraints are propagated once at root node,</li>
+ *     <li>{@link Step#SUBSTITUTE_EQUALITIES} and {@link Step#MERGE_LINEAR}: the linear constraints
+ *     (<i>arithm</i>, <i>sum</i> and <i>scalar</i>) are rewritten, see below,</li>
+ *     <li>{@link Step#REMOVE_ENTAILED}: the constraints which are satisfied whatever the future decisions are
+ *     removed from the model.</li>
+ * </ol>
+ * To be rewritten, a linear constraint is first normalized: each variable equal to another one (plus a constant)
+ * is replaced by it, the instantiated variables are folded into the right-hand side,
+ * the terms over the same variable are gathered and the coefficients are divided by their GCD.
+ * Then, a constraint over no variable is removed (or fails), a constraint over one variable becomes
+ * a domain reduction, and the constraints over the same linear expression are merged into one
+ * (or two) constraints, with the tightest bounds.
+ * A constraint is only replaced if something changed.
+ * </p>
+ * <p>
+ * The variables are not removed from the model: an equality <i>x = y + c</i> used to replace <i>x</i> by <i>y</i>
+ * is kept, so that each variable still gets its value in a solution.
+ * The reductions are permanent, they are not undone by {@link org.chocosolver.solver.Solver#reset()}.
+ * And a rewritten constraint is unposted from the model, which cannot be done by the user anymore.
+ * </p>
+ * <p>
+ * A presolve is applied at most once.
+ * It is triggered by {@link org.chocosolver.solver.Solver} on the first resolution,
+ * either when {@link org.chocosolver.solver.Settings#presolve()} is set or when a presolve is declared with
+ * {@link org.chocosolver.solver.Solver#setPresolve(Presolve)}.
+ * The time spent and the number of reductions are reported in the measures of the solver.
+ * </p>
+ *
+ * @author Charles Prud'homme
+ * @see PreProcessing
+ * @since 17/10/2026
+ */
+public class Presolve {
+
+    /**
+     * The steps of the presolve
+     */
+    public enum Step {
+        /**
+         * Propagate the constraints once at root node, and turn unary linear constraints into domain reductions
+         */
+        TIGHTEN_BOUNDS,
+        /**
+         * Remove the constraints which are entailed
+         */
+        REMOVE_ENTAILED,
+        /**
+         * In linear constraints, replace variables equal to another one (plus a constant)
+         */
+        SUBSTITUTE_EQUALITIES,
+        /**
+         * Fold instantiated variables of linear constraints, and merge linear constraints over the same expression
+         */
+        MERGE_LINEAR
+    }
+
+    /**
+     * Names of the constraints which store clauses or nogoods, filled during search, that should never be removed
+     */
+    private static final Set<String> STORES = new HashSet<>(Arrays.asList(
+            ConstraintsName.SATCONSTRAINT, ConstraintsName.NOGOODCONSTRAINT));
+
+    private final EnumSet<Step> steps;
+    private int maxRounds = 8;
+    private boolean applied;
+    /**
+     * Substitution of variables: the variable of ID <i>i</i> equals <i>parent[i] + offset[i]</i>
+     */
+    private final TIntObjectHashMap<IntVar> parent = new TIntObjectHashMap<>();
+    private final TIntIntHashMap offset = new TIntIntHashMap();
+    /**
+     * The equalities which define the substitution, never rewritten
+     */
+    private final Set<Constraint> defining = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private int nbRounds;
+    private long nbTightenedBounds;
+    private long nbRemovedConstraints;
+    private long nbFoldedVariables;
+    private long nbSubstitutedVariables;
+    private long nbMergedConstraints;
+
+    /**
+     * Creates a presolve with all the steps.
+     */
+    public Presolve() {
+        this(Step.values());
+    }
+
+    /**
+     * Creates a presolve with the given steps only.
+     *
+     * @param steps the steps to apply
+     */
+    public Presolve(Step... steps) {
+        this.steps = EnumSet.noneOf(Step.class);
+        this.steps.addAll(Arrays.asList(steps));
+    }
+
+    /**
+     * @param maxRounds maximum number of rounds (default is 8)
+     * @return this
+     */
+    public Presolve setMaxRounds(int maxRounds) {
+        this.maxRounds = maxRounds;
+        return this;
+    }
+
+    /**
+     * @return <i>true</i> if this presolve has been applied
+     */
+    public boolean isApplied() {
+        return applied;
+    }
+
+    /**
+     * Applies this presolve to <i>model</i>.
+     * <p>
+     * If this presolve has already been applied,
+     * or if the initial propagation has already been run ({@code model.getSolver().getFixpointCount() > 0}),
+     * or if the solver is in LCG mode, the method stops without applying anything.
+     * Thus, it can be called before the resolution, or by the solver itself when the resolution starts.
+     * On return, the propagation engine of the solver is not initialized.
+     *
+     * @param model the model to presolve
+     * @throws ContradictionException if the presolve proves that the model has no solution
+     */
+    public void apply(Model model) throws ContradictionException {
+        Solver solver = model.getSolver();
+        if (applied || solver.getFixpointCount() > 0 || solver.isLCG()) {
+            return;
+        }
+        applied = true;
+        // the constraints are modified statically
+        model.getSolver().getEngine().clear();
+        long reductions;
+        do {
+            nbRounds++;
+            reductions = getNbReductions();
+            if (steps.contains(Step.TIGHTEN_BOUNDS)) {
+                tightenBounds(model);
+            }
+            if (steps.contains(Step.SUBSTITUTE_EQUALITIES) || steps.contains(Step.MERGE_LINEAR)) {
+                rewriteLinear(model);
+            }
+            if (steps.contains(Step.REMOVE_ENTAILED)) {
+                removeEntailed(model);
+            }
+        } while (reductions < getNbReductions() && nbRounds < maxRounds);
+    }
+
+    private void tightenBounds(Model model) throws ContradictionException {
+        IntVar[] vars = model.retrieveIntVars(true);
+        int[] bounds = new int[vars.length * 2];
+        for (int i = 0; i < vars.length; i++) {
+            bounds[2 * i] = vars[i].getLB();
+            bounds[2 * i + 1] = vars[i].getUB();
+        }
+        int[] tightened = new int[bounds.length];
+        // propagating may turn some propagators passive, which must not be recorded at root node
+        // before removing constraints, so only the bounds are kept
+        model.getEnvironment().worldPush();
+        try {
+            model.getSolver().propagate();
+            for (int i = 0; i < vars.length; i++) {
+                tightened[2 * i] = vars[i].getLB();
+                tightened[2 * i + 1] = vars[i].getUB();
+            }
+        } finally {
+            model.getSolver().getEngine().clear();
+            model.getEnvironment().worldPop();
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (bounds[2 * i] != tightened[2 * i] || bounds[2 * i + 1] != tightened[2 * i + 1]) {
+                vars[i].updateBounds(tightened[2 * i], tightened[2 * i + 1], Cause.Null);
+                nbTightenedBounds++;
+            }
+        }
+        model.getSolver().getEngine().clear();
+    }
+
+    private void removeEntailed(Model model) {
+        for (Constraint c : model.getCstrs()) {
+            if (!STORES.contains(c.getName()) && c.getStatus() == Constraint.Status.POSTED
+                    && c.isSatisfied() == ESat.TRUE) {
+                model.unpost(c);
+                defining.remove(c);
+                nbRemovedConstraints++;
+            }
+        }
+    }
+
+    private void rewriteLinear(Model model) throws ContradictionException {
+        // 1. extract the linear constraints, and detect new equalities
+        List<Linear> linears = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            Linear l;
+            if (defining.contains(c) || (l = Linear.of(c)) == null) {
+                continue;
+            }
+            if (steps.contains(Step.SUBSTITUTE_EQUALITIES) && substitute(l)) {
+                defining.add(c);
+            } else {
+                linears.add(l);
+            }
+        }
+        // 2. normalize them, and gather them by linear expression
+        Map<Linear, Group> byExpression = new HashMap<>();
+        List<Group> groups = new ArrayList<>();
+        List<Linear> unaries = new ArrayList<>();
+        List<Constraint> toUnpost = new ArrayList<>();
+        for (Linear l : linears) {
+            if (!normalize(l)) {
+                continue;
+            }
+            if (l.vars.length == 0) {
+                if (!l.holds()) {
+                    model.getSolver().throwsException(Cause.Null, null, "linear constraint violated by presolve");
+                }
+                toUnpost.add(l.origin);
+                nbFoldedVariables += l.nbFolded;
+                nbRemovedConstraints++;
+            } else if (l.vars.length == 1 && steps.contains(Step.TIGHTEN_BOUNDS)) {
+                unaries.add(l);
+            } else if (steps.contains(Step.MERGE_LINEAR)) {
+                Group g = byExpression.get(l);
+                if (g == null) {
+                    g = new Group(l);
+                    byExpression.put(l, g);
+                    groups.add(g);
+                } else {
+                    g.add(l);
+                }
+            } else if (l.changed) {
+                groups.add(new Group(l));
+            }
+        }
+        for (Group g : groups) {
+            if (g.lo > g.hi) {
+                model.getSolver().throwsException(Cause.Null, null, "linear constraints violated by presolve");
+            }
+        }
+        // 3. replace the constraints
+        List<Constraint> toPost = new ArrayList<>();
+        for (Group g : groups) {
+            if (g.members.size() > 1 || g.changed) {
+                Linear l = g.members.get(0);
+                int before = toPost.size();
+                if (g.lo == g.hi) {
+                    toPost.add(model.scalar(l.vars, l.coeffs, "=", (int) g.lo));
+                } else {
+                    if (g.lo > Integer.MIN_VALUE) {
+                        toPost.add(model.scalar(l.vars, l.coeffs, ">=", (int) g.lo));
+                    }
+                    if (g.hi < Integer.MAX_VALUE) {
+                        toPost.add(model.scalar(l.vars, l.coeffs, "<=", (int) g.hi));
+                    }
+                }
+                for (Linear m : g.members) {
+                    toUnpost.add(m.origin);
+                    nbFoldedVariables += m.nbFolded;
+                }
+                nbMergedConstraints += Math.max(0, g.members.size() - (toPost.size() - before));
+            }
+        }
+        for (Constraint c : toUnpost) {
+            model.unpost(c);
+        }
+        model.post(toPost.toArray(new Constraint[0]));
+        // 4. turn unary constraints into domain reductions
+        for (Linear l : unaries) {
+            if (l.reduce()) {
+                nbTightenedBounds++;
+            }
+            model.unpost(l.origin);
+            nbFoldedVariables += l.nbFolded;
+            nbRemovedConstraints++;
+        }
+    }
+
+    /**
+     * Records the equality <i>l</i> in the substitution, if it is of the form <i>a.x - a.y = b</i>
+     * over distinct variables not already substituted by each other.
+     *
+     * @return <i>true</i> if <i>l</i> defines a new substitution
+     * @throws ContradictionException if <i>l</i> contradicts the substitution
+     */
+    private boolean substitute(Linear l) throws ContradictionException {
+        if (l.op != Operator.EQ || l.vars.length != 2 || l.coeffs[0] != -l.coeffs[1]
+                || l.vars[0].isInstantiated() || l.vars[1].isInstantiated()) {
+            return false;
+        }
+        int a = Math.abs(l.coeffs[0]);
+        if (a == 0 || l.rhs % a != 0) {
+            return false;
+        }
+        // x = y + c
+        IntVar x = l.vars[0];
+        IntVar y = l.vars[1];
+        long c = l.coeffs[0] > 0 ? l.rhs / a : -l.rhs / a;
+        IntVar rx = find(x);
+        long ox = offset.get(x.getId());
+        IntVar ry = find(y);
+        long oy = offset.get(y.getId());
+        // rx + ox = ry + oy + c
+        long d = oy + c - ox;
+        if (rx == ry) {
+            if (d != 0) {
+                x.getModel().getSolver().throwsException(Cause.Null, null, "equalities violated by presolve");
+            }
+            return false;
+        }
+        if (d < Integer.MIN_VALUE || d > Integer.MAX_VALUE) {
+            return false;
+        }
+        // the variable with the smallest ID remains
+        if (rx.getId() < ry.getId()) {
+            parent.put(ry.getId(), rx);
+            offset.put(ry.getId(), (int) -d);
+        } else {
+            parent.put(rx.getId(), ry);
+            offset.put(rx.getId(), (int) d);
+        }
+        nbSubstitutedVariables++;
+        return true;
+    }
+
+    /**
+     * @return the variable which <i>v</i> is replaced by; <i>v</i> equals it plus {@code offset.get(v.getId())}
+     */
+    private IntVar find(IntVar v) {
+        IntVar p = parent.get(v.getId());
+        if (p == null) {
+            return v;
+        }
+        IntVar r = find(p);
+        if (r != p) {
+            // path compression
+            parent.put(v.getId(), r);
+            offset.put(v.getId(), offset.get(v.getId()) + offset.get(p.getId()));
+        }
+        return r;
+    }
+
+    /**
+     * Normalizes <i>l</i>: substitutes variables, folds instantiated ones, gathers terms over the same variable
+     * and divides by the GCD of the coefficients, the first one being positive.
+     *
+     * @return <i>false</i> if the normalization overflows
+     */
+    private boolean normalize(Linear l) {
+        try {
+            return doNormalize(l);
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    private boolean doNormalize(Linear l) {
+        int n = l.vars.length;
+        IntVar[] vars = new IntVar[n];
+        long[] coeffs = new long[n];
+        long rhs = l.rhs;
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            IntVar v = l.vars[i];
+            long a = l.coeffs[i];
+            if (steps.contains(Step.SUBSTITUTE_EQUALITIES)) {
+                IntVar r = find(v);
+                if (r != v) {
+                    rhs = Math.subtractExact(rhs, a * offset.get(v.getId()));
+                    v = r;
+                    l.changed = true;
+                }
+            }
+            if (v.isInstantiated()) {
+                rhs = Math.subtractExact(rhs, a * v.getValue());
+                l.nbFolded++;
+                l.changed = true;
+            } else {
+                vars[k] = v;
+                coeffs[k++] = a;
+            }
+        }
+        // gather the terms over the same variable
+        Integer[] order = new Integer[k];
+        for (int i = 0; i < k; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> vars[i].getId()));
+        IntVar[] nvars = new IntVar[k];
+        long[] ncoeffs = new long[k];
+        int m = 0;
+        for (int i = 0; i < k; i++) {
+            IntVar v = vars[order[i]];
+            if (m > 0 && nvars[m - 1] == v) {
+                ncoeffs[m - 1] = Math.addExact(ncoeffs[m - 1], coeffs[order[i]]);
+                l.changed = true;
+            } else {
+                nvars[m] = v;
+                ncoeffs[m++] = coeffs[order[i]];
+            }
+        }
+        int j = 0;
+        for (int i = 0; i < m; i++) {
+            if (ncoeffs[i] != 0) {
+                nvars[j] = nvars[i];
+                ncoeffs[j++] = ncoeffs[i];
+            } else {
+                l.changed = true;
+            }
+        }
+        // divide by the GCD, the first coefficient being positive
+        long g = 0;
+        for (int i = 0; i < j; i++) {
+            g = gcd(g, Math.abs(ncoeffs[i]));
+        }
+        Operator op = l.op;
+        if (j > 0) {
+            if (ncoeffs[0] < 0) {
+                g = -g;
+                op = op == Operator.LE ? Operator.GE : op == Operator.GE ? Operator.LE : op;
+            }
+            for (int i = 0; i < j; i++) {
+                ncoeffs[i] /= g;
+            }
+            if (op == Operator.EQ) {
+                if (rhs % g != 0) {
+                    // no integer solution: 0 = 1
+                    j = 0;
+                    rhs = 1;
+                } else {
+                    rhs /= g;
+                }
+            } else if (op == Operator.LE) {
+                rhs = Math.floorDiv(rhs, g);
+            } else {
+                rhs = -Math.floorDiv(-rhs, g);
+            }
+        }
+        l.coeffs = new int[j];
+        for (int i = 0; i < j; i++) {
+            if (Math.abs(ncoeffs[i]) > Integer.MAX_VALUE / 2) {
+                return false;
+            }
+            l.coeffs[i] = (int) ncoeffs[i];
+        }
+        l.vars = Arrays.copyOf(nvars, j);
+        l.op = op;
+        l.rhs = rhs;
+        return Math.abs(rhs) <= Integer.MAX_VALUE / 2;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * @return the number of rounds done
+     */
+    public int getNbRounds() {
+        return nbRounds;
+    }
+
+    /**
+     * @return the number of variables whose bounds have been tightened, once per round
+     */
+    public long getNbTightenedBounds() {
+        return nbTightenedBounds;
+    }
+
+    /**
+     * @return the number of constraints removed, because entailed, or turned into domain reductions
+     */
+    public long getNbRemovedConstraints() {
+        return nbRemovedConstraints;
+    }
+
+    /**
+     * @return the number of instantiated variables folded in rewritten linear constraints
+     */
+    public long getNbFoldedVariables() {
+        return nbFoldedVariables;
+    }
+
+    /**
+     * @return the number of variables replaced by another one in linear constraints
+     */
+    public long getNbSubstitutedVariables() {
+        return nbSubstitutedVariables;
+    }
+
+    /**
+     * @return the number of linear constraints saved by merging linear constraints over the same expression
+     */
+    public long getNbMergedConstraints() {
+        return nbMergedConstraints;
+    }
+
+    /**
+     * @return the total number of reductions
+     */
+    public long getNbReductions() {
+        return nbTightenedBounds + nbRemovedConstraints + nbFoldedVariables + nbSubstitutedVariables + nbMergedConstraints;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Presolve[%d rounds, %d tightened bounds, %d removed constraints, %d folded variables, " +
+                        "%d substituted variables, %d merged constraints]",
+                nbRounds, nbTightenedBounds, nbRemovedConstraints, nbFoldedVariables,
+                nbSubstitutedVariables, nbMergedConstraints);
+    }
+
+    /**
+     * A linear constraint, <i>SUM(coeffs[i].vars[i]) op rhs</i>, with <i>op</i> among EQ, LE and GE.
+     * Two linear constraints are equal if they are over the same expression.
+     */
+    private static final class Linear {
+
+        final Constraint origin;
+        IntVar[] vars;
+        int[] coeffs;
+        Operator op;
+        long rhs;
+        boolean changed;
+        int nbFolded;
+
+        private Linear(Constraint origin, IntVar[] vars, int[] coeffs, Operator op, long rhs) {
+            this.origin = origin;
+            this.vars = vars;
+            this.coeffs = coeffs;
+            this.rhs = rhs;
+            switch (op) {
+                case LT:
+                    this.op = Operator.LE;
+                    this.rhs--;
+                    break;
+                case GT:
+                    this.op = Operator.GE;
+                    this.rhs++;
+                    break;
+                default:
+                    this.op = op;
+            }
+        }
+
+        /**
+         * @return the linear form of <i>c</i>, or <i>null</i> if <i>c</i> is not a posted linear constraint
+         * with operator among EQ, LE, LT, GE and GT
+         */
+        static Linear of(Constraint c) {
+            if (c.getStatus() != Constraint.Status.POSTED || c.getPropagators().length != 1) {
+                return null;
+            }
+            Linear l = null;
+            if (c instanceof Arithmetic && c.getName().equals(ConstraintsName.ARITHM)) {
+                Arithmetic a = (Arithmetic) c;
+                IntVar[] vars = a.getVariables();
+                Operator op1 = a.getOp1();
+                Operator op2 = a.getOp2();
+                if (vars.length == 1) {
+                    // x op1 cste
+                    l = new Linear(c, vars, new int[]{1}, op1, a.getCste());
+                } else if (op1 == Operator.PL || op1 == Operator.MN) {
+                    // x +/- y op2 cste
+                    l = new Linear(c, vars, new int[]{1, op1 == Operator.PL ? 1 : -1}, op2, a.getCste());
+                } else {
+                    // x op1 y +/- cste
+                    l = new Linear(c, vars, new int[]{1, -1}, op1, op2 == Operator.MN ? -(long) a.getCste() : a.getCste());
+                }
+            } else if ((c.getName().equals(ConstraintsName.SUM) || c.getName().equals(ConstraintsName.MIXEDSCALAR))
+                    && c.getPropagator(0) instanceof PropSum) {
+                PropSum p = (PropSum) c.getPropagator(0);
+                IntVar[] vars = new IntVar[p.getNbVars()];
+                int[] coeffs = new int[vars.length];
+                for (int i = 0; i < vars.length; i++) {
+                    vars[i] = p.getVar(i);
+                    coeffs[i] = p.getCoefficient(i);
+                }
+                l = new Linear(c, vars, coeffs, p.getOperator(), p.getBound());
+            }
+            return l == null || (l.op != Operator.EQ && l.op != Operator.LE && l.op != Operator.GE) ? null : l;
+        }
+
+        /**
+         * @return <i>true</i> if this constraint, over no variable, holds
+         */
+        boolean holds() {
+            switch (op) {
+                case EQ:
+                    return rhs == 0;
+                case LE:
+                    return 0 <= rhs;
+                default:
+                    return 0 >= rhs;
+            }
+        }
+
+        /**
+         * Applies this constraint, over a single variable whose coefficient is 1, as a domain reduction.
+         *
+         * @return <i>true</i> if the domain has been modified
+         * @throws ContradictionException if the domain becomes empty
+         */
+        boolean reduce() throws ContradictionException {
+            IntVar v = vars[0];
+            int val = (int) rhs;
+            switch (op) {
+                case EQ:
+                    return v.instantiateTo(val, Cause.Null);
+                case LE:
+                    return v.updateUpperBound(val, Cause.Null);
+                default:
+                    return v.updateLowerBound(val, Cause.Null);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Linear)) {
+                return false;
+            }
+            Linear that = (Linear) o;
+            return Arrays.equals(vars, that.vars) && Arrays.equals(coeffs, that.coeffs);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Arrays.hashCode(coeffs);
+            for (IntVar v : vars) {
+                h = 31 * h + v.getId();
+            }
+            return h;
+        }
+    }
+
+    /**
+     * Linear constraints over the same expression, and the bounds they impose on it
+     */
+    private static final class Group {
+
+        final List<Linear> members = new ArrayList<>();
+        long lo = Integer.MIN_VALUE;
+        long hi = Integer.MAX_VALUE;
+        boolean changed;
+
+        Group(Linear l) {
+            add(l);
+        }
+
+        void add(Linear l) {
+            members.add(l);
+            changed |= l.changed;
+            if (l.op != Operator.LE) {
+                lo = Math.max(lo, l.rhs);
+            }
+            if (l.op != Operator.GE) {
+                hi = Math.min(hi, l.rhs);
+            }
+        }
+    }
+}
@@ -6,11 +6,16 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.copying.EnvironmentCopying;
 import org.chocosolver.memory.structure.OneWordS32BitSet;
 import org.chocosolver.memory.structure.OneWordS64BitSet;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.packed.EnvironmentPacked;
+import org.chocosolver.memory.trailing.packed.PackedIntStore;
+import org.chocosolver.memory.trailing.packed.PackedLongStore;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.SettingsBuilder;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
@@ -35,7 +40,9 @@ public class EnvironmentTest {
     public Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentCopying()},
+                {new EnvironmentBuilder().setPacked(true).build()}
         };
     }
 
@@ -415,4 +422,180 @@ public class EnvironmentTest {
         env.worldPop();
         Assert.assertEquals(val, new int[]{0, 1});
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s")
+    public void testCopyingCommit() {
+        EnvironmentCopying env = new EnvironmentCopying();
+        IStateInt snt = env.makeInt(0);
+        env.worldPush();
+        snt.set(2);
+        env.worldPush();
+        snt.set(4);
+        env.worldPush();
+        snt.set(6);
+        env.worldCommit();
+        Assert.assertEquals(snt.get(), 6);
+        env.worldPop();
+        Assert.assertEquals(snt.get(), 2);
+        env.worldPop();
+        Assert.assertEquals(snt.get(), 0);
+    }
+
+    @Test(groups = "1s", dataProvider = "env")
+    public void testCreatedInWorld(IEnvironment env) {
+        env.worldPush();
+        IStateLong prim = env.makeLong(3L);
+        env.worldPush();
+        prim.set(5L);
+        env.worldPop();
+        Assert.assertEquals(prim.get(), 3L);
+        prim.set(7L);
+        env.worldPop();
+        Assert.assertEquals(prim.get(), 3L);
+    }
+
+    @Test(groups = "1s", dataProvider = "env")
+    public void testIntVector(IEnvironment env) {
+        IStateIntVector vector = env.makeIntVector(3, 1);
+        env.worldPush();
+        vector.set(0, 5);
+        vector.add(7);
+        Assert.assertEquals(vector.quickGet(0), 5);
+        Assert.assertEquals(vector.quickGet(3), 7);
+        env.worldPush();
+        vector.quickSet(1, 8);
+        vector.quickSet(1, 9);
+        Assert.assertEquals(vector.quickGet(1), 9);
+        env.worldPop();
+        Assert.assertEquals(vector.quickGet(0), 5);
+        Assert.assertEquals(vector.quickGet(1), 1);
+        env.worldPop();
+        Assert.assertEquals(vector.quickGet(0), 1);
+        Assert.assertEquals(vector.size.get(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyingGrowth() {
+        EnvironmentCopying env = new EnvironmentCopying();
+        IStateInt[] ints = new IStateInt[1000];
+        for (int w = 0; w < 200; w++) {
+            for (int i = 5 * w; i < 5 * w + 5; i++) {
+                ints[i] = env.makeInt(i);
+            }
+            env.worldPush();
+            for (int i = 0; i < 5 * w + 5; i++) {
+                ints[i].add(1);
+            }
+        }
+        Assert.assertEquals(env.getStateSize(), 1000);
+        for (int w = 199; w >= 0; w--) {
+            env.worldPop();
+            for (int i = 0; i < 5 * w + 5; i++) {
+                Assert.assertEquals(ints[i].get(), i + w - i / 5);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyingSearch() {
+        for (int n = 6; n < 10; n++) {
+            long[] counts = new long[4];
+            for (int k = 0; k < 2; k++) {
+                Model model = k == 0 ?
+                        new Model() :
+                        new Model(SettingsBuilder.init().setEnvironmentSupplier(EnvironmentCopying::new));
+                IntVar[] q = model.intVarArray("q", n, 1, n, false);
+                model.allDifferent(q, "AC").post();
+                for (int i = 0; i < n - 1; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        model.arithm(q[i], "!=", q[j], "+", j - i).post();
+                        model.arithm(q[i], "!=", q[j], "-", j - i).post();
+                    }
+                }
+                model.sum(q, ">=", n).post();
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.domOverWDegSearch(q));
+                while (solver.solve()) ;
+                counts[2 * k] = solver.getSolutionCount();
+                counts[2 * k + 1] = solver.getNodeCount();
+            }
+            Assert.assertEquals(counts[2], counts[0]);
+            Assert.assertEquals(counts[3], counts[1]);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testPackedCommit() {
+        EnvironmentTrailing env = new EnvironmentBuilder().setPacked(true).build();
+        IStateInt snt = env.makeInt(0);
+        env.worldPush();
+        snt.set(2);
+        env.worldPush();
+        snt.set(4);
+        env.worldPush();
+        snt.set(6);
+        env.worldCommit();
+        Assert.assertEquals(snt.get(), 6);
+        env.worldPop();
+        Assert.assertEquals(snt.get(), 2);
+        env.worldPop();
+        Assert.assertEquals(snt.get(), 0);
+    }
+
+    @Test(groups = "1s")
+    public void testPackedHandles() {
+        EnvironmentPacked env = (EnvironmentPacked) new EnvironmentBuilder().setPacked(true).build();
+        PackedIntStore ints = env.getIntStore();
+        PackedLongStore longs = env.getLongStore();
+        int base = ints.alloc(1000, 7);
+        int l = longs.alloc(Long.MAX_VALUE);
+        Assert.assertEquals(ints.size(), 1000);
+        for (int w = 0; w < 100; w++) {
+            env.worldPush();
+            for (int i = 0; i < 10 * (w + 1); i++) {
+                ints.set(base + i, ints.get(base + i) + 1);
+            }
+            longs.set(l, longs.get(l) - 1);
+        }
+        Assert.assertEquals(ints.get(base), 107);
+        Assert.assertEquals(ints.get(base + 999), 8);
+        Assert.assertEquals(longs.get(l), Long.MAX_VALUE - 100);
+        env.worldPopUntil(50);
+        Assert.assertEquals(ints.get(base), 57);
+        Assert.assertEquals(ints.get(base + 499), 8);
+        Assert.assertEquals(ints.get(base + 509), 7);
+        Assert.assertEquals(longs.get(l), Long.MAX_VALUE - 50);
+        env.worldPopUntil(0);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(ints.get(base + i), 7);
+        }
+        Assert.assertEquals(longs.get(l), Long.MAX_VALUE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPackedSearch() {
+        for (int n = 6; n < 10; n++) {
+            long[] counts = new long[4];
+            for (int k = 0; k < 2; k++) {
+                Model model = k == 0 ?
+                        new Model() :
+                        new Model(SettingsBuilder.init().setEnvironmentSupplier(() -> new EnvironmentBuilder().setPacked(true).build()));
+                IntVar[] q = model.intVarArray("q", n, 1, n, false);
+                model.allDifferent(q, "AC").post();
+                for (int i = 0; i < n - 1; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        model.arithm(q[i], "!=", q[j], "+", j - i).post();
+                        model.arithm(q[i], "!=", q[j], "-", j - i).post();
+                    }
+                }
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.domOverWDegSearch(q));
+                while (solver.solve()) ;
+                counts[2 * k] = solver.getSolutionCount();
+                counts[2 * k + 1] = solver.getNodeCount();
+            }
+            Assert.assertEquals(counts[2], counts[0]);
+            Assert.assertEquals(counts[3], counts[1]);
+        }
+    }
+}
@@ -17,7 +17,8 @@ public class PopTest {
     public Object[][] getEnvs(){
         return new EnvironmentTrailing[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().setPacked(true).build()}
         };
     }
 
@@ -0,0 +1,78 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.sat;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.SettingsBuilder;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class ClauseExchangeTest {
+
+    private ClauseExchange exchange;
+    private ClauseExchange.Port from;
+    private MiniSat to;
+    // literals of the exporting solver: [x <= 0], [x <= 1] and [x >= 2]
+    private int le0, le1, ge2;
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp() throws ContradictionException {
+        Model exporter = new Model(SettingsBuilder.init().setLCG(true));
+        IntVar x = exporter.intVar("x", 0, 5, true);
+        Model importer = new Model(SettingsBuilder.init().setLCG(true));
+        IntVar y = importer.intVar("x", 0, 5, true);
+        importer.arithm(y, ">=", 3).post();
+        le0 = x.getLELit(0);
+        le1 = x.getLELit(1);
+        ge2 = x.getGELit(2);
+        // the literals are created lazily, they must exist in the importing solver too
+        y.getLELit(0);
+        y.getLELit(1);
+        y.getGELit(2);
+        exchange = new ClauseExchange(16, 8, 8);
+        from = exchange.connect(exporter.getSolver().getSat(), true);
+        to = importer.getSolver().getSat();
+        exchange.connect(to, true);
+        importer.getSolver().propagate();
+    }
+
+    private void export(int... lits) {
+        from.export(new TIntArrayList(lits), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSatisfiedAtRoot() {
+        // [x >= 2] is true at the root level of the importing solver
+        export(ge2, le1);
+        Assert.assertTrue(to.importSharedClauses());
+        Assert.assertEquals(exchange.getImported(), 0L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFalsifiedClause() {
+        export(le0, le1);
+        Assert.assertFalse(to.importSharedClauses());
+        Assert.assertEquals(exchange.getImported(), 0L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFalsifiedUnit() {
+        export(le1);
+        Assert.assertFalse(to.importSharedClauses());
+        Assert.assertEquals(exchange.getImported(), 0L);
+    }
+}
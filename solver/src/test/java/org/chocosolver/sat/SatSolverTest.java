@@ -11,6 +11,14 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 /**
  * <p>
  * Project: choco-solver.
@@ -483,4 +491,105 @@ public class SatSolverTest {
         Assert.assertEquals(sat.valueVar(c), MiniSat.lUndef);
         Assert.assertEquals(sat.valueVar(d), MiniSat.lUndef);
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s")
+    public void testBinaryImplication() {
+        int ap = MiniSat.makeLiteral(a, true);
+        int bp = MiniSat.makeLiteral(b, true);
+        int cp = MiniSat.makeLiteral(c, true);
+        Assert.assertTrue(sat.addClause(ap, bp));
+        Assert.assertTrue(sat.addClause(MiniSat.neg(bp), cp));
+        sat.pushTrailMarker();
+        sat.uncheckedEnqueue(MiniSat.neg(ap));
+        Assert.assertTrue(sat.propagate());
+        Assert.assertEquals(sat.valueVar(b), MiniSat.lTrue);
+        Assert.assertEquals(sat.valueVar(c), MiniSat.lTrue);
+        // the reason of an implied literal is the binary clause, with the implied literal first
+        Clause r = sat.getConfl(cp);
+        Assert.assertEquals(r.size(), 2);
+        Assert.assertEquals(r._g(0), cp);
+        Assert.assertEquals(r._g(1), MiniSat.neg(bp));
+        sat.cancel();
+        sat.pushTrailMarker();
+        sat.uncheckedEnqueue(MiniSat.neg(cp));
+        sat.uncheckedEnqueue(MiniSat.neg(ap));
+        Assert.assertFalse(sat.propagate());
+        sat.cancel();
+        Assert.assertEquals(sat.valueVar(b), MiniSat.lUndef);
+    }
+
+    @Test(groups = "1s")
+    public void testReduceDBCompaction() {
+        int n = 150;
+        MiniSat sat = new MiniSat(false, 0);
+        for (int i = 0; i < n; i++) {
+            sat.newVariable();
+        }
+        Random rnd = new Random(0);
+        TIntArrayList lits = new TIntArrayList();
+        for (int i = 0; i < n * 4; i++) {
+            lits.resetQuick();
+            for (int j = 0; j < 3; j++) {
+                lits.add(MiniSat.makeLiteral(rnd.nextInt(n), rnd.nextBoolean()));
+            }
+            sat.addClause(lits);
+        }
+        TIntArrayList learnt = new TIntArrayList();
+        int reductions = 0;
+        while (reductions < 10 && sat.ok_) {
+            if (!sat.propagate()) {
+                if (sat.trailMarker() == 0) {
+                    break;
+                }
+                learnt.resetQuick();
+                sat.cancelUntil(sat.analyze(sat.confl, learnt));
+                sat.addLearnt(learnt, false);
+                if (sat.nLearnts() > 100) {
+                    sat.cancelUntil(0);
+                    Map<Clause, Set<Integer>> before = literals(sat);
+                    sat.doReduceDB();
+                    reductions++;
+                    Map<Clause, Set<Integer>> after = literals(sat);
+                    Assert.assertTrue(after.size() < before.size());
+                    after.forEach((c, ls) -> Assert.assertEquals(ls, before.get(c)));
+                    // every remaining clause is still watched
+                    for (Clause c : after.keySet()) {
+                        int[] cl = IntStream.range(0, c.size()).map(c::_g).toArray();
+                        sat.pushTrailMarker();
+                        boolean ok = true;
+                        for (int i = 1; i < cl.length && ok; i++) {
+                            if (sat.valueLit(cl[i]) == MiniSat.lUndef) {
+                                sat.uncheckedEnqueue(MiniSat.neg(cl[i]));
+                                ok = sat.propagate();
+                            }
+                        }
+                        if (ok) {
+                            Assert.assertTrue(Arrays.stream(cl).anyMatch(l -> sat.valueLit(l) == MiniSat.lTrue));
+                        }
+                        sat.cancelUntil(0);
+                    }
+                }
+            } else {
+                int lit = MiniSat.makeLiteral(rnd.nextInt(n), rnd.nextBoolean());
+                if (sat.valueLit(lit) == MiniSat.lUndef) {
+                    sat.pushTrailMarker();
+                    sat.uncheckedEnqueue(lit);
+                } else if (sat.trailMarker() >= n) {
+                    sat.cancelUntil(0);
+                }
+            }
+        }
+        Assert.assertEquals(reductions, 10);
+    }
+
+    private static Map<Clause, Set<Integer>> literals(MiniSat sat) {
+        Map<Clause, Set<Integer>> lits = new IdentityHashMap<>();
+        for (Clause c : sat.clauses) {
+            lits.put(c, IntStream.range(0, c.size()).mapToObj(c::_g).collect(Collectors.toSet()));
+        }
+        for (Clause c : sat.learnts) {
+            lits.put(c, IntStream.range(0, c.size()).mapToObj(c::_g).collect(Collectors.toSet()));
+        }
+        return lits;
+    }
+}
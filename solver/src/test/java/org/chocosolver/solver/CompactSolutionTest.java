@@ -0,0 +1,84 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class CompactSolutionTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFindAllCompactSolutions() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        // a static search, so that both runs enumerate the solutions in the same order
+        model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+        List<CompactSolution> solutions = model.getSolver().findAllCompactSolutions(vars);
+        Assert.assertEquals(solutions.size(), 92);
+        model.getSolver().reset();
+        List<Solution> references = model.getSolver().findAllSolutions();
+        Assert.assertEquals(references.size(), 92);
+        for (int k = 0; k < 92; k++) {
+            for (int i = 0; i < vars.length; i++) {
+                Assert.assertEquals(solutions.get(k).getIntVal(vars[i]), references.get(k).getIntVal(vars[i]));
+                Assert.assertEquals(solutions.get(k).getIntVal(i), references.get(k).getIntVal(vars[i]));
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyAndRestore() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        model.arithm(x, "<", y).post();
+        CompactSolution solution = new CompactSolution(x, y);
+        Assert.assertFalse(solution.exists());
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        CompactSolution copy = solution.copy();
+        Assert.assertEquals(copy, solution);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record();
+        Assert.assertNotEquals(copy, solution);
+        model.getSolver().reset();
+        copy.restore();
+        Assert.assertTrue(x.isInstantiatedTo(copy.getIntVal(x)));
+        Assert.assertTrue(y.isInstantiatedTo(copy.getIntVal(1)));
+        Assert.assertEquals(copy.toSolution().getIntVal(y), copy.getIntVal(y));
+        Assert.assertEquals(copy.getValues(new int[2]), new int[]{copy.getIntVal(x), copy.getIntVal(y)});
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNotInScope() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        CompactSolution solution = new CompactSolution(x);
+        Assert.assertTrue(model.getSolver().solve());
+        solution.record().getIntVal(y);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testEmpty() {
+        Model model = new Model();
+        new CompactSolution(model.intVar("x", 0, 5)).getIntVal(0);
+    }
+}
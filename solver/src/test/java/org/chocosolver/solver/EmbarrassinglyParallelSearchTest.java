@@ -0,0 +1,116 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class EmbarrassinglyParallelSearchTest {
+
+    @DataProvider
+    public Object[][] parallelism() {
+        return new Object[][]{{1}, {2}, {4}};
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "parallelism")
+    public void testAllSolutions(int parallelism) {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(
+                ProblemMaker.makeNQueenWithBinaryConstraints(8), parallelism);
+        AtomicInteger listened = new AtomicInteger();
+        long nbSolutions = eps.findAllSolutions(s -> listened.incrementAndGet());
+        Assert.assertEquals(nbSolutions, 92);
+        Assert.assertEquals(listened.get(), 92);
+        Assert.assertTrue(eps.isComplete());
+        Assert.assertTrue(eps.getNbSubProblems() >= 30);
+        Assert.assertEquals(eps.getNbSolvedSubProblems(), eps.getNbSubProblems());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "parallelism")
+    public void testOneSolution(int parallelism) {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(
+                ProblemMaker.makeNQueenWithBinaryConstraints(12), parallelism);
+        Solution solution = eps.findSolution();
+        Assert.assertNotNull(solution);
+        Assert.assertFalse(eps.isComplete());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(
+                ProblemMaker.makeNQueenWithBinaryConstraints(3), 2);
+        Assert.assertEquals(eps.findAllSolutions(null), 0);
+        Assert.assertTrue(eps.isComplete());
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "parallelism")
+    public void testOptimalSolution(int parallelism) {
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(
+                ProblemMaker.makeGolombRuler(8), parallelism);
+        Solution solution = eps.findOptimalSolution();
+        Assert.assertNotNull(solution);
+        Assert.assertTrue(eps.isComplete());
+        IntVar[] ticks = solution.retrieveIntVars(false).stream()
+                .filter(v -> v.getName().startsWith("a")).toArray(IntVar[]::new);
+        Assert.assertEquals(solution.getIntVal(ticks[ticks.length - 1]), 34);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoObjective() {
+        new EmbarrassinglyParallelSearch(ProblemMaker.makeNQueenWithBinaryConstraints(4), 2)
+                .findOptimalSolution();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLimitsAreKept() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        model.getSolver().limitSolution(1);
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(model, 1);
+        long nbSolutions = eps.findAllSolutions(null);
+        Assert.assertTrue(nbSolutions > 0);
+        Assert.assertTrue(nbSolutions < 92);
+        Assert.assertFalse(eps.isComplete());
+        // the model itself is not solved
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCountersAreGlobal() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        model.getSolver().limitSolution(10);
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(model, 2);
+        long nbSolutions = eps.findAllSolutions(null);
+        // the solutions are counted over the sub-problems and the workers,
+        // a worker may find one more before reading the counts of the other one
+        Assert.assertTrue(nbSolutions >= 10);
+        Assert.assertTrue(nbSolutions <= 11);
+        Assert.assertFalse(eps.isComplete());
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testTimeLimitIsGlobal() {
+        Model model = ProblemMaker.makeGolombRuler(12);
+        model.getSolver().limitTime("1s");
+        EmbarrassinglyParallelSearch eps = new EmbarrassinglyParallelSearch(model, 2);
+        long start = System.currentTimeMillis();
+        eps.findOptimalSolution();
+        // a limit measured on each sub-problem would last about a minute
+        Assert.assertTrue(System.currentTimeMillis() - start < 10_000);
+        Assert.assertFalse(eps.isComplete());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class ModelCopyTest {
+
+    private static Model mixed() {
+        Model model = new Model("mixed");
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        Tuples tuples = new Tuples(true);
+        tuples.add(0, 1);
+        tuples.add(1, 2);
+        tuples.add(2, 3);
+        tuples.add(3, 4);
+        tuples.add(4, 0);
+        model.table(x[0], x[1], tuples).post();
+        model.regular(x, new FiniteAutomaton("[0-4]*")).post();
+        model.element(x[2], new int[]{3, 1, 4, 1, 0}, x[3]).post();
+        model.sum(new IntVar[]{model.intView(2, x[4], 1), model.intView(-1, x[3], 0)}, ">=", 2).post();
+        model.arithm(x[4], "!=", x[0], "+", 1).post();
+        model.allDifferent(x[1], x[2], x[3]).post();
+        return model;
+    }
+
+    @DataProvider
+    public Object[][] satisfaction() {
+        return new Object[][]{
+                {(Supplier<Model>) () -> ProblemMaker.makeNQueenWithBinaryConstraints(8)},
+                {(Supplier<Model>) () -> ProblemMaker.makeNQueenWithOneAlldifferent(8)},
+                {(Supplier<Model>) () -> ProblemMaker.makeCostasArrays(5)},
+                {(Supplier<Model>) ModelCopyTest::mixed},
+        };
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "satisfaction")
+    public void testAllSolutions(Supplier<Model> modeller) {
+        Model original = modeller.get();
+        Model copy = original.copy();
+        Assert.assertNotSame(copy.getSolver(), original.getSolver());
+        Assert.assertEquals(copy.getNbVars(), original.getNbVars());
+        Assert.assertEquals(copy.getNbCstrs(), original.getNbCstrs());
+        long expected = modeller.get().getSolver().streamSolutions().count();
+        // the copy is solved first, to check that the original is not altered
+        Assert.assertEquals(copy.getSolver().streamSolutions().count(), expected);
+        Assert.assertEquals(original.getSolver().streamSolutions().count(), expected);
+        Assert.assertTrue(copy.getSolver().getCopyTimeCountInNanoSeconds() > 0);
+        Assert.assertEquals(original.getSolver().getCopyTimeCountInNanoSeconds(), 0);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testOptimization() {
+        for (boolean lcg : new boolean[]{false, true}) {
+            Model original = ProblemMaker.makeGolombRuler(8, lcg);
+            Model copy = original.copy();
+            IntVar objective = (IntVar) copy.getObjective();
+            Assert.assertNotSame(objective, original.getObjective());
+            Solution best = copy.getSolver().findOptimalSolution(objective, false);
+            Assert.assertNotNull(best);
+            Assert.assertEquals(best.getIntVal(objective), 34);
+            Assert.assertEquals(original.getSolver().findOptimalSolution((IntVar) original.getObjective(), false)
+                    .getIntVal((IntVar) original.getObjective()), 34);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSearchIsCopied() {
+        Model original = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        IntVar[] vars = original.retrieveIntVars(true);
+        original.getSolver().setSearch(Search.inputOrderUBSearch(vars));
+        Model copy = original.copy();
+        // monitors declared by the user are plugged on the copy
+        AtomicInteger count = new AtomicInteger();
+        copy.getSolver().plugMonitor((IMonitorSolution) count::incrementAndGet);
+        Solution first = copy.getSolver().findSolution();
+        IntVar[] cvars = copy.retrieveIntVars(true);
+        Assert.assertEquals(first.getIntVal(cvars[0]), 5);
+        Assert.assertEquals(count.get(), 1);
+        Assert.assertEquals(original.getSolver().getSearchState(), SearchState.NEW);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testUserMonitorIsNotCopied() {
+        Model original = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        AtomicInteger count = new AtomicInteger();
+        original.getSolver().plugMonitor((IMonitorSolution) count::incrementAndGet);
+        original.copy();
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testConcurrentCopies() {
+        Model original = ProblemMaker.makeNQueenWithOneAlldifferent(9);
+        List<Model> copies = IntStream.range(0, 4).parallel()
+                .mapToObj(i -> original.copy())
+                .collect(Collectors.toList());
+        List<Long> counts = copies.parallelStream()
+                .map(m -> m.getSolver().streamSolutions().count())
+                .collect(Collectors.toList());
+        for (long c : counts) {
+            Assert.assertEquals(c, 352);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testUnsupportedConstraint() {
+        Model original = new Model();
+        IntVar[] s = original.intVarArray("s", 3, 0, 6);
+        Task[] tasks = new Task[3];
+        IntVar[] heights = new IntVar[3];
+        for (int i = 0; i < 3; i++) {
+            tasks[i] = new Task(s[i], original.intVar(i + 1), original.intVar("e" + i, 0, 10));
+            heights[i] = original.intVar(1);
+        }
+        original.cumulative(tasks, heights, original.intVar(2)).post();
+        original.copy();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testCopyWhileSolved() {
+        Model original = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        original.getSolver().solve();
+        original.copy();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyAfterReset() {
+        Model original = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        original.getSolver().solve();
+        original.getSolver().reset();
+        Assert.assertEquals(original.copy().getSolver().streamSolutions().count(), 4);
+    }
+}
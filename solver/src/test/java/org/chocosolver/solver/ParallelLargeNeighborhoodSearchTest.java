@@ -0,0 +1,100 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.bandit.MOSS;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class ParallelLargeNeighborhoodSearchTest {
+
+    @DataProvider
+    public Object[][] parallelism() {
+        return new Object[][]{{1}, {2}, {4}};
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "parallelism")
+    public void testBestSolution(int parallelism) {
+        ParallelLargeNeighborhoodSearch lns = new ParallelLargeNeighborhoodSearch(
+                () -> ProblemMaker.makeGolombRuler(6), parallelism);
+        Solution solution = lns.findBestSolution(3000);
+        Assert.assertNotNull(solution);
+        Assert.assertFalse(lns.isComplete());
+        Assert.assertTrue(lns.getNbSolutions() > 0);
+        IntVar[] ticks = solution.retrieveIntVars(false).stream()
+                .filter(v -> v.getName().startsWith("a")).toArray(IntVar[]::new);
+        Assert.assertEquals(solution.getIntVal(ticks[ticks.length - 1]), 17);
+        long dives = 0;
+        for (int a = 0; a < 3; a++) {
+            Assert.assertTrue(lns.getNbImprovements(a) <= lns.getNbDives(a));
+            dives += lns.getNbDives(a);
+        }
+        Assert.assertTrue(dives > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPolicyAndNeighbors() {
+        ParallelLargeNeighborhoodSearch lns = new ParallelLargeNeighborhoodSearch(
+                () -> ProblemMaker.makeGolombRuler(7), 1)
+                .setNeighbors(INeighborFactory::random)
+                .setPolicy(MOSS::new)
+                .setFailLimit(20);
+        Assert.assertNotNull(lns.findBestSolution(1000));
+        // the first solution is not optimal, so dives start, and the last one is counted even if interrupted
+        Assert.assertTrue(lns.getNbDives(0) > 0);
+        Assert.assertTrue(lns.getNbImprovements(0) <= lns.getNbDives(0));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStop() {
+        ParallelLargeNeighborhoodSearch lns = new ParallelLargeNeighborhoodSearch(
+                () -> ProblemMaker.makeGolombRuler(6), 2);
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ignored) {
+            }
+            lns.stop();
+        }).start();
+        lns.findBestSolution(60_000);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        ParallelLargeNeighborhoodSearch lns = new ParallelLargeNeighborhoodSearch(() -> {
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 3, 0, 1);
+            model.allDifferent(x).post();
+            model.setObjective(Model.MINIMIZE, x[0]);
+            return model;
+        }, 2);
+        Assert.assertNull(lns.findBestSolution(10_000));
+        Assert.assertTrue(lns.isComplete());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoObjective() {
+        new ParallelLargeNeighborhoodSearch(() -> ProblemMaker.makeNQueenWithBinaryConstraints(4), 2)
+                .findBestSolution(1000);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoParallelism() {
+        new ParallelLargeNeighborhoodSearch(() -> ProblemMaker.makeGolombRuler(5), 0);
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.restart.MonotonicCutoff;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
@@ -283,4 +284,104 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testSharedIncumbent() {
+        for (int iter = 0; iter < 20; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            for (int i = 0; i < 4; i++) {
+                pares.addModel(ProblemMaker.makeGolombRuler(8));
+            }
+            pares.shareSolutionPhase();
+            while (pares.solve()) ;
+            Model finder = pares.getBestModel();
+            Assert.assertNotNull(finder);
+            Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 34);
+            Assert.assertTrue(pares.getCutsApplied() <= pares.getCutsReceived());
+            System.gc();
+        }
+    }
+
+    private static Model lcgGolombRuler(int m) {
+        Model model = new Model("LCG Golomb ruler", SettingsBuilder.init().setLCG(true));
+        IntVar[] ticks = model.intVarArray("a", m, 0, (1 << (m + 1)) - 1, true);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, (1 << (m + 1)) - 1, true);
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+            }
+        }
+        model.allDifferent(diffs, "BC").post();
+        model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        return model;
+    }
+
+    @Test(groups = "lcg", timeOut = 300000)
+    public void testShareLearntClauses() {
+        for (int iter = 0; iter < 5; iter++) {
+            ParallelPortfolio pares = new ParallelPortfolio();
+            for (int i = 0; i < 4; i++) {
+                pares.addModel(lcgGolombRuler(8));
+            }
+            pares.shareLearntClauses();
+            while (pares.solve()) ;
+            Model finder = pares.getBestModel();
+            Assert.assertNotNull(finder);
+            Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 34);
+            Assert.assertTrue(pares.getClausesExported() > 0);
+            Assert.assertTrue(pares.getClausesUseful() <= pares.getClausesImported());
+            System.gc();
+        }
+    }
+
+    @Test(groups = "lcg", timeOut = 300000)
+    public void testShareLearntClausesUnsat() {
+        // 9 pigeons, 8 holes
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int i = 0; i < 4; i++) {
+            Model model = new Model("LCG pigeons", SettingsBuilder.init().setLCG(true));
+            IntVar[] pigeons = model.intVarArray("p", 9, 1, 8, false);
+            for (int p = 0; p < pigeons.length; p++) {
+                for (int q = p + 1; q < pigeons.length; q++) {
+                    model.arithm(pigeons[p], "!=", pigeons[q]).post();
+                }
+            }
+            pares.addModel(model);
+        }
+        pares.shareLearntClauses(16, 16);
+        Assert.assertFalse(pares.solve());
+        Assert.assertTrue(pares.getClausesImported() > 0);
+    }
+
+    @Test(groups = "lcg", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testShareLearntClausesIncompatible() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int n = 8; n < 10; n++) {
+            Model model = new Model("LCG pigeons", SettingsBuilder.init().setLCG(true));
+            model.allDifferent(model.intVarArray("p", n, 1, 8, false)).post();
+            pares.addModel(model);
+        }
+        pares.shareLearntClauses();
+        pares.solve();
+    }
+
+    @Test(groups = "lcg", timeOut = 300000)
+    public void testShareLearntClausesWithCopies() {
+        Model model = lcgGolombRuler(8);
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModel(model);
+        for (int i = 0; i < 3; i++) {
+            pares.addModel(model.copy());
+        }
+        pares.shareLearntClauses();
+        while (pares.solve()) ;
+        Assert.assertEquals(pares.getBestModel().getSolver().getObjectiveManager().getBestSolutionValue(), 34);
+        Assert.assertTrue(pares.getClausesExported() > 0);
+    }
 }
@@ -8,6 +8,7 @@ package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.*;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
 import org.testng.Assert;
@@ -17,6 +18,7 @@ import org.testng.annotations.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.IntStream;
 
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
@@ -678,4 +680,71 @@ public class CumulativeTest {
         Assert.assertEquals(capacity.getLB(), 3);
         Assert.assertEquals(capacity.getUB(), 4);
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTimetableEdgeFinding() throws ContradictionException {
+        for (boolean ttef : new boolean[]{false, true}) {
+            Model model = new Model();
+            Task a = model.taskVar(model.intVar("A", 0, 26), 4);
+            Task b = model.taskVar(model.intVar("B", 1, 7), 5);
+            Task c = model.taskVar(model.intVar("C", 2, 8), 5);
+            IntVar one = model.intVar(1);
+            model.cumulative(new Task[]{a, b, c}, new IntVar[]{one, one, one}, one, false, false, ttef).post();
+            model.getSolver().propagate();
+            // [1, 13) has room for 2 units besides B and C, so A cannot start before 13 - 2
+            Assert.assertEquals(a.getEst(), ttef ? 11 : 0);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testTimetableEdgeFindingRandom() {
+        for (long seed = 0; seed < 100; seed++) {
+            long decomposition = solveRandom(seed, 0);
+            Assert.assertEquals(solveRandom(seed, 1), decomposition, "seed " + seed);
+            Assert.assertEquals(solveRandom(seed, 2), decomposition, "seed " + seed);
+        }
+    }
+
+    /**
+     * Counts the solutions of a random instance, modelled with a time decomposition (mode 0), with the cumulative
+     * constraint (mode 1) or with the cumulative constraint and TimeTable Edge Finding (mode 2).
+     */
+    private static long solveRandom(long seed, int mode) {
+        Random rnd = new Random(seed);
+        int n = 2 + rnd.nextInt(4);
+        int horizon = 8 + rnd.nextInt(6);
+        int capa = 1 + rnd.nextInt(3);
+        Model model = new Model();
+        IntVar[] s = new IntVar[n];
+        IntVar[] e = new IntVar[n];
+        int[] h = new int[n];
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            int d = 1 + rnd.nextInt(4);
+            int est = rnd.nextInt(horizon - d);
+            s[i] = model.intVar("s" + i, est, est + rnd.nextInt(horizon - d - est + 1));
+            e[i] = model.offset(s[i], d);
+            h[i] = 1 + rnd.nextInt(capa);
+            tasks[i] = model.taskVar(s[i], d);
+        }
+        if (mode == 0) {
+            for (int t = 0; t < horizon; t++) {
+                BoolVar[] b = new BoolVar[n];
+                for (int i = 0; i < n; i++) {
+                    b[i] = model.and(model.arithm(s[i], "<=", t).reify(), model.arithm(e[i], ">", t).reify()).reify();
+                }
+                model.scalar(b, h, "<=", capa).post();
+            }
+        } else {
+            IntVar[] heights = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                heights[i] = model.intVar(h[i]);
+            }
+            model.cumulative(tasks, heights, model.intVar(capa), false, false, mode == 2).post();
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(randomSearch(s, seed));
+        while (solver.solve()) ;
+        return solver.getSolutionCount();
+    }
+}
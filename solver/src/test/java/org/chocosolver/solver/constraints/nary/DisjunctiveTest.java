@@ -0,0 +1,161 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.OptionalTask;
+import org.chocosolver.solver.variables.Task;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+import static org.chocosolver.solver.search.strategy.Search.sequencer;
+
+/**
+ * Tests the disjunctive constraint, mainly against a cumulative constraint of capacity 1
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class DisjunctiveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        Model model = new Model();
+        Task a = model.taskVar(model.intVar("A", 0, 26), 4);
+        Task b = model.taskVar(model.intVar("B", 1, 7), 5);
+        Task c = model.taskVar(model.intVar("C", 2, 8), 5);
+        model.disjunctive(new Task[]{a, b, c}).post();
+        model.getSolver().propagate();
+        // A cannot be processed before B and C, nor between them
+        Assert.assertEquals(a.getEst(), 11);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDetectablePrecedences() throws ContradictionException {
+        Model model = new Model();
+        Task a = model.taskVar(model.intVar("A", 0, 10), 5);
+        Task b = model.taskVar(model.intVar("B", 2, 3), 4);
+        model.disjunctive(new Task[]{a, b}).post();
+        model.getSolver().propagate();
+        // A ends after B starts, so B precedes A
+        Assert.assertEquals(a.getEst(), 6);
+        Assert.assertEquals(b.getLct(), 7);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverload() {
+        Model model = new Model();
+        IntVar[] s = model.intVarArray("s", 3, 0, 5);
+        model.disjunctive(s, new int[]{3, 3, 3}).post();
+        try {
+            model.getSolver().propagate();
+            Assert.fail();
+        } catch (ContradictionException ignored) {
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptionalOverload() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] s = model.intVarArray("s", 3, 0, 5);
+        BoolVar p = model.boolVar("p");
+        Task[] tasks = new Task[]{
+                model.taskVar(s[0], 4),
+                model.taskVar(s[1], 4),
+                model.taskVar(s[2], 2, p)
+        };
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+        Assert.assertTrue(p.isInstantiatedTo(0));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTrivial() {
+        Model model = new Model();
+        IntVar[] s = model.intVarArray("s", 2, 0, 5);
+        Assert.assertNotEquals(model.disjunctive(new IntVar[]{s[0]}, new int[]{3}).getName(), ConstraintsName.DISJUNCTIVE);
+        Assert.assertNotEquals(model.disjunctive(s, new int[]{3, 0}).getName(), ConstraintsName.DISJUNCTIVE);
+        Assert.assertEquals(model.disjunctive(s, new int[]{3, 1}).getName(), ConstraintsName.DISJUNCTIVE);
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testRandom() {
+        for (long seed = 0; seed < 50; seed++) {
+            long expected = solve(seed, false);
+            long actual = solve(seed, true);
+            Assert.assertEquals(actual, expected, "seed " + seed);
+        }
+    }
+
+    private static long solve(long seed, boolean disjunctive) {
+        Random rnd = new Random(seed);
+        int n = 2 + rnd.nextInt(4);
+        int horizon = 4 + rnd.nextInt(8);
+        Model model = new Model();
+        Task[] tasks = new Task[n];
+        List<BoolVar> performed = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int est = rnd.nextInt(horizon / 2);
+            IntVar s = model.intVar("s" + i, est, est + rnd.nextInt(horizon - est));
+            IntVar d = rnd.nextBoolean()
+                    ? model.intVar("d" + i, rnd.nextInt(4))
+                    : model.intVar("d" + i, rnd.nextInt(2), 1 + rnd.nextInt(4));
+            if (rnd.nextInt(3) == 0) {
+                performed.add(model.boolVar("p" + i));
+                tasks[i] = new OptionalTask(s, d, performed.get(performed.size() - 1));
+            } else {
+                tasks[i] = new Task(s, d);
+            }
+        }
+        IntVar[] vars = model.retrieveIntVars(true);
+        if (disjunctive) {
+            model.disjunctive(tasks).post();
+        } else {
+            // two tasks which are performed and last do not overlap
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    model.addClausesBoolOrArrayEqualTrue(new BoolVar[]{
+                            performed(tasks[i]).not(), performed(tasks[j]).not(),
+                            model.arithm(tasks[i].getDuration(), "=", 0).reify(),
+                            model.arithm(tasks[j].getDuration(), "=", 0).reify(),
+                            model.scalar(new IntVar[]{tasks[i].getStart(), tasks[i].getDuration(), tasks[j].getStart()},
+                                    new int[]{1, 1, -1}, "<=", 0).reify(),
+                            model.scalar(new IntVar[]{tasks[j].getStart(), tasks[j].getDuration(), tasks[i].getStart()},
+                                    new int[]{1, 1, -1}, "<=", 0).reify()
+                    });
+                }
+            }
+        }
+        Solver solver = model.getSolver();
+        // the bounds of an optional task are filtered as long as it may be performed,
+        // so the tasks are chosen first to make the count independent of the propagation
+        if (performed.isEmpty()) {
+            solver.setSearch(randomSearch(vars, seed));
+        } else {
+            solver.setSearch(sequencer(
+                    inputOrderLBSearch(performed.toArray(new BoolVar[0])),
+                    randomSearch(vars, seed)));
+        }
+        while (solver.solve()) ;
+        return solver.getSolutionCount();
+    }
+
+    private static BoolVar performed(Task task) {
+        return task instanceof OptionalTask ? ((OptionalTask) task).getPerformed() : task.getStart().getModel().boolVar(true);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks {@link ParetoArchive} against a list of points scanned linearly.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class ParetoArchiveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSimple() {
+        ParetoArchive<String> archive = new ParetoArchive<>(2);
+        Assert.assertEquals(archive.insert(new int[]{1, 5}, "a", null), 0);
+        Assert.assertEquals(archive.insert(new int[]{5, 1}, "b", null), 0);
+        Assert.assertEquals(archive.insert(new int[]{3, 3}, "c", null), 0);
+        List<String> removed = new ArrayList<>();
+        Assert.assertEquals(archive.insert(new int[]{5, 3}, "d", removed::add), 2);
+        Assert.assertEquals(removed, Arrays.asList("b", "c"));
+        List<String> items = new ArrayList<>();
+        archive.forEach(items::add);
+        Assert.assertEquals(items, Arrays.asList("a", "d"));
+        // (5, 3) dominates (2, 3) and equals it but on the first objective
+        Assert.assertEquals(archive.tightest(0, new int[]{2, 3}), 5);
+        // (1, 5) and (5, 3) dominate (0, 2), and not only on the first objective
+        Assert.assertEquals(archive.tightest(0, new int[]{0, 2}), 6);
+        Assert.assertEquals(archive.tightest(0, new int[]{0, 6}), Integer.MIN_VALUE);
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testRandom() {
+        Random rnd = new Random(0L);
+        for (int t = 0; t < 500; t++) {
+            int m = 1 + rnd.nextInt(4);
+            int range = 2 + rnd.nextInt(t % 2 == 0 ? 5 : 100);
+            ParetoArchive<Integer> archive = new ParetoArchive<>(m);
+            List<int[]> points = new ArrayList<>();
+            List<Integer> ids = new ArrayList<>();
+            int nbInsertions = 1 + rnd.nextInt(300);
+            for (int k = 0; k < nbInsertions; k++) {
+                int[] point = random(rnd, m, range);
+                List<Integer> removed = new ArrayList<>();
+                archive.insert(point, k, removed::add);
+                List<Integer> expected = new ArrayList<>();
+                for (int q = points.size() - 1; q >= 0; q--) {
+                    if (weaklyDominates(point, points.get(q))) {
+                        expected.add(ids.remove(q));
+                        points.remove(q);
+                    }
+                }
+                points.add(point);
+                ids.add(k);
+                Collections.sort(removed);
+                Collections.sort(expected);
+                Assert.assertEquals(removed, expected);
+                List<Integer> items = new ArrayList<>();
+                archive.forEach(items::add);
+                Assert.assertEquals(items, ids);
+                for (int i = 0; i < m; i++) {
+                    int[] dp = random(rnd, m, range);
+                    Assert.assertEquals(archive.tightest(i, dp), tightest(points, i, dp));
+                }
+            }
+        }
+    }
+
+    private static int[] random(Random rnd, int m, int range) {
+        int[] point = new int[m];
+        for (int d = 0; d < m; d++) {
+            point[d] = rnd.nextInt(range) - range / 2;
+        }
+        return point;
+    }
+
+    private static boolean weaklyDominates(int[] a, int[] b) {
+        for (int d = 0; d < a.length; d++) {
+            if (a[d] < b[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int tightest(List<int[]> points, int i, int[] dp) {
+        int best = Integer.MIN_VALUE;
+        for (int[] p : points) {
+            int dominates = 0;
+            for (int j = 0; j < p.length && (j == 0 || dominates >= 0); j++) {
+                if (p[j] < dp[j]) {
+                    dominates = -1;
+                } else if (p[j] > dp[j] && dominates >= 0) {
+                    dominates = j != i ? 2 : Math.max(dominates, 1);
+                }
+            }
+            if (dominates > 0) {
+                best = Math.max(best, dominates == 1 ? p[i] : p[i] + 1);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * Checks that, once warmed up, a node of a depth-first search does not allocate:
+ * the propagation engine, the event schedulers, the delta monitors and the variables
+ * should only work on pre-allocated structures.
+ * <br/>
+ * Allocations are measured with the per-thread counter of the JVM, before opening each node.
+ * What is allocated when {@link Solver#solve()} returns a solution and is called again is not part of a node.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class AllocationFreeTest {
+
+    private static final int N = 10;
+
+    /**
+     * Nodes explored before the measure starts, so that the trail and the queues reach their final capacities
+     */
+    private static final int WARMUP = 1000;
+
+    private static final int MEASURED = 5000;
+
+    @DataProvider
+    public static Object[][] models() {
+        return new Object[][]{
+                {"allDifferent AC", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, false);
+                    m.allDifferent(q, "AC").post();
+                    return q;
+                }},
+                {"allDifferent BC", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, false);
+                    m.allDifferent(q, "BC").post();
+                    return q;
+                }},
+                {"binary n-queens", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, false);
+                    for (int i = 0; i < N - 1; i++) {
+                        for (int j = i + 1; j < N; j++) {
+                            m.arithm(q[i], "!=", q[j]).post();
+                            m.arithm(q[i], "!=", q[j], "+", j - i).post();
+                            m.arithm(q[i], "!=", q[j], "+", i - j).post();
+                        }
+                    }
+                    return q;
+                }},
+                {"sum and scalar", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, true);
+                    m.sum(q, "=", N * (N + 1) / 2).post();
+                    m.scalar(q, new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, "<=", 400).post();
+                    m.allDifferent(q, "FC").post();
+                    return q;
+                }},
+                {"table", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, false);
+                    Random rnd = new Random(0L);
+                    Tuples tuples = new Tuples(true);
+                    for (int i = 0; i < 2000; i++) {
+                        tuples.add(1 + rnd.nextInt(N), 1 + rnd.nextInt(N), 1 + rnd.nextInt(N));
+                    }
+                    for (int i = 0; i < N - 2; i++) {
+                        m.table(new IntVar[]{q[i], q[i + 1], q[i + 2]}, tuples, "CT+").post();
+                    }
+                    return q;
+                }},
+                {"element and equalities", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, false);
+                    IntVar[] y = m.intVarArray("Y", N, 0, 100, false);
+                    IntVar[] z = m.intVarArray("Z", N, 0, 100, false);
+                    int[] values = new int[N + 1];
+                    for (int i = 0; i <= N; i++) {
+                        values[i] = (i * 7) % 11;
+                    }
+                    for (int i = 0; i < N; i++) {
+                        m.element(y[i], values, q[i]).post();
+                        m.arithm(y[i], "=", z[i]).post();
+                        m.arithm(z[i], "!=", q[(i + 1) % N]).post();
+                    }
+                    m.distance(q[0], q[1], ">", 2).post();
+                    return q;
+                }},
+                {"views", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, false);
+                    for (int i = 0; i < N - 1; i++) {
+                        m.arithm(m.intView(2, q[i], 1), "!=", m.intView(-1, q[i + 1], 20)).post();
+                    }
+                    m.allDifferent(q, "FC").post();
+                    return q;
+                }},
+                {"booleans", (Function<Model, IntVar[]>) m -> {
+                    BoolVar[] b = m.boolVarArray("B", 2 * N);
+                    m.sum(b, "=", N).post();
+                    for (int i = 0; i < 2 * N - 1; i += 2) {
+                        m.addClausesBoolOrArrayEqualTrue(new BoolVar[]{b[i], b[i + 1].not()});
+                    }
+                    m.addClausesBoolAndArrayEqVar(new BoolVar[]{b[0], b[1]}, b[2]);
+                    return b;
+                }},
+                {"count and lex", (Function<Model, IntVar[]>) m -> {
+                    IntVar[] q = m.intVarArray("Q", N, 1, N, false);
+                    IntVar[] y = m.intVarArray("Y", N, 1, N, false);
+                    m.count(3, q, m.intVar(0, 3)).post();
+                    m.lexLessEq(q, y).post();
+                    m.allDifferent(y, "FC").post();
+                    return q;
+                }},
+        };
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "models")
+    public void testNoAllocationPerNode(String name, Function<Model, IntVar[]> modeller) {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!mx.isThreadAllocatedMemorySupported() || !mx.isThreadAllocatedMemoryEnabled()) {
+            throw new SkipException("Thread allocated memory is not measurable on this JVM");
+        }
+        long tid = Thread.currentThread().getId();
+        Model model = new Model(name);
+        IntVar[] decVars = modeller.apply(model);
+        Solver solver = model.getSolver();
+        // a first search warms up the code and sizes the structures
+        solver.setSearch(inputOrderLBSearch(decVars));
+        solver.limitNode(WARMUP + MEASURED);
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) ;
+        solver.reset();
+        solver.setSearch(inputOrderLBSearch(decVars));
+        solver.limitNode(WARMUP + MEASURED);
+        // bytes allocated by the nodes, last reading, first allocating node and bytes allocated by that node
+        long[] measure = new long[4];
+        class Meter implements IMonitorOpenNode, IMonitorClose {
+            // set when the search returns a solution, since Solver#solve() is not part of a node
+            boolean resumed = true;
+
+            @Override
+            public void beforeOpenNode() {
+                long bytes = mx.getThreadAllocatedBytes(tid);
+                long node = solver.getNodeCount();
+                if (node > WARMUP && !resumed && bytes > measure[1]) {
+                    measure[0] += bytes - measure[1];
+                    if (measure[2] == 0) {
+                        measure[2] = node;
+                        measure[3] = bytes - measure[1];
+                    }
+                }
+                resumed = false;
+                measure[1] = mx.getThreadAllocatedBytes(tid);
+            }
+
+            @Override
+            public void afterClose() {
+                resumed = true;
+            }
+        }
+        solver.plugMonitor(new Meter());
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) ;
+        long nodes = solver.getNodeCount() - WARMUP;
+        Assert.assertTrue(nodes > 0, "too few nodes to measure anything");
+        // the JVM itself may allocate on rare occasions (e.g., objects rematerialized on deoptimization),
+        // a node which allocates, even a few bytes, exceeds this budget over the measured nodes
+        Assert.assertTrue(measure[0] < nodes,
+                String.format("%s: %d bytes allocated over %d nodes, node %d allocated %d bytes first",
+                        name, measure[0], nodes, measure[2], measure[3]));
+    }
+}
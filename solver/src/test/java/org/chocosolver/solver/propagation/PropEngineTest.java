@@ -7,6 +7,7 @@
 package org.chocosolver.solver.propagation;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.SettingsBuilder;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -18,7 +19,11 @@ import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.minDomLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 import static org.chocosolver.solver.variables.events.IEventType.ALL_EVENTS;
@@ -189,4 +194,138 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBatched1() {
+        Model model = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        BatchedPropagationEngine engine = new BatchedPropagationEngine(model);
+        model.getSolver().setEngine(engine);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 92);
+        Assert.assertTrue(engine.getNbBatches() > 0);
+        Assert.assertTrue(engine.getMaxQueueDepth() > 0);
+        Assert.assertTrue(engine.getMeanQueueDepth() > 0.);
+        Assert.assertTrue(engine.getNbSchedules() > 0);
+        Assert.assertTrue(engine.getNbReschedules() > 0);
+        Assert.assertTrue(engine.getNbIdempotencySkips() > 0);
+        engine.resetStatistics();
+        Assert.assertEquals(engine.getNbBatches(), 0);
+        Assert.assertEquals(engine.getNbSchedules(), 0);
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testBatched2() {
+        Model model = ProblemMaker.makeGolombRuler(10);
+        model.getSolver().setEngine(new BatchedPropagationEngine(model));
+        model.getSolver().setSearch(minDomLBSearch((IntVar[]) model.getHook("ticks")));
+        int obj = Integer.MAX_VALUE;
+        while (model.getSolver().solve()) {
+            obj = ((IntVar) (model.getObjective())).getValue();
+        }
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 1);
+        Assert.assertEquals(obj, 55);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBatched3() {
+        for (int n = 5; n < 8; n++) {
+            Model model = ProblemMaker.makeCostasArrays(n);
+            model.getSolver().setSearch(randomSearch(model.retrieveIntVars(true), 0));
+            while (model.getSolver().solve()) ;
+            Model batched = ProblemMaker.makeCostasArrays(n);
+            batched.getSolver().setEngine(new BatchedPropagationEngine(batched));
+            batched.getSolver().setSearch(randomSearch(batched.retrieveIntVars(true), 0));
+            while (batched.getSolver().solve()) ;
+            assertEquals(batched.getSolver().getSolutionCount(), model.getSolver().getSolutionCount());
+            assertEquals(batched.getSolver().getNodeCount(), model.getSolver().getNodeCount());
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBatched4() {
+        Model model = new Model(SettingsBuilder.init().setBatchedPropagation(true));
+        Assert.assertTrue(model.getSolver().getEngine() instanceof BatchedPropagationEngine);
+        IntVar[] x = model.intVarArray("X", 4, 0, 3);
+        model.allDifferent(x).post();
+        model.arithm(x[0], "<", x[1]).post();
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 12);
+        Assert.assertFalse(new Model().getSolver().getEngine() instanceof BatchedPropagationEngine);
+    }
+
+    private static long knapsack(int seed, AdaptivePropagationEngine engine) {
+        Random rnd = new Random(seed);
+        Model model = engine == null ? new Model() : engine.model;
+        int n = 6;
+        IntVar[] occ = model.intVarArray("o", n, 0, 3);
+        int[] weights = new int[n];
+        int[] energies = new int[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1 + rnd.nextInt(9);
+            energies[i] = 1 + rnd.nextInt(9);
+        }
+        IntVar w = model.intVar("w", 0, 40);
+        IntVar e = model.intVar("e", 30, 200);
+        model.knapsack(occ, w, e, weights, energies).post();
+        model.sum(occ, "<=", 10).post();
+        if (engine != null) {
+            model.getSolver().setEngine(engine);
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(model.retrieveIntVars(true)));
+        while (model.getSolver().solve()) ;
+        return model.getSolver().getSolutionCount();
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptive1() {
+        for (int seed = 0; seed < 5; seed++) {
+            // every propagator is deferred once called 4 times
+            AdaptivePropagationEngine engine = new AdaptivePropagationEngine(new Model())
+                    .setWarmUp(4)
+                    .setExpensiveThreshold(0)
+                    .setYieldThresholds(2., 0.);
+            assertEquals(knapsack(seed, engine), knapsack(seed, null));
+            Assert.assertTrue(engine.getNbDemotions() > 0);
+            Assert.assertTrue(engine.getNbAbsorbedEvents() > 0);
+            Assert.assertTrue(engine.getNbDeferredRuns() > 0);
+            Assert.assertEquals(engine.getNbPromotions(), 0);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptive2() {
+        for (int seed = 0; seed < 5; seed++) {
+            // every propagator is skipped, thus only checked on complete instantiations
+            AdaptivePropagationEngine engine = new AdaptivePropagationEngine(new Model())
+                    .setWarmUp(1)
+                    .setExpensiveThreshold(0)
+                    .setYieldThresholds(2., 2.)
+                    .setSkipPeriod(Integer.MAX_VALUE);
+            assertEquals(knapsack(seed, engine), knapsack(seed, null));
+            Assert.assertTrue(engine.getNbDemotedPropagators() > 0);
+            Propagator<?> skipped = Arrays.stream(engine.model.getCstrs())
+                    .flatMap(c -> Arrays.stream(c.getPropagators()))
+                    .filter(p -> engine.getMode(p) == AdaptivePropagationEngine.Mode.SKIPPED)
+                    .findFirst()
+                    .orElseThrow(AssertionError::new);
+            Assert.assertTrue(engine.getNbCalls(skipped) > 0);
+            Assert.assertTrue(engine.getYield(skipped) >= 0.);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAdaptive3() {
+        // default thresholds: nothing as cheap as a sum is demoted
+        AdaptivePropagationEngine engine = new AdaptivePropagationEngine(new Model());
+        assertEquals(knapsack(0, engine), knapsack(0, null));
+        Assert.assertEquals(engine.getNbDemotions(), 0);
+        Assert.assertEquals(engine.getNbAbsorbedEvents(), 0);
+        Model model = new Model(SettingsBuilder.init().setAdaptivePropagation(true));
+        Assert.assertTrue(model.getSolver().getEngine() instanceof AdaptivePropagationEngine);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testAdaptiveAndBatched() {
+        new Model(SettingsBuilder.init().setAdaptivePropagation(true).setBatchedPropagation(true));
+    }
 }
@@ -7,15 +7,20 @@
 package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.monitors.SolvingStatisticsFlow;
 import org.chocosolver.solver.search.measure.IMeasures;
 import org.chocosolver.solver.search.measure.Measures;
 import org.chocosolver.solver.search.measure.MeasuresRecorder;
+import org.chocosolver.solver.search.measure.MeasuresSnapshot;
 import org.chocosolver.solver.search.strategy.decision.DecisionMakerTest;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -143,4 +148,69 @@ public class MeasuresTest {
         Assert.assertTrue(model.getSolver().getReadingTimeCountInNanoSeconds() > 0);
         Assert.assertTrue(model.getSolver().getReadingTimeCount() > 0.0);
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshot() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        MeasuresRecorder measures = model.getSolver().getMeasures();
+        MeasuresSnapshot first = measures.getSnapshot();
+        Assert.assertEquals(first.getSearchState(), SearchState.NEW);
+        Assert.assertEquals(first.getNodeCount(), 0);
+        model.getSolver().findAllSolutions();
+        MeasuresSnapshot last = measures.awaitSnapshot(1, TimeUnit.SECONDS);
+        Assert.assertNotSame(last, first);
+        Assert.assertEquals(last.getSearchState(), SearchState.TERMINATED);
+        Assert.assertEquals(last.getSolutionCount(), 4);
+        Assert.assertEquals(last.getNodeCount(), measures.getNodeCount());
+        Assert.assertEquals(last.getFailCount(), measures.getFailCount());
+        Assert.assertEquals(last.getPropagationCount(), measures.getPropagationCount());
+        Assert.assertEquals(first.getNodeCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshotObjective() {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        model.getSolver().findOptimalSolution((IntVar) model.getHook("objective"), false);
+        MeasuresSnapshot snapshot = model.getSolver().getMeasures().getSnapshot();
+        Assert.assertTrue(snapshot.hasObjective());
+        Assert.assertEquals(snapshot.getBestSolutionValue().intValue(), 17);
+        Assert.assertTrue(snapshot.toOneLineString().contains(model.getSolver().getObjectiveManager().toString()));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshotFromSolvingThread() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        MeasuresRecorder measures = model.getSolver().getMeasures();
+        model.getSolver().plugMonitor((IMonitorSolution) () -> {
+            // the solving thread reads its own measures, no step of the search loop is needed
+            Assert.assertEquals(measures.getSnapshot().getSolutionCount(), measures.getSolutionCount());
+            Assert.assertEquals(measures.awaitSnapshot(1, TimeUnit.MINUTES).getNodeCount(), measures.getNodeCount());
+            Assert.assertTrue(SolvingStatisticsFlow.toJSON(model.getSolver())
+                    .contains("\"solutions\":\"" + measures.getSolutionCount() + "\""));
+        });
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 4);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testSnapshotFromAnotherThread() throws InterruptedException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(11);
+        MeasuresRecorder measures = model.getSolver().getMeasures();
+        Thread solving = new Thread(() -> model.getSolver().findAllSolutions());
+        solving.start();
+        long nodes = 0, fails = 0;
+        while (solving.isAlive()) {
+            MeasuresSnapshot snapshot = measures.awaitSnapshot(100, TimeUnit.MILLISECONDS);
+            Assert.assertTrue(snapshot.getNodeCount() >= nodes);
+            Assert.assertTrue(snapshot.getFailCount() >= fails);
+            // a snapshot is consistent
+            Assert.assertTrue(snapshot.getNodeCount() >= snapshot.getSolutionCount());
+            nodes = snapshot.getNodeCount();
+            fails = snapshot.getFailCount();
+            Thread.sleep(1);
+        }
+        solving.join();
+        MeasuresSnapshot last = measures.getSnapshot();
+        Assert.assertEquals(last.getSolutionCount(), 2680);
+        Assert.assertEquals(last.getNodeCount(), model.getSolver().getNodeCount());
+    }
 }
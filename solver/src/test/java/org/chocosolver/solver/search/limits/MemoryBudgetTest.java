@@ -0,0 +1,206 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.limits;
+
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.solver.CompactSolution;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.measure.MeasuresRecorder;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.tools.MemoryUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class MemoryBudgetTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConvertInBytes() {
+        Assert.assertEquals(MemoryUtils.convertInBytes("1024"), 1024L);
+        Assert.assertEquals(MemoryUtils.convertInBytes("2k"), 2048L);
+        Assert.assertEquals(MemoryUtils.convertInBytes("512MB"), 512L << 20);
+        Assert.assertEquals(MemoryUtils.convertInBytes("1.5g"), 3L << 29);
+        Assert.assertEquals(MemoryUtils.sizeOf(new int[3]), 32L);
+        Assert.assertEquals(MemoryUtils.sizeOf((long[]) null), 0L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = IllegalArgumentException.class)
+    public void testConvertInBytesFails() {
+        MemoryUtils.convertInBytes("a lot");
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTrailAndStoredSolutions() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        MeasuresRecorder measures = solver.getMeasures();
+        Assert.assertEquals(measures.getLearntClausesMemory(), 0L);
+        Assert.assertEquals(measures.getTableMemory(), 0L);
+        Assert.assertEquals(solver.getTrailMemory(), measures.getTrailMemory());
+        List<Long> stored = new ArrayList<>();
+        solver.plugMonitor((IMonitorSolution) () -> stored.add(measures.getStoredSolutionsMemory()));
+        List<Solution> solutions = solver.findAllSolutions();
+        Assert.assertEquals(solutions.size(), 92);
+        Assert.assertTrue(measures.getTrailMemory() > 0L);
+        // a solution is stored after being notified
+        Assert.assertEquals(stored.get(0).longValue(), 0L);
+        long footprint = solutions.get(0).getMemoryFootprint();
+        Assert.assertTrue(footprint > 0L);
+        Assert.assertEquals(stored.get(91).longValue(), 91 * (MemoryUtils.REFERENCE + footprint));
+        // the list is not accounted anymore
+        Assert.assertEquals(measures.getStoredSolutionsMemory(), 0L);
+        Assert.assertEquals(measures.getAccountedMemory(), measures.getTrailMemory());
+        Assert.assertEquals(measures.getSnapshot().getTrailMemory(), measures.getTrailMemory());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompactSolutions() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        IntVar[] vars = model.retrieveIntVars(true);
+        List<CompactSolution> solutions = new ArrayList<>();
+        solver.addSolutionStore(solutions, CompactSolution::getMemoryFootprint);
+        CompactSolution solution = new CompactSolution(vars);
+        while (solver.solve()) {
+            solutions.add(solution.record().copy());
+        }
+        long footprint = solutions.get(0).getMemoryFootprint();
+        Assert.assertTrue(footprint >= MemoryUtils.sizeOf(new int[8]));
+        Assert.assertEquals(solver.getStoredSolutionsMemory(), 92 * (MemoryUtils.REFERENCE + footprint));
+        Assert.assertEquals(solver.dropStoredSolutions(), 91);
+        Assert.assertEquals(solutions.size(), 1);
+        Assert.assertEquals(solver.getStoredSolutionsMemory(), MemoryUtils.REFERENCE + footprint);
+        solver.removeSolutionStore(solutions);
+        Assert.assertEquals(solver.getStoredSolutionsMemory(), 0L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTable() {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("x", 3, 0, 9);
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < 10; i++) {
+            tuples.add(i, (i + 1) % 10, (i + 2) % 10);
+        }
+        model.table(vars, tuples, "CT+").post();
+        long memory = model.getSolver().getMeasures().getTableMemory();
+        Assert.assertTrue(memory > 0L);
+        // -1 stands for any value
+        Tuples stars = new Tuples(-1);
+        stars.add(0, -1, 1);
+        stars.add(1, 2, -1);
+        model.table(model.intVarArray("y", 3, 0, 9), stars, "CT+").post();
+        Assert.assertTrue(model.getSolver().getMeasures().getTableMemory() > memory);
+        Assert.assertEquals(model.getSolver().getTableMemory(), model.getSolver().getMeasures().getTableMemory());
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 10 * 20);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testLearntClauses() {
+        Model model = ProblemMaker.makeGolombRuler(8, true);
+        Solver solver = model.getSolver();
+        solver.limitFail(2000);
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) ;
+        MiniSat sat = solver.getSat();
+        Assert.assertTrue(sat.nLearnts() > 0);
+        long before = solver.getMeasures().getLearntClausesMemory();
+        Assert.assertEquals(before, sat.getLearntClausesMemory());
+        Assert.assertTrue(before > 0L);
+        sat.doReduceDB();
+        Assert.assertTrue(solver.getMeasures().getLearntClausesMemory() < before);
+        sat.deleteAllLearnedClauses();
+        Assert.assertEquals(solver.getMeasures().getLearntClausesMemory(), 0L);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStop() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        MemoryBudget budget = new MemoryBudget(solver, 0L, true, 1, MemoryBudget::usedHeap);
+        List<Solution> solutions = solver.findAllSolutions(budget);
+        Assert.assertTrue(solutions.isEmpty());
+        Assert.assertEquals(solver.getSearchState(), SearchState.STOPPED);
+        Assert.assertEquals(budget.getShedCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testShed() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        // only the stored solutions are considered
+        MemoryBudget budget = new MemoryBudget(solver, 10_000L, true, 1,
+                solver.getMeasures()::getStoredSolutionsMemory);
+        List<Solution> solutions = solver.findAllSolutions(budget);
+        Assert.assertEquals(solver.getSolutionCount(), 92);
+        Assert.assertEquals(solver.getSearchState(), SearchState.TERMINATED);
+        Assert.assertTrue(budget.getShedCount() > 0);
+        Assert.assertTrue(solutions.size() < 92);
+        Assert.assertFalse(solutions.isEmpty());
+        Assert.assertEquals(budget.getBudget(), 10_000L);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testShedLearntClauses() {
+        Model model = ProblemMaker.makeGolombRuler(8, true);
+        Solver solver = model.getSolver();
+        MemoryBudget budget = new MemoryBudget(solver, 20_000L, true, 100,
+                solver.getMeasures()::getLearntClausesMemory);
+        solver.limitSearch(budget);
+        solver.limitFail(5000);
+        //noinspection StatementWithEmptyBody
+        while (solver.solve()) ;
+        Assert.assertTrue(budget.getShedCount() > 0);
+    }
+
+    private static long collections() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLiveHeap() {
+        System.gc();
+        long live = MemoryBudget.liveHeap();
+        Assert.assertTrue(live > 0L);
+        Assert.assertTrue(live <= Runtime.getRuntime().maxMemory());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testShedAfterCollection() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        // the measure is considered as refreshed by collections only
+        MemoryBudget budget = new MemoryBudget(solver, 10_000L, true, 1,
+                solver.getMeasures()::getStoredSolutionsMemory, true);
+        long before = collections();
+        solver.findAllSolutions(budget);
+        Assert.assertEquals(solver.getSolutionCount(), 92);
+        Assert.assertEquals(solver.getSearchState(), SearchState.TERMINATED);
+        // at most one shed between two collections
+        Assert.assertTrue(budget.getShedCount() <= collections() - before + 1);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.SettingsBuilder;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.function.BiFunction;
+
+/**
+ * Tests of the incremental mode of variable selectors, see {@link SettingsBuilder#setIncrementalVarSelection(boolean)}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class IncrementalVarSelectionTest {
+
+    @DataProvider
+    public Object[][] selectors() {
+        return new Object[][]{
+                {(BiFunction<IntVar[], Boolean, AbstractCriterionBasedVariableSelector<IntVar>>)
+                        (vars, inc) -> new DomOverWDeg<>(vars, 0, 20, inc)},
+                {(BiFunction<IntVar[], Boolean, AbstractCriterionBasedVariableSelector<IntVar>>)
+                        (vars, inc) -> new DomOverWDegRef<>(vars, 0, 20, inc)},
+                {(BiFunction<IntVar[], Boolean, AbstractCriterionBasedVariableSelector<IntVar>>)
+                        (vars, inc) -> new ConflictHistorySearch<>(vars, 0, inc)},
+                {(BiFunction<IntVar[], Boolean, AbstractCriterionBasedVariableSelector<IntVar>>)
+                        (vars, inc) -> new ConflictHistorySearch<>(vars, -1, inc)},
+        };
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "selectors")
+    public void testNQueen(BiFunction<IntVar[], Boolean, AbstractCriterionBasedVariableSelector<IntVar>> selector) {
+        for (boolean inc : new boolean[]{false, true}) {
+            Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+            IntVar[] vars = model.retrieveIntVars(true);
+            Solver solver = model.getSolver();
+            AbstractCriterionBasedVariableSelector<IntVar> vs = selector.apply(vars, inc);
+            Assert.assertEquals(vs.isIncremental(), inc);
+            solver.setSearch(Search.intVarSearch(vs, new IntDomainMin(), vars));
+            solver.setGeometricalRestart(vars.length * 3L, 1.1d, new FailCounter(model, 0), 1000);
+            solver.setNoGoodRecordingFromSolutions(vars);
+            solver.findAllSolutions();
+            Assert.assertEquals(solver.getSolutionCount(), 92);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "selectors")
+    public void testGolombRuler(BiFunction<IntVar[], Boolean, AbstractCriterionBasedVariableSelector<IntVar>> selector) {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(selector.apply(vars, true), new IntDomainMin(), vars));
+        solver.setGeometricalRestart(vars.length * 3L, 1.1d, new FailCounter(model, 0), 1000);
+        solver.findOptimalSolution((IntVar) model.getHook("objective"), false);
+        Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), 34);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSettings() {
+        Model model = new Model(SettingsBuilder.init().setIncrementalVarSelection(true));
+        IntVar[] vars = model.intVarArray("x", 4, 0, 3);
+        Assert.assertTrue(new DomOverWDeg<>(vars, 0).isIncremental());
+        Assert.assertTrue(new ConflictHistorySearch<>(vars, 0).isIncremental());
+        Assert.assertFalse(new PickOnDom<>(vars).isIncremental());
+        model = new Model();
+        vars = model.intVarArray("x", 4, 0, 3);
+        Assert.assertFalse(new DomOverWDeg<>(vars, 0).isIncremental());
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testSearches() {
+        String[] names = {"dom/wdeg", "dom/wdeg-ref", "chs", "abs"};
+        for (int k = 0; k < names.length; k++) {
+            Model model = new Model(SettingsBuilder.init().setIncrementalVarSelection(true));
+            int n = 8;
+            IntVar[] q = model.intVarArray("Q", n, 1, n);
+            for (int i = 0; i < n - 1; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    model.arithm(q[i], "!=", q[j]).post();
+                    model.arithm(q[i], "!=", q[j], "+", j - i).post();
+                    model.arithm(q[i], "!=", q[j], "+", i - j).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            switch (k) {
+                case 0:
+                    solver.setSearch(Search.domOverWDegSearch(q));
+                    break;
+                case 1:
+                    solver.setSearch(Search.domOverWDegRefSearch(q));
+                    break;
+                case 2:
+                    solver.setSearch(Search.conflictHistorySearch(q));
+                    break;
+                default:
+                    solver.setSearch(Search.activityBasedSearch(q));
+                    break;
+            }
+            solver.setNoGoodRecordingFromSolutions(q);
+            solver.findAllSolutions();
+            Assert.assertEquals(solver.getSolutionCount(), 92, names[k]);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testActivityBasedGolombRuler() {
+        for (boolean inc : new boolean[]{false, true}) {
+            Model model = new Model(SettingsBuilder.init().setIncrementalVarSelection(inc));
+            int m = 7;
+            IntVar[] ticks = model.intVarArray("a", m, 0, 60);
+            IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, 60);
+            model.arithm(ticks[0], "=", 0).post();
+            for (int i = 0; i < m - 1; i++) {
+                model.arithm(ticks[i + 1], ">", ticks[i]).post();
+            }
+            for (int k = 0, i = 0; i < m - 1; i++) {
+                for (int j = i + 1; j < m; j++, k++) {
+                    model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+                }
+            }
+            model.allDifferent(diffs, "BC").post();
+            model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.activityBasedSearch(ticks));
+            solver.findOptimalSolution(ticks[m - 1], false);
+            Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), 25);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.SettingsBuilder;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The tests are compiled against Java 8, that is why the recordings are driven by reflection.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class FlightRecorderTest {
+
+    private static final String[] EVENTS = {"Restart", "Solution", "Fixpoint", "PropagatorCall", "ReduceDB", "Neighbor"};
+
+    private static Model golombRuler(int m, SettingsBuilder settings) {
+        Model model = new Model(settings);
+        IntVar[] ticks = model.intVarArray("a", m, 0, (1 << (m + 1)) - 1, false);
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, (1 << (m + 1)) - 1, false);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+            }
+        }
+        model.allDifferent(diffs, "BC").post();
+        model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        model.addHook("ticks", ticks);
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        return model;
+    }
+
+    /**
+     * Run <i>solving</i> while recording the choco events
+     *
+     * @return the recorded events, as <i>jdk.jfr.consumer.RecordedEvent</i>
+     */
+    private static List<Object> record(Runnable solving) throws Exception {
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Object recording = recordingClass.getConstructor().newInstance();
+        Path file = Files.createTempFile("choco", ".jfr");
+        try {
+            Method enable = recordingClass.getMethod("enable", String.class);
+            for (String event : EVENTS) {
+                enable.invoke(recording, "org.chocosolver." + event);
+            }
+            recordingClass.getMethod("start").invoke(recording);
+            solving.run();
+            recordingClass.getMethod("stop").invoke(recording);
+            recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+            List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                    .getMethod("readAllEvents", Path.class).invoke(null, file);
+            return new ArrayList<>(events);
+        } finally {
+            recordingClass.getMethod("close").invoke(recording);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String name(Object event) throws Exception {
+        Object type = event.getClass().getMethod("getEventType").invoke(event);
+        return (String) type.getClass().getMethod("getName").invoke(type);
+    }
+
+    private static Object value(Object event, String field) throws Exception {
+        return event.getClass().getMethod("getValue", String.class).invoke(event, field);
+    }
+
+    private static List<Object> filter(List<Object> events, String name) throws Exception {
+        List<Object> filtered = new ArrayList<>();
+        for (Object event : events) {
+            if (name(event).equals("org.chocosolver." + name)) {
+                filtered.add(event);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Skip when the running JDK does not ship JFR, otherwise the flight recorder must be available
+     */
+    private static void assumeJFR() {
+        try {
+            Class.forName("jdk.jfr.Event");
+        } catch (ClassNotFoundException e) {
+            throw new SkipException("JFR is not available");
+        }
+        Assert.assertNotNull(FlightRecorder.get());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDisabled() {
+        assumeJFR();
+        Model model = golombRuler(5, SettingsBuilder.init());
+        Assert.assertNull(model.getSolver().getFlightRecorder());
+        model = golombRuler(5, SettingsBuilder.init().setFlightRecorder(true));
+        Assert.assertSame(model.getSolver().getFlightRecorder(), FlightRecorder.get());
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testSearchAndLCG() throws Exception {
+        assumeJFR();
+        Model model = golombRuler(7, SettingsBuilder.init()
+                .setLCG(true)
+                .setReduceLearntClausesBase(10)
+                .setFlightRecorder(true)
+                .setFlightRecorderThreshold(0));
+        Solver solver = model.getSolver();
+        solver.setGeometricalRestart(20, 1.1d, new FailCounter(model, 0), 1000);
+        List<Object> events = record(() -> {
+            //noinspection StatementWithEmptyBody
+            while (solver.solve()) ;
+        });
+        Assert.assertEquals(solver.getBestSolutionValue(), 25);
+        Assert.assertTrue(solver.getRestartCount() > 0);
+        Assert.assertEquals(filter(events, "Restart").size(), solver.getRestartCount());
+        List<Object> solutions = filter(events, "Solution");
+        Assert.assertEquals(solutions.size(), solver.getSolutionCount());
+        // the events are not read in the order they were emitted
+        Object last = null;
+        for (Object s : solutions) {
+            if ((long) value(s, "solutions") == solver.getSolutionCount()) {
+                last = s;
+            }
+        }
+        Assert.assertNotNull(last);
+        Assert.assertEquals(value(last, "objective"), 25.);
+        Assert.assertEquals(value(solutions.get(0), "solver"), model.getName());
+        Assert.assertFalse(filter(events, "Fixpoint").isEmpty());
+        Assert.assertFalse(filter(events, "PropagatorCall").isEmpty());
+        List<Object> reductions = filter(events, "ReduceDB");
+        Assert.assertFalse(reductions.isEmpty());
+        for (Object reduction : reductions) {
+            Assert.assertTrue((int) value(reduction, "after") <= (int) value(reduction, "before"));
+        }
+        Assert.assertTrue(filter(events, "Neighbor").isEmpty());
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testLNS() throws Exception {
+        assumeJFR();
+        Model model = golombRuler(7, SettingsBuilder.init().setFlightRecorder(true));
+        Solver solver = model.getSolver();
+        solver.setLNS(new RandomNeighborhood((IntVar[]) model.getHook("ticks"), 3, 0L));
+        solver.limitNode(5000);
+        List<Object> events = record(() -> {
+            //noinspection StatementWithEmptyBody
+            while (solver.solve()) ;
+        });
+        List<Object> neighbors = filter(events, "Neighbor");
+        Assert.assertFalse(neighbors.isEmpty());
+        int improved = 0;
+        for (Object neighbor : neighbors) {
+            Assert.assertEquals(value(neighbor, "neighbor"), RandomNeighborhood.class.getSimpleName());
+            if ((boolean) value(neighbor, "improved")) {
+                Assert.assertEquals(value(neighbor, "outcome"), "improved");
+                improved++;
+            }
+        }
+        // the first solution is not found in a neighbor,
+        // the neighbor of the last one may not be left before the limit is reached
+        Assert.assertTrue(improved <= solver.getSolutionCount() - 1);
+        Assert.assertTrue(improved >= solver.getSolutionCount() - 2);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import com.sun.net.httpserver.HttpServer;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ParallelPortfolio;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class PrometheusExporterTest {
+
+    private static double value(String text, String metric, String labels) {
+        Matcher m = Pattern.compile("^" + Pattern.quote(metric + labels) + " (\\S+)$", Pattern.MULTILINE).matcher(text);
+        Assert.assertTrue(m.find(), metric + labels + " not found in\n" + text);
+        return Double.parseDouble(m.group(1));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testScrape() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        try (PrometheusExporter exporter = new PrometheusExporter()) {
+            exporter.register("queens \"8\"", solver);
+            solver.findAllSolutions();
+            String text = exporter.scrape();
+            String labels = "{solver=\"queens \\\"8\\\"\",worker=\"\"}";
+            Assert.assertTrue(text.contains("# TYPE choco_nodes_total counter\n"));
+            Assert.assertTrue(text.contains("# TYPE choco_nodes_per_second gauge\n"));
+            Assert.assertEquals(value(text, "choco_solutions_total", labels), 92.);
+            Assert.assertEquals(value(text, "choco_nodes_total", labels), (double) solver.getNodeCount());
+            Assert.assertEquals(value(text, "choco_fails_total", labels), (double) solver.getFailCount());
+            Assert.assertEquals(value(text, "choco_running", labels), 0.);
+            Assert.assertTrue(value(text, "choco_nodes_per_second", labels) > 0.);
+            Assert.assertFalse(text.contains("choco_objective{"));
+            // nothing new: same counters, same rates
+            String again = exporter.scrape();
+            Assert.assertEquals(value(again, "choco_nodes_total", labels), (double) solver.getNodeCount());
+            Assert.assertEquals(value(again, "choco_nodes_per_second", labels),
+                    value(text, "choco_nodes_per_second", labels));
+            exporter.unregister(solver);
+            Assert.assertFalse(exporter.scrape().contains("choco_nodes_total{"));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testObjectiveAndPortfolio() {
+        ParallelPortfolio portfolio = new ParallelPortfolio();
+        for (int i = 0; i < 2; i++) {
+            portfolio.addModel(ProblemMaker.makeGolombRuler(6));
+        }
+        try (PrometheusExporter exporter = new PrometheusExporter()) {
+            exporter.register("golomb", portfolio);
+            String before = exporter.scrape();
+            Assert.assertEquals(value(before, "choco_solutions_total", "{solver=\"golomb\",worker=\"0\"}"), 0.);
+            Assert.assertEquals(value(before, "choco_solutions_total", "{solver=\"golomb\",worker=\"1\"}"), 0.);
+            //noinspection StatementWithEmptyBody
+            while (portfolio.solve()) ;
+            String after = exporter.scrape();
+            Model best = portfolio.getBestModel();
+            int w = portfolio.getModels().indexOf(best);
+            Assert.assertEquals(value(after, "choco_objective", "{solver=\"golomb\",worker=\"" + w + "\"}"),
+                    best.getSolver().getBestSolutionValue().doubleValue());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFile() throws IOException, InterruptedException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        Path dir = Files.createTempDirectory("choco");
+        Path file = dir.resolve("choco.prom");
+        try (PrometheusExporter exporter = new PrometheusExporter()) {
+            exporter.register(model.getSolver());
+            model.getSolver().findAllSolutions();
+            exporter.exportToFile(file, 10, TimeUnit.MILLISECONDS);
+            while (!Files.exists(file)) {
+                Thread.sleep(5);
+            }
+            String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Assert.assertEquals(value(text, "choco_solutions_total", "{solver=\"" + model.getName() + "\",worker=\"\"}"), 4.);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testHttp() throws IOException, InterruptedException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(11);
+        Solver solver = model.getSolver();
+        try (PrometheusExporter exporter = new PrometheusExporter()) {
+            exporter.register("queens", solver);
+            InetSocketAddress address = serve(exporter);
+            Thread solving = new Thread(solver::findAllSolutions);
+            solving.start();
+            double nodes = 0;
+            do {
+                String text = get(new URL("http", address.getAddress().getHostAddress(), address.getPort(), "/metrics"));
+                double n = value(text, "choco_nodes_total", "{solver=\"queens\",worker=\"\"}");
+                Assert.assertTrue(n >= nodes);
+                nodes = n;
+                Thread.sleep(10);
+            } while (solving.isAlive());
+            solving.join();
+            String text = get(new URL("http", address.getAddress().getHostAddress(), address.getPort(), "/metrics"));
+            Assert.assertEquals(value(text, "choco_solutions_total", "{solver=\"queens\",worker=\"\"}"), 2680.);
+        }
+    }
+
+    /**
+     * Serve the measures on {@code /metrics} with the HTTP server of the JDK, on a free port.
+     */
+    private static InetSocketAddress serve(PrometheusExporter exporter) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        exporter.exportTo((contentType, scrape) -> {
+            server.createContext("/metrics", exchange -> {
+                byte[] body = scrape.get().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", contentType);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            server.start();
+            return () -> server.stop(0);
+        });
+        return server.getAddress();
+    }
+
+    private static String get(URL url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        Assert.assertEquals(connection.getResponseCode(), 200);
+        Assert.assertEquals(connection.getContentType(), PrometheusExporter.CONTENT_TYPE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = connection.getInputStream()) {
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
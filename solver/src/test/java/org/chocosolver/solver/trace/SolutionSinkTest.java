@@ -0,0 +1,95 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.trace;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class SolutionSinkTest {
+
+    private static List<int[]> enumerate(Model model, IntVar[] vars) {
+        List<int[]> expected = new ArrayList<>();
+        for (Solution s : model.getSolver().findAllSolutions()) {
+            int[] values = new int[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                values[i] = s.getIntVal(vars[i]);
+            }
+            expected.add(values);
+        }
+        model.getSolver().reset();
+        return expected;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBinary() throws IOException {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        // a static search, so that both runs enumerate the solutions in the same order
+        model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+        List<int[]> expected = enumerate(model, vars);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SolutionSink sink = SolutionSink.binary(out, vars);
+        Assert.assertEquals(model.getSolver().findAllSolutions(sink), 92);
+        Assert.assertEquals(sink.getNbBytes(), out.size());
+        // each value of a queen fits in a byte
+        Assert.assertTrue(sink.getBytesPerSolution() < vars.length + 1);
+        Assert.assertTrue(sink.getWritingTime() > 0);
+        List<int[]> actual = new ArrayList<>();
+        long n = BinarySolutionSink.read(new ByteArrayInputStream(out.toByteArray()), v -> actual.add(v.clone()));
+        Assert.assertEquals(n, 92);
+        for (int k = 0; k < 92; k++) {
+            Assert.assertEquals(actual.get(k), expected.get(k));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCsv() throws IOException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", -12, 12);
+        IntVar y = model.intVar("y,z", -3, 3);
+        model.arithm(x, "=", y, "*", 4).post();
+        model.getSolver().setSearch(Search.inputOrderLBSearch(x, y));
+        List<int[]> expected = enumerate(model, new IntVar[]{x, y});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SolutionSink sink = SolutionSink.csv(out, x, y)) {
+            Assert.assertEquals(model.getSolver().findAllSolutions(sink), 7);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8));
+        Assert.assertEquals(reader.readLine(), "x,\"y,z\"");
+        for (int[] values : expected) {
+            Assert.assertEquals(reader.readLine(), values[0] + "," + values[1]);
+        }
+        Assert.assertNull(reader.readLine());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = IOException.class)
+    public void testNotBinary() throws IOException {
+        BinarySolutionSink.read(new ByteArrayInputStream("x,y\n".getBytes(StandardCharsets.UTF_8)), v -> {
+        });
+    }
+}
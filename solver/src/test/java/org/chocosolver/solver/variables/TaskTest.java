@@ -411,4 +411,21 @@ public class TaskTest {
         model.getSolver().solve();
         Assert.assertEquals(model.getSolver().getSolutionCount(), 0);
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOptionalTaskEntailment() throws ContradictionException {
+        Model model = new Model();
+        BoolVar performed = model.boolVar();
+        // start + duration != end, which only matters if the task is performed
+        OptionalTask task = new OptionalTask(model.intVar(0), model.intVar(2), model.intVar(5), performed);
+        Assert.assertEquals(task.isEntailed(), ESat.UNDEFINED);
+        model.getEnvironment().worldPush();
+        performed.instantiateTo(1, Cause.Null);
+        Assert.assertEquals(task.isEntailed(), ESat.FALSE);
+        model.getEnvironment().worldPop();
+        performed.instantiateTo(0, Cause.Null);
+        Assert.assertEquals(task.isEntailed(), ESat.TRUE);
+        OptionalTask other = new OptionalTask(model.intVar(0), model.intVar(2), model.intVar(2), model.boolVar());
+        Assert.assertEquals(other.isEntailed(), ESat.TRUE);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.RangeListIntVarImpl;
+import org.chocosolver.solver.variables.impl.SparseSetIntVarImpl;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Tests of {@link SparseSetIntVarImpl} and {@link RangeListIntVarImpl}, mostly compared to {@link BitsetIntVarImpl}.
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class SparseIntVarImplTest {
+
+    @DataProvider(name = "kinds")
+    public Object[][] kinds() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    private static IntVar make(boolean sparseSet, String name, int[] values, Model model) {
+        return sparseSet ?
+                new SparseSetIntVarImpl(name, values, model) :
+                new RangeListIntVarImpl(name, values, model);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactory() {
+        Model model = new Model();
+        Assert.assertTrue(model.intVar("x", new int[]{1, 3, 5, 8}) instanceof BitsetIntVarImpl);
+        int[] spread = IntStream.range(0, 1000).map(i -> i * 100_000).toArray();
+        Assert.assertTrue(model.intVar("y", spread) instanceof SparseSetIntVarImpl);
+        int[] ranges = IntStream.range(0, 1000).map(i -> (i / 10) * 100_000 + i % 10).toArray();
+        Assert.assertTrue(model.intVar("z", ranges) instanceof RangeListIntVarImpl);
+        Assert.assertEquals(model.intVar("z", ranges).getDomainSize(), 1000);
+        Assert.assertEquals(((RangeListIntVarImpl) model.intVar("z", ranges)).getNbRanges(), 100);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "kinds")
+    public void testBasics(boolean sparseSet) throws ContradictionException {
+        Model model = new Model();
+        IntVar x = make(sparseSet, "x", new int[]{-5, 0, 3, 4, 5, 1000}, model);
+        Assert.assertEquals(x.getLB(), -5);
+        Assert.assertEquals(x.getUB(), 1000);
+        Assert.assertEquals(x.getDomainSize(), 6);
+        Assert.assertEquals(x.nextValue(0), 3);
+        Assert.assertEquals(x.nextValueOut(3), 6);
+        Assert.assertEquals(x.previousValue(3), 0);
+        Assert.assertEquals(x.previousValueOut(5), 2);
+        Assert.assertEquals(x.toString(), "x = {-5,0,3..5,1000}");
+        Assert.assertFalse(x.removeValue(7, Cause.Null));
+        Assert.assertTrue(x.removeValue(4, Cause.Null));
+        Assert.assertFalse(x.contains(4));
+        Assert.assertTrue(x.updateLowerBound(-4, Cause.Null));
+        Assert.assertEquals(x.getLB(), 0);
+        Assert.assertTrue(x.updateUpperBound(999, Cause.Null));
+        Assert.assertEquals(x.getUB(), 5);
+        Assert.assertTrue(x.removeInterval(1, 4, Cause.Null));
+        Assert.assertEquals(x.toString(), "x = {0,5}");
+        Assert.assertTrue(x.instantiateTo(5, Cause.Null));
+        Assert.assertTrue(x.isInstantiatedTo(5));
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "kinds", expectedExceptions = ContradictionException.class)
+    public void testWipeOut(boolean sparseSet) throws ContradictionException {
+        Model model = new Model();
+        IntVar x = make(sparseSet, "x", new int[]{-5, 0, 3, 4, 5, 1000}, model);
+        x.removeAllValuesBut(new IntIterableRangeSet(6, 999), Cause.Null);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "kinds")
+    public void testIterators(boolean sparseSet) throws ContradictionException {
+        Model model = new Model();
+        IntVar x = make(sparseSet, "x", new int[]{1, 2, 3, 10, 11, 20, 30, 31, 32}, model);
+        x.removeValue(11, Cause.Null);
+        x.removeValue(31, Cause.Null);
+        DisposableValueIterator vit = x.getValueIterator(true);
+        StringBuilder s = new StringBuilder();
+        while (vit.hasNext()) {
+            s.append(vit.next()).append(' ');
+        }
+        vit.dispose();
+        Assert.assertEquals(s.toString(), "1 2 3 10 20 30 32 ");
+        vit = x.getValueIterator(false);
+        s.setLength(0);
+        while (vit.hasPrevious()) {
+            s.append(vit.previous()).append(' ');
+        }
+        vit.dispose();
+        Assert.assertEquals(s.toString(), "32 30 20 10 3 2 1 ");
+        DisposableRangeIterator rit = x.getRangeIterator(true);
+        s.setLength(0);
+        while (rit.hasNext()) {
+            s.append(rit.min()).append(':').append(rit.max()).append(' ');
+            rit.next();
+        }
+        rit.dispose();
+        Assert.assertEquals(s.toString(), "1:3 10:10 20:20 30:30 32:32 ");
+        rit = x.getRangeIterator(false);
+        s.setLength(0);
+        while (rit.hasPrevious()) {
+            s.append(rit.min()).append(':').append(rit.max()).append(' ');
+            rit.previous();
+        }
+        rit.dispose();
+        Assert.assertEquals(s.toString(), "32:32 30:30 20:20 10:10 1:3 ");
+    }
+
+    /**
+     * Applies the same random operations to a bitset variable and to the tested one, across worlds,
+     * and checks that they always have the same domain.
+     */
+    @Test(groups = "10s", timeOut = 120000, dataProvider = "kinds")
+    public void testRandom(boolean sparseSet) {
+        for (int seed = 0; seed < 200; seed++) {
+            Random rnd = new Random(seed);
+            Model model = new Model();
+            IEnvironment env = model.getEnvironment();
+            int[] values = randomValues(rnd);
+            IntVar ref = new BitsetIntVarImpl("ref", values, model);
+            IntVar x = make(sparseSet, "x", values, model);
+            int lb = values[0] - 2, ub = values[values.length - 1] + 2;
+            int[][] snapshots = new int[20][];
+            int depth = 0;
+            for (int step = 0; step < 200; step++) {
+                if (depth > 0 && (rnd.nextInt(4) == 0 || depth == snapshots.length)) {
+                    env.worldPop();
+                    depth--;
+                    Assert.assertEquals(x.stream().toArray(), snapshots[depth], "seed " + seed);
+                    check(ref, x, lb, ub, rnd, seed);
+                    continue;
+                }
+                snapshots[depth++] = x.stream().toArray();
+                env.worldPush();
+                boolean failRef = false, failX = false;
+                boolean modRef = false, modX = false;
+                int op = rnd.nextInt(8);
+                int a = lb + rnd.nextInt(ub - lb + 1);
+                int b = a + rnd.nextInt(Math.max(1, (ub - a) / 2 + 1));
+                IntIterableRangeSet set = new IntIterableRangeSet();
+                for (int k = rnd.nextInt(6); k >= 0; k--) {
+                    int c = lb + rnd.nextInt(ub - lb + 1);
+                    set.addBetween(c, c + rnd.nextInt(4));
+                }
+                try {
+                    modRef = apply(ref, op, a, b, set);
+                } catch (ContradictionException e) {
+                    failRef = true;
+                }
+                try {
+                    modX = apply(x, op, a, b, set);
+                } catch (ContradictionException e) {
+                    failX = true;
+                }
+                Assert.assertEquals(failX, failRef, "seed " + seed + ", step " + step);
+                if (failRef) {
+                    env.worldPop();
+                    depth--;
+                } else {
+                    Assert.assertEquals(modX, modRef, "seed " + seed + ", step " + step);
+                }
+                check(ref, x, lb, ub, rnd, seed);
+            }
+        }
+    }
+
+    private static int[] randomValues(Random rnd) {
+        int n = 2 + rnd.nextInt(30);
+        return IntStream.range(0, n)
+                .flatMap(i -> IntStream.rangeClosed(0, rnd.nextInt(3) == 0 ? rnd.nextInt(5) : 0).map(j -> i * 10 + j))
+                .map(v -> v - 50)
+                .toArray();
+    }
+
+    private static boolean apply(IntVar v, int op, int a, int b, IntIterableRangeSet set) throws ContradictionException {
+        switch (op) {
+            case 0:
+                return v.removeValue(a, Cause.Null);
+            case 1:
+                return v.removeInterval(a, b, Cause.Null);
+            case 2:
+                return v.updateLowerBound(a, Cause.Null);
+            case 3:
+                return v.updateUpperBound(b, Cause.Null);
+            case 4:
+                return v.updateBounds(a, b, Cause.Null);
+            case 5:
+                return v.instantiateTo(a, Cause.Null);
+            case 6:
+                return v.removeValues(set, Cause.Null);
+            default:
+                return v.removeAllValuesBut(set, Cause.Null);
+        }
+    }
+
+    private static void check(IntVar ref, IntVar x, int lb, int ub, Random rnd, int seed) {
+        String msg = "seed " + seed + ", " + ref + " vs " + x;
+        Assert.assertEquals(x.getDomainSize(), ref.getDomainSize(), msg);
+        Assert.assertEquals(x.getLB(), ref.getLB(), msg);
+        Assert.assertEquals(x.getUB(), ref.getUB(), msg);
+        Assert.assertEquals(x.isInstantiated(), ref.isInstantiated(), msg);
+        Assert.assertEquals(x.stream().toArray(), ref.stream().toArray(), msg);
+        Assert.assertEquals(x.toString().substring(1), ref.toString().substring(3), msg);
+        for (int k = 0; k < 10; k++) {
+            int v = lb + rnd.nextInt(ub - lb + 1);
+            Assert.assertEquals(x.contains(v), ref.contains(v), msg);
+            Assert.assertEquals(x.nextValue(v), ref.nextValue(v), msg);
+            Assert.assertEquals(x.previousValue(v), ref.previousValue(v), msg);
+            Assert.assertEquals(x.nextValueOut(v), ref.nextValueOut(v), msg);
+            Assert.assertEquals(x.previousValueOut(v), ref.previousValueOut(v), msg);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 120000, dataProvider = "kinds")
+    public void testSolve(boolean sparseSet) {
+        Assert.assertEquals(solve(sparseSet), solve(null));
+    }
+
+    /**
+     * @return the number of solutions of a small model over holey domains
+     */
+    private static long solve(Boolean sparseSet) {
+        Model model = new Model();
+        int[] values = {0, 1, 2, 100, 101, 1000, 5000, 5001, 5002, 5003};
+        IntVar[] x = new IntVar[4];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = sparseSet == null ?
+                    new BitsetIntVarImpl("x" + i, values, model) :
+                    make(sparseSet, "x" + i, values, model);
+        }
+        model.allDifferent(x).post();
+        model.sum(x, "<=", 6000).post();
+        model.arithm(x[0], "<", x[1]).post();
+        model.member(x[2], new int[]{1, 101, 1001, 5001}).post();
+        long n = model.getSolver().streamSolutions().count();
+        Assert.assertTrue(n > 0);
+        return n;
+    }
+}
@@ -7,8 +7,12 @@
 package org.chocosolver.util.tools;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -91,4 +95,77 @@ public class PreProcessingTest {
                 .sum();
         Assert.assertEquals(after, 2340);
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParallelSACNQ() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(4);
+        PreProcessing.parallelSac(model, 2, 2000);
+        long after = Arrays.stream(model.retrieveIntVars(true))
+                .mapToLong(VariableUtils::domainCardinality)
+                .sum();
+        Assert.assertEquals(after, 8);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParallelSACGR() {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        ParallelSAC sac = new ParallelSAC(model, 4);
+        Assert.assertTrue(sac.sac(0) > 0);
+        Assert.assertTrue(sac.isComplete());
+        long after = Arrays.stream(model.retrieveIntVars(true))
+                .mapToLong(VariableUtils::domainCardinality)
+                .sum();
+        // same fixpoint as the sequential version
+        Assert.assertEquals(after, 2222);
+        // nothing has changed since, no probe is done
+        long probes = sac.getNbProbes();
+        Assert.assertEquals(sac.sac(0), 0);
+        Assert.assertEquals(sac.getNbProbes(), probes);
+        Assert.assertEquals(sac.getNbRuns(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParallelSACBound() {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        PreProcessing.parallelSacBound(model, 3, 2000);
+        long after = Arrays.stream(model.retrieveIntVars(true))
+                .mapToLong(VariableUtils::domainCardinality)
+                .sum();
+        // both bounds are shaved, whereas the sequential version only shaves lower bounds and ends with 2340 values
+        Assert.assertEquals(after, 2222);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testParallelSACOnRestarts() {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        ParallelSAC sac = new ParallelSAC(model, 2);
+        sac.sacBound(0);
+        sac.plugOnRestarts(0, true);
+        Solver solver = model.getSolver();
+        solver.setRestartOnSolutions();
+        IntVar length = (IntVar) model.getHook("objective");
+        Solution best = solver.findOptimalSolution(length, false);
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(length), 17);
+        Assert.assertTrue(sac.getNbRuns() > 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParallelSACOnRestartsInfeasible() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 1);
+        // not detected by arc consistency
+        model.arithm(x[0], "!=", x[1]).post();
+        model.arithm(x[1], "!=", x[2]).post();
+        model.arithm(x[0], "!=", x[2]).post();
+        ParallelSAC sac = new ParallelSAC(model, 2);
+        sac.plugOnRestarts(0, false);
+        Solver solver = model.getSolver();
+        // restarting on each failure must not prevent the proof
+        solver.setConstantRestart(1, new FailCounter(model, 1), Integer.MAX_VALUE);
+        Assert.assertFalse(solver.solve());
+        Assert.assertEquals(solver.getSearchState(), SearchState.TERMINATED);
+        Assert.assertEquals(sac.getNbRuns(), 1);
+        sac.close();
+    }
+}
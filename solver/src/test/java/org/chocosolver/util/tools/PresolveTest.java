@@ -0,0 +1,182 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ * Copyright (c) 1999, IMT Atlantique.
+ * SPDX-License-Identifier: BSD-3-Clause.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.tools;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.SettingsBuilder;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 17/10/2026
+ */
+public class PresolveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMergeLinear() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 10);
+        model.sum(x, "<=", 12).post();
+        model.sum(x, ">=", 3).post();
+        model.scalar(x, new int[]{2, 2, 2}, "<=", 20).post();
+        Presolve presolve = new Presolve(Presolve.Step.MERGE_LINEAR);
+        model.getSolver().setPresolve(presolve);
+        model.getSolver().findAllSolutions();
+        Assert.assertEquals(presolve.getNbMergedConstraints(), 1);
+        Assert.assertEquals(model.getNbCstrs(), 2);
+        Assert.assertEquals(model.getSolver().getSolutionCount(), count(3, 10));
+    }
+
+    /**
+     * @return the number of triples in [0,10] whose sum is in [lo,hi]
+     */
+    private static long count(int lo, int hi) {
+        long n = 0;
+        for (int a = 0; a <= 10; a++) {
+            for (int b = 0; b <= 10; b++) {
+                for (int c = 0; c <= 10; c++) {
+                    if (lo <= a + b + c && a + b + c <= hi) {
+                        n++;
+                    }
+                }
+            }
+        }
+        return n;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSubstitution() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        IntVar z = model.intVar("z", 0, 10);
+        model.arithm(x, "=", y).post();
+        model.sum(new IntVar[]{x, y, z}, "=", 10).post();
+        model.sum(new IntVar[]{y, x, z}, "<=", 12).post();
+        Presolve presolve = new Presolve(Presolve.Step.SUBSTITUTE_EQUALITIES, Presolve.Step.MERGE_LINEAR);
+        model.getSolver().setPresolve(presolve);
+        Solver solver = model.getSolver();
+        while (solver.solve()) {
+            Assert.assertEquals(x.getValue(), y.getValue());
+            Assert.assertEquals(x.getValue() + y.getValue() + z.getValue(), 10);
+        }
+        Assert.assertEquals(presolve.getNbSubstitutedVariables(), 1);
+        Assert.assertEquals(presolve.getNbMergedConstraints(), 1);
+        Assert.assertEquals(model.getNbCstrs(), 2);
+        Assert.assertEquals(solver.getSolutionCount(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFoldAndRemove() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        IntVar z = model.intVar("z", 0, 5);
+        model.arithm(z, "=", 3).post();
+        model.scalar(new IntVar[]{x, y, z}, new int[]{2, 1, 2}, "<=", 10).post();
+        model.arithm(x, "<=", 20).post();
+        model.scalar(new IntVar[]{x, z}, new int[]{3, 1}, "<=", 9).post();
+        Presolve presolve = new Presolve();
+        model.getSolver().setPresolve(presolve);
+        model.getSolver().findAllSolutions();
+        // only 2x + y <= 4 remains
+        Assert.assertEquals(model.getNbCstrs(), 1);
+        Assert.assertEquals(presolve.getNbFoldedVariables(), 3);
+        Assert.assertEquals(presolve.getNbRemovedConstraints(), 3);
+        Assert.assertEquals(presolve.getNbTightenedBounds(), 3);
+        Assert.assertEquals(model.getSolver().getPresolveReductionCount(), presolve.getNbReductions());
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 9);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasible() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 10);
+        model.sum(x, "<=", 7).post();
+        model.scalar(x, new int[]{-3, -3, -3, -3}, "<=", -24).post();
+        Presolve presolve = new Presolve(Presolve.Step.MERGE_LINEAR);
+        model.getSolver().setPresolve(presolve);
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertTrue(presolve.isApplied());
+        // nothing is replaced when the presolve fails
+        Assert.assertEquals(model.getNbCstrs(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSettings() {
+        Model model = new Model(SettingsBuilder.init().setPresolve(true));
+        IntVar[] x = model.intVarArray("x", 3, 0, 10);
+        model.sum(x, "<=", 12).post();
+        model.sum(x, "<=", 10).post();
+        model.sum(x, ">=", 3).post();
+        Solver solver = model.getSolver();
+        solver.findAllSolutions();
+        Assert.assertNotNull(solver.getPresolve());
+        Assert.assertTrue(solver.getPresolveTimeCountInNanoSeconds() > 0);
+        Assert.assertTrue(solver.getPresolveReductionCount() > 0);
+        Assert.assertEquals(solver.getSolutionCount(), count(3, 10));
+        // the presolve is applied once
+        long reductions = solver.getPresolve().getNbReductions();
+        solver.reset();
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getPresolve().getNbReductions(), reductions);
+        Assert.assertEquals(solver.getSolutionCount(), count(3, 10));
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testRandom() {
+        for (int seed = 0; seed < 60; seed++) {
+            Assert.assertEquals(solve(seed, true), solve(seed, false), "seed " + seed);
+        }
+    }
+
+    private static long solve(int seed, boolean presolve) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, -3, 3);
+        String[] ops = {"=", "<=", ">=", "<", ">"};
+        int nbCstrs = 2 + rnd.nextInt(5);
+        for (int i = 0; i < nbCstrs; i++) {
+            switch (rnd.nextInt(4)) {
+                case 0:
+                    int k = rnd.nextInt(5);
+                    model.arithm(x[k], "=", x[(k + 1 + rnd.nextInt(4)) % 5], rnd.nextBoolean() ? "+" : "-", rnd.nextInt(3)).post();
+                    break;
+                case 1:
+                    model.arithm(x[rnd.nextInt(5)], ops[rnd.nextInt(5)], rnd.nextInt(7) - 3).post();
+                    break;
+                default:
+                    int n = 2 + rnd.nextInt(3);
+                    IntVar[] vars = new IntVar[n];
+                    int[] coeffs = new int[n];
+                    for (int j = 0; j < n; j++) {
+                        vars[j] = x[rnd.nextInt(5)];
+                        coeffs[j] = (rnd.nextInt(3) + 1) * (rnd.nextBoolean() ? 1 : -1);
+                    }
+                    model.scalar(vars, coeffs, ops[rnd.nextInt(5)], rnd.nextInt(9) - 4).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        if (presolve) {
+            solver.setPresolve(new Presolve());
+        }
+        solver.setSearch(Search.inputOrderLBSearch(x));
+        long n = 0;
+        while (solver.solve()) {
+            n++;
+        }
+        return n;
+    }
+}